@@ -0,0 +1,206 @@
+package com.warework.core.provider;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.warework.core.model.Scope;
+import com.warework.core.scope.BenchmarkScopes;
+import com.warework.core.scope.ScopeException;
+import com.warework.core.scope.ScopeFacade;
+import com.warework.provider.SingletonProvider;
+import com.warework.provider.StandardProvider;
+
+/**
+ * Measures how objects are retrieved from the Standard and Singleton Providers
+ * and how these Providers are created. Every benchmark runs with one thread;
+ * the <code>Concurrent</code> benchmarks run the same operations with as many
+ * threads as processors, all of them sharing the same Providers. Run with
+ * <code>-prof gc</code> to get the allocation rate of each operation.<br>
+ *
+ * @author Jose Schiaffino
+ * @version ${project.version}
+ */
+@State(org.openjdk.jmh.annotations.Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@Threads(1)
+public class ProviderBenchmark {
+
+	// ///////////////////////////////////////////////////////////////////
+	// CONSTANTS
+	// ///////////////////////////////////////////////////////////////////
+
+	// Name of the object in the Standard Provider.
+	private static final String OBJECT_LIST = "list";
+
+	// Name of the object in the Singleton Provider.
+	private static final String OBJECT_MAP = HashMap.class.getName();
+
+	// ///////////////////////////////////////////////////////////////////
+	// ATTRIBUTES
+	// ///////////////////////////////////////////////////////////////////
+
+	// Scope of the Providers.
+	private ScopeFacade scope;
+
+	// Parameters of the Standard Provider.
+	private Map<String, Object> parameters;
+
+	// Providers.
+	private AbstractProvider standard, singleton;
+
+	// ///////////////////////////////////////////////////////////////////
+	// INNER CLASSES
+	// ///////////////////////////////////////////////////////////////////
+
+	/**
+	 * Same benchmarks with as many threads as processors.<br>
+	 *
+	 * @author Jose Schiaffino
+	 * @version ${project.version}
+	 */
+	@Threads(Threads.MAX)
+	public static class Concurrent extends ProviderBenchmark {
+	}
+
+	// ///////////////////////////////////////////////////////////////////
+	// PUBLIC METHODS
+	// ///////////////////////////////////////////////////////////////////
+
+	/**
+	 * Creates the Scope and the Providers.
+	 *
+	 * @throws ScopeException    If there is an error when trying to create the
+	 *                           Scope.<br>
+	 *                           <br>
+	 * @throws ProviderException If there is an error when trying to create the
+	 *                           Providers.<br>
+	 *                           <br>
+	 */
+	@Setup(Level.Trial)
+	public void setup() throws ScopeException, ProviderException {
+
+		// Create the Scope.
+		scope = BenchmarkScopes.create(new Scope("provider"), null, null);
+
+		// Set the objects of the Standard Provider.
+		parameters = new HashMap<String, Object>();
+		parameters.put(OBJECT_LIST, ArrayList.class);
+
+		// Create the Providers.
+		standard = createStandardProvider();
+		singleton = createSingletonProvider();
+
+		// Create the singleton object before the measurement starts.
+		singleton.lookup(OBJECT_MAP);
+
+	}
+
+	/**
+	 * Shuts down the Providers and the Scope.
+	 *
+	 * @throws ProviderException If there is an error when trying to close the
+	 *                           Providers.<br>
+	 *                           <br>
+	 */
+	@TearDown(Level.Trial)
+	public void tearDown() throws ProviderException {
+
+		// Close the Providers.
+		standard.close();
+		singleton.close();
+
+		// Close the Scope.
+		BenchmarkScopes.close(scope);
+
+	}
+
+	// ///////////////////////////////////////////////////////////////////
+
+	/**
+	 * Creates a new object with the Standard Provider.
+	 *
+	 * @return Object.<br>
+	 *         <br>
+	 */
+	@Benchmark
+	public Object lookupStandard() {
+		return standard.lookup(OBJECT_LIST);
+	}
+
+	/**
+	 * Gets the object of the Singleton Provider.
+	 *
+	 * @return Object.<br>
+	 *         <br>
+	 */
+	@Benchmark
+	public Object lookupSingleton() {
+		return singleton.lookup(OBJECT_MAP);
+	}
+
+	/**
+	 * Creates and initializes a Standard Provider.
+	 *
+	 * @return Provider.<br>
+	 *         <br>
+	 * @throws ProviderException If there is an error when trying to create the
+	 *                           Provider.<br>
+	 *                           <br>
+	 */
+	@Benchmark
+	public AbstractProvider createStandardProvider() throws ProviderException {
+
+		// Create the Provider.
+		final AbstractProvider provider = new StandardProvider();
+
+		// Initialize the Provider.
+		provider.init(scope, StandardProvider.DEFAULT_PROVIDER_NAME, parameters);
+
+		// Return the Provider.
+		return provider;
+
+	}
+
+	/**
+	 * Creates and initializes a Singleton Provider.
+	 *
+	 * @return Provider.<br>
+	 *         <br>
+	 * @throws ProviderException If there is an error when trying to create the
+	 *                           Provider.<br>
+	 *                           <br>
+	 */
+	@Benchmark
+	public AbstractProvider createSingletonProvider() throws ProviderException {
+
+		// Create the Provider.
+		final AbstractProvider provider = new SingletonProvider();
+
+		// Initialize the Provider.
+		provider.init(scope, SingletonProvider.DEFAULT_PROVIDER_NAME, null);
+
+		// Return the Provider.
+		return provider;
+
+	}
+
+}
@@ -0,0 +1,91 @@
+package com.warework.core.scope;
+
+import com.warework.core.model.Scope;
+
+/**
+ * Creates Scopes for the benchmarks without a context, so benchmarks can build
+ * the parent and domain hierarchy they need and create it again in every
+ * trial.<br>
+ *
+ * @author Jose Schiaffino
+ * @version ${project.version}
+ */
+public final class BenchmarkScopes {
+
+	// ///////////////////////////////////////////////////////////////////
+	// CONSTRUCTORS
+	// ///////////////////////////////////////////////////////////////////
+
+	/**
+	 * This constructor does not perform any operation.
+	 */
+	private BenchmarkScopes() {
+		// DO NOTHING.
+	}
+
+	// ///////////////////////////////////////////////////////////////////
+	// PUBLIC METHODS
+	// ///////////////////////////////////////////////////////////////////
+
+	/**
+	 * Creates a Scope.
+	 *
+	 * @param config Scope's configuration.<br>
+	 *               <br>
+	 * @param parent Parent Scope for this Scope. This is an optional value.<br>
+	 *               <br>
+	 * @param domain Domain Scope for this Scope. This is an optional value.<br>
+	 *               <br>
+	 * @return A new instance of a Scope.<br>
+	 *         <br>
+	 * @throws ScopeException If there is an error when trying to create the
+	 *                        Scope.<br>
+	 *                        <br>
+	 */
+	public static ScopeFacade create(final Scope config, final ScopeFacade parent, final ScopeFacade domain)
+			throws ScopeException {
+		return new AbstractScope(config, parent, domain) {
+
+			/**
+			 * Benchmark Scopes do not have a context.
+			 *
+			 * @return <code>null</code>.<br>
+			 *         <br>
+			 */
+			public Context getContext() {
+				return null;
+			}
+
+			/**
+			 * This method does not perform any operation.
+			 *
+			 * @param config Scope's configuration.<br>
+			 *               <br>
+			 */
+			protected void initialize(final Scope config) {
+				// DO NOTHING.
+			}
+
+			/**
+			 * This method does not perform any operation.
+			 */
+			protected void shutdown() {
+				// DO NOTHING.
+			}
+
+		};
+	}
+
+	/**
+	 * Shuts down a Scope created with this class.
+	 *
+	 * @param scope Scope to close.<br>
+	 *              <br>
+	 */
+	public static void close(final ScopeFacade scope) {
+		if (scope instanceof AbstractScope) {
+			((AbstractScope) scope).close();
+		}
+	}
+
+}
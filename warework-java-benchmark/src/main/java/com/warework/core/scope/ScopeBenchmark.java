@@ -0,0 +1,245 @@
+package com.warework.core.scope;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.warework.core.model.Scope;
+import com.warework.core.service.ServiceFacade;
+import com.warework.service.log.LogServiceImpl;
+
+/**
+ * Measures how Services and objects are retrieved from a Scope, its parent
+ * Scope and its domain Scope. Every benchmark runs with one thread; the
+ * <code>Concurrent</code> benchmarks run the same operations with as many
+ * threads as processors, all of them sharing the same Scopes. Run with
+ * <code>-prof gc</code> to get the allocation rate of each operation.<br>
+ *
+ * @author Jose Schiaffino
+ * @version ${project.version}
+ */
+@State(org.openjdk.jmh.annotations.Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@Threads(1)
+public class ScopeBenchmark {
+
+	// ///////////////////////////////////////////////////////////////////
+	// CONSTANTS
+	// ///////////////////////////////////////////////////////////////////
+
+	// Names of the Services.
+
+	private static final String SERVICE_DOMAIN = "domain-service";
+
+	private static final String SERVICE_PARENT = "parent-service";
+
+	private static final String SERVICE_CHILD = "child-service";
+
+	// Names of the objects.
+
+	private static final String OBJECT_DOMAIN = "domain-object";
+
+	private static final String OBJECT_PARENT = "parent-object";
+
+	private static final String OBJECT_CHILD = "child-object";
+
+	// ///////////////////////////////////////////////////////////////////
+	// ATTRIBUTES
+	// ///////////////////////////////////////////////////////////////////
+
+	// Scopes of the hierarchy.
+	private ScopeFacade domain, parent, child;
+
+	// ///////////////////////////////////////////////////////////////////
+	// INNER CLASSES
+	// ///////////////////////////////////////////////////////////////////
+
+	/**
+	 * Same benchmarks with as many threads as processors.<br>
+	 *
+	 * @author Jose Schiaffino
+	 * @version ${project.version}
+	 */
+	@Threads(Threads.MAX)
+	public static class Concurrent extends ScopeBenchmark {
+	}
+
+	// ///////////////////////////////////////////////////////////////////
+	// PUBLIC METHODS
+	// ///////////////////////////////////////////////////////////////////
+
+	/**
+	 * Creates the domain Scope, the parent Scope and the Scope that performs the
+	 * lookups. Each Scope has one Service and one object in a Singleton Provider.
+	 *
+	 * @throws ScopeException If there is an error when trying to create the
+	 *                        Scopes.<br>
+	 *                        <br>
+	 */
+	@Setup(Level.Trial)
+	public void setup() throws ScopeException {
+
+		// Create the domain Scope.
+		domain = BenchmarkScopes.create(createConfig("domain", SERVICE_DOMAIN, OBJECT_DOMAIN, HashMap.class), null,
+				null);
+
+		// Create the parent Scope.
+		parent = BenchmarkScopes.create(createConfig("parent", SERVICE_PARENT, OBJECT_PARENT, ArrayList.class), null,
+				domain);
+
+		// Create the Scope that performs the lookups.
+		child = BenchmarkScopes.create(createConfig("child", SERVICE_CHILD, OBJECT_CHILD, StringBuffer.class), parent,
+				domain);
+
+		// Create the singleton objects before the measurement starts.
+		child.getObject(OBJECT_CHILD);
+		child.getObject(OBJECT_PARENT);
+		child.getObject(OBJECT_DOMAIN);
+
+	}
+
+	/**
+	 * Shuts down the Scopes.
+	 */
+	@TearDown(Level.Trial)
+	public void tearDown() {
+		BenchmarkScopes.close(child);
+		BenchmarkScopes.close(parent);
+		BenchmarkScopes.close(domain);
+	}
+
+	// ///////////////////////////////////////////////////////////////////
+
+	/**
+	 * Gets a Service that exists in the Scope.
+	 *
+	 * @return Service.<br>
+	 *         <br>
+	 */
+	@Benchmark
+	public ServiceFacade getServiceFromScope() {
+		return child.getService(SERVICE_CHILD);
+	}
+
+	/**
+	 * Gets a Service that exists in the parent Scope.
+	 *
+	 * @return Service.<br>
+	 *         <br>
+	 */
+	@Benchmark
+	public ServiceFacade getServiceFromParent() {
+		return child.getService(SERVICE_PARENT);
+	}
+
+	/**
+	 * Gets a Service that exists in the domain Scope. The parent Scope is searched
+	 * first.
+	 *
+	 * @return Service.<br>
+	 *         <br>
+	 */
+	@Benchmark
+	public ServiceFacade getServiceFromDomain() {
+		return child.getService(SERVICE_DOMAIN);
+	}
+
+	/**
+	 * Gets a Service that does not exist in any Scope.
+	 *
+	 * @return <code>null</code>.<br>
+	 *         <br>
+	 */
+	@Benchmark
+	public ServiceFacade getServiceMissing() {
+		return child.getService("missing-service");
+	}
+
+	/**
+	 * Gets an object that exists in the Scope.
+	 *
+	 * @return Object.<br>
+	 *         <br>
+	 */
+	@Benchmark
+	public Object getObjectFromScope() {
+		return child.getObject(OBJECT_CHILD);
+	}
+
+	/**
+	 * Gets an object that exists in the parent Scope.
+	 *
+	 * @return Object.<br>
+	 *         <br>
+	 */
+	@Benchmark
+	public Object getObjectFromParent() {
+		return child.getObject(OBJECT_PARENT);
+	}
+
+	/**
+	 * Gets an object that exists in the domain Scope. The parent Scope is searched
+	 * first.
+	 *
+	 * @return Object.<br>
+	 *         <br>
+	 */
+	@Benchmark
+	public Object getObjectFromDomain() {
+		return child.getObject(OBJECT_DOMAIN);
+	}
+
+	// ///////////////////////////////////////////////////////////////////
+	// PRIVATE METHODS
+	// ///////////////////////////////////////////////////////////////////
+
+	/**
+	 * Creates the configuration of a Scope with one Service and one singleton
+	 * object.
+	 *
+	 * @param name        Name of the Scope.<br>
+	 *                    <br>
+	 * @param serviceName Name of the Service.<br>
+	 *                    <br>
+	 * @param objectName  Name of the object.<br>
+	 *                    <br>
+	 * @param objectType  Class of the object.<br>
+	 *                    <br>
+	 * @return Configuration of the Scope.<br>
+	 *         <br>
+	 */
+	private static Scope createConfig(final String name, final String serviceName, final String objectName,
+			final Class<?> objectType) {
+
+		// Create the configuration.
+		final Scope config = new Scope(name);
+
+		// Set a Service without clients, so it does not perform any operation.
+		config.setService(serviceName, LogServiceImpl.class, null, null);
+
+		// Set the object.
+		config.setSingletonObject(objectName, objectType);
+
+		// Return the configuration.
+		return config;
+
+	}
+
+}
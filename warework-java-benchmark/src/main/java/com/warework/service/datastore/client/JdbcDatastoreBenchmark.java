@@ -0,0 +1,471 @@
+package com.warework.service.datastore.client;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.h2.jdbcx.JdbcDataSource;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.warework.core.model.Scope;
+import com.warework.core.scope.BenchmarkScopes;
+import com.warework.core.scope.ScopeException;
+import com.warework.core.scope.ScopeFacade;
+import com.warework.core.service.client.ClientException;
+import com.warework.service.datastore.DatastoreServiceConstants;
+import com.warework.service.datastore.DatastoreServiceFacade;
+import com.warework.service.datastore.client.connector.JdbcConnector;
+import com.warework.service.datastore.model.DatastoreService;
+import com.warework.service.datastore.view.CacheView;
+import com.warework.service.datastore.view.KeyValueView;
+import com.warework.service.datastore.view.RdbmsView;
+
+/**
+ * Measures the JDBC Data Store against an embedded H2 database, so results do
+ * not depend on the network or on a database server. It covers point queries,
+ * first and deep pages, bulk updates and the get/put operations of the
+ * key-value and cache Views. Benchmarks sample the latency of each operation;
+ * run with <code>-prof gc</code> to get the allocation rate too.<br>
+ * <br>
+ * Every benchmark runs with one thread, as a JDBC Data Store holds one
+ * connection.
+ *
+ * @author Jose Schiaffino
+ * @version ${project.version}
+ */
+@State(org.openjdk.jmh.annotations.Scope.Benchmark)
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@Threads(1)
+public class JdbcDatastoreBenchmark {
+
+	// ///////////////////////////////////////////////////////////////////
+	// CONSTANTS
+	// ///////////////////////////////////////////////////////////////////
+
+	// URL of the in-memory database.
+	private static final String DATABASE_URL = "jdbc:h2:mem:benchmark;DB_CLOSE_DELAY=-1";
+
+	// Name of the Data Store.
+	private static final String CLIENT_JDBC = "jdbc-client";
+
+	// Names of the Views.
+
+	private static final String VIEW_NAME_RDBMS = "rdbms-view";
+
+	private static final String VIEW_NAME_KEY_VALUE = "key-value-view";
+
+	private static final String VIEW_NAME_CACHE = "cache-view";
+
+	// Names of the tables.
+
+	private static final String TABLE_NAME_ROW = "BENCHMARK_ROW";
+
+	private static final String TABLE_NAME_KEY_VALUE = "BENCHMARK_KEY_VALUE";
+
+	private static final String TABLE_NAME_CACHE = "BENCHMARK_CACHE";
+
+	// Number of rows of the tables.
+	private static final int ROWS = 10000;
+
+	// Number of rows of each page.
+	private static final int PAGE_ROWS = 50;
+
+	// Number of statements of each bulk update.
+	private static final int BULK_STATEMENTS = 100;
+
+	// Milliseconds before a cached value expires.
+	private static final long CACHE_EXPIRE = 60L * 60L * 1000L;
+
+	// Queries.
+
+	private static final String SQL_POINT_QUERY = "SELECT ID, NAME, AMOUNT FROM " + TABLE_NAME_ROW
+			+ " WHERE ID = ${ID}";
+
+	private static final String SQL_PAGE_QUERY = "SELECT ID, NAME, AMOUNT FROM " + TABLE_NAME_ROW + " ORDER BY ID";
+
+	// ///////////////////////////////////////////////////////////////////
+	// ATTRIBUTES
+	// ///////////////////////////////////////////////////////////////////
+
+	// Scope of the Data Store Service.
+	private ScopeFacade scope;
+
+	// Views of the Data Store.
+	private RdbmsView rdbmsView;
+
+	private KeyValueView keyValueView;
+
+	private CacheView cacheView;
+
+	// Statements of the bulk update.
+	private String bulkUpdate;
+
+	// Keys of the rows.
+	private String[] keys;
+
+	// Sequence used to select the next row.
+	private int sequence;
+
+	// ///////////////////////////////////////////////////////////////////
+	// PUBLIC METHODS
+	// ///////////////////////////////////////////////////////////////////
+
+	/**
+	 * Creates the Scope with the Data Store Service, connects the Data Store and
+	 * fills the tables.
+	 *
+	 * @throws ScopeException  If there is an error when trying to create the
+	 *                         Scope.<br>
+	 *                         <br>
+	 * @throws ClientException If there is an error when trying to fill the
+	 *                         tables.<br>
+	 *                         <br>
+	 */
+	@Setup(Level.Trial)
+	public void setup() throws ScopeException, ClientException {
+
+		// Create the Scope.
+		scope = BenchmarkScopes.create(createConfig(), null, null);
+
+		// Get the Data Store Service.
+		final DatastoreServiceFacade service = (DatastoreServiceFacade) scope
+				.getService(DatastoreServiceConstants.DEFAULT_SERVICE_NAME);
+
+		// Get the Views.
+		rdbmsView = (RdbmsView) service.getView(CLIENT_JDBC, JdbcViewImpl.class);
+		keyValueView = (KeyValueView) service.getView(CLIENT_JDBC, KeyValueJdbcViewImpl.class);
+		cacheView = (CacheView) service.getView(CLIENT_JDBC, CacheJdbcViewImpl.class);
+
+		// Connect the Data Store.
+		rdbmsView.connect();
+
+		// Create the tables.
+		rdbmsView.executeUpdate("DROP TABLE IF EXISTS " + TABLE_NAME_ROW + ";DROP TABLE IF EXISTS "
+				+ TABLE_NAME_KEY_VALUE + ";DROP TABLE IF EXISTS " + TABLE_NAME_CACHE, null, Character.valueOf(';'));
+		rdbmsView.executeUpdate("CREATE TABLE " + TABLE_NAME_ROW
+				+ " (ID NUMERIC(10, 0) NOT NULL PRIMARY KEY, NAME VARCHAR(50) NOT NULL, AMOUNT NUMERIC(10, 0) NOT NULL);"
+				+ "CREATE TABLE " + TABLE_NAME_KEY_VALUE
+				+ " (FIELD_KEY VARCHAR(255) NOT NULL PRIMARY KEY, FIELD_VALUE VARCHAR(255) NOT NULL);"
+				+ "CREATE TABLE " + TABLE_NAME_CACHE
+				+ " (FIELD_KEY VARCHAR(255) NOT NULL PRIMARY KEY, FIELD_VALUE VARCHAR(255) NOT NULL, FIELD_EXPIRE NUMERIC(15, 0))",
+				null, Character.valueOf(';'));
+
+		// Create the keys.
+		keys = new String[ROWS];
+		for (int i = 0; i < ROWS; i++) {
+			keys[i] = "key-" + i;
+		}
+
+		// Fill the tables.
+		final StringBuilder rows = new StringBuilder();
+		for (int i = 0; i < ROWS; i++) {
+			rows.append("INSERT INTO ").append(TABLE_NAME_ROW).append(" VALUES (").append(i).append(", 'name-")
+					.append(i).append("', ").append(i).append(");");
+		}
+		rdbmsView.executeUpdate(rows.toString(), null, Character.valueOf(';'));
+		for (int i = 0; i < ROWS; i++) {
+			keyValueView.put(keys[i], "value-" + i);
+			cacheView.put(keys[i], "value-" + i, CACHE_EXPIRE);
+		}
+
+		// Save the rows.
+		rdbmsView.commit();
+
+		// Create the statements of the bulk update.
+		final StringBuilder statements = new StringBuilder();
+		for (int i = 0; i < BULK_STATEMENTS; i++) {
+			statements.append("UPDATE ").append(TABLE_NAME_ROW).append(" SET AMOUNT = AMOUNT + 1 WHERE ID = ")
+					.append(i * (ROWS / BULK_STATEMENTS)).append(";");
+		}
+		bulkUpdate = statements.toString();
+
+	}
+
+	/**
+	 * Drops the tables and shuts down the Scope.
+	 *
+	 * @throws ClientException If there is an error when trying to drop the
+	 *                         tables.<br>
+	 *                         <br>
+	 */
+	@TearDown(Level.Trial)
+	public void tearDown() throws ClientException {
+
+		// Drop the tables.
+		rdbmsView.executeUpdate("DROP TABLE " + TABLE_NAME_ROW + ";DROP TABLE " + TABLE_NAME_KEY_VALUE
+				+ ";DROP TABLE " + TABLE_NAME_CACHE, null, Character.valueOf(';'));
+
+		// Close the connection.
+		rdbmsView.disconnect();
+
+		// Close the Scope.
+		BenchmarkScopes.close(scope);
+
+	}
+
+	// ///////////////////////////////////////////////////////////////////
+
+	/**
+	 * Queries one row by its primary key.
+	 *
+	 * @return Number of rows read.<br>
+	 *         <br>
+	 * @throws ClientException If there is an error when trying to query the Data
+	 *                         Store.<br>
+	 *                         <br>
+	 */
+	@Benchmark
+	public int pointQuery() throws ClientException {
+
+		// Set the row to query.
+		final Map<String, Object> values = new HashMap<String, Object>();
+		values.put("ID", Integer.valueOf(nextRow()));
+
+		// Query the row.
+		return read(rdbmsView.executeQuery(SQL_POINT_QUERY, values, -1, -1));
+
+	}
+
+	/**
+	 * Queries the first page of the table.
+	 *
+	 * @return Number of rows read.<br>
+	 *         <br>
+	 * @throws ClientException If there is an error when trying to query the Data
+	 *                         Store.<br>
+	 *                         <br>
+	 */
+	@Benchmark
+	public int firstPage() throws ClientException {
+		return read(rdbmsView.executeQuery(SQL_PAGE_QUERY, null, 1, PAGE_ROWS));
+	}
+
+	/**
+	 * Queries the last page of the table, so every previous row is skipped.
+	 *
+	 * @return Number of rows read.<br>
+	 *         <br>
+	 * @throws ClientException If there is an error when trying to query the Data
+	 *                         Store.<br>
+	 *                         <br>
+	 */
+	@Benchmark
+	public int deepPage() throws ClientException {
+		return read(rdbmsView.executeQuery(SQL_PAGE_QUERY, null, ROWS / PAGE_ROWS, PAGE_ROWS));
+	}
+
+	/**
+	 * Executes a group of update statements and commits them.
+	 *
+	 * @throws ClientException If there is an error when trying to update the Data
+	 *                         Store.<br>
+	 *                         <br>
+	 */
+	@Benchmark
+	public void bulkUpdate() throws ClientException {
+
+		// Update the rows.
+		rdbmsView.executeUpdate(bulkUpdate, null, Character.valueOf(';'));
+
+		// Save the changes.
+		rdbmsView.commit();
+
+	}
+
+	/**
+	 * Gets one value from the key-value View.
+	 *
+	 * @return Value.<br>
+	 *         <br>
+	 * @throws ClientException If there is an error when trying to query the Data
+	 *                         Store.<br>
+	 *                         <br>
+	 */
+	@Benchmark
+	public Object keyValueGet() throws ClientException {
+		return keyValueView.get(keys[nextRow()]);
+	}
+
+	/**
+	 * Replaces one value of the key-value View and commits it.
+	 *
+	 * @throws ClientException If there is an error when trying to update the Data
+	 *                         Store.<br>
+	 *                         <br>
+	 */
+	@Benchmark
+	public void keyValuePut() throws ClientException {
+
+		// Get the row to update.
+		final int row = nextRow();
+
+		// Update the value.
+		keyValueView.put(keys[row], "updated-" + row);
+
+		// Save the changes.
+		keyValueView.commit();
+
+	}
+
+	/**
+	 * Gets one value from the cache View.
+	 *
+	 * @return Value.<br>
+	 *         <br>
+	 * @throws ClientException If there is an error when trying to query the Data
+	 *                         Store.<br>
+	 *                         <br>
+	 */
+	@Benchmark
+	public Object cacheGet() throws ClientException {
+		return cacheView.get(keys[nextRow()]);
+	}
+
+	/**
+	 * Replaces one value of the cache View and commits it.
+	 *
+	 * @throws ClientException If there is an error when trying to update the Data
+	 *                         Store.<br>
+	 *                         <br>
+	 */
+	@Benchmark
+	public void cachePut() throws ClientException {
+
+		// Get the row to update.
+		final int row = nextRow();
+
+		// Update the value.
+		cacheView.put(keys[row], "updated-" + row, CACHE_EXPIRE);
+
+		// Save the changes.
+		cacheView.commit();
+
+	}
+
+	// ///////////////////////////////////////////////////////////////////
+	// PRIVATE METHODS
+	// ///////////////////////////////////////////////////////////////////
+
+	/**
+	 * Creates the configuration of the Scope with the Data Store Service and the
+	 * JDBC Data Store.
+	 *
+	 * @return Configuration of the Scope.<br>
+	 *         <br>
+	 */
+	private static Scope createConfig() {
+
+		// Create the configuration.
+		final Scope config = new Scope("jdbc-datastore");
+
+		// Create the data source of the database.
+		final JdbcDataSource datasource = new JdbcDataSource();
+		datasource.setURL(DATABASE_URL);
+
+		// Create the Data Store Service.
+		final DatastoreService datastoreService = new DatastoreService();
+
+		// Set the Data Store.
+		datastoreService.setDatastore(CLIENT_JDBC, JdbcConnector.class, null, null);
+		datastoreService.setClientParameter(CLIENT_JDBC, JdbcConnector.PARAMETER_DATA_SOURCE, datasource);
+		datastoreService.setClientParameter(CLIENT_JDBC, JdbcConnector.PARAMETER_NATIVE_RESULT_SET, Boolean.FALSE);
+
+		// Set the View for SQL statements.
+		datastoreService.setView(CLIENT_JDBC, JdbcViewImpl.class, VIEW_NAME_RDBMS, null, null);
+
+		// Set the key-value View.
+		final Map<String, Object> keyValueConfig = new HashMap<String, Object>();
+		keyValueConfig.put(KeyValueJdbcViewImpl.PARAMETER_TABLE_NAME, TABLE_NAME_KEY_VALUE);
+		keyValueConfig.put(KeyValueJdbcViewImpl.PARAMETER_TABLE_KEY_FIELD, "FIELD_KEY");
+		keyValueConfig.put(KeyValueJdbcViewImpl.PARAMETER_TABLE_VALUE_FIELD, "FIELD_VALUE");
+		datastoreService.setView(CLIENT_JDBC, KeyValueJdbcViewImpl.class, VIEW_NAME_KEY_VALUE, null, keyValueConfig);
+
+		// Set the cache View.
+		final Map<String, Object> cacheConfig = new HashMap<String, Object>();
+		cacheConfig.put(CacheJdbcViewImpl.PARAMETER_TABLE_NAME, TABLE_NAME_CACHE);
+		cacheConfig.put(CacheJdbcViewImpl.PARAMETER_TABLE_KEY_FIELD, "FIELD_KEY");
+		cacheConfig.put(CacheJdbcViewImpl.PARAMETER_TABLE_VALUE_FIELD, "FIELD_VALUE");
+		cacheConfig.put(CacheJdbcViewImpl.PARAMETER_TABLE_EXPIRE_FIELD, "FIELD_EXPIRE");
+		cacheConfig.put(CacheJdbcViewImpl.PARAMETER_CURRENT_TIMESTAMP_MILLISECONDS,
+				"extract(epoch from current_timestamp()) * 1000");
+		datastoreService.setView(CLIENT_JDBC, CacheJdbcViewImpl.class, VIEW_NAME_CACHE, null, cacheConfig);
+
+		// Set the Service.
+		config.setService(datastoreService);
+
+		// Return the configuration.
+		return config;
+
+	}
+
+	/**
+	 * Gets the next row to read or update.
+	 *
+	 * @return Index of the row.<br>
+	 *         <br>
+	 */
+	private int nextRow() {
+
+		// Next row, starting again at the first row.
+		sequence = (sequence + 1) % ROWS;
+
+		// Return the row.
+		return sequence;
+
+	}
+
+	/**
+	 * Reads every row of a query result and closes it.
+	 *
+	 * @param result Result of a query.<br>
+	 *               <br>
+	 * @return Number of rows read.<br>
+	 *         <br>
+	 * @throws ClientException If there is an error when trying to read the
+	 *                         result.<br>
+	 *                         <br>
+	 */
+	private static int read(final Object result) throws ClientException {
+
+		// Number of rows.
+		int count = 0;
+
+		// Read every row.
+		if (result instanceof ResultRows) {
+
+			// Get the rows.
+			final ResultRows rows = (ResultRows) result;
+
+			// Read the rows.
+			try {
+				while (rows.next()) {
+					rows.getString(2);
+					count = count + 1;
+				}
+			} finally {
+				rows.close();
+			}
+
+		}
+
+		// Return the number of rows.
+		return count;
+
+	}
+
+}
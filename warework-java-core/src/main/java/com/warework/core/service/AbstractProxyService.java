@@ -35,7 +35,7 @@ public abstract class AbstractProxyService extends AbstractService implements Pr
 	private Map<String, ClientFacade> clients;
 
 	// Service operation handler.
-	private OperationHandler operationHandler;
+	private ProxyServiceOperationHandler operationHandler;
 
 	// ///////////////////////////////////////////////////////////////////
 	// PUBLIC METHODS
@@ -54,7 +54,11 @@ public abstract class AbstractProxyService extends AbstractService implements Pr
 		removeAllClients();
 
 		// Terminates the execution of the Service.
-		shutdown();
+		try {
+			shutdown();
+		} finally {
+			closeOperationMetrics();
+		}
 
 	}
 
@@ -421,25 +425,6 @@ public abstract class AbstractProxyService extends AbstractService implements Pr
 
 	}
 
-	// ///////////////////////////////////////////////////////////////////
-
-	/**
-	 * Executes a Proxy Service operation.
-	 * 
-	 * @param operationName Name of the operation to execute.<br>
-	 *                      <br>
-	 * @param parameters    Operation parameters.<br>
-	 *                      <br>
-	 * @return Operation result.<br>
-	 *         <br>
-	 * @throws ServiceException If there is an error when trying to execute the
-	 *                          Proxy Service operation.<br>
-	 *                          <br>
-	 */
-	public Object execute(final String operationName, final Map<String, Object> parameters) throws ServiceException {
-		return operationHandler.execute(operationName, parameters);
-	}
-
 	// ///////////////////////////////////////////////////////////////////
 	// PROTECTED METHODS
 	// ///////////////////////////////////////////////////////////////////
@@ -459,6 +444,23 @@ public abstract class AbstractProxyService extends AbstractService implements Pr
 		// initialize the operation handler.
 		operationHandler.init(this);
 
+		// Execute the operations with the handler.
+		setOperationHandler(operationHandler);
+
+	}
+
+	/**
+	 * Registers an operation of the Service. Services that support operations
+	 * besides the ones of Proxy Services must register them when they are
+	 * initialized, after invoking <code>super.initialize()</code>.
+	 * 
+	 * @param operationName Name of the operation.<br>
+	 *                      <br>
+	 * @param operation     Operation to execute when this name is requested.<br>
+	 *                      <br>
+	 */
+	protected void registerOperation(final String operationName, final ServiceOperation operation) {
+		operationHandler.register(operationName, operation);
 	}
 
 	/**
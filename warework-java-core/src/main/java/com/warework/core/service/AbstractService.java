@@ -7,6 +7,8 @@ import com.warework.core.loader.AbstractLoader;
 import com.warework.core.loader.LoaderException;
 import com.warework.core.loader.LoaderFacade;
 import com.warework.core.scope.ScopeFacade;
+import com.warework.core.service.metric.JmxOperationMetrics;
+import com.warework.core.service.metric.OperationMetricsFacade;
 import com.warework.core.util.CommonValueL1Constants;
 import com.warework.core.util.helper.DataStructureL1Helper;
 import com.warework.core.util.helper.ReflectionL1Helper;
@@ -33,6 +35,12 @@ public abstract class AbstractService implements ServiceFacade {
 	// Initialization parameters (as string values) for this Service.
 	private Map<String, Object> initParameters;
 
+	// Service operation handler or null when the Service has no operations.
+	private OperationHandler operationHandler;
+
+	// Metrics of the operations or null when they are disabled.
+	private OperationMetricsFacade operationMetrics;
+
 	// ///////////////////////////////////////////////////////////////////
 	// ABSTRACT METHODS
 	// ///////////////////////////////////////////////////////////////////
@@ -171,7 +179,8 @@ public abstract class AbstractService implements ServiceFacade {
 	}
 
 	/**
-	 * Executes a Service operation.
+	 * Executes a Service operation. When the metrics of the operations are
+	 * enabled, the time and the result of each operation are recorded.
 	 * 
 	 * @param operationName Name of the operation to execute.<br>
 	 *                      <br>
@@ -179,15 +188,68 @@ public abstract class AbstractService implements ServiceFacade {
 	 *                      <br>
 	 * @return Operation result.<br>
 	 *         <br>
-	 * @throws ServiceException If there is an error when trying to executea Service
-	 *                          operation.<br>
+	 * @throws ServiceException If there is an error when trying to execute the
+	 *                          Service operation.<br>
 	 *                          <br>
 	 */
 	public Object execute(final String operationName, final Map<String, Object> parameters) throws ServiceException {
-		throw new ServiceException(
-				getScopeFacade(), "WAREWORK cannot execute '" + operationName
-						+ "' operation because it is not supported by the '" + getName() + "' Service.",
-				null, LogServiceConstants.LOG_LEVEL_WARN);
+
+		// Validate the Service supports operations.
+		if (operationHandler == null) {
+			throw new ServiceException(
+					getScopeFacade(), "WAREWORK cannot execute '" + operationName
+							+ "' operation because it is not supported by the '" + getName() + "' Service.",
+					null, LogServiceConstants.LOG_LEVEL_WARN);
+		}
+
+		// Execute the operation directly when metrics are disabled.
+		if (operationMetrics == null) {
+			return operationHandler.execute(operationName, parameters);
+		}
+
+		// Get the time when the operation starts.
+		final long start = System.nanoTime();
+
+		// Flag to know if the operation fails.
+		boolean failed = true;
+
+		// Execute the operation.
+		try {
+
+			// Get the result of the operation.
+			final Object result = operationHandler.execute(operationName, parameters);
+
+			// At this point, the operation did not fail.
+			failed = false;
+
+			// Return the result.
+			return result;
+
+		} finally {
+
+			// Get the name of the Client.
+			final Object clientName = (parameters == null) ? null
+					: parameters.get(ProxyServiceConstants.OPERATION_PARAMETER_CLIENT_NAME);
+
+			// Record the operation.
+			operationMetrics.record((clientName instanceof String) ? (String) clientName : null, operationName,
+					System.nanoTime() - start, failed);
+
+		}
+
+	}
+
+	/**
+	 * Gets the metrics of the operations executed by this Service.
+	 * 
+	 * @return Metrics of the operations or <code>null</code> if they are
+	 *         disabled. Check out
+	 *         <code>com.warework.core.service.ProxyServiceConstants.PARAMETER_OPERATION_METRICS</code>
+	 *         to enable them.<br>
+	 *         <br>
+	 */
+	public OperationMetricsFacade getOperationMetrics() {
+		return operationMetrics;
 	}
 
 	/**
@@ -227,6 +289,45 @@ public abstract class AbstractService implements ServiceFacade {
 		return (initParameters == null) ? null : initParameters.get(name);
 	}
 
+	/**
+	 * Sets the handler that executes the operations of the Service and creates
+	 * the metrics of the operations. Services that support operations invoke this
+	 * method when they are initialized.
+	 * 
+	 * @param handler Initialized operation handler.<br>
+	 *                <br>
+	 * @throws ServiceException If there is an error when trying to create the
+	 *                          metrics of the operations.<br>
+	 *                          <br>
+	 */
+	protected void setOperationHandler(final OperationHandler handler) throws ServiceException {
+
+		// Set the operation handler.
+		operationHandler = handler;
+
+		// Create the metrics of the operations.
+		if (operationMetrics == null) {
+			operationMetrics = createOperationMetrics();
+		}
+
+	}
+
+	/**
+	 * Terminates the metrics of the operations. Services that set an operation
+	 * handler invoke this method when they are closed.
+	 */
+	protected void closeOperationMetrics() {
+		if (operationMetrics != null) {
+
+			// Terminates the metrics of the operations.
+			operationMetrics.close();
+
+			// Remove the metrics.
+			operationMetrics = null;
+
+		}
+	}
+
 	// ///////////////////////////////////////////////////////////////////
 	// PRIVATE METHODS
 	// ///////////////////////////////////////////////////////////////////
@@ -323,4 +424,55 @@ public abstract class AbstractService implements ServiceFacade {
 
 	}
 
+	/**
+	 * Creates the metrics of the operations as specified by the
+	 * <code>PARAMETER_OPERATION_METRICS</code> initialization parameter.
+	 * 
+	 * @return Metrics of the operations or <code>null</code> if they are
+	 *         disabled.<br>
+	 *         <br>
+	 * @throws ServiceException If there is an error when trying to create the
+	 *                          metrics.<br>
+	 *                          <br>
+	 */
+	@SuppressWarnings("unchecked")
+	private OperationMetricsFacade createOperationMetrics() throws ServiceException {
+
+		// Get the parameter that enables the metrics.
+		final Object parameter = getInitParameter(ProxyServiceConstants.PARAMETER_OPERATION_METRICS);
+
+		// Metrics are disabled by default.
+		if ((parameter == null) || (parameter.equals(Boolean.FALSE))
+				|| (parameter.toString().equalsIgnoreCase(CommonValueL1Constants.STRING_FALSE))) {
+			return null;
+		}
+
+		// Metrics to return.
+		OperationMetricsFacade metrics = null;
+
+		// Create the metrics.
+		try {
+			if ((parameter.equals(Boolean.TRUE))
+					|| (parameter.toString().equalsIgnoreCase(CommonValueL1Constants.STRING_TRUE))) {
+				metrics = new JmxOperationMetrics();
+			} else if (parameter instanceof Class) {
+				metrics = ((Class<? extends OperationMetricsFacade>) parameter).newInstance();
+			} else {
+				metrics = (OperationMetricsFacade) Class.forName(parameter.toString()).newInstance();
+			}
+		} catch (final Exception e) {
+			throw new ServiceException(getScopeFacade(), "WAREWORK cannot create the operation metrics of Service '"
+					+ getName() + "' because the following exception is thrown: " + e.getMessage(), e,
+					LogServiceConstants.LOG_LEVEL_WARN);
+		}
+
+		// Initialize the metrics.
+		metrics.init(this);
+
+		// Return the metrics.
+		return metrics;
+
+	}
+
+
 }
@@ -17,6 +17,20 @@ public abstract class ProxyServiceConstants extends ServiceConstants {
 	 */
 	public static final String DEFAULT_CLIENT_NAME = "default-client";
 
+	// PARAMETERS
+
+	/**
+	 * Initialization parameter that enables the metrics of the operations
+	 * executed by the Proxy Service. Use <code>true</code> to publish the calls,
+	 * errors and latency of each operation of each Client with JMX, or the class
+	 * (or name of the class) of a
+	 * <code>com.warework.core.service.metric.OperationMetricsFacade</code>
+	 * implementation. Metrics are disabled by default. This parameter can be a
+	 * <code>java.lang.Boolean</code>, a <code>java.lang.Class</code> or a
+	 * <code>java.lang.String</code>.
+	 */
+	public static final String PARAMETER_OPERATION_METRICS = "operation-metrics";
+
 	// OPERATION NAMES
 
 	/**
@@ -1,6 +1,7 @@
 package com.warework.core.service;
 
 import java.util.Enumeration;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 
@@ -25,6 +26,9 @@ public class ProxyServiceOperationHandler implements OperationHandler {
 	// Service where to perform the operations.
 	private ProxyServiceFacade service;
 
+	// Operations of the Service.
+	private final Map<String, ServiceOperation> operations = new HashMap<String, ServiceOperation>();
+
 	// ///////////////////////////////////////////////////////////////////
 	// PUBLIC METHODS
 	// ///////////////////////////////////////////////////////////////////
@@ -41,6 +45,8 @@ public class ProxyServiceOperationHandler implements OperationHandler {
 	 * <br>
 	 */
 	public void init(ServiceFacade proxyService) throws ServiceException {
+
+		// Validate service type.
 		if (proxyService instanceof ProxyServiceFacade) {
 			service = (ProxyServiceFacade) proxyService;
 		} else {
@@ -51,6 +57,129 @@ public class ProxyServiceOperationHandler implements OperationHandler {
 							+ ProxyServiceFacade.class.getName() + "'.", null,
 					LogServiceConstants.LOG_LEVEL_WARN);
 		}
+
+		// Register the operations of Proxy Services.
+		register(ProxyServiceConstants.OPERATION_NAME_CREATE_CLIENT,
+				new ServiceOperation() {
+					public Object execute(Map<String, Object> parameters)
+							throws ServiceException {
+
+						// Create the Client.
+						executeCreateClient(parameters);
+
+						// Nothing to return.
+						return null;
+
+					}
+				});
+		register(ProxyServiceConstants.OPERATION_NAME_GET_CLIENT_NAMES,
+				new ServiceOperation() {
+					public Object execute(Map<String, Object> parameters)
+							throws ServiceException {
+						return executeGetClientNames();
+					}
+				});
+		register(ProxyServiceConstants.OPERATION_NAME_EXISTS_CLIENT,
+				new ServiceOperation() {
+					public Object execute(Map<String, Object> parameters)
+							throws ServiceException {
+						return executeExistsClient(parameters);
+					}
+				});
+		register(ProxyServiceConstants.OPERATION_NAME_REMOVE_CLIENT,
+				new ServiceOperation() {
+					public Object execute(Map<String, Object> parameters)
+							throws ServiceException {
+
+						// Remove the Client.
+						executeRemoveClient(parameters);
+
+						// Nothing to return.
+						return null;
+
+					}
+				});
+		register(ProxyServiceConstants.OPERATION_NAME_REMOVE_ALL_CLIENTS,
+				new ServiceOperation() {
+					public Object execute(Map<String, Object> parameters)
+							throws ServiceException {
+
+						// Remove every Client.
+						service.removeAllClients();
+
+						// Nothing to return.
+						return null;
+
+					}
+				});
+		register(ProxyServiceConstants.OPERATION_NAME_GET_CLIENT_TYPE,
+				new ServiceOperation() {
+					public Object execute(Map<String, Object> parameters)
+							throws ServiceException {
+						return executeGetClientType(parameters);
+					}
+				});
+		register(ProxyServiceConstants.OPERATION_NAME_IS_CLIENT_TYPE,
+				new ServiceOperation() {
+					public Object execute(Map<String, Object> parameters)
+							throws ServiceException {
+						return executeIsClientType(parameters);
+					}
+				});
+		register(ProxyServiceConstants.OPERATION_NAME_GET_CLIENT_CONNECTION,
+				new ServiceOperation() {
+					public Object execute(Map<String, Object> parameters)
+							throws ServiceException {
+						return executeGetClientConnection(parameters);
+					}
+				});
+		register(ProxyServiceConstants.OPERATION_NAME_CONNECT_CLIENT,
+				new ServiceOperation() {
+					public Object execute(Map<String, Object> parameters)
+							throws ServiceException {
+
+						// Connect the Client.
+						executeConnect(parameters);
+
+						// Nothing to return.
+						return null;
+
+					}
+				});
+		register(ProxyServiceConstants.OPERATION_NAME_DISCONNECT_CLIENT,
+				new ServiceOperation() {
+					public Object execute(Map<String, Object> parameters)
+							throws ServiceException {
+
+						// Disconnect the Client.
+						executeDisconnect(parameters);
+
+						// Nothing to return.
+						return null;
+
+					}
+				});
+		register(ProxyServiceConstants.OPERATION_NAME_DISCONNECT_ALL_CLIENTS,
+				new ServiceOperation() {
+					public Object execute(Map<String, Object> parameters)
+							throws ServiceException {
+
+						// Disconnect every Client.
+						service.disconnectAll();
+
+						// Nothing to return.
+						return null;
+
+					}
+				});
+		register(ProxyServiceConstants.OPERATION_NAME_IS_CLIENT_CONNECTED,
+				new ServiceOperation() {
+					public Object execute(Map<String, Object> parameters)
+							throws ServiceException {
+						return executeIsClientConnected(parameters);
+					}
+				});
+
 	}
 
 	/**
@@ -66,50 +195,18 @@ public class ProxyServiceOperationHandler implements OperationHandler {
 	 * <br>
 	 * @throws ServiceException
 	 *             If there is an error when trying to execute the Proxy Service
-	 *             operation.<br>
+	 *             operation or when the operation is not registered in this
+	 *             handler.<br>
 	 * <br>
 	 */
 	public Object execute(String operationName, Map<String, Object> parameters)
 			throws ServiceException {
 
-		// Execute operation.
-		if (operationName
-				.equals(ProxyServiceConstants.OPERATION_NAME_CREATE_CLIENT)) {
-			executeCreateClient(parameters);
-		} else if (operationName
-				.equals(ProxyServiceConstants.OPERATION_NAME_GET_CLIENT_NAMES)) {
-			return executeGetClientNames();
-		} else if (operationName
-				.equals(ProxyServiceConstants.OPERATION_NAME_EXISTS_CLIENT)) {
-			return executeExistsClient(parameters);
-		} else if (operationName
-				.equals(ProxyServiceConstants.OPERATION_NAME_REMOVE_CLIENT)) {
-			executeRemoveClient(parameters);
-		} else if (operationName
-				.equals(ProxyServiceConstants.OPERATION_NAME_REMOVE_ALL_CLIENTS)) {
-			service.removeAllClients();
-		} else if (operationName
-				.equals(ProxyServiceConstants.OPERATION_NAME_GET_CLIENT_TYPE)) {
-			return executeGetClientType(parameters);
-		} else if (operationName
-				.equals(ProxyServiceConstants.OPERATION_NAME_IS_CLIENT_TYPE)) {
-			return executeIsClientType(parameters);
-		} else if (operationName
-				.equals(ProxyServiceConstants.OPERATION_NAME_GET_CLIENT_CONNECTION)) {
-			return executeGetClientConnection(parameters);
-		} else if (operationName
-				.equals(ProxyServiceConstants.OPERATION_NAME_CONNECT_CLIENT)) {
-			executeConnect(parameters);
-		} else if (operationName
-				.equals(ProxyServiceConstants.OPERATION_NAME_DISCONNECT_CLIENT)) {
-			executeDisconnect(parameters);
-		} else if (operationName
-				.equals(ProxyServiceConstants.OPERATION_NAME_DISCONNECT_ALL_CLIENTS)) {
-			service.disconnectAll();
-		} else if (operationName
-				.equals(ProxyServiceConstants.OPERATION_NAME_IS_CLIENT_CONNECTED)) {
-			return executeIsClientConnected(parameters);
-		} else {
+		// Get the operation.
+		final ServiceOperation operation = operations.get(operationName);
+
+		// Validate the operation.
+		if (operation == null) {
 			throw new ServiceException(
 					service.getScopeFacade(),
 					"WAREWORK cannot execute '"
@@ -119,9 +216,29 @@ public class ProxyServiceOperationHandler implements OperationHandler {
 					LogServiceConstants.LOG_LEVEL_WARN);
 		}
 
-		// At this point, nothing to return.
-		return null;
+		// Execute the operation.
+		return operation.execute(parameters);
+
+	}
 
+	// ///////////////////////////////////////////////////////////////////
+	// PROTECTED METHODS
+	// ///////////////////////////////////////////////////////////////////
+
+	/**
+	 * Registers an operation in this handler. Operations must be registered
+	 * while the Service is initialized. If an operation with the same name is
+	 * already registered, it is replaced with the new one.
+	 * 
+	 * @param operationName
+	 *            Name of the operation.<br>
+	 * <br>
+	 * @param operation
+	 *            Operation to execute when this name is requested.<br>
+	 * <br>
+	 */
+	protected void register(String operationName, ServiceOperation operation) {
+		operations.put(operationName, operation);
 	}
 
 	// ///////////////////////////////////////////////////////////////////
@@ -0,0 +1,29 @@
+package com.warework.core.service;
+
+import java.util.Map;
+
+/**
+ * Operation of a Service. Operation handlers keep one instance for each
+ * operation name, so the operation to execute is found with one lookup instead
+ * of comparing its name with every operation that the Service supports.<br>
+ *
+ * @author Jose Schiaffino
+ * @version ${project.version}
+ */
+public interface ServiceOperation {
+
+	/**
+	 * Executes the operation.
+	 *
+	 * @param parameters Operation parameters.<br>
+	 *                   <br>
+	 * @return Operation result or <code>null</code> if the operation does not
+	 *         return anything.<br>
+	 *         <br>
+	 * @throws ServiceException If there is an error when trying to execute the
+	 *                          operation.<br>
+	 *                          <br>
+	 */
+	Object execute(Map<String, Object> parameters) throws ServiceException;
+
+}
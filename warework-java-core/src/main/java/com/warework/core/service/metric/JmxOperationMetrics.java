@@ -0,0 +1,355 @@
+package com.warework.core.service.metric;
+
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.Enumeration;
+import java.util.List;
+
+import javax.management.InstanceAlreadyExistsException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+
+import com.warework.core.service.ServiceException;
+import com.warework.core.service.ServiceFacade;
+import com.warework.core.util.CommonValueL1Constants;
+import com.warework.service.log.LogServiceConstants;
+
+/**
+ * Keeps in memory the statistics of the operations of a Service and publishes
+ * them in the platform MBean server with the name
+ * <code>com.warework:type=OperationMetrics,scope=[scope],service=[service]</code>.
+ * When this name is already registered by another Service, for example by a
+ * Scope with the same name, the name gets an <code>instance</code> key with the
+ * next free number.<br>
+ *
+ * @author Jose Schiaffino
+ * @version ${project.version}
+ */
+public class JmxOperationMetrics extends OperationMetrics implements JmxOperationMetricsMBean {
+
+	// ///////////////////////////////////////////////////////////////////
+	// CONSTANTS
+	// ///////////////////////////////////////////////////////////////////
+
+	/**
+	 * Domain of the MBeans.
+	 */
+	public static final String DOMAIN = "com.warework";
+
+	/**
+	 * Type of the MBeans.
+	 */
+	public static final String TYPE = "OperationMetrics";
+
+	// ///////////////////////////////////////////////////////////////////
+	// ATTRIBUTES
+	// ///////////////////////////////////////////////////////////////////
+
+	// Name of the registered MBean.
+	private ObjectName objectName;
+
+	// ///////////////////////////////////////////////////////////////////
+	// PUBLIC METHODS
+	// ///////////////////////////////////////////////////////////////////
+
+	/**
+	 * Initializes the metrics and registers them in the platform MBean server.
+	 *
+	 * @param service Service where the operations are executed.<br>
+	 *                <br>
+	 * @throws ServiceException If there is an error when trying to register the
+	 *                          MBean.<br>
+	 *                          <br>
+	 */
+	public void init(final ServiceFacade service) throws ServiceException {
+
+		// Initialize the metrics.
+		super.init(service);
+
+		// Register the MBean.
+		try {
+
+			// Get the MBean server.
+			final MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+
+			// Create the name of the MBean.
+			ObjectName name = createObjectName(service, 1);
+
+			// Register the MBean, with the next instance number when the name is taken.
+			for (int instance = 2; objectName == null; instance++) {
+				try {
+
+					// Register the MBean.
+					server.registerMBean(this, name);
+
+					// Keep the name to unregister it later.
+					objectName = name;
+
+				} catch (final InstanceAlreadyExistsException e) {
+					name = createObjectName(service, instance);
+				}
+			}
+
+		} catch (final Exception e) {
+			throw new ServiceException(service.getScopeFacade(),
+					"WAREWORK cannot register the operation metrics of Service '" + service.getName()
+							+ "' because the following exception is thrown: " + e.getMessage(),
+					e, LogServiceConstants.LOG_LEVEL_WARN);
+		}
+
+	}
+
+	/**
+	 * Unregisters the MBean and terminates the metrics.
+	 */
+	public void close() {
+
+		// Unregister the MBean.
+		if (objectName != null) {
+			try {
+				ManagementFactory.getPlatformMBeanServer().unregisterMBean(objectName);
+			} catch (final Exception e) {
+				// DO NOTHING.
+			} finally {
+				objectName = null;
+			}
+		}
+
+		// Terminate the metrics.
+		super.close();
+
+	}
+
+	/**
+	 * Gets the name of the registered MBean.
+	 *
+	 * @return Name of the MBean or <code>null</code> if it is not registered.<br>
+	 *         <br>
+	 */
+	public ObjectName getObjectName() {
+		return objectName;
+	}
+
+	// ///////////////////////////////////////////////////////////////////
+
+	/**
+	 * Gets the number of operations executed in the Service.
+	 *
+	 * @return Number of operations.<br>
+	 *         <br>
+	 */
+	public long getCount() {
+		return getServiceStatistics().getCount();
+	}
+
+	/**
+	 * Gets the number of operations that failed in the Service.
+	 *
+	 * @return Number of errors.<br>
+	 *         <br>
+	 */
+	public long getErrorCount() {
+		return getServiceStatistics().getErrorCount();
+	}
+
+	/**
+	 * Gets the average time of the operations executed in the Service.
+	 *
+	 * @return Mean time in nanoseconds.<br>
+	 *         <br>
+	 */
+	public long getMeanTime() {
+		return getServiceStatistics().getMeanTime();
+	}
+
+	/**
+	 * Gets the time of the slowest operation executed in the Service.
+	 *
+	 * @return Maximum time in nanoseconds.<br>
+	 *         <br>
+	 */
+	public long getMaxTime() {
+		return getServiceStatistics().getMaxTime();
+	}
+
+	/**
+	 * Gets the names of the Clients that executed operations.
+	 *
+	 * @return Names of the Clients.<br>
+	 *         <br>
+	 */
+	public String[] getClients() {
+		return toArray(super.getClientNames());
+	}
+
+	/**
+	 * Gets the names of the operations executed in a Client.
+	 *
+	 * @param clientName Name of the Client.<br>
+	 *                   <br>
+	 * @return Names of the operations.<br>
+	 *         <br>
+	 */
+	public String[] getOperations(final String clientName) {
+		return toArray(super.getOperationNames(clientName));
+	}
+
+	/**
+	 * Gets the number of times an operation was executed.
+	 *
+	 * @param clientName    Name of the Client.<br>
+	 *                      <br>
+	 * @param operationName Name of the operation.<br>
+	 *                      <br>
+	 * @return Number of calls.<br>
+	 *         <br>
+	 */
+	public long getCount(final String clientName, final String operationName) {
+
+		// Get the statistics of the operation.
+		final OperationStatistics statistics = getStatistics(clientName, operationName);
+
+		// Return the value.
+		return (statistics == null) ? 0 : statistics.getCount();
+
+	}
+
+	/**
+	 * Gets the number of times an operation failed.
+	 *
+	 * @param clientName    Name of the Client.<br>
+	 *                      <br>
+	 * @param operationName Name of the operation.<br>
+	 *                      <br>
+	 * @return Number of errors.<br>
+	 *         <br>
+	 */
+	public long getErrorCount(final String clientName, final String operationName) {
+
+		// Get the statistics of the operation.
+		final OperationStatistics statistics = getStatistics(clientName, operationName);
+
+		// Return the value.
+		return (statistics == null) ? 0 : statistics.getErrorCount();
+
+	}
+
+	/**
+	 * Gets the average time of an operation.
+	 *
+	 * @param clientName    Name of the Client.<br>
+	 *                      <br>
+	 * @param operationName Name of the operation.<br>
+	 *                      <br>
+	 * @return Mean time in nanoseconds.<br>
+	 *         <br>
+	 */
+	public long getMeanTime(final String clientName, final String operationName) {
+
+		// Get the statistics of the operation.
+		final OperationStatistics statistics = getStatistics(clientName, operationName);
+
+		// Return the value.
+		return (statistics == null) ? 0 : statistics.getMeanTime();
+
+	}
+
+	/**
+	 * Gets the time of the slowest execution of an operation.
+	 *
+	 * @param clientName    Name of the Client.<br>
+	 *                      <br>
+	 * @param operationName Name of the operation.<br>
+	 *                      <br>
+	 * @return Maximum time in nanoseconds.<br>
+	 *         <br>
+	 */
+	public long getMaxTime(final String clientName, final String operationName) {
+
+		// Get the statistics of the operation.
+		final OperationStatistics statistics = getStatistics(clientName, operationName);
+
+		// Return the value.
+		return (statistics == null) ? 0 : statistics.getMaxTime();
+
+	}
+
+	/**
+	 * Gets the time below which a percentage of the executions of an operation
+	 * fall.
+	 *
+	 * @param clientName    Name of the Client.<br>
+	 *                      <br>
+	 * @param operationName Name of the operation.<br>
+	 *                      <br>
+	 * @param percentile    Percentage of calls, from <code>0</code> to
+	 *                      <code>100</code>.<br>
+	 *                      <br>
+	 * @return Time of the percentile in nanoseconds.<br>
+	 *         <br>
+	 */
+	public long getPercentileTime(final String clientName, final String operationName, final double percentile) {
+
+		// Get the statistics of the operation.
+		final OperationStatistics statistics = getStatistics(clientName, operationName);
+
+		// Return the value.
+		return (statistics == null) ? 0 : statistics.getPercentile(percentile);
+
+	}
+
+	// ///////////////////////////////////////////////////////////////////
+	// PRIVATE METHODS
+	// ///////////////////////////////////////////////////////////////////
+
+	/**
+	 * Creates the name of the MBean of a Service.
+	 *
+	 * @param service  Service.<br>
+	 *                 <br>
+	 * @param instance Number of the MBean for the Service. The first one has no
+	 *                 <code>instance</code> key.<br>
+	 *                 <br>
+	 * @return Name of the MBean.<br>
+	 *         <br>
+	 * @throws Exception If there is an error when trying to create the name.<br>
+	 *                   <br>
+	 */
+	private static ObjectName createObjectName(final ServiceFacade service, final int instance) throws Exception {
+
+		// Get the name of the Scope.
+		final String scopeName = (service.getScopeFacade() == null) ? null : service.getScopeFacade().getName();
+
+		// Return the name of the MBean.
+		return new ObjectName(DOMAIN + ":type=" + TYPE + ",scope=" + ObjectName.quote(String.valueOf(scopeName))
+				+ ",service=" + ObjectName.quote(String.valueOf(service.getName()))
+				+ ((instance > 1) ? ",instance=" + instance : CommonValueL1Constants.STRING_EMPTY));
+
+	}
+
+	/**
+	 * Copies the names of an enumeration into an array.
+	 *
+	 * @param names Names.<br>
+	 *              <br>
+	 * @return Array with the names.<br>
+	 *         <br>
+	 */
+	private static String[] toArray(final Enumeration<String> names) {
+
+		// Names to return.
+		final List<String> list = new ArrayList<String>();
+
+		// Copy the names.
+		if (names != null) {
+			while (names.hasMoreElements()) {
+				list.add(names.nextElement());
+			}
+		}
+
+		// Return the names.
+		return list.toArray(new String[list.size()]);
+
+	}
+
+}
@@ -0,0 +1,132 @@
+package com.warework.core.service.metric;
+
+/**
+ * Management interface of the operation metrics of a Service. Times are given
+ * in nanoseconds. Use an empty Client name for operations that do not use a
+ * Client.<br>
+ *
+ * @author Jose Schiaffino
+ * @version ${project.version}
+ */
+public interface JmxOperationMetricsMBean {
+
+	/**
+	 * Gets the number of operations executed in the Service.
+	 *
+	 * @return Number of operations.<br>
+	 *         <br>
+	 */
+	long getCount();
+
+	/**
+	 * Gets the number of operations that failed in the Service.
+	 *
+	 * @return Number of errors.<br>
+	 *         <br>
+	 */
+	long getErrorCount();
+
+	/**
+	 * Gets the average time of the operations executed in the Service.
+	 *
+	 * @return Mean time in nanoseconds.<br>
+	 *         <br>
+	 */
+	long getMeanTime();
+
+	/**
+	 * Gets the time of the slowest operation executed in the Service.
+	 *
+	 * @return Maximum time in nanoseconds.<br>
+	 *         <br>
+	 */
+	long getMaxTime();
+
+	/**
+	 * Gets the names of the Clients that executed operations.
+	 *
+	 * @return Names of the Clients.<br>
+	 *         <br>
+	 */
+	String[] getClients();
+
+	/**
+	 * Gets the names of the operations executed in a Client.
+	 *
+	 * @param clientName Name of the Client.<br>
+	 *                   <br>
+	 * @return Names of the operations.<br>
+	 *         <br>
+	 */
+	String[] getOperations(String clientName);
+
+	/**
+	 * Gets the number of times an operation was executed.
+	 *
+	 * @param clientName    Name of the Client.<br>
+	 *                      <br>
+	 * @param operationName Name of the operation.<br>
+	 *                      <br>
+	 * @return Number of calls.<br>
+	 *         <br>
+	 */
+	long getCount(String clientName, String operationName);
+
+	/**
+	 * Gets the number of times an operation failed.
+	 *
+	 * @param clientName    Name of the Client.<br>
+	 *                      <br>
+	 * @param operationName Name of the operation.<br>
+	 *                      <br>
+	 * @return Number of errors.<br>
+	 *         <br>
+	 */
+	long getErrorCount(String clientName, String operationName);
+
+	/**
+	 * Gets the average time of an operation.
+	 *
+	 * @param clientName    Name of the Client.<br>
+	 *                      <br>
+	 * @param operationName Name of the operation.<br>
+	 *                      <br>
+	 * @return Mean time in nanoseconds.<br>
+	 *         <br>
+	 */
+	long getMeanTime(String clientName, String operationName);
+
+	/**
+	 * Gets the time of the slowest execution of an operation.
+	 *
+	 * @param clientName    Name of the Client.<br>
+	 *                      <br>
+	 * @param operationName Name of the operation.<br>
+	 *                      <br>
+	 * @return Maximum time in nanoseconds.<br>
+	 *         <br>
+	 */
+	long getMaxTime(String clientName, String operationName);
+
+	/**
+	 * Gets the time below which a percentage of the executions of an operation
+	 * fall.
+	 *
+	 * @param clientName    Name of the Client.<br>
+	 *                      <br>
+	 * @param operationName Name of the operation.<br>
+	 *                      <br>
+	 * @param percentile    Percentage of calls, from <code>0</code> to
+	 *                      <code>100</code>.<br>
+	 *                      <br>
+	 * @return Time of the percentile in nanoseconds.<br>
+	 *         <br>
+	 */
+	long getPercentileTime(String clientName, String operationName, double percentile);
+
+	/**
+	 * Removes every recorded operation.
+	 */
+	void reset();
+
+}
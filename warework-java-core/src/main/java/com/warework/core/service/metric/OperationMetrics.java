@@ -0,0 +1,276 @@
+package com.warework.core.service.metric;
+
+import java.util.Enumeration;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import com.warework.core.service.ServiceException;
+import com.warework.core.service.ServiceFacade;
+import com.warework.core.util.CommonValueL1Constants;
+
+/**
+ * Keeps in memory the statistics of each operation executed in each Client of a
+ * Service. Operations that do not use a Client are registered with an empty
+ * Client name.<br>
+ *
+ * @author Jose Schiaffino
+ * @version ${project.version}
+ */
+public class OperationMetrics implements OperationMetricsFacade {
+
+	// ///////////////////////////////////////////////////////////////////
+	// ATTRIBUTES
+	// ///////////////////////////////////////////////////////////////////
+
+	// Service where the operations are executed.
+	private ServiceFacade service;
+
+	// Statistics of each operation of each Client.
+	private final ConcurrentHashMap<String, ConcurrentHashMap<String, OperationStatistics>> clients = new ConcurrentHashMap<String, ConcurrentHashMap<String, OperationStatistics>>();
+
+	// ///////////////////////////////////////////////////////////////////
+	// PUBLIC METHODS
+	// ///////////////////////////////////////////////////////////////////
+
+	/**
+	 * Initializes the metrics of a Service.
+	 *
+	 * @param service Service where the operations are executed.<br>
+	 *                <br>
+	 * @throws ServiceException If there is an error when trying to initialize the
+	 *                          metrics.<br>
+	 *                          <br>
+	 */
+	public void init(final ServiceFacade service) throws ServiceException {
+		this.service = service;
+	}
+
+	/**
+	 * Records the execution of an operation.
+	 *
+	 * @param clientName    Name of the Client where the operation is executed or
+	 *                      <code>null</code> if the operation does not use a
+	 *                      Client.<br>
+	 *                      <br>
+	 * @param operationName Name of the operation.<br>
+	 *                      <br>
+	 * @param time          Nanoseconds spent to execute the operation.<br>
+	 *                      <br>
+	 * @param failed        <code>true</code> if the operation threw an
+	 *                      exception.<br>
+	 *                      <br>
+	 */
+	public void record(final String clientName, final String operationName, final long time,
+			final boolean failed) {
+		if (operationName != null) {
+			getOrCreateStatistics(clientName, operationName).record(time, failed);
+		}
+	}
+
+	/**
+	 * Terminates the metrics.
+	 */
+	public void close() {
+		clients.clear();
+	}
+
+	// ///////////////////////////////////////////////////////////////////
+
+	/**
+	 * Gets the statistics of an operation.
+	 *
+	 * @param clientName    Name of the Client or <code>null</code> for operations
+	 *                      that do not use a Client.<br>
+	 *                      <br>
+	 * @param operationName Name of the operation.<br>
+	 *                      <br>
+	 * @return Statistics of the operation or <code>null</code> if the operation
+	 *         was not executed.<br>
+	 *         <br>
+	 */
+	public OperationStatistics getStatistics(final String clientName, final String operationName) {
+
+		// Get the operations of the Client.
+		final Map<String, OperationStatistics> operations = clients.get(toKey(clientName));
+
+		// Return the statistics.
+		return ((operations == null) || (operationName == null)) ? null : operations.get(operationName);
+
+	}
+
+	/**
+	 * Gets the statistics of every operation executed in a Client.
+	 *
+	 * @param clientName Name of the Client or <code>null</code> for operations
+	 *                   that do not use a Client.<br>
+	 *                   <br>
+	 * @return Snapshot with the statistics of the Client. It is empty if the
+	 *         Client did not execute any operation.<br>
+	 *         <br>
+	 */
+	public OperationStatistics getClientStatistics(final String clientName) {
+
+		// Statistics to return.
+		final OperationStatistics statistics = new OperationStatistics();
+
+		// Add the statistics of each operation.
+		final Map<String, OperationStatistics> operations = clients.get(toKey(clientName));
+		if (operations != null) {
+			for (final Iterator<OperationStatistics> iterator = operations.values().iterator(); iterator
+					.hasNext();) {
+				statistics.add(iterator.next());
+			}
+		}
+
+		// Return the statistics.
+		return statistics;
+
+	}
+
+	/**
+	 * Gets the statistics of every operation executed in the Service.
+	 *
+	 * @return Snapshot with the statistics of the Service.<br>
+	 *         <br>
+	 */
+	public OperationStatistics getServiceStatistics() {
+
+		// Statistics to return.
+		final OperationStatistics statistics = new OperationStatistics();
+
+		// Add the statistics of each Client.
+		for (final Iterator<String> iterator = clients.keySet().iterator(); iterator.hasNext();) {
+			statistics.add(getClientStatistics(iterator.next()));
+		}
+
+		// Return the statistics.
+		return statistics;
+
+	}
+
+	/**
+	 * Gets the names of the Clients that executed operations. Operations that do
+	 * not use a Client are listed with an empty name.
+	 *
+	 * @return Names of the Clients.<br>
+	 *         <br>
+	 */
+	public Enumeration<String> getClientNames() {
+		return clients.keys();
+	}
+
+	/**
+	 * Gets the names of the operations executed in a Client.
+	 *
+	 * @param clientName Name of the Client or <code>null</code> for operations
+	 *                   that do not use a Client.<br>
+	 *                   <br>
+	 * @return Names of the operations or <code>null</code> if the Client did not
+	 *         execute any operation.<br>
+	 *         <br>
+	 */
+	public Enumeration<String> getOperationNames(final String clientName) {
+
+		// Get the operations of the Client.
+		final ConcurrentHashMap<String, OperationStatistics> operations = clients.get(toKey(clientName));
+
+		// Return the names of the operations.
+		return (operations == null) ? null : operations.keys();
+
+	}
+
+	/**
+	 * Removes every recorded operation.
+	 */
+	public void reset() {
+		for (final Iterator<ConcurrentHashMap<String, OperationStatistics>> iterator = clients.values()
+				.iterator(); iterator.hasNext();) {
+			for (final Iterator<OperationStatistics> statistics = iterator.next().values().iterator(); statistics
+					.hasNext();) {
+				statistics.next().reset();
+			}
+		}
+	}
+
+	// ///////////////////////////////////////////////////////////////////
+	// PROTECTED METHODS
+	// ///////////////////////////////////////////////////////////////////
+
+	/**
+	 * Gets the Service where the operations are executed.
+	 *
+	 * @return Service.<br>
+	 *         <br>
+	 */
+	protected ServiceFacade getService() {
+		return service;
+	}
+
+	// ///////////////////////////////////////////////////////////////////
+	// PRIVATE METHODS
+	// ///////////////////////////////////////////////////////////////////
+
+	/**
+	 * Gets the statistics of an operation and creates them when they do not exist.
+	 *
+	 * @param clientName    Name of the Client.<br>
+	 *                      <br>
+	 * @param operationName Name of the operation.<br>
+	 *                      <br>
+	 * @return Statistics of the operation.<br>
+	 *         <br>
+	 */
+	private OperationStatistics getOrCreateStatistics(final String clientName, final String operationName) {
+
+		// Get the key of the Client.
+		final String key = toKey(clientName);
+
+		// Get the operations of the Client.
+		ConcurrentHashMap<String, OperationStatistics> operations = clients.get(key);
+		if (operations == null) {
+
+			// Create the operations of the Client.
+			final ConcurrentHashMap<String, OperationStatistics> created = new ConcurrentHashMap<String, OperationStatistics>();
+
+			// Keep the ones created by other thread, if any.
+			operations = clients.putIfAbsent(key, created);
+			if (operations == null) {
+				operations = created;
+			}
+
+		}
+
+		// Get the statistics of the operation.
+		OperationStatistics statistics = operations.get(operationName);
+		if (statistics == null) {
+
+			// Create the statistics of the operation.
+			final OperationStatistics created = new OperationStatistics();
+
+			// Keep the ones created by other thread, if any.
+			statistics = operations.putIfAbsent(operationName, created);
+			if (statistics == null) {
+				statistics = created;
+			}
+
+		}
+
+		// Return the statistics.
+		return statistics;
+
+	}
+
+	/**
+	 * Gets the key of a Client.
+	 *
+	 * @param clientName Name of the Client.<br>
+	 *                   <br>
+	 * @return Name of the Client or an empty string if it is <code>null</code>.<br>
+	 *         <br>
+	 */
+	private static String toKey(final String clientName) {
+		return (clientName == null) ? CommonValueL1Constants.STRING_EMPTY : clientName;
+	}
+
+}
@@ -0,0 +1,51 @@
+package com.warework.core.service.metric;
+
+import com.warework.core.service.ServiceException;
+import com.warework.core.service.ServiceFacade;
+
+/**
+ * Records the calls, errors and latency of the operations that a Proxy Service
+ * executes. Enable it in a Proxy Service with the
+ * <code>ProxyServiceConstants.PARAMETER_OPERATION_METRICS</code> initialization
+ * parameter. Implementations must be thread-safe and fast, as
+ * <code>record</code> is invoked on every operation.<br>
+ *
+ * @author Jose Schiaffino
+ * @version ${project.version}
+ */
+public interface OperationMetricsFacade {
+
+	/**
+	 * Initializes the metrics of a Service.
+	 *
+	 * @param service Service where the operations are executed.<br>
+	 *                <br>
+	 * @throws ServiceException If there is an error when trying to initialize the
+	 *                          metrics.<br>
+	 *                          <br>
+	 */
+	void init(ServiceFacade service) throws ServiceException;
+
+	/**
+	 * Records the execution of an operation.
+	 *
+	 * @param clientName    Name of the Client where the operation is executed or
+	 *                      <code>null</code> if the operation does not use a
+	 *                      Client.<br>
+	 *                      <br>
+	 * @param operationName Name of the operation.<br>
+	 *                      <br>
+	 * @param time          Nanoseconds spent to execute the operation.<br>
+	 *                      <br>
+	 * @param failed        <code>true</code> if the operation threw an
+	 *                      exception.<br>
+	 *                      <br>
+	 */
+	void record(String clientName, String operationName, long time, boolean failed);
+
+	/**
+	 * Terminates the metrics. Invoked when the Service is closed.
+	 */
+	void close();
+
+}
@@ -0,0 +1,304 @@
+package com.warework.core.service.metric;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Counters and latency histogram of one operation. Latencies are recorded in
+ * buckets that grow exponentially (four buckets for each power of two), so
+ * recording is a few atomic increments without allocation and percentiles are
+ * accurate to 25% of the value.<br>
+ * <br>
+ * This class is thread-safe.
+ *
+ * @author Jose Schiaffino
+ * @version ${project.version}
+ */
+public final class OperationStatistics {
+
+	// ///////////////////////////////////////////////////////////////////
+	// CONSTANTS
+	// ///////////////////////////////////////////////////////////////////
+
+	// Number of buckets for each power of two.
+	private static final int SUB_BUCKETS = 4;
+
+	// Number of bits used to select a bucket of a power of two.
+	private static final int SUB_BUCKET_BITS = 2;
+
+	// Number of buckets of the histogram.
+	private static final int BUCKETS = SUB_BUCKETS * 64;
+
+	// ///////////////////////////////////////////////////////////////////
+	// ATTRIBUTES
+	// ///////////////////////////////////////////////////////////////////
+
+	// Number of calls.
+	private final AtomicLong count = new AtomicLong();
+
+	// Number of calls that failed.
+	private final AtomicLong errorCount = new AtomicLong();
+
+	// Nanoseconds spent in every call.
+	private final AtomicLong totalTime = new AtomicLong();
+
+	// Nanoseconds spent in the slowest call.
+	private final AtomicLong maxTime = new AtomicLong();
+
+	// Number of calls of each bucket.
+	private final AtomicLongArray histogram = new AtomicLongArray(BUCKETS);
+
+	// ///////////////////////////////////////////////////////////////////
+	// PUBLIC METHODS
+	// ///////////////////////////////////////////////////////////////////
+
+	/**
+	 * Records one call.
+	 *
+	 * @param time   Nanoseconds spent in the call.<br>
+	 *               <br>
+	 * @param failed <code>true</code> if the call failed.<br>
+	 *               <br>
+	 */
+	public void record(final long time, final boolean failed) {
+
+		// Negative values may come from a clock adjustment.
+		final long value = (time < 0) ? 0 : time;
+
+		// Count the call.
+		count.incrementAndGet();
+		if (failed) {
+			errorCount.incrementAndGet();
+		}
+
+		// Add the time.
+		totalTime.addAndGet(value);
+		histogram.incrementAndGet(toBucket(value));
+
+		// Update the slowest call.
+		long max = maxTime.get();
+		while ((value > max) && (!maxTime.compareAndSet(max, value))) {
+			max = maxTime.get();
+		}
+
+	}
+
+	/**
+	 * Gets the number of calls.
+	 *
+	 * @return Number of calls.<br>
+	 *         <br>
+	 */
+	public long getCount() {
+		return count.get();
+	}
+
+	/**
+	 * Gets the number of calls that failed.
+	 *
+	 * @return Number of errors.<br>
+	 *         <br>
+	 */
+	public long getErrorCount() {
+		return errorCount.get();
+	}
+
+	/**
+	 * Gets the nanoseconds spent in every call.
+	 *
+	 * @return Total time in nanoseconds.<br>
+	 *         <br>
+	 */
+	public long getTotalTime() {
+		return totalTime.get();
+	}
+
+	/**
+	 * Gets the nanoseconds spent in the slowest call.
+	 *
+	 * @return Maximum time in nanoseconds.<br>
+	 *         <br>
+	 */
+	public long getMaxTime() {
+		return maxTime.get();
+	}
+
+	/**
+	 * Gets the average nanoseconds spent in each call.
+	 *
+	 * @return Mean time in nanoseconds or <code>0</code> if there are no
+	 *         calls.<br>
+	 *         <br>
+	 */
+	public long getMeanTime() {
+
+		// Get the number of calls.
+		final long calls = count.get();
+
+		// Return the mean time.
+		return (calls == 0) ? 0 : totalTime.get() / calls;
+
+	}
+
+	/**
+	 * Gets the time below which a percentage of the calls fall.
+	 *
+	 * @param percentile Percentage of calls, from <code>0</code> to
+	 *                   <code>100</code>. For example: use <code>99</code> to get
+	 *                   the time of the 99th percentile.<br>
+	 *                   <br>
+	 * @return Upper bound of the bucket of the percentile in nanoseconds or
+	 *         <code>0</code> if there are no calls.<br>
+	 *         <br>
+	 */
+	public long getPercentile(final double percentile) {
+
+		// Get the number of calls of the histogram.
+		long calls = 0;
+		for (int i = 0; i < BUCKETS; i++) {
+			calls = calls + histogram.get(i);
+		}
+
+		// Validate there are calls.
+		if (calls == 0) {
+			return 0;
+		}
+
+		// Get the position of the call of the percentile.
+		final double limit = Math.min(Math.max(percentile, 0), 100);
+		final long target = Math.max(1, (long) Math.ceil((limit / 100) * calls));
+
+		// Search the bucket of the call.
+		long accumulated = 0;
+		for (int i = 0; i < BUCKETS; i++) {
+
+			// Count the calls of the bucket.
+			accumulated = accumulated + histogram.get(i);
+
+			// Return the upper bound of the bucket, but never above the slowest call.
+			if (accumulated >= target) {
+				return Math.min(toUpperBound(i), maxTime.get());
+			}
+
+		}
+
+		// At this point, return the slowest call.
+		return maxTime.get();
+
+	}
+
+	/**
+	 * Gets the statistics as a string.
+	 *
+	 * @return Statistics.<br>
+	 *         <br>
+	 */
+	public String toString() {
+		return "count=" + getCount() + " ; errors=" + getErrorCount() + " ; mean=" + getMeanTime() + " ; p99="
+				+ getPercentile(99) + " ; max=" + getMaxTime();
+	}
+
+	// ///////////////////////////////////////////////////////////////////
+	// PACKAGE METHODS
+	// ///////////////////////////////////////////////////////////////////
+
+	/**
+	 * Adds the values of other statistics to these statistics.
+	 *
+	 * @param statistics Statistics to add.<br>
+	 *                   <br>
+	 */
+	void add(final OperationStatistics statistics) {
+
+		// Add the counters.
+		count.addAndGet(statistics.count.get());
+		errorCount.addAndGet(statistics.errorCount.get());
+		totalTime.addAndGet(statistics.totalTime.get());
+
+		// Add the histogram.
+		for (int i = 0; i < BUCKETS; i++) {
+			histogram.addAndGet(i, statistics.histogram.get(i));
+		}
+
+		// Update the slowest call.
+		final long value = statistics.maxTime.get();
+		long max = maxTime.get();
+		while ((value > max) && (!maxTime.compareAndSet(max, value))) {
+			max = maxTime.get();
+		}
+
+	}
+
+	/**
+	 * Removes every recorded call.
+	 */
+	void reset() {
+
+		// Reset the counters.
+		count.set(0);
+		errorCount.set(0);
+		totalTime.set(0);
+		maxTime.set(0);
+
+		// Reset the histogram.
+		for (int i = 0; i < BUCKETS; i++) {
+			histogram.set(i, 0);
+		}
+
+	}
+
+	// ///////////////////////////////////////////////////////////////////
+	// PRIVATE METHODS
+	// ///////////////////////////////////////////////////////////////////
+
+	/**
+	 * Gets the bucket of a value.
+	 *
+	 * @param value Non-negative value.<br>
+	 *              <br>
+	 * @return Index of the bucket.<br>
+	 *         <br>
+	 */
+	private static int toBucket(final long value) {
+
+		// Small values have their own bucket.
+		if (value < SUB_BUCKETS) {
+			return (int) value;
+		}
+
+		// Get the position of the highest bit.
+		final int exponent = 63 - Long.numberOfLeadingZeros(value);
+
+		// Get the bits that follow the highest bit.
+		final int subBucket = (int) ((value >>> (exponent - SUB_BUCKET_BITS)) & (SUB_BUCKETS - 1));
+
+		// Return the bucket.
+		return SUB_BUCKETS + ((exponent - SUB_BUCKET_BITS) * SUB_BUCKETS) + subBucket;
+
+	}
+
+	/**
+	 * Gets the highest value of a bucket.
+	 *
+	 * @param bucket Index of the bucket.<br>
+	 *               <br>
+	 * @return Upper bound of the bucket.<br>
+	 *         <br>
+	 */
+	private static long toUpperBound(final int bucket) {
+
+		// Small values have their own bucket.
+		if (bucket < SUB_BUCKETS) {
+			return bucket;
+		}
+
+		// Get the power of two and the bucket inside it.
+		final int shift = (bucket - SUB_BUCKETS) / SUB_BUCKETS;
+		final long subBucket = (bucket - SUB_BUCKETS) % SUB_BUCKETS;
+
+		// Return the last value of the bucket.
+		return ((SUB_BUCKETS + subBucket + 1) << shift) - 1;
+
+	}
+
+}
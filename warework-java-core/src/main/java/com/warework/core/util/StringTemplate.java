@@ -0,0 +1,265 @@
+package com.warework.core.util;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * String with variables that is parsed just once. Every variable must be inside
+ * '${' and '}' so the variable CAR must be in the string as '${CAR}'. The
+ * template keeps the text between the variables and the name of each variable,
+ * so replacing the variables takes one pass over the template no matter how
+ * many variables it has. Variables without a value in the map remain in the
+ * result. This class is immutable, so the same template can be shared by many
+ * threads.<br>
+ * <br>
+ * Use <code>compile</code> to reuse the templates already parsed for the same
+ * string.
+ *
+ * @author Jose Schiaffino
+ * @version ${project.version}
+ */
+public final class StringTemplate {
+
+	// ///////////////////////////////////////////////////////////////////
+	// CONSTANTS
+	// ///////////////////////////////////////////////////////////////////
+
+	// Maximum number of templates in the cache.
+	private static final int CACHE_SIZE = 512;
+
+	// Characters estimated for the value of each variable.
+	private static final int VALUE_LENGTH = 16;
+
+	// Character that closes a variable.
+	private static final char VARIABLE_END = '}';
+
+	// ///////////////////////////////////////////////////////////////////
+	// ATTRIBUTES
+	// ///////////////////////////////////////////////////////////////////
+
+	// Templates already parsed.
+	private static final Map<String, StringTemplate> CACHE = new ConcurrentHashMap<String, StringTemplate>();
+
+	// Source of the template.
+	private final String template;
+
+	// Text before each variable plus the text after the last variable.
+	private final String[] texts;
+
+	// Name of each variable.
+	private final String[] variables;
+
+	// ///////////////////////////////////////////////////////////////////
+	// CONSTRUCTORS
+	// ///////////////////////////////////////////////////////////////////
+
+	/**
+	 * Creates the template.
+	 *
+	 * @param template Source of the template. Every variable must be inside '${'
+	 *                 and '}' so the variable CAR must be in the template as
+	 *                 '${CAR}'.<br>
+	 *                 <br>
+	 */
+	public StringTemplate(final String template) {
+
+		// Set the source of the template.
+		this.template = template;
+
+		// Create the lists for the parts of the template.
+		final List<String> textList = new ArrayList<String>();
+		final List<String> variableList = new ArrayList<String>();
+
+		// Find each variable.
+		if (template != null) {
+
+			// Position where the current text starts.
+			int start = 0;
+
+			// Search for the begining of the first variable.
+			int beginIndex = template.indexOf(CommonValueL1Constants.STRING_DOLLAR_LEFT_CURLY_BRACKET);
+
+			// Process each variable.
+			while (beginIndex > -1) {
+
+				// Search for the end of the variable.
+				final int endIndex = template.indexOf(VARIABLE_END, beginIndex + 2);
+				if (endIndex < 0) {
+					break;
+				}
+
+				// Use the last begining before the end, so '${A ${B}' has the variable B.
+				beginIndex = template.lastIndexOf(CommonValueL1Constants.STRING_DOLLAR_LEFT_CURLY_BRACKET, endIndex);
+
+				// Keep the text and the variable.
+				textList.add(template.substring(start, beginIndex));
+				variableList.add(template.substring(beginIndex + 2, endIndex));
+
+				// Search for the next variable.
+				start = endIndex + 1;
+				beginIndex = template.indexOf(CommonValueL1Constants.STRING_DOLLAR_LEFT_CURLY_BRACKET, start);
+
+			}
+
+			// Keep the text after the last variable.
+			textList.add(template.substring(start));
+
+		}
+
+		// Set the parts of the template.
+		texts = textList.toArray(new String[textList.size()]);
+		variables = variableList.toArray(new String[variableList.size()]);
+
+	}
+
+	// ///////////////////////////////////////////////////////////////////
+	// PUBLIC METHODS
+	// ///////////////////////////////////////////////////////////////////
+
+	/**
+	 * Gets the template of a string. Templates are cached by their source, so
+	 * this method parses each string only the first time it is requested.
+	 *
+	 * @param template Source of the template. Every variable must be inside '${'
+	 *                 and '}' so the variable CAR must be in the template as
+	 *                 '${CAR}'.<br>
+	 *                 <br>
+	 * @return Template of the string.<br>
+	 *         <br>
+	 */
+	public static StringTemplate compile(final String template) {
+
+		// Templates without source are not cached.
+		if (template == null) {
+			return new StringTemplate(null);
+		}
+
+		// Search for the template in the cache.
+		StringTemplate compiled = CACHE.get(template);
+		if (compiled == null) {
+
+			// Parse the template.
+			compiled = new StringTemplate(template);
+
+			// Start again when the cache is full, so it does not grow forever.
+			if (CACHE.size() >= CACHE_SIZE) {
+				CACHE.clear();
+			}
+
+			// Save the template.
+			CACHE.put(template, compiled);
+
+		}
+
+		// Return the template.
+		return compiled;
+
+	}
+
+	/**
+	 * Replaces the variables of the template with the values from the given map.
+	 *
+	 * @param values Map where the keys are the names of the variables in the
+	 *               template and the values those that will replace the
+	 *               variables.<br>
+	 *               <br>
+	 * @return Template with the variables replaced.<br>
+	 *         <br>
+	 */
+	public String format(final Map<String, ?> values) {
+
+		// Nothing to replace.
+		if ((variables.length == 0) || (values == null) || (values.size() == 0)) {
+			return template;
+		}
+
+		// Create the result.
+		final StringBuilder result = new StringBuilder(template.length() + (variables.length * VALUE_LENGTH));
+
+		// Replace each variable.
+		for (int i = 0; i < variables.length; i++) {
+
+			// Copy the text before the variable.
+			result.append(texts[i]);
+
+			// Copy the value or keep the variable if it has no value.
+			if (values.containsKey(variables[i])) {
+				result.append(values.get(variables[i]));
+			} else {
+				result.append(CommonValueL1Constants.STRING_DOLLAR_LEFT_CURLY_BRACKET);
+				result.append(variables[i]);
+				result.append(VARIABLE_END);
+			}
+
+		}
+
+		// Copy the text after the last variable.
+		result.append(texts[variables.length]);
+
+		// Return the string.
+		return result.toString();
+
+	}
+
+	/**
+	 * Extracts the values from a map in the order that the variables appear in
+	 * the template.
+	 *
+	 * @param values Map where the keys are the names of the variables in the
+	 *               template.<br>
+	 *               <br>
+	 * @return Value of each variable of the template, or <code>null</code> for
+	 *         the variables without a value in the map.<br>
+	 *         <br>
+	 */
+	public Object[] values(final Map<String, ?> values) {
+
+		// Create the result.
+		final Object[] result = new Object[variables.length];
+
+		// Get the value of each variable.
+		if (values != null) {
+			for (int i = 0; i < variables.length; i++) {
+				result[i] = values.get(variables[i]);
+			}
+		}
+
+		// Return the values.
+		return result;
+
+	}
+
+	/**
+	 * Gets the source of the template.
+	 *
+	 * @return Source of the template.<br>
+	 *         <br>
+	 */
+	public String getTemplate() {
+		return template;
+	}
+
+	/**
+	 * Gets the names of the variables in the order they appear in the template.
+	 * The same name is returned once for each time the variable appears.
+	 *
+	 * @return Names of the variables.<br>
+	 *         <br>
+	 */
+	public String[] getVariables() {
+		return variables.clone();
+	}
+
+	/**
+	 * Validates if the template has variables.
+	 *
+	 * @return <code>true</code> if the template has at least one variable.<br>
+	 *         <br>
+	 */
+	public boolean hasVariables() {
+		return (variables.length > 0);
+	}
+
+}
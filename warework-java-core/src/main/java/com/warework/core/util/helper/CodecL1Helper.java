@@ -1,6 +1,7 @@
 package com.warework.core.util.helper;
 
 import java.io.IOException;
+import java.nio.ByteBuffer;
 
 /**
  * Performs common codec operations.
@@ -45,6 +46,9 @@ public abstract class CodecL1Helper {
 	private static final char[] HEXADECIMAL_DIGITS_UPPER = { '0', '1', '2', '3', '4', '5', '6', '7', '8', '9', 'A', 'B',
 			'C', 'D', 'E', 'F' };
 
+	// Translates a Hex character to its 4-bit value or -1 if it is not valid.
+	private static final byte[] HEXADECIMAL_DECODABET = createHexDecodabet();
+
 	// BASE64
 
 	// The 64 valid Base64 values.
@@ -524,6 +528,76 @@ public abstract class CodecL1Helper {
 
 	}
 
+	/**
+	 * Converts the bytes of a buffer into the hexadecimal values of each byte, as
+	 * ASCII characters. This method encodes as many bytes as fit in the target
+	 * buffer, so large data can be encoded block by block with constant memory:
+	 * invoke it again with more room in the target buffer until the source buffer
+	 * has no remaining bytes.
+	 * 
+	 * @param source      Buffer with the bytes to transform. Its position is
+	 *                    moved after the encoded bytes.<br>
+	 *                    <br>
+	 * @param target      Buffer where to write the hexadecimal characters. It
+	 *                    receives two characters for each byte.<br>
+	 *                    <br>
+	 * @param toUpperCase <code>true</code> transforms to uppercase each heaxdecimal
+	 *                    letter of the result and <code>false</code> to
+	 *                    lowercase.<br>
+	 *                    <br>
+	 */
+	public static void encodeHex(final ByteBuffer source, final ByteBuffer target, final boolean toUpperCase) {
+
+		// Get the output alphabet.
+		final char[] toDigits = (toUpperCase) ? HEXADECIMAL_DIGITS_UPPER : HEXADECIMAL_DIGITS_LOWER;
+
+		// Encode each byte while there is room for two characters.
+		while ((source.hasRemaining()) && (target.remaining() > 1)) {
+
+			// Get the byte to encode.
+			final int value = source.get();
+
+			// Set the hexadecimal values.
+			target.put((byte) toDigits[(0xF0 & value) >>> SHIFT_4]);
+			target.put((byte) toDigits[0x0F & value]);
+
+		}
+
+	}
+
+	/**
+	 * Converts the hexadecimal ASCII characters of a buffer into bytes. This method
+	 * decodes as many pairs of characters as fit in the target buffer, so large
+	 * data can be decoded block by block with constant memory. When the source
+	 * buffer has an odd number of characters, the last one remains in the buffer
+	 * until the next character is available.
+	 * 
+	 * @param source Buffer with the hexadecimal characters to transform. Its
+	 *               position is moved after the decoded characters.<br>
+	 *               <br>
+	 * @param target Buffer where to write the decoded bytes.<br>
+	 *               <br>
+	 * @throws IOException If an illegal character is found.<br>
+	 *                     <br>
+	 */
+	public static void decodeHex(final ByteBuffer source, final ByteBuffer target) throws IOException {
+		while ((source.remaining() > 1) && (target.hasRemaining())) {
+
+			// Get the value of each character.
+			final int high = HEXADECIMAL_DECODABET[source.get() & 0xFF];
+			final int low = HEXADECIMAL_DECODABET[source.get() & 0xFF];
+
+			// Validate the characters.
+			if ((high < 0) || (low < 0)) {
+				throw new IOException("Bad hexadecimal input character");
+			}
+
+			// Set the byte value into the target buffer.
+			target.put((byte) ((high << SHIFT_4) | low));
+
+		}
+	}
+
 	// ///////////////////////////////////////////////////////////////////
 
 	/**
@@ -640,6 +714,176 @@ public abstract class CodecL1Helper {
 
 	}
 
+	/**
+	 * Encodes the bytes of a buffer into Base64 notation. This method encodes as
+	 * many groups of three bytes as fit in the target buffer, so large data can be
+	 * encoded block by block with constant memory. The last one or two bytes are
+	 * kept in the source buffer until the end of the input is reached, when they
+	 * are encoded with padding.
+	 * 
+	 * @param source     Buffer with the data to convert. Its position is moved
+	 *                   after the encoded bytes.<br>
+	 *                   <br>
+	 * @param target     Buffer where to write the Base64 ASCII characters.<br>
+	 *                   <br>
+	 * @param endOfInput <code>true</code> if the source buffer has the last bytes
+	 *                   of the data and <code>false</code> if more bytes will
+	 *                   follow.<br>
+	 *                   <br>
+	 */
+	public static void encodeBase64(final ByteBuffer source, final ByteBuffer target, final boolean endOfInput) {
+
+		// Get the Base64 alphabet.
+		final byte[] alphabet = BASE64_STANDARD_ALPHABET;
+
+		// Encode groups of three bytes while there is room for four characters.
+		while ((source.remaining() > 2) && (target.remaining() > 3)) {
+
+			// Get the three bytes.
+			final int inBuff = ((source.get() & 0xFF) << SHIFT_16) | ((source.get() & 0xFF) << SHIFT_8)
+					| (source.get() & 0xFF);
+
+			// Set the four characters.
+			target.put(alphabet[inBuff >>> SHIFT_18]);
+			target.put(alphabet[(inBuff >>> SHIFT_12) & 0x3f]);
+			target.put(alphabet[(inBuff >>> SHIFT_6) & 0x3f]);
+			target.put(alphabet[inBuff & 0x3f]);
+
+		}
+
+		// Encode the last one or two bytes with padding.
+		if ((endOfInput) && (source.hasRemaining()) && (source.remaining() < 3) && (target.remaining() > 3)) {
+
+			// Number of significant bytes.
+			final int numSigBytes = source.remaining();
+
+			// Get the bytes.
+			int inBuff = (source.get() & 0xFF) << SHIFT_16;
+			if (numSigBytes > 1) {
+				inBuff = inBuff | ((source.get() & 0xFF) << SHIFT_8);
+			}
+
+			// Set the four characters.
+			target.put(alphabet[inBuff >>> SHIFT_18]);
+			target.put(alphabet[(inBuff >>> SHIFT_12) & 0x3f]);
+			target.put((numSigBytes > 1) ? alphabet[(inBuff >>> SHIFT_6) & 0x3f] : BYTE_EQUALS_SIGN);
+			target.put(BYTE_EQUALS_SIGN);
+
+		}
+
+	}
+
+	/**
+	 * Decodes the Base64 ASCII characters of a buffer. This method decodes as many
+	 * groups of four characters as fit in the target buffer, so large data can be
+	 * decoded block by block with constant memory. White spaces are ignored and an
+	 * incomplete group of characters remains in the source buffer until the rest
+	 * of the group is available. When the source buffer is writable, the white
+	 * spaces of the incomplete group are removed so that only its Base64
+	 * characters remain at the end of the buffer.
+	 * 
+	 * @param source The Base64 encoded data. Its position is moved after the
+	 *               decoded characters.<br>
+	 *               <br>
+	 * @param target Buffer where to write the decoded bytes.<br>
+	 *               <br>
+	 * @throws IOException If there is an error when trying to decode the data.<br>
+	 *                     <br>
+	 */
+	public static void decodeBase64(final ByteBuffer source, final ByteBuffer target) throws IOException {
+
+		// Get the Base64 decode alphabet.
+		final byte[] decodabet = BASE64_STANDARD_DECODABET;
+
+		// Position where the current group of four characters starts.
+		int start = source.position();
+
+		// Bits of the current group.
+		int outBuff = 0;
+
+		// Number of characters in the current group.
+		int count = 0;
+
+		// Number of padding characters in the current group.
+		int padding = 0;
+
+		// Characters of the current group.
+		final byte[] group = new byte[4];
+
+		// Loop through source.
+		while (source.hasRemaining()) {
+
+			// Stop when there is no room for a new group.
+			if ((count == 0) && (target.remaining() < 3)) {
+				break;
+			}
+
+			// Get the character and its value.
+			final byte character = source.get();
+			final byte sbiDecode = decodabet[character & 0xFF];
+
+			// Legit Base64 character, equals sign or white space.
+			if ((sbiDecode >= 0) && (padding == 0)) {
+				outBuff = (outBuff << SHIFT_6) | sbiDecode;
+				group[count] = character;
+				count = count + 1;
+			} else if ((sbiDecode == BASE64_EQUALS_SIGN_ENC) && (count > 1)) {
+				outBuff = outBuff << SHIFT_6;
+				group[count] = character;
+				count = count + 1;
+				padding = padding + 1;
+			} else if (sbiDecode == BASE64_WHITE_SPACE_ENC) {
+
+				// Skip white space between groups.
+				if (count == 0) {
+					start = source.position();
+				}
+
+				// Next character.
+				continue;
+
+			} else {
+				throw new IOException("Bad Base64 input character decimal");
+			}
+
+			// Time to decode?
+			if (count > 3) {
+
+				// Set the decoded bytes.
+				target.put((byte) (outBuff >>> SHIFT_16));
+				if (padding < 2) {
+					target.put((byte) (outBuff >>> SHIFT_8));
+				}
+				if (padding < 1) {
+					target.put((byte) outBuff);
+				}
+
+				// Start a new group.
+				start = source.position();
+				outBuff = 0;
+				count = 0;
+				padding = 0;
+
+			}
+
+		}
+
+		// Keep only the characters of the incomplete group, without white spaces.
+		if ((count > 0) && (!source.isReadOnly())) {
+
+			// Move the characters to the end of the buffer.
+			start = source.limit() - count;
+			for (int i = 0; i < count; i++) {
+				source.put(start + i, group[i]);
+			}
+
+		}
+
+		// Keep the incomplete group in the source buffer.
+		source.position(start);
+
+	}
+
 	// ///////////////////////////////////////////////////////////////////
 	// PRIVATE METHODS
 	// ///////////////////////////////////////////////////////////////////
@@ -681,6 +925,28 @@ public abstract class CodecL1Helper {
 
 	}
 
+	/**
+	 * Creates the table to translate Hex characters to their values.
+	 * 
+	 * @return Value of each character or <code>-1</code> if it is not a
+	 *         hexadecimal character.<br>
+	 *         <br>
+	 */
+	private static byte[] createHexDecodabet() {
+
+		// Create the table.
+		final byte[] decodabet = new byte[256];
+
+		// Set the value of each character.
+		for (int i = 0; i < decodabet.length; i++) {
+			decodabet[i] = (byte) Character.digit((char) i, RADIX_16);
+		}
+
+		// Return the table.
+		return decodabet;
+
+	}
+
 	// ///////////////////////////////////////////////////////////////////
 
 	/**
@@ -9,13 +9,12 @@ import java.io.PushbackInputStream;
 import java.io.Reader;
 import java.io.UnsupportedEncodingException;
 import java.util.ArrayList;
-import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
-import java.util.Set;
 import java.util.TimeZone;
 
 import com.warework.core.util.CommonValueL1Constants;
+import com.warework.core.util.StringTemplate;
 import com.warework.core.util.io.LengthInputStream;
 
 /**
@@ -880,46 +879,13 @@ public abstract class StringL1Helper {
 	 */
 	public static String replace(final String string, final Map<String, ?> values) {
 
-		// Reference the original value so given one is not modified.
-		String result = string;
-
-		// Replace each variable only when they exist.
-		if ((values != null) && (values.size() > 0)) {
-
-			// Get the keys of the map.
-			final Set<String> keys = values.keySet();
-
-			// Replace each key.
-			for (final Iterator<String> iterator = keys.iterator(); iterator.hasNext();) {
-
-				// Get one key.
-				final String key = iterator.next();
-
-				// Complete the key.
-				final String fullKey = CommonValueL1Constants.STRING_DOLLAR_LEFT_CURLY_BRACKET + key
-						+ CHARACTER_RIGHT_CURLY_BRACKET;
-
-				// Search for the key in the string.
-				int index = result.indexOf(fullKey);
-
-				// Replace each key in the string.
-				while (index > -1) {
-
-					// Rebuild the string.
-					result = result.substring(0, index) + (values.get(key))
-							+ result.substring(index + fullKey.length(), result.length());
-
-					// Search for another key.
-					index = result.indexOf(fullKey);
-
-				}
-
-			}
-
+		// Nothing to replace.
+		if ((values == null) || (values.size() == 0)) {
+			return string;
 		}
 
-		// Return the updatted message.
-		return result;
+		// Replace the variables with the parsed template of the string.
+		return StringTemplate.compile(string).format(values);
 
 	}
 
@@ -937,53 +903,7 @@ public abstract class StringL1Helper {
 	 *         <br>
 	 */
 	public static Object[] values(final String string, final Map<String, Object> values) {
-
-		// Create a list where to store each value found.
-		final List<Object> valuesFound = new ArrayList<Object>();
-
-		// Search for the begining of the variable.
-		int beginIndex = string.indexOf(CommonValueL1Constants.STRING_DOLLAR_LEFT_CURLY_BRACKET);
-
-		// String to process.
-		String updatedString = string;
-
-		// Search for variables.
-		while (beginIndex > -1) {
-
-			// Search for the end of the variable.
-			int endIndex = updatedString.indexOf(CHARACTER_RIGHT_CURLY_BRACKET);
-
-			// Process the variable.
-			if (beginIndex < endIndex) {
-
-				// Get the variable name.
-				String key = updatedString.substring(beginIndex + 2, endIndex);
-
-				// Store the value of the variable in the list.
-				valuesFound.add(values.get(key));
-
-				// Update the string.
-				updatedString = updatedString.substring(0, beginIndex)
-						+ updatedString.substring(endIndex + 1, updatedString.length());
-
-				// Search for the begining of the variable.
-				beginIndex = updatedString.indexOf(CommonValueL1Constants.STRING_DOLLAR_LEFT_CURLY_BRACKET);
-
-			} else {
-				break;
-			}
-
-		}
-
-		// Transform the list into an array.
-		final Object[] result = new Object[valuesFound.size()];
-		for (int i = 0; i < valuesFound.size(); i++) {
-			result[i] = valuesFound.get(i);
-		}
-
-		// Return the list of values.
-		return result;
-
+		return StringTemplate.compile(string).values(values);
 	}
 
 	// ///////////////////////////////////////////////////////////////////
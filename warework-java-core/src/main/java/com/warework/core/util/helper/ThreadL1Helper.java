@@ -0,0 +1,69 @@
+package com.warework.core.util.helper;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+
+/**
+ * Performs common operations with threads.
+ * 
+ * @author Jose Schiaffino
+ * @version ${project.version}
+ */
+public abstract class ThreadL1Helper {
+
+	// ///////////////////////////////////////////////////////////////////
+	// CONSTRUCTORS
+	// ///////////////////////////////////////////////////////////////////
+
+	/**
+	 * This constructor does not perform any operation.
+	 */
+	protected ThreadL1Helper() {
+	}
+
+	// ///////////////////////////////////////////////////////////////////
+	// PUBLIC METHODS
+	// ///////////////////////////////////////////////////////////////////
+
+	/**
+	 * Creates a factory of daemon threads. Threads created with this factory do
+	 * not prevent the JVM from exiting.
+	 * 
+	 * @param name Name of the threads.<br>
+	 *             <br>
+	 * @return Thread factory.<br>
+	 *         <br>
+	 */
+	public static ThreadFactory createDaemonThreadFactory(final String name) {
+		return new ThreadFactory() {
+			public Thread newThread(final Runnable runnable) {
+
+				// Create the thread.
+				final Thread thread = new Thread(runnable, name);
+
+				// Do not prevent the JVM from exiting.
+				thread.setDaemon(true);
+
+				// Return the thread.
+				return thread;
+
+			}
+		};
+	}
+
+	/**
+	 * Creates a fixed number of daemon threads that execute tasks.
+	 * 
+	 * @param threads Number of threads.<br>
+	 *                <br>
+	 * @param name    Name of the threads.<br>
+	 *                <br>
+	 * @return Threads.<br>
+	 *         <br>
+	 */
+	public static ExecutorService createDaemonThreadPool(final int threads, final String name) {
+		return Executors.newFixedThreadPool(threads, createDaemonThreadFactory(name));
+	}
+
+}
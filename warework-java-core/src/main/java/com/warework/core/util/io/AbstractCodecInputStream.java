@@ -0,0 +1,318 @@
+package com.warework.core.util.io;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+
+/**
+ * Input stream that encodes or decodes the bytes of a wrapped stream as they
+ * are read. Bytes are read from the wrapped stream and transformed block by
+ * block, so memory use does not depend on the size of the data. Subclasses only
+ * have to transform each block.<br>
+ *
+ * @author Jose Schiaffino
+ * @version ${project.version}
+ */
+public abstract class AbstractCodecInputStream extends AbstractInputStreamWrapper {
+
+	// ///////////////////////////////////////////////////////////////////
+	// ATTRIBUTES
+	// ///////////////////////////////////////////////////////////////////
+
+	// Bytes read from the wrapped stream that are not transformed yet.
+	private ByteBuffer input;
+
+	// Transformed bytes that are not read yet.
+	private ByteBuffer output;
+
+	// Flag that indicates that the wrapped stream has no more bytes.
+	private boolean endOfInput;
+
+	// Buffer to read one byte.
+	private byte[] single = new byte[1];
+
+	// ///////////////////////////////////////////////////////////////////
+	// CONSTRUCTORS
+	// ///////////////////////////////////////////////////////////////////
+
+	/**
+	 * Wrapper for <code>java.io.InputStream</code> that transforms the bytes of
+	 * the stream.
+	 *
+	 * @param stream     Wrapped stream.<br>
+	 *                   <br>
+	 * @param inputSize  Size of the buffer for the bytes read from the wrapped
+	 *                   stream.<br>
+	 *                   <br>
+	 * @param outputSize Size of the buffer for the transformed bytes. It must be
+	 *                   large enough to transform a full input buffer.<br>
+	 *                   <br>
+	 */
+	protected AbstractCodecInputStream(final InputStream stream, final int inputSize, final int outputSize) {
+
+		// Invoke default constructor.
+		super(stream);
+
+		// Create the buffers (empty, ready to read).
+		input = ByteBuffer.allocate(inputSize);
+		input.flip();
+		output = ByteBuffer.allocate(outputSize);
+		output.flip();
+
+	}
+
+	// ///////////////////////////////////////////////////////////////////
+	// ABSTRACT METHODS
+	// ///////////////////////////////////////////////////////////////////
+
+	/**
+	 * Transforms one block of bytes.
+	 *
+	 * @param source     Bytes to transform. Bytes that cannot be transformed yet
+	 *                   must remain in the buffer.<br>
+	 *                   <br>
+	 * @param target     Buffer where to write the transformed bytes.<br>
+	 *                   <br>
+	 * @param endOfInput <code>true</code> if the source buffer has the last bytes
+	 *                   of the wrapped stream.<br>
+	 *                   <br>
+	 * @throws IOException If the bytes cannot be transformed.<br>
+	 *                     <br>
+	 */
+	protected abstract void transform(final ByteBuffer source, final ByteBuffer target, final boolean endOfInput)
+			throws IOException;
+
+	// ///////////////////////////////////////////////////////////////////
+	// PUBLIC METHODS
+	// ///////////////////////////////////////////////////////////////////
+
+	/**
+	 * Reads the next transformed byte.
+	 *
+	 * @return The next byte of data, or <code>-1</code> if the end of the stream
+	 *         is reached.<br>
+	 *         <br>
+	 * @exception IOException If the wrapped stream cannot be read or its bytes
+	 *                        cannot be transformed.<br>
+	 *                        <br>
+	 */
+	public int read() throws IOException {
+		return (read(single, 0, 1) < 0) ? -1 : single[0] & 0xFF;
+	}
+
+	/**
+	 * Reads transformed bytes into an array of bytes.
+	 *
+	 * @param b Buffer into which the data is read.<br>
+	 *          <br>
+	 * @return The total number of bytes read into the buffer, or <code>-1</code>
+	 *         if the end of the stream is reached.<br>
+	 *         <br>
+	 * @exception IOException If the wrapped stream cannot be read or its bytes
+	 *                        cannot be transformed.<br>
+	 *                        <br>
+	 */
+	public int read(final byte b[]) throws IOException {
+		return read(b, 0, b.length);
+	}
+
+	/**
+	 * Reads up to <code>len</code> transformed bytes into an array of bytes.
+	 *
+	 * @param b   Buffer into which the data is read.<br>
+	 *            <br>
+	 * @param off Start offset in array <code>b</code> at which the data is
+	 *            written.<br>
+	 *            <br>
+	 * @param len Maximum number of bytes to read.<br>
+	 *            <br>
+	 * @return The total number of bytes read into the buffer, or <code>-1</code>
+	 *         if the end of the stream is reached.<br>
+	 *         <br>
+	 * @exception IOException If the wrapped stream cannot be read or its bytes
+	 *                        cannot be transformed.<br>
+	 *                        <br>
+	 */
+	public int read(final byte b[], final int off, final int len) throws IOException {
+
+		// Nothing to read.
+		if (len == 0) {
+			return 0;
+		}
+
+		// Transform more bytes when required.
+		if ((!output.hasRemaining()) && (!fill())) {
+			return -1;
+		}
+
+		// Get the number of bytes to return.
+		final int count = Math.min(len, output.remaining());
+
+		// Copy the transformed bytes.
+		output.get(b, off, count);
+
+		// Return the number of bytes.
+		return count;
+
+	}
+
+	/**
+	 * Skips over and discards transformed bytes.
+	 *
+	 * @param n Number of bytes to be skipped.<br>
+	 *          <br>
+	 * @return The actual number of bytes skipped.<br>
+	 *         <br>
+	 * @exception IOException If the wrapped stream cannot be read or its bytes
+	 *                        cannot be transformed.<br>
+	 *                        <br>
+	 */
+	public long skip(final long n) throws IOException {
+
+		// Number of bytes skipped.
+		long skipped = 0;
+
+		// Discard the transformed bytes.
+		while (skipped < n) {
+
+			// Transform more bytes when required.
+			if ((!output.hasRemaining()) && (!fill())) {
+				break;
+			}
+
+			// Get the number of bytes to discard.
+			final int count = (int) Math.min(n - skipped, output.remaining());
+
+			// Discard the bytes.
+			output.position(output.position() + count);
+
+			// Count the bytes.
+			skipped = skipped + count;
+
+		}
+
+		// Return the number of bytes skipped.
+		return skipped;
+
+	}
+
+	/**
+	 * Returns the number of transformed bytes that can be read without blocking.
+	 *
+	 * @return Number of transformed bytes that are not read yet.<br>
+	 *         <br>
+	 */
+	public int available() {
+		return output.remaining();
+	}
+
+	/**
+	 * This method does not perform any operation as marks are not supported.
+	 *
+	 * @param readlimit Maximum limit of bytes that can be read before the mark
+	 *                  position becomes invalid.<br>
+	 *                  <br>
+	 */
+	public synchronized void mark(final int readlimit) {
+		// DO NOTHING.
+	}
+
+	/**
+	 * Marks are not supported.
+	 *
+	 * @exception IOException Always.<br>
+	 *                        <br>
+	 */
+	public synchronized void reset() throws IOException {
+		throw new IOException("Mark and reset are not supported.");
+	}
+
+	/**
+	 * Marks are not supported.
+	 *
+	 * @return <code>false</code>.<br>
+	 *         <br>
+	 */
+	public boolean markSupported() {
+		return false;
+	}
+
+	// ///////////////////////////////////////////////////////////////////
+	// PRIVATE METHODS
+	// ///////////////////////////////////////////////////////////////////
+
+	/**
+	 * Reads bytes from the wrapped stream until at least one transformed byte is
+	 * available.
+	 *
+	 * @return <code>true</code> if there are transformed bytes to read and
+	 *         <code>false</code> if the end of the stream is reached.<br>
+	 *         <br>
+	 * @exception IOException If the wrapped stream cannot be read or its bytes
+	 *                        cannot be transformed.<br>
+	 *                        <br>
+	 */
+	private boolean fill() throws IOException {
+
+		// Prepare the output buffer to write.
+		output.clear();
+
+		// Transform bytes until there is something to return.
+		while (output.position() == 0) {
+
+			// Read more bytes from the wrapped stream.
+			if (!endOfInput) {
+
+				// Prepare the input buffer to write.
+				input.compact();
+
+				// Read the bytes.
+				final int count = super.read(input.array(), input.position(), input.remaining());
+				if (count < 0) {
+					endOfInput = true;
+				} else {
+					input.position(input.position() + count);
+				}
+
+				// Prepare the input buffer to read.
+				input.flip();
+
+			}
+
+			// Transform the bytes.
+			transform(input, output, endOfInput);
+
+			// Validate the transformation progresses with a full input buffer.
+			if ((!endOfInput) && (output.position() == 0) && (input.position() == 0)
+					&& (input.limit() == input.capacity())) {
+				throw new IOException(
+						"Input buffer is full with " + input.limit() + " bytes that cannot be transformed.");
+			}
+
+			// Validate the end of the stream.
+			if ((endOfInput) && (output.position() == 0)) {
+
+				// Prepare the output buffer to read.
+				output.flip();
+
+				// Every byte must be transformed.
+				if (input.hasRemaining()) {
+					throw new IOException("Stream ended with " + input.remaining() + " bytes that cannot be decoded.");
+				}
+
+				// At this point, there are no more bytes.
+				return false;
+
+			}
+
+		}
+
+		// Prepare the output buffer to read.
+		output.flip();
+
+		// At this point, there are bytes to return.
+		return true;
+
+	}
+
+}
@@ -0,0 +1,232 @@
+package com.warework.core.util.io;
+
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+
+/**
+ * Output stream that encodes or decodes the bytes written to it before they are
+ * written to a wrapped stream. Bytes are transformed block by block, so memory
+ * use does not depend on the size of the data. Subclasses only have to transform
+ * each block. Always close this stream to write the last bytes.<br>
+ *
+ * @author Jose Schiaffino
+ * @version ${project.version}
+ */
+public abstract class AbstractCodecOutputStream extends FilterOutputStream {
+
+	// ///////////////////////////////////////////////////////////////////
+	// ATTRIBUTES
+	// ///////////////////////////////////////////////////////////////////
+
+	// Bytes written to this stream that are not transformed yet.
+	private ByteBuffer input;
+
+	// Transformed bytes.
+	private ByteBuffer output;
+
+	// Flag that indicates that the stream is closed.
+	private boolean closed;
+
+	// Buffer to write one byte.
+	private byte[] single = new byte[1];
+
+	// ///////////////////////////////////////////////////////////////////
+	// CONSTRUCTORS
+	// ///////////////////////////////////////////////////////////////////
+
+	/**
+	 * Wrapper for <code>java.io.OutputStream</code> that transforms the bytes
+	 * written to the stream.
+	 *
+	 * @param stream     Wrapped stream.<br>
+	 *                   <br>
+	 * @param inputSize  Size of the buffer for the bytes written to this
+	 *                   stream.<br>
+	 *                   <br>
+	 * @param outputSize Size of the buffer for the transformed bytes.<br>
+	 *                   <br>
+	 */
+	protected AbstractCodecOutputStream(final OutputStream stream, final int inputSize, final int outputSize) {
+
+		// Invoke default constructor.
+		super(stream);
+
+		// Create the buffers.
+		input = ByteBuffer.allocate(inputSize);
+		output = ByteBuffer.allocate(outputSize);
+
+	}
+
+	// ///////////////////////////////////////////////////////////////////
+	// ABSTRACT METHODS
+	// ///////////////////////////////////////////////////////////////////
+
+	/**
+	 * Transforms one block of bytes.
+	 *
+	 * @param source     Bytes to transform. Bytes that cannot be transformed yet
+	 *                   must remain in the buffer.<br>
+	 *                   <br>
+	 * @param target     Buffer where to write the transformed bytes.<br>
+	 *                   <br>
+	 * @param endOfInput <code>true</code> if the source buffer has the last bytes
+	 *                   written to this stream.<br>
+	 *                   <br>
+	 * @throws IOException If the bytes cannot be transformed.<br>
+	 *                     <br>
+	 */
+	protected abstract void transform(final ByteBuffer source, final ByteBuffer target, final boolean endOfInput)
+			throws IOException;
+
+	// ///////////////////////////////////////////////////////////////////
+	// PUBLIC METHODS
+	// ///////////////////////////////////////////////////////////////////
+
+	/**
+	 * Writes one byte.
+	 *
+	 * @param b Byte to write.<br>
+	 *          <br>
+	 * @exception IOException If the bytes cannot be transformed or the wrapped
+	 *                        stream cannot be written.<br>
+	 *                        <br>
+	 */
+	public void write(final int b) throws IOException {
+
+		// Set the byte.
+		single[0] = (byte) b;
+
+		// Write the byte.
+		write(single, 0, 1);
+
+	}
+
+	/**
+	 * Writes <code>len</code> bytes from an array of bytes.
+	 *
+	 * @param b   The data.<br>
+	 *            <br>
+	 * @param off The start offset in the data.<br>
+	 *            <br>
+	 * @param len The number of bytes to write.<br>
+	 *            <br>
+	 * @exception IOException If the bytes cannot be transformed or the wrapped
+	 *                        stream cannot be written.<br>
+	 *                        <br>
+	 */
+	public void write(final byte b[], final int off, final int len) throws IOException {
+
+		// Validate the stream is open.
+		if (closed) {
+			throw new IOException("Stream is closed.");
+		}
+
+		// Position of the next byte to write.
+		int position = off;
+
+		// Transform the bytes block by block.
+		while (position < off + len) {
+
+			// Get the number of bytes that fit in the input buffer.
+			final int count = Math.min(off + len - position, input.remaining());
+
+			// Copy the bytes.
+			input.put(b, position, count);
+
+			// Next bytes to write.
+			position = position + count;
+
+			// Transform the bytes when the input buffer is full.
+			if (!input.hasRemaining()) {
+				drain(false);
+			}
+
+		}
+
+	}
+
+	/**
+	 * Transforms and writes the last bytes and closes the wrapped stream.
+	 *
+	 * @exception IOException If the bytes cannot be transformed or the wrapped
+	 *                        stream cannot be written.<br>
+	 *                        <br>
+	 */
+	public void close() throws IOException {
+		if (!closed) {
+
+			// Flag the stream as closed.
+			closed = true;
+
+			// Write the last bytes and close the wrapped stream.
+			try {
+
+				// Transform the last bytes.
+				drain(true);
+
+				// Every byte must be transformed.
+				if (input.position() > 0) {
+					throw new IOException(
+							"Stream ended with " + input.position() + " bytes that cannot be decoded.");
+				}
+
+				// Write the bytes.
+				out.flush();
+
+			} finally {
+				out.close();
+			}
+
+		}
+	}
+
+	// ///////////////////////////////////////////////////////////////////
+	// PRIVATE METHODS
+	// ///////////////////////////////////////////////////////////////////
+
+	/**
+	 * Transforms the bytes of the input buffer and writes them to the wrapped
+	 * stream.
+	 *
+	 * @param endOfInput <code>true</code> if the input buffer has the last
+	 *                   bytes.<br>
+	 *                   <br>
+	 * @exception IOException If the bytes cannot be transformed or the wrapped
+	 *                        stream cannot be written.<br>
+	 *                        <br>
+	 */
+	private void drain(final boolean endOfInput) throws IOException {
+
+		// Prepare the input buffer to read.
+		input.flip();
+
+		// Transform the bytes until no more bytes are transformed.
+		int count = 0;
+		do {
+
+			// Transform the bytes.
+			transform(input, output, endOfInput);
+
+			// Write the transformed bytes.
+			count = output.position();
+			out.write(output.array(), 0, count);
+
+			// Reuse the output buffer.
+			output.clear();
+
+		} while ((count > 0) && (input.hasRemaining()));
+
+		// Keep the bytes that are not transformed yet.
+		input.compact();
+
+		// Validate the transformation progresses with a full input buffer.
+		if ((!endOfInput) && (!input.hasRemaining())) {
+			throw new IOException(
+					"Input buffer is full with " + input.position() + " bytes that cannot be transformed.");
+		}
+
+	}
+
+}
@@ -0,0 +1,88 @@
+package com.warework.core.util.io;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+
+import com.warework.core.util.helper.CodecL1Helper;
+
+/**
+ * Input stream that encodes the bytes of a wrapped stream into Base64 notation
+ * or decodes a wrapped stream of Base64 characters. Bytes are transformed block
+ * by block as they are read, so large data can be encoded or decoded with
+ * constant memory. Check it out with the following example:<br>
+ * <code>
+ * // Read the file encoded in Base64.<br>
+ * InputStream stream = new Base64InputStream(new FileInputStream("attachment.pdf"), true);<br>
+ * </code>
+ *
+ * @author Jose Schiaffino
+ * @version ${project.version}
+ */
+public class Base64InputStream extends AbstractCodecInputStream {
+
+	// ///////////////////////////////////////////////////////////////////
+	// CONSTANTS
+	// ///////////////////////////////////////////////////////////////////
+
+	// Size of the buffer for the Base64 characters.
+	private static final int BUFFER_SIZE = 8192;
+
+	// ///////////////////////////////////////////////////////////////////
+	// ATTRIBUTES
+	// ///////////////////////////////////////////////////////////////////
+
+	// Flag that indicates if bytes are encoded or decoded.
+	private boolean encode;
+
+	// ///////////////////////////////////////////////////////////////////
+	// CONSTRUCTORS
+	// ///////////////////////////////////////////////////////////////////
+
+	/**
+	 * Wrapper for <code>java.io.InputStream</code> that encodes or decodes
+	 * the bytes of the stream with Base64.
+	 *
+	 * @param stream Wrapped stream.<br>
+	 *               <br>
+	 * @param encode <code>true</code> to encode the bytes of the wrapped stream
+	 *               and <code>false</code> to decode them.<br>
+	 *               <br>
+	 */
+	public Base64InputStream(final InputStream stream, final boolean encode) {
+
+		// Invoke default constructor.
+		super(stream, (encode) ? BUFFER_SIZE / 4 * 3 : BUFFER_SIZE, (encode) ? BUFFER_SIZE : BUFFER_SIZE / 4 * 3);
+
+		// Set the operation.
+		this.encode = encode;
+
+	}
+
+	// ///////////////////////////////////////////////////////////////////
+	// PROTECTED METHODS
+	// ///////////////////////////////////////////////////////////////////
+
+	/**
+	 * Encodes or decodes one block of bytes with Base64.
+	 *
+	 * @param source     Bytes to transform.<br>
+	 *                   <br>
+	 * @param target     Buffer where to write the transformed bytes.<br>
+	 *                   <br>
+	 * @param endOfInput <code>true</code> if the source buffer has the last bytes
+	 *                   of the wrapped stream.<br>
+	 *                   <br>
+	 * @throws IOException If the bytes cannot be decoded.<br>
+	 *                     <br>
+	 */
+	protected void transform(final ByteBuffer source, final ByteBuffer target, final boolean endOfInput)
+			throws IOException {
+		if (encode) {
+			CodecL1Helper.encodeBase64(source, target, endOfInput);
+		} else {
+			CodecL1Helper.decodeBase64(source, target);
+		}
+	}
+
+}
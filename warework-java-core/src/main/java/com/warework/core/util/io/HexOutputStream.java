@@ -0,0 +1,88 @@
+package com.warework.core.util.io;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+
+import com.warework.core.util.helper.CodecL1Helper;
+
+/**
+ * Output stream that encodes the bytes written to it into lowercase hexadecimal
+ * characters or decodes the hexadecimal characters written to it. Bytes are
+ * transformed block by block as they are written, so large data can be encoded
+ * or decoded with constant memory. Check it out with the following example:<br>
+ * <code>
+ * // Write the decoded hexadecimal data in a file.<br>
+ * OutputStream stream = new HexOutputStream(new FileOutputStream("data.bin"), false);<br>
+ * </code>
+ *
+ * @author Jose Schiaffino
+ * @version ${project.version}
+ */
+public class HexOutputStream extends AbstractCodecOutputStream {
+
+	// ///////////////////////////////////////////////////////////////////
+	// CONSTANTS
+	// ///////////////////////////////////////////////////////////////////
+
+	// Size of the buffer for the hexadecimal characters.
+	private static final int BUFFER_SIZE = 8192;
+
+	// ///////////////////////////////////////////////////////////////////
+	// ATTRIBUTES
+	// ///////////////////////////////////////////////////////////////////
+
+	// Flag that indicates if bytes are encoded or decoded.
+	private boolean encode;
+
+	// ///////////////////////////////////////////////////////////////////
+	// CONSTRUCTORS
+	// ///////////////////////////////////////////////////////////////////
+
+	/**
+	 * Wrapper for <code>java.io.OutputStream</code> that encodes or decodes
+	 * the bytes written to the stream with hexadecimal characters.
+	 *
+	 * @param stream Wrapped stream.<br>
+	 *               <br>
+	 * @param encode <code>true</code> to encode the bytes written to this
+	 *               stream and <code>false</code> to decode them.<br>
+	 *               <br>
+	 */
+	public HexOutputStream(final OutputStream stream, final boolean encode) {
+
+		// Invoke default constructor.
+		super(stream, (encode) ? BUFFER_SIZE / 2 : BUFFER_SIZE, (encode) ? BUFFER_SIZE : BUFFER_SIZE / 2);
+
+		// Set the operation.
+		this.encode = encode;
+
+	}
+
+	// ///////////////////////////////////////////////////////////////////
+	// PROTECTED METHODS
+	// ///////////////////////////////////////////////////////////////////
+
+	/**
+	 * Encodes or decodes one block of bytes with hexadecimal characters.
+	 *
+	 * @param source     Bytes to transform.<br>
+	 *                   <br>
+	 * @param target     Buffer where to write the transformed bytes.<br>
+	 *                   <br>
+	 * @param endOfInput <code>true</code> if the source buffer has the last bytes
+	 *                   written to this stream.<br>
+	 *                   <br>
+	 * @throws IOException If the bytes cannot be decoded.<br>
+	 *                     <br>
+	 */
+	protected void transform(final ByteBuffer source, final ByteBuffer target, final boolean endOfInput)
+			throws IOException {
+		if (encode) {
+			CodecL1Helper.encodeHex(source, target, false);
+		} else {
+			CodecL1Helper.decodeHex(source, target);
+		}
+	}
+
+}
@@ -54,6 +54,26 @@ public final class ConverterServiceConstants extends ProxyServiceConstants {
 	 */
 	public static final String OPERATION_PARAMETER_SOURCE = "source";
 
+	// CACHE STATISTICS
+
+	/**
+	 * Cache statistic with the number of results found in the cache of a
+	 * Converter.
+	 */
+	public static final String CACHE_STATISTIC_HITS = "hits";
+
+	/**
+	 * Cache statistic with the number of results not found in the cache of a
+	 * Converter.
+	 */
+	public static final String CACHE_STATISTIC_MISSES = "misses";
+
+	/**
+	 * Cache statistic with the number of results stored in the cache of a
+	 * Converter.
+	 */
+	public static final String CACHE_STATISTIC_SIZE = "size";
+
 	// ///////////////////////////////////////////////////////////////////
 	// CONSTRUCTORS
 	// ///////////////////////////////////////////////////////////////////
@@ -1,5 +1,7 @@
 package com.warework.service.converter;
 
+import java.util.Map;
+
 import com.warework.core.service.ProxyServiceFacade;
 import com.warework.core.service.ServiceException;
 
@@ -156,4 +158,20 @@ public interface ConverterServiceFacade extends ProxyServiceFacade {
 	Object transform(final String converterName, final String providerName, final String providerObject)
 			throws ServiceException;
 
+	/**
+	 * Gets the statistics of the cache of a Converter. Results are cached only
+	 * when the Converter defines the <code>cache-size</code> parameter.
+	 * 
+	 * @param converterName The name to which the Converter is bound in the
+	 *                      Service.<br>
+	 *                      <br>
+	 * @return Number of hits, misses and results stored in the cache. Use the
+	 *         <code>ConverterServiceConstants.CACHE_STATISTIC_xyz</code>
+	 *         constants to get each value.<br>
+	 *         <br>
+	 * @throws ServiceException If the Converter does not exists.<br>
+	 *                          <br>
+	 */
+	Map<String, Long> getCacheStatistics(final String converterName) throws ServiceException;
+
 }
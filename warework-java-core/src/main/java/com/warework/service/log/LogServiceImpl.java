@@ -4,6 +4,7 @@ import java.util.Map;
 
 import com.warework.core.service.AbstractProxyService;
 import com.warework.core.service.ServiceException;
+import com.warework.core.service.ServiceOperation;
 import com.warework.core.util.helper.StringL1Helper;
 import com.warework.service.log.client.LoggerFacade;
 
@@ -234,30 +235,34 @@ public final class LogServiceImpl extends AbstractProxyService implements LogSer
 
 	}
 
+	// ///////////////////////////////////////////////////////////////////
+	// PROTECTED METHODS
+	// ///////////////////////////////////////////////////////////////////
+
 	/**
-	 * Executes a Log Service operation.
+	 * Initializes the Service and registers the operations of the Log Service.
 	 * 
-	 * @param operationName Name of the operation to execute.<br>
-	 *                      <br>
-	 * @param parameters    Operation parameters.<br>
-	 *                      <br>
-	 * @return Operation result.<br>
-	 *         <br>
-	 * @throws ServiceException If there is an error when trying to execute the
-	 *                          operation.<br>
+	 * @throws ServiceException If there is an error when trying to initialize the
+	 *                          Service.<br>
 	 *                          <br>
 	 */
-	public Object execute(final String operationName, final Map<String, Object> parameters) throws ServiceException {
+	protected void initialize() throws ServiceException {
 
-		// Validate the operation to perform.
-		if (operationName.equals(LogServiceConstants.OPERATION_NAME_LOG)) {
-			executeLog(parameters);
-		} else {
-			return super.execute(operationName, parameters);
-		}
+		// Initialize the Proxy Service.
+		super.initialize();
+
+		// Register the operations of the Service.
+		registerOperation(LogServiceConstants.OPERATION_NAME_LOG, new ServiceOperation() {
+			public Object execute(final Map<String, Object> parameters) throws ServiceException {
+
+				// Execute the operation.
+				executeLog(parameters);
 
-		// Nothing to return.
-		return null;
+				// Nothing to return.
+				return null;
+
+			}
+		});
 
 	}
 
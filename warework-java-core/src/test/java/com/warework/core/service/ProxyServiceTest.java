@@ -1,10 +1,18 @@
 package com.warework.core.service;
 
+import java.lang.management.ManagementFactory;
 import java.util.Enumeration;
+import java.util.HashMap;
+import java.util.Map;
+
+import javax.management.ObjectName;
 
 import com.warework.core.model.Scope;
 import com.warework.core.scope.AbstractCoreTestCase;
 import com.warework.core.scope.ScopeFacade;
+import com.warework.core.service.metric.JmxOperationMetrics;
+import com.warework.core.service.metric.OperationMetrics;
+import com.warework.core.service.metric.OperationStatistics;
 import com.warework.service.log.LogServiceFacade;
 import com.warework.service.log.LogServiceImpl;
 import com.warework.service.log.client.ConsoleLogger;
@@ -837,4 +845,185 @@ public class ProxyServiceTest extends AbstractCoreTestCase {
 
 	}
 
+	/**
+	 * Tests that operations are recorded when metrics are enabled.
+	 */
+	public void testOperationMetrics1() {
+
+		// Create the configuration of the system.
+		final Scope config = new Scope("test");
+		{
+
+			//
+			final Map<String, Object> parameters = new HashMap<String, Object>();
+			parameters.put(ProxyServiceConstants.PARAMETER_OPERATION_METRICS, Boolean.TRUE);
+
+			//
+			config.enableDefaultLog();
+			config.setService("custom-log", LogServiceImpl.class, parameters, null);
+
+		}
+
+		// Create the system.
+		try {
+
+			//
+			final ScopeFacade system = create(config);
+
+			//
+			final LogServiceImpl log = (LogServiceImpl) system.getService("custom-log");
+
+			//
+			log.createClient("logger", ConsoleConnector.class, null);
+
+			//
+			final Map<String, Object> parameters = new HashMap<String, Object>();
+			parameters.put(ProxyServiceConstants.OPERATION_PARAMETER_CLIENT_NAME, "logger");
+
+			//
+			log.execute(ProxyServiceConstants.OPERATION_NAME_EXISTS_CLIENT, parameters);
+			log.execute(ProxyServiceConstants.OPERATION_NAME_EXISTS_CLIENT, parameters);
+
+			//
+			try {
+				log.execute("undefined-operation", parameters);
+				fail();
+			} catch (final ServiceException e) {
+				// DO NOTHING HERE, IT'S OK.
+			}
+
+			//
+			final OperationMetrics metrics = (OperationMetrics) log.getOperationMetrics();
+
+			//
+			final OperationStatistics exists = metrics.getStatistics("logger",
+					ProxyServiceConstants.OPERATION_NAME_EXISTS_CLIENT);
+			if ((exists.getCount() != 2) || (exists.getErrorCount() != 0)
+					|| (exists.getPercentile(99) > exists.getMaxTime())) {
+				fail();
+			}
+
+			//
+			final OperationStatistics undefined = metrics.getStatistics("logger", "undefined-operation");
+			if ((undefined.getCount() != 1) || (undefined.getErrorCount() != 1)) {
+				fail();
+			}
+
+			//
+			if (metrics.getServiceStatistics().getCount() != 3) {
+				fail();
+			}
+
+			//
+			final ObjectName name = new ObjectName("com.warework:type=OperationMetrics,scope="
+					+ ObjectName.quote("test") + ",service=" + ObjectName.quote("custom-log"));
+			if (!((Long) ManagementFactory.getPlatformMBeanServer().getAttribute(name, "Count")).equals(3L)) {
+				fail();
+			}
+
+			//
+			system.removeService("custom-log");
+			if (ManagementFactory.getPlatformMBeanServer().isRegistered(name)) {
+				fail();
+			}
+
+		} catch (final Exception e) {
+			fail();
+		}
+
+	}
+
+	/**
+	 * Tests that metrics are disabled by default.
+	 */
+	public void testOperationMetrics2() {
+
+		// Create the configuration of the system.
+		final Scope config = new Scope("test");
+		{
+			config.enableDefaultLog();
+			config.setService("custom-log", LogServiceImpl.class, null, null);
+		}
+
+		// Create the system.
+		try {
+
+			//
+			final ScopeFacade system = create(config);
+
+			//
+			final LogServiceImpl log = (LogServiceImpl) system.getService("custom-log");
+
+			//
+			if (log.getOperationMetrics() != null) {
+				fail();
+			}
+
+		} catch (final Exception e) {
+			fail();
+		}
+
+	}
+
+	/**
+	 * Tests that metrics with the name of live metrics get a new name.
+	 */
+	public void testOperationMetrics3() {
+
+		// Create the configuration of the system.
+		final Scope config = new Scope("test");
+		{
+
+			//
+			final Map<String, Object> parameters = new HashMap<String, Object>();
+			parameters.put(ProxyServiceConstants.PARAMETER_OPERATION_METRICS, Boolean.TRUE);
+
+			//
+			config.enableDefaultLog();
+			config.setService("custom-log", LogServiceImpl.class, parameters, null);
+
+		}
+
+		// Create the system.
+		try {
+
+			//
+			final ScopeFacade system = create(config);
+
+			//
+			final LogServiceImpl log = (LogServiceImpl) system.getService("custom-log");
+
+			//
+			final ObjectName name = ((JmxOperationMetrics) log.getOperationMetrics()).getObjectName();
+
+			//
+			final JmxOperationMetrics other = new JmxOperationMetrics();
+			other.init(log);
+
+			//
+			if ((other.getObjectName().equals(name))
+					|| (!other.getObjectName().equals(new ObjectName(name.toString() + ",instance=2")))
+					|| (!ManagementFactory.getPlatformMBeanServer().isRegistered(name))) {
+				fail();
+			}
+
+			//
+			other.close();
+			if ((!ManagementFactory.getPlatformMBeanServer().isRegistered(name))
+					|| (((JmxOperationMetrics) log.getOperationMetrics()).getObjectName() != name)) {
+				fail();
+			}
+
+			//
+			system.removeService("custom-log");
+			if (ManagementFactory.getPlatformMBeanServer().isRegistered(name)) {
+				fail();
+			}
+
+		} catch (final Exception e) {
+			fail();
+		}
+
+	}
+
 }
@@ -1,6 +1,17 @@
 package com.warework.core.util.helper;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.Arrays;
+import java.util.Random;
+
 import com.warework.core.scope.AbstractCoreTestCase;
+import com.warework.core.util.io.Base64InputStream;
+import com.warework.core.util.io.Base64OutputStream;
+import com.warework.core.util.io.HexInputStream;
+import com.warework.core.util.io.HexOutputStream;
 
 /**
  * Tests common collections operations.
@@ -82,4 +93,216 @@ public class CodecL1HelperTest extends AbstractCoreTestCase {
 		}
 	}
 
+	/**
+	 * 
+	 */
+	public void testEncodeDecodeBase64Stream1() {
+		try {
+
+			//
+			for (int length = 0; length < 20000; length = length * 2 + 1) {
+
+				//
+				final byte[] test = createData(length);
+
+				//
+				final byte[] encoded = read(new Base64InputStream(new ByteArrayInputStream(test), true));
+				if (!Arrays.equals(encoded, CodecL1Helper.encodeBase64(test))) {
+					fail();
+				}
+
+				//
+				final ByteArrayOutputStream decoded = new ByteArrayOutputStream();
+				write(new Base64OutputStream(decoded, false), encoded);
+				if (!Arrays.equals(decoded.toByteArray(), test)) {
+					fail();
+				}
+
+			}
+
+		} catch (final Exception e) {
+			fail();
+		}
+	}
+
+	/**
+	 * 
+	 */
+	public void testEncodeDecodeBase64Stream2() {
+		try {
+
+			//
+			final byte[] test = createData(10000);
+
+			//
+			final ByteArrayOutputStream encoded = new ByteArrayOutputStream();
+			write(new Base64OutputStream(encoded, true), test);
+
+			//
+			final byte[] decoded = read(new Base64InputStream(
+					new ByteArrayInputStream(("\r\n" + new String(encoded.toByteArray()) + "\r\n").getBytes()), false));
+
+			//
+			if (!Arrays.equals(decoded, test)) {
+				fail();
+			}
+
+		} catch (final Exception e) {
+			fail();
+		}
+	}
+
+	/**
+	 * 
+	 */
+	public void testEncodeDecodeBase64Stream3() {
+		try {
+
+			//
+			read(new Base64InputStream(new ByteArrayInputStream("SGVsbG8".getBytes()), false));
+
+			//
+			fail();
+
+		} catch (final Exception e) {
+			// EXPECTED.
+		}
+	}
+
+	/**
+	 * 
+	 */
+	public void testEncodeDecodeBase64Stream4() {
+		try {
+
+			//
+			final StringBuffer test = new StringBuffer("QU");
+			for (int i = 0; i < 9000; i++) {
+				test.append('\n');
+			}
+			test.append("JD");
+
+			//
+			final byte[] decoded = read(
+					new Base64InputStream(new ByteArrayInputStream(test.toString().getBytes()), false));
+
+			//
+			if (!new String(decoded).equals("ABC")) {
+				fail();
+			}
+
+			//
+			final ByteArrayOutputStream written = new ByteArrayOutputStream();
+			write(new Base64OutputStream(written, false), test.toString().getBytes());
+
+			//
+			if (!new String(written.toByteArray()).equals("ABC")) {
+				fail();
+			}
+
+		} catch (final Exception e) {
+			fail();
+		}
+	}
+
+	/**
+	 * 
+	 */
+	public void testEncodeDecodeHexStream1() {
+		try {
+
+			//
+			for (int length = 0; length < 20000; length = length * 2 + 1) {
+
+				//
+				final byte[] test = createData(length);
+
+				//
+				final byte[] encoded = read(new HexInputStream(new ByteArrayInputStream(test), true));
+				if (!new String(encoded).equals(new String(CodecL1Helper.encodeHex(test)))) {
+					fail();
+				}
+
+				//
+				final ByteArrayOutputStream decoded = new ByteArrayOutputStream();
+				write(new HexOutputStream(decoded, false), encoded);
+				if (!Arrays.equals(decoded.toByteArray(), test)) {
+					fail();
+				}
+
+			}
+
+		} catch (final Exception e) {
+			fail();
+		}
+	}
+
+	// ///////////////////////////////////////////////////////////////////
+	// PRIVATE METHODS
+	// ///////////////////////////////////////////////////////////////////
+
+	/**
+	 * 
+	 * @param length
+	 * @return
+	 */
+	private static byte[] createData(final int length) {
+
+		//
+		final byte[] data = new byte[length];
+
+		//
+		new Random(length).nextBytes(data);
+
+		//
+		return data;
+
+	}
+
+	/**
+	 * 
+	 * @param input
+	 * @return
+	 * @throws Exception
+	 */
+	private static byte[] read(final InputStream input) throws Exception {
+
+		//
+		final ByteArrayOutputStream output = new ByteArrayOutputStream();
+
+		//
+		final byte[] buffer = new byte[777];
+
+		//
+		int count = 0;
+		while ((count = input.read(buffer)) >= 0) {
+			output.write(buffer, 0, count);
+		}
+
+		//
+		input.close();
+
+		//
+		return output.toByteArray();
+
+	}
+
+	/**
+	 * 
+	 * @param output
+	 * @param data
+	 * @throws Exception
+	 */
+	private static void write(final OutputStream output, final byte[] data) throws Exception {
+
+		//
+		for (int i = 0; i < data.length; i = i + 1000) {
+			output.write(data, i, Math.min(1000, data.length - i));
+		}
+
+		//
+		output.close();
+
+	}
+
 }
@@ -225,6 +225,25 @@ public class StringL1HelperTest extends AbstractCoreTestCase {
 		}
 	}
 
+	/**
+	 * 
+	 */
+	public void testReplace5() {
+
+		//
+		final Hashtable<String, String> variables = new Hashtable<String, String>();
+		{
+			variables.put("name", "John");
+		}
+
+		//
+		if (!StringL1Helper.replace("$Name=${name};Age=${age};${x ${name}}", variables)
+				.equals("$Name=John;Age=${age};${x John}")) {
+			fail();
+		}
+
+	}
+
 	// ///////////////////////////////////////////////////////////////////
 
 	/**
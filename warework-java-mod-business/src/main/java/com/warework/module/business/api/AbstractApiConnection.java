@@ -34,6 +34,9 @@ public abstract class AbstractApiConnection {
 	// Log level when API rate calls limit is reached.
 	private int log = LogServiceConstants.LOG_LEVEL_WARN;
 
+	// Milliseconds to wait for the API rate calls limit.
+	private long timeout = 0;
+
 	// ///////////////////////////////////////////////////////////////////
 	// CONSTRUCTORS
 	// ///////////////////////////////////////////////////////////////////
@@ -86,6 +89,30 @@ public abstract class AbstractApiConnection {
 
 	}
 
+	/**
+	 * Intializes the API connection.
+	 * 
+	 * @param scope   Scope Facade.<br>
+	 *                <br>
+	 * @param rate    API rate calls control.<br>
+	 *                <br>
+	 * @param log     Log level when API rate calls limit is reached.<br>
+	 *                <br>
+	 * @param timeout Maximum time in milliseconds to wait for the API rate calls
+	 *                limit before the <code>ApiRateLimitException</code> is
+	 *                thrown.<br>
+	 *                <br>
+	 */
+	public AbstractApiConnection(final ScopeFacade scope, final ApiRate rate, final int log, final long timeout) {
+
+		// Invoke constructor.
+		this(scope, rate, log);
+
+		// Set time to wait for API rate calls limit.
+		this.timeout = timeout;
+
+	}
+
 	// ///////////////////////////////////////////////////////////////////
 	// PROTECTED METHODS
 	// ///////////////////////////////////////////////////////////////////
@@ -125,7 +152,7 @@ public abstract class AbstractApiConnection {
 		log(url, parameters);
 
 		// Invoke API.
-		if (rate.increase()) {
+		if (rate.acquire(timeout)) {
 			try {
 				return toJSONObject(url, header, parameters, config);
 			} catch (final FileNotFoundException e) {
@@ -169,7 +196,7 @@ public abstract class AbstractApiConnection {
 		log(url, parameters);
 
 		// Invoke API.
-		if (rate.increase()) {
+		if (rate.acquire(timeout)) {
 			try {
 				return toJSONArray(url, header, parameters, config);
 			} catch (final FileNotFoundException e) {
@@ -1,6 +1,9 @@
 package com.warework.module.business.api;
 
 import java.io.Serializable;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
 
 /**
  * 
@@ -18,21 +21,31 @@ public class ApiRate implements Serializable {
 	 */
 	private static final long serialVersionUID = -5335187507545816093L;
 
+	// Bits of the state that hold the operations counter.
+	private static final int COUNTER_BITS = 32;
+
+	// Mask to get the operations counter from the state.
+	private static final long COUNTER_MASK = (1L << COUNTER_BITS) - 1;
+
+	// Longest time to park a thread before checking the rate again.
+	private static final long MAX_PARK_TIME = 1000L;
+
 	// ///////////////////////////////////////////////////////////////////
 	// ATTRBIUTES
 	// ///////////////////////////////////////////////////////////////////
 
-	// Minutes
-	private long timeFrameLength;
+	// Time frame length in milliseconds.
+	private final long timeFrameLength;
 
-	//
-	private long timeFrameStart;
+	// Time when the first time frame starts.
+	private final long timeFrameStart;
 
-	//
-	private int operationsCounter = 0;
+	// Number of the current time frame (high bits) and operations executed in it
+	// (low bits), so both are updated with one atomic operation.
+	private final AtomicLong state = new AtomicLong();
 
-	//
-	private int operationsLimit;
+	// Number of operations that can be executed in a time frame.
+	private final int operationsLimit;
 
 	// ///////////////////////////////////////////////////////////////////
 	// CONSTRCUTORS
@@ -50,7 +63,7 @@ public class ApiRate implements Serializable {
 	public ApiRate(final long length, final int operations) {
 
 		//
-		timeFrameLength = length;
+		timeFrameLength = Math.max(length, 1L);
 
 		//
 		timeFrameStart = System.currentTimeMillis();
@@ -66,28 +79,67 @@ public class ApiRate implements Serializable {
 
 	/**
 	 * Perform basic validation and increases the number of operations executed.
+	 * This method never blocks and it is safe to invoke it from many threads.
 	 * 
-	 * @return
+	 * @return <code>true</code> if the operation can be executed and
+	 *         <code>false</code> if the limit of operations of the current time
+	 *         frame is reached.<br>
+	 *         <br>
 	 */
 	public final boolean increase() {
-		if (validate()) {
+		return validate() && tryIncrease(System.currentTimeMillis());
+	}
+
+	/**
+	 * Perform basic validation and increases the number of operations executed.
+	 * When the limit of operations of the current time frame is reached, this
+	 * method parks the calling thread until the next time frame starts or the
+	 * timeout expires.
+	 * 
+	 * @param timeout Maximum time in milliseconds to wait for the next time
+	 *                frame. With <code>0</code> this method works like
+	 *                <code>increase()</code>.<br>
+	 *                <br>
+	 * @return <code>true</code> if the operation can be executed and
+	 *         <code>false</code> if the timeout expired, the validation failed or
+	 *         the thread was interrupted.<br>
+	 *         <br>
+	 */
+	public final boolean acquire(final long timeout) {
+
+		// Time when the caller stops waiting.
+		final long deadline = System.currentTimeMillis() + Math.max(timeout, 0L);
 
-			// Reset time frame operations counter and start time.
-			reset();
+		// Wait until the operation can be executed.
+		while (validate()) {
+
+			// Get the current time.
+			final long now = System.currentTimeMillis();
+
+			// Increase the counter when there are operations left.
+			if (tryIncrease(now)) {
+				return true;
+			}
 
-			//
-			if (operationsCounter > operationsLimit) {
+			// Get the time until the next time frame starts.
+			final long wait = Math.min(timeFrameLength - (elapsed(now) % timeFrameLength), deadline - now);
+			if (wait <= 0) {
 				return false;
-			} else {
-				operationsCounter = operationsCounter + 1;
 			}
 
-			//
-			return true;
+			// Wait for the next time frame.
+			LockSupport.parkNanos(this, TimeUnit.MILLISECONDS.toNanos(Math.min(wait, MAX_PARK_TIME)));
+
+			// Stop when the thread is interrupted.
+			if (Thread.currentThread().isInterrupted()) {
+				return false;
+			}
 
-		} else {
-			return false;
 		}
+
+		// Validation failed.
+		return false;
+
 	}
 
 	// ///////////////////////////////////////////////////////////////////
@@ -106,11 +158,11 @@ public class ApiRate implements Serializable {
 	 */
 	public final int getOperationsCounter() {
 
-		//
-		reset();
+		// Get the current state.
+		final long current = state.get();
 
-		//
-		return operationsCounter;
+		// Operations of a previous time frame do not count.
+		return (frameOf(current) == frame(System.currentTimeMillis())) ? counterOf(current) : 0;
 
 	}
 
@@ -147,18 +199,105 @@ public class ApiRate implements Serializable {
 	// ///////////////////////////////////////////////////////////////////
 
 	/**
+	 * Increases the number of operations executed in the current time frame.
 	 * 
+	 * @param now Current time.<br>
+	 *            <br>
+	 * @return <code>true</code> if the limit was not reached.<br>
+	 *         <br>
 	 */
-	private void reset() {
-		if ((System.currentTimeMillis() - timeFrameStart) >= timeFrameLength) {
+	private boolean tryIncrease(final long now) {
 
-			//
-			timeFrameStart = System.currentTimeMillis();
+		// Get the current time frame.
+		final int frame = frame(now);
 
-			//
-			operationsCounter = 0;
+		// Update the state until no other thread changes it.
+		while (true) {
+
+			// Get the current state.
+			final long current = state.get();
+
+			// Keep the time frame of the state when other thread already moved it
+			// forward.
+			final int active = ((frameOf(current) - frame) > 0) ? frameOf(current) : frame;
+
+			// Operations of a previous time frame do not count.
+			final int counter = (frameOf(current) == active) ? counterOf(current) : 0;
+
+			// Validate the limit.
+			if (counter >= operationsLimit) {
+				return false;
+			}
+
+			// Save the new counter.
+			if (state.compareAndSet(current, toState(active, counter + 1))) {
+				return true;
+			}
 
 		}
+
+	}
+
+	/**
+	 * Gets the milliseconds since the first time frame started.
+	 * 
+	 * @param now Current time.<br>
+	 *            <br>
+	 * @return Elapsed time.<br>
+	 *         <br>
+	 */
+	private long elapsed(final long now) {
+		return Math.max(now - timeFrameStart, 0L);
+	}
+
+	/**
+	 * Gets the number of the time frame of a given time.
+	 * 
+	 * @param now Current time.<br>
+	 *            <br>
+	 * @return Number of the time frame.<br>
+	 *         <br>
+	 */
+	private int frame(final long now) {
+		return (int) (elapsed(now) / timeFrameLength);
+	}
+
+	/**
+	 * Creates the state for a time frame and a counter.
+	 * 
+	 * @param frame   Number of the time frame.<br>
+	 *                <br>
+	 * @param counter Operations executed.<br>
+	 *                <br>
+	 * @return State.<br>
+	 *         <br>
+	 */
+	private static long toState(final int frame, final int counter) {
+		return (((long) frame) << COUNTER_BITS) | (counter & COUNTER_MASK);
+	}
+
+	/**
+	 * Gets the number of the time frame from a state.
+	 * 
+	 * @param state State.<br>
+	 *              <br>
+	 * @return Number of the time frame.<br>
+	 *         <br>
+	 */
+	private static int frameOf(final long state) {
+		return (int) (state >>> COUNTER_BITS);
+	}
+
+	/**
+	 * Gets the operations counter from a state.
+	 * 
+	 * @param state State.<br>
+	 *              <br>
+	 * @return Operations executed.<br>
+	 *         <br>
+	 */
+	private static int counterOf(final long state) {
+		return (int) (state & COUNTER_MASK);
 	}
 
 }
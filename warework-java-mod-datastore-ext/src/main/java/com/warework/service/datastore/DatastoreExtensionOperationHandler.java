@@ -4,6 +4,8 @@ import java.util.Hashtable;
 import java.util.Map;
 
 import com.warework.core.service.ServiceException;
+import com.warework.core.service.ServiceFacade;
+import com.warework.core.service.ServiceOperation;
 import com.warework.core.service.client.ClientException;
 import com.warework.service.datastore.view.ObjectDatastoreView;
 import com.warework.service.log.LogServiceConstants;
@@ -21,44 +23,83 @@ public final class DatastoreExtensionOperationHandler extends DatastoreOperation
 	// ///////////////////////////////////////////////////////////////////
 
 	/**
-	 * Executes a Data Store Service operation.
+	 * Initializes the operation handler and registers the operations of Data
+	 * Store Extension Services.
 	 * 
-	 * @param operationName Name of the operation to execute.<br>
-	 *                      <br>
-	 * @param parameters    Operation parameters.<br>
-	 *                      <br>
-	 * @return Operation result.<br>
-	 *         <br>
-	 * @throws ServiceException If there is an error when trying to execute the
-	 *                          operation.<br>
+	 * @param datastoreService Service where to perform the operations.<br>
+	 *                         <br>
+	 * @throws ServiceException If there is an error when trying to initialize the
+	 *                          operation handler.<br>
 	 *                          <br>
 	 */
-	public Object execute(final String operationName, final Map<String, Object> parameters) throws ServiceException {
-
-		// Validate the operation to perform.
-		if (operationName.equals(DatastoreExtensionServiceConstants.OPERATION_NAME_OBJECT_DATASTORE_SAVE)) {
-			executeObjectDatastoreSave(parameters);
-		} else if (operationName.equals(DatastoreExtensionServiceConstants.OPERATION_NAME_OBJECT_DATASTORE_UPDATE)) {
-			executeObjectDatastoreUpdate(parameters);
-		} else if (operationName.equals(DatastoreExtensionServiceConstants.OPERATION_NAME_OBJECT_DATASTORE_DELETE)) {
-			executeObjectDatastoreDelete(parameters);
-		} else if (operationName
-				.equals(DatastoreExtensionServiceConstants.OPERATION_NAME_OBJECT_DATASTORE_DELETE_BY_NAME)) {
-			executeObjectDatastoreDeleteByName(parameters);
-		} else if (operationName.equals(DatastoreExtensionServiceConstants.OPERATION_NAME_OBJECT_DATASTORE_FIND)) {
-			return executeObjectDatastoreFind(parameters);
-		} else if (operationName
-				.equals(DatastoreExtensionServiceConstants.OPERATION_NAME_OBJECT_DATASTORE_QUERY_BY_NAME)) {
-			return executeObjectDatastoreQueryByName(parameters);
-		} else if (operationName
-				.equals(DatastoreExtensionServiceConstants.OPERATION_NAME_OBJECT_DATASTORE_COUNT_BY_NAME)) {
-			return executeObjectDatastoreCountByName(parameters);
-		} else {
-			return super.execute(operationName, parameters);
-		}
+	public void init(final ServiceFacade datastoreService) throws ServiceException {
 
-		// Nothing to return.
-		return null;
+		// Initialize Data Store Service.
+		super.init(datastoreService);
+
+		// Register the operations of Data Store Extension Services.
+		register(DatastoreExtensionServiceConstants.OPERATION_NAME_OBJECT_DATASTORE_SAVE, new ServiceOperation() {
+			public Object execute(final Map<String, Object> parameters) throws ServiceException {
+
+				// Execute the operation.
+				executeObjectDatastoreSave(parameters);
+
+				// Nothing to return.
+				return null;
+
+			}
+		});
+		register(DatastoreExtensionServiceConstants.OPERATION_NAME_OBJECT_DATASTORE_UPDATE, new ServiceOperation() {
+			public Object execute(final Map<String, Object> parameters) throws ServiceException {
+
+				// Execute the operation.
+				executeObjectDatastoreUpdate(parameters);
+
+				// Nothing to return.
+				return null;
+
+			}
+		});
+		register(DatastoreExtensionServiceConstants.OPERATION_NAME_OBJECT_DATASTORE_DELETE, new ServiceOperation() {
+			public Object execute(final Map<String, Object> parameters) throws ServiceException {
+
+				// Execute the operation.
+				executeObjectDatastoreDelete(parameters);
+
+				// Nothing to return.
+				return null;
+
+			}
+		});
+		register(DatastoreExtensionServiceConstants.OPERATION_NAME_OBJECT_DATASTORE_DELETE_BY_NAME,
+				new ServiceOperation() {
+					public Object execute(final Map<String, Object> parameters) throws ServiceException {
+
+						// Execute the operation.
+						executeObjectDatastoreDeleteByName(parameters);
+
+						// Nothing to return.
+						return null;
+
+					}
+				});
+		register(DatastoreExtensionServiceConstants.OPERATION_NAME_OBJECT_DATASTORE_FIND, new ServiceOperation() {
+			public Object execute(final Map<String, Object> parameters) throws ServiceException {
+				return executeObjectDatastoreFind(parameters);
+			}
+		});
+		register(DatastoreExtensionServiceConstants.OPERATION_NAME_OBJECT_DATASTORE_QUERY_BY_NAME,
+				new ServiceOperation() {
+					public Object execute(final Map<String, Object> parameters) throws ServiceException {
+						return executeObjectDatastoreQueryByName(parameters);
+					}
+				});
+		register(DatastoreExtensionServiceConstants.OPERATION_NAME_OBJECT_DATASTORE_COUNT_BY_NAME,
+				new ServiceOperation() {
+					public Object execute(final Map<String, Object> parameters) throws ServiceException {
+						return executeObjectDatastoreCountByName(parameters);
+					}
+				});
 
 	}
 
@@ -4,6 +4,7 @@ import java.lang.reflect.Array;
 import java.lang.reflect.InvocationTargetException;
 import java.math.BigDecimal;
 import java.math.BigInteger;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashSet;
 import java.util.Iterator;
@@ -14,6 +15,7 @@ import java.util.Set;
 import com.warework.core.callback.AbstractBaseCallback;
 import com.warework.core.callback.AbstractCallback;
 import com.warework.core.callback.AbstractDefaultCallback;
+import com.warework.core.callback.CallbackFailure;
 import com.warework.core.callback.CallbackInvoker;
 import com.warework.core.callback.CallbackSuccess;
 import com.warework.core.service.client.ClientException;
@@ -1934,21 +1936,27 @@ public abstract class AbstractObjectDatastoreView extends AbstractDatastoreView
 	 */
 	protected <E> List<E> handleQuery(Query<E> query) throws ClientException {
 
-		// Validate that given query is not paginated.
-		if ((!getObjectDatastore().executePaginatedQuery()) && (query.isPaginated())) {
-			throw new ClientException(getScopeFacade(),
-					"WAREWORK cannot execute the following query in Data Store '" + getName() + "' at Service '"
-							+ getService().getName()
-							+ "' because it is paginated and this Data Store does not support it:\n" + query.toString(),
-					null, LogServiceConstants.LOG_LEVEL_WARN);
-		}
-
 		// Log a message.
 		getScopeFacade().log("WAREWORK is going to execute the following query in Data Store '" + getName() + "' of Service '"
 				+ getService().getName() + "':\n" + query.toString(), LogServiceConstants.LOG_LEVEL_DEBUG);
 
-		// Run query.
-		List<E> result = performList(query);
+		// Run query. When the Data Store cannot paginate the query, it returns
+		// every object and the page is extracted here.
+		List<E> result = null;
+		if ((!getObjectDatastore().executePaginatedQuery()) && (query.isPaginated())) {
+
+			// Run a copy of the query without pagination, so the given query keeps its
+			// page.
+			final Query<E> unpaginated = new Query<E>(query);
+			unpaginated.setPage(-1);
+			unpaginated.setPageSize(-1);
+
+			// Extract the page.
+			result = extractPage(performList(unpaginated), query.getPage(), query.getPageSize());
+
+		} else {
+			result = performList(query);
+		}
 
 		// Create the message for the successful operation.
 		getScopeFacade().log("WAREWORK successfully executed the query in Data Store '" + getName() + "' of Service '"
@@ -1982,15 +1990,6 @@ public abstract class AbstractObjectDatastoreView extends AbstractDatastoreView
 	protected <E> CallbackInvoker handleQuery(Query<E> query, AbstractBaseCallback currentCallback,
 			AbstractBaseCallback sourceCallback) {
 
-		// Validate that given query is not paginated.
-		if ((!getObjectDatastore().executePaginatedQuery()) && (query.isPaginated())) {
-			return CallbackInvoker.invokeFailure(currentCallback, null,
-					new ClientException(getScopeFacade(), "WAREWORK cannot execute the following query in Data Store '"
-							+ getName() + "' at Service '" + getService().getName()
-							+ "' because it is paginated and this Data Store does not support it:\n" + query.toString(),
-							null, LogServiceConstants.LOG_LEVEL_WARN));
-		}
-
 		// Log a message.
 		getScopeFacade().log("WAREWORK is going to execute the following query in Data Store '" + getName() + "' of Service '"
 				+ getService().getName() + "':\n" + query.toString(), LogServiceConstants.LOG_LEVEL_DEBUG);
@@ -2006,8 +2005,23 @@ public abstract class AbstractObjectDatastoreView extends AbstractDatastoreView
 		// operation.
 		CallbackInvoker invoker = CallbackInvoker.createInvoker(currentCallback, sourceCallback, successMessage, null);
 
-		// Run query.
-		performList(query, invoker);
+		// When the Data Store cannot paginate the query, run it without
+		// pagination and extract the page once it returns every object.
+		if ((!getObjectDatastore().executePaginatedQuery()) && (query.isPaginated())) {
+
+			// Run a copy of the query without pagination, so the given query keeps its
+			// page while the Data Store runs it.
+			final Query<E> unpaginated = new Query<E>(query);
+			unpaginated.setPage(-1);
+			unpaginated.setPageSize(-1);
+
+			// Run query.
+			invoker.reset(createPageCallback(query, sourceCallback), currentCallback, successMessage, null);
+			performList(unpaginated, invoker);
+
+		} else {
+			performList(query, invoker);
+		}
 
 		// Return the last callback invoker used.
 		return invoker.getLastInvoker();
@@ -2200,6 +2214,82 @@ public abstract class AbstractObjectDatastoreView extends AbstractDatastoreView
 	// PRIVATE METHODS
 	// ///////////////////////////////////////////////////////////////////
 
+	/**
+	 * Extracts a page from the result of a query that the Data Store executed
+	 * without pagination.
+	 * 
+	 * @param result   Every object returned by the query.<br>
+	 *                 <br>
+	 * @param page     Page to retrieve.<br>
+	 *                 <br>
+	 * @param pageSize Number of objects per page.<br>
+	 *                 <br>
+	 * @param <E>      The type of objects of the query.<br>
+	 *                 <br>
+	 * @return Objects of the page.<br>
+	 *         <br>
+	 */
+	private <E> List<E> extractPage(List<E> result, int page, int pageSize) {
+
+		// Nothing to extract.
+		if ((result == null) || (page < 1) || (pageSize < 1)) {
+			return result;
+		}
+
+		// Get the page.
+		List<E> target = new ArrayList<E>(pageSize);
+		page(result, page, pageSize, target);
+
+		// Return the page.
+		return target;
+
+	}
+
+	/**
+	 * Creates a callback that extracts a page from the result of a query executed
+	 * without pagination.
+	 * 
+	 * @param query          Paginated query that defines the page to extract.<br>
+	 *                       <br>
+	 * @param sourceCallback Main callback to handle the final result of the
+	 *                       operation.<br>
+	 *                       <br>
+	 * @param <E>            The type of objects of the query.<br>
+	 *                       <br>
+	 * @return Callback that extracts the page.<br>
+	 *         <br>
+	 */
+	private <E> AbstractBaseCallback createPageCallback(final Query<E> query,
+			final AbstractBaseCallback sourceCallback) {
+
+		// Get the page to retrieve.
+		final int page = query.getPage();
+		final int pageSize = query.getPageSize();
+
+		// Create a callback for a query operation. Once the query returns every
+		// object, this callback extracts the page.
+		return new AbstractDefaultCallback(getScopeFacade()) {
+
+			@SuppressWarnings("unchecked")
+			protected void onSuccess(CallbackSuccess success) {
+
+				// Invoke success in target callback.
+				CallbackInvoker.invokeSuccess(success.getSourceCallback(), sourceCallback, success.getMessage(), success,
+						true, extractPage((List<E>) success.getResult(), page, pageSize));
+
+			}
+
+			protected void onFailure(CallbackFailure failure) {
+
+				// Invoke failure in target callback.
+				CallbackInvoker.invokeFailure(failure.getSourceCallback(), sourceCallback, failure.getException());
+
+			}
+
+		};
+
+	}
+
 	/**
 	 * Saves every object of an array in the Data Store.
 	 * 
@@ -0,0 +1,839 @@
+package com.warework.service.datastore.client;
+
+import java.util.ArrayList;
+import java.util.Enumeration;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+
+import com.warework.core.service.client.ClientException;
+import com.warework.core.util.helper.DataStructureL2Helper;
+import com.warework.core.util.helper.StringL2Helper;
+import com.warework.core.util.helper.ThreadL1Helper;
+import com.warework.service.datastore.AbstractDatastoreView;
+import com.warework.service.datastore.query.oo.AbstractExpression;
+import com.warework.service.datastore.query.oo.AbstractOperandExpression;
+import com.warework.service.datastore.query.oo.And;
+import com.warework.service.datastore.query.oo.AttributeIndex;
+import com.warework.service.datastore.query.oo.OperandlessExpression;
+import com.warework.service.datastore.query.oo.Or;
+import com.warework.service.datastore.query.oo.Query;
+import com.warework.service.datastore.query.oo.QueryEvaluator;
+import com.warework.service.datastore.view.KeyValueQueryView;
+import com.warework.service.log.LogServiceConstants;
+
+/**
+ * <u> Key-Value Query View for Hashtable Data Stores</u><br>
+ * <br>
+ * This View works like the Key-Value View for Hashtable Data Stores and also
+ * allows to search the stored values with Object-Oriented queries. Each query
+ * is evaluated in memory against the values of the Hashtable that are
+ * instances of the type defined in the query.<br>
+ * <br>
+ * Optionally, you can declare secondary indexes for the attributes that are
+ * frequently used in the WHERE clause of the queries, so the View does not
+ * need to scan every value of the Hashtable. Use the
+ * <code>PARAMETER_HASH_INDEXES</code> initialization parameter to declare
+ * indexes for <code>EQUAL_TO</code> and <code>IS_NULL</code> expressions, and
+ * <code>PARAMETER_SORTED_INDEXES</code> to declare indexes that also resolve
+ * range expressions (<code>LESS_THAN</code>, <code>GREATER_THAN</code>, ...).
+ * Both parameters accept a comma separated list of attribute names:<br>
+ * <br>
+ * <br>
+ * <code>&#47;&#47;&nbsp;Create&nbsp;the&nbsp;parameters&nbsp;for&nbsp;the&nbsp;View.&nbsp;<br>Map&lt;String,&nbsp;Object&gt;&nbsp;parameters&nbsp;=&nbsp;new&nbsp;HashMap&lt;String,&nbsp;Object&gt;();<br><br>&#47;&#47;&nbsp;Index&nbsp;attributes.&nbsp;<br>parameters.put(HashtableQueryViewImpl.PARAMETER_HASH_INDEXES,&nbsp;&quot;name,contact.email&quot;);<br>parameters.put(HashtableQueryViewImpl.PARAMETER_SORTED_INDEXES,&nbsp;&quot;age&quot;);<br><br>&#47;&#47;&nbsp;Add&nbsp;Key-Value&nbsp;Query&nbsp;View&nbsp;for&nbsp;Hashtable&nbsp;Data&nbsp;Stores.&nbsp;<br>datastoreService.addView(&quot;hashtable-datastore&quot;,&nbsp;<br>&nbsp;&nbsp;&nbsp;HashtableQueryViewImpl.class,&nbsp;&quot;key-value-query-view&quot;,&nbsp;null,&nbsp;parameters);</code>
+ * <br>
+ * <br>
+ * Indexes are maintained when values are stored or removed with this View.
+ * Values updated with other Views of the same Data Store, or beans modified
+ * after they were stored, are not reflected in the indexes until they are
+ * stored again with this View. When a query cannot use any index and the
+ * Hashtable holds many values, the values are evaluated in parallel. Check
+ * out <code>PARAMETER_PARALLEL_THRESHOLD</code> and
+ * <code>PARAMETER_PARALLELISM</code> to configure this behaviour.<br>
+ * <br>
+ * This is how to search values:<br>
+ * <br>
+ * <br>
+ * <code>&#47;&#47;&nbsp;Get&nbsp;an&nbsp;instance&nbsp;of&nbsp;a&nbsp;Key-Value&nbsp;Query&nbsp;interface.&nbsp;<br>KeyValueQueryView&nbsp;view&nbsp;=&nbsp;(KeyValueQueryView)&nbsp;datastoreService.&nbsp;<br>&nbsp;&nbsp;&nbsp;getView(&quot;hashtable-datastore&quot;);<br><br>&#47;&#47;&nbsp;Create&nbsp;the&nbsp;query.&nbsp;<br>Query&lt;User&gt;&nbsp;query&nbsp;=&nbsp;new&nbsp;Query&lt;User&gt;(scope,&nbsp;User.class);<br><br>&#47;&#47;&nbsp;Find&nbsp;users&nbsp;named&nbsp;Steve.&nbsp;<br>Where&nbsp;where&nbsp;=&nbsp;query.getWhere(true);<br>where.setExpression(where.createEqualToValue(&quot;name&quot;,&nbsp;&quot;Steve&quot;));<br><br>&#47;&#47;&nbsp;Run&nbsp;the&nbsp;query.&nbsp;<br>List&lt;User&gt;&nbsp;users&nbsp;=&nbsp;view.list(query);</code>
+ * <br>
+ * <br>
+ *
+ * @author Jose Schiaffino
+ * @version ${project.version}
+ */
+public final class HashtableQueryViewImpl extends AbstractDatastoreView implements KeyValueQueryView {
+
+	// ///////////////////////////////////////////////////////////////////
+	// CONSTANTS
+	// ///////////////////////////////////////////////////////////////////
+
+	// PARAMETERS
+
+	/**
+	 * Initialization parameter that specifies a comma separated list with the
+	 * attributes to index with hash indexes. This parameter is optional.
+	 */
+	public static final String PARAMETER_HASH_INDEXES = "hash-indexes";
+
+	/**
+	 * Initialization parameter that specifies a comma separated list with the
+	 * attributes to index with sorted indexes. This parameter is optional.
+	 */
+	public static final String PARAMETER_SORTED_INDEXES = "sorted-indexes";
+
+	/**
+	 * Initialization parameter that specifies the minimum number of values to
+	 * evaluate in parallel when a query cannot use indexes. Default value is
+	 * <code>10000</code>.
+	 */
+	public static final String PARAMETER_PARALLEL_THRESHOLD = "parallel-threshold";
+
+	/**
+	 * Initialization parameter that specifies how many threads can evaluate a
+	 * query in parallel. Default value is the number of available processors.
+	 * Set it to <code>1</code> to disable parallel evaluation.
+	 */
+	public static final String PARAMETER_PARALLELISM = "parallelism";
+
+	// DEFAULT VALUES
+
+	// Default minimum number of values to evaluate in parallel.
+	private static final int DEFAULT_PARALLEL_THRESHOLD = 10000;
+
+	// ///////////////////////////////////////////////////////////////////
+	// ATTRIBUTES
+	// ///////////////////////////////////////////////////////////////////
+
+	// Indexes by attribute name.
+	private Map<String, AttributeIndex> indexes = new HashMap<String, AttributeIndex>();
+
+	// Hashtable represented by the indexes.
+	private Object indexedConnection;
+
+	// Minimum number of values to evaluate in parallel.
+	private int parallelThreshold = DEFAULT_PARALLEL_THRESHOLD;
+
+	// Number of threads for parallel evaluation.
+	private int parallelism = Runtime.getRuntime().availableProcessors();
+
+	// Threads for parallel evaluation.
+	private ExecutorService executor;
+
+	// ///////////////////////////////////////////////////////////////////
+	// PUBLIC METHODS
+	// ///////////////////////////////////////////////////////////////////
+
+	/**
+	 * Gets the value to which the specified key is mapped in the Hashtable.
+	 *
+	 * @param key Hashtable key.<br>
+	 *            <br>
+	 * @return The value to which the specified key is mapped in the Hashtable.<br>
+	 *         <br>
+	 * @throws ClientException If there is an error when trying to get the value
+	 *                         from the Data Store.<br>
+	 *                         <br>
+	 */
+	public Object get(final Object key) throws ClientException {
+
+		// Validate the connection.
+		validateConnection("get the value of a key");
+
+		// Get the value to which the specified key is mapped in the Hashtable.
+		return getHashtable().get(key);
+
+	}
+
+	/**
+	 * Maps the specified key to the specified value in the Hashtable and updates
+	 * the indexes. Neither the key nor the value can be <code>null</code>.
+	 *
+	 * @param key   Key for the value.<br>
+	 *              <br>
+	 * @param value Value to set.<br>
+	 *              <br>
+	 * @throws ClientException If there is an error when trying to store the value
+	 *                         in the Data Store.<br>
+	 *                         <br>
+	 */
+	public void put(final Object key, final Object value) throws ClientException {
+
+		// Validate the connection.
+		validateConnection("add or update a key");
+
+		// Get the connection with the Data Store.
+		final Map<Object, Object> connection = getHashtable();
+
+		// Set the value and update the indexes.
+		synchronized (connection) {
+
+			// Set the value for the specified key.
+			connection.put(key, value);
+
+			// Index the value.
+			if (indexedConnection == connection) {
+				for (final Iterator<AttributeIndex> iterator = indexes.values().iterator(); iterator.hasNext();) {
+					iterator.next().add(key, value);
+				}
+			}
+
+		}
+
+		// Log a message.
+		getScopeFacade().log("WAREWORK successfully stored the value for key '" + key + "' in Data Store '"
+				+ getName() + "' of Service '" + getService().getName() + "'.", LogServiceConstants.LOG_LEVEL_DEBUG);
+
+	}
+
+	/**
+	 * Removes the key (and its corresponding value) from the Hashtable and from
+	 * the indexes.
+	 *
+	 * @param key Hashtable key.<br>
+	 *            <br>
+	 * @throws ClientException If there is an error when trying to remove the value
+	 *                         in the Data Store.<br>
+	 *                         <br>
+	 */
+	public void remove(final Object key) throws ClientException {
+
+		// Validate the connection.
+		validateConnection("delete a key");
+
+		// Get the connection with the Data Store.
+		final Map<Object, Object> connection = getHashtable();
+
+		// Remove the value and update the indexes.
+		synchronized (connection) {
+
+			// Remove the value from the Map.
+			connection.remove(key);
+
+			// Remove the value from the indexes.
+			if (indexedConnection == connection) {
+				for (final Iterator<AttributeIndex> iterator = indexes.values().iterator(); iterator.hasNext();) {
+					iterator.next().remove(key);
+				}
+			}
+
+		}
+
+		// Log a message.
+		getScopeFacade().log("WAREWORK successfully removed key '" + key + "' in Data Store '" + getName()
+				+ "' of Service '" + getService().getName() + "'.", LogServiceConstants.LOG_LEVEL_DEBUG);
+
+	}
+
+	/**
+	 * Gets an enumeration of the keys in the Hashtable.
+	 *
+	 * @return An enumeration of the keys in this Hashtable.<br>
+	 *         <br>
+	 * @throws ClientException If there is an error when trying to get the keys.<br>
+	 *                         <br>
+	 */
+	public Enumeration<Object> keys() throws ClientException {
+
+		// Validate the connection.
+		validateConnection("retrieve the keys");
+
+		// Return an enumeration of the keys.
+		return DataStructureL2Helper.toEnumeration(getHashtable().keySet());
+
+	}
+
+	/**
+	 * Counts the number of keys in the Data Store.
+	 *
+	 * @return Number of keys in the Data Store.<br>
+	 *         <br>
+	 * @throws ClientException If there is an error when trying to get the size.<br>
+	 *                         <br>
+	 */
+	public int size() throws ClientException {
+
+		// Validate the connection.
+		validateConnection("count the number of keys");
+
+		// Return the size of the map.
+		return getHashtable().size();
+
+	}
+
+	// ///////////////////////////////////////////////////////////////////
+
+	/**
+	 * Lists the values of the Hashtable that match a query. Only values that are
+	 * instances of the type defined in the query are returned.
+	 *
+	 * @param query Object that specifies what to search for. It defines the type
+	 *              of the object to search for, how to filter the result, which
+	 *              order to apply and the page to retrieve.<br>
+	 *              <br>
+	 * @param <E>   The type of objects to search for.<br>
+	 *              <br>
+	 * @return List of values from the Hashtable that matches the type and the
+	 *         WHERE clause of the given query.<br>
+	 *         <br>
+	 * @throws ClientException If there is an error when trying to list the values
+	 *                         in the Data Store.<br>
+	 *                         <br>
+	 */
+	public <E> List<E> list(final Query<E> query) throws ClientException {
+
+		// Validate the connection.
+		validateConnection("list values");
+
+		// Log a message.
+		getScopeFacade().log("WAREWORK is going to execute the following query in Data Store '" + getName()
+				+ "' of Service '" + getService().getName() + "':\n" + query.toString(),
+				LogServiceConstants.LOG_LEVEL_DEBUG);
+
+		// Search the values.
+		final List<E> found = search(query);
+
+		// Sort the values.
+		List<E> result = found;
+		if ((query.getOrderBy() != null) && (!query.getOrderBy().isEmpty())) {
+			result = new ArrayList<E>(found.size());
+			DataStructureL2Helper.sort(found, query.getOrderBy(), result);
+		}
+
+		// Extract the page.
+		if ((query.getPage() > 0) && (query.getPageSize() > 0)) {
+
+			// Get the page.
+			final List<E> page = new ArrayList<E>(query.getPageSize());
+			DataStructureL2Helper.page(result, query.getPage(), query.getPageSize(), page);
+
+			// Set the page as the result.
+			result = page;
+
+		}
+
+		// Log a message.
+		getScopeFacade().log("WAREWORK successfully executed the query in Data Store '" + getName() + "' of Service '"
+				+ getService().getName() + "'.", LogServiceConstants.LOG_LEVEL_DEBUG);
+
+		// Return the values.
+		return result;
+
+	}
+
+	/**
+	 * Counts the values of the Hashtable that match a query. Order and page of
+	 * the query are ignored.
+	 *
+	 * @param query Object that specifies what to search for. It defines the type
+	 *              of the object to search for and how to filter the result.<br>
+	 *              <br>
+	 * @param <E>   The type of objects to count.<br>
+	 *              <br>
+	 * @return Number of values found.<br>
+	 *         <br>
+	 * @throws ClientException If there is an error when trying to count the values
+	 *                         in the Data Store.<br>
+	 *                         <br>
+	 */
+	public <E> int count(final Query<E> query) throws ClientException {
+
+		// Validate the connection.
+		validateConnection("count values");
+
+		// Count the values.
+		return search(query).size();
+
+	}
+
+	// ///////////////////////////////////////////////////////////////////
+
+	/**
+	 * Closes the connection with the Data Store, releases the threads used for
+	 * parallel evaluation and clears the indexes.
+	 *
+	 * @throws ClientException If there is an error when trying to close the
+	 *                         connection.<br>
+	 *                         <br>
+	 */
+	public void disconnect() throws ClientException {
+
+		// Close the connection.
+		super.disconnect();
+
+		// Release resources.
+		synchronized (indexes) {
+
+			// Stop the threads.
+			if (executor != null) {
+				executor.shutdown();
+				executor = null;
+			}
+
+			// Clear the indexes.
+			for (final Iterator<AttributeIndex> iterator = indexes.values().iterator(); iterator.hasNext();) {
+				iterator.next().clear();
+			}
+
+			// Indexes do not represent any Hashtable now.
+			indexedConnection = null;
+
+		}
+
+	}
+
+	// ///////////////////////////////////////////////////////////////////
+	// PROTECTED METHODS
+	// ///////////////////////////////////////////////////////////////////
+
+	/**
+	 * Initializes the View.
+	 *
+	 * @throws ClientException If there is an error when trying to initialize the
+	 *                         View.<br>
+	 *                         <br>
+	 */
+	protected void initialize() throws ClientException {
+
+		// Validate the Data Store.
+		if (!getDatastore().getConnector().getClientType().equals(HashtableDatastore.class)) {
+			throw new ClientException(getScopeFacade(),
+					"WAREWORK cannot add View '" + getClass().getName() + "' in Data Store '" + getName()
+							+ "' because this View only works with '" + HashtableDatastore.class.getName()
+							+ "' and the Data Store where you want to add this View is an instance of '"
+							+ getDatastore().getConnector().getClientType() + "'.",
+					null, LogServiceConstants.LOG_LEVEL_WARN);
+		}
+
+		// Create the indexes.
+		initIndexes(PARAMETER_HASH_INDEXES, false);
+		initIndexes(PARAMETER_SORTED_INDEXES, true);
+
+		// Setup parallel evaluation.
+		parallelThreshold = initInteger(PARAMETER_PARALLEL_THRESHOLD, parallelThreshold);
+		parallelism = initInteger(PARAMETER_PARALLELISM, parallelism);
+
+	}
+
+	// ///////////////////////////////////////////////////////////////////
+	// PRIVATE METHODS
+	// ///////////////////////////////////////////////////////////////////
+
+	/**
+	 * Gets the Hashtable of the Data Store.
+	 *
+	 * @return Hashtable.<br>
+	 *         <br>
+	 */
+	@SuppressWarnings("unchecked")
+	private Map<Object, Object> getHashtable() {
+		return (Map<Object, Object>) getConnection();
+	}
+
+	/**
+	 * Searches the values that match the type and the WHERE clause of a query.
+	 *
+	 * @param query Query.<br>
+	 *              <br>
+	 * @param <E>   The type of objects to search for.<br>
+	 *              <br>
+	 * @return Values found.<br>
+	 *         <br>
+	 * @throws ClientException If there is an error when trying to evaluate the
+	 *                         query.<br>
+	 *                         <br>
+	 */
+	private <E> List<E> search(final Query<E> query) throws ClientException {
+
+		// Get the expression to evaluate.
+		final AbstractExpression expression = (query.getWhere() == null) ? null : query.getWhere().getExpression();
+
+		// Get the connection with the Data Store.
+		final Map<Object, Object> connection = getHashtable();
+
+		// Values to evaluate.
+		final List<Object> values;
+
+		// Collect the values while the Hashtable cannot be modified.
+		synchronized (connection) {
+
+			// Keys of the values that may match the query.
+			Set<Object> candidates = null;
+			if ((expression != null) && (!indexes.isEmpty())) {
+
+				// Build the indexes for this Hashtable when required.
+				if (indexedConnection != connection) {
+					buildIndexes(connection);
+				}
+
+				// Search in the indexes.
+				candidates = findCandidates(expression);
+
+			}
+
+			// Get the values.
+			if (candidates == null) {
+				values = new ArrayList<Object>(connection.values());
+			} else {
+
+				// Create the list for the values.
+				values = new ArrayList<Object>(candidates.size());
+
+				// Get the value of each candidate key.
+				for (final Iterator<Object> iterator = candidates.iterator(); iterator.hasNext();) {
+
+					// Get the value.
+					final Object value = connection.get(iterator.next());
+
+					// Add the value if it still exists.
+					if (value != null) {
+						values.add(value);
+					}
+
+				}
+
+			}
+
+		}
+
+		// Evaluate the values.
+		try {
+			if ((values.size() >= parallelThreshold) && (parallelism > 1)) {
+				return filterParallel(query, values);
+			} else {
+				return filter(query, values, 0, values.size());
+			}
+		} catch (final Exception e) {
+			throw new ClientException(getScopeFacade(),
+					"WAREWORK cannot execute the following query in Data Store '" + getName() + "' at Service '"
+							+ getService().getName() + "' because the following error was found: "
+							+ ((e instanceof ExecutionException) ? e.getCause() : e) + "\n" + query.toString(),
+					e, LogServiceConstants.LOG_LEVEL_WARN);
+		}
+
+	}
+
+	/**
+	 * Gets the keys of the values that may match an expression with the indexes.
+	 *
+	 * @param expression Expression to resolve.<br>
+	 *                   <br>
+	 * @return Candidate keys or <code>null</code> if the expression cannot be
+	 *         resolved with the indexes.<br>
+	 *         <br>
+	 */
+	private Set<Object> findCandidates(final AbstractExpression expression) {
+		if (expression instanceof And) {
+
+			// Intersection of the sub-expressions that can be resolved.
+			Set<Object> result = null;
+			for (final Iterator<AbstractExpression> iterator = ((And) expression).getExpressions()
+					.iterator(); iterator.hasNext();) {
+
+				// Resolve the sub-expression.
+				final Set<Object> candidates = findCandidates(iterator.next());
+
+				// Intersect the candidates.
+				if (candidates != null) {
+					if (result == null) {
+						result = candidates;
+					} else {
+						result.retainAll(candidates);
+					}
+				}
+
+			}
+
+			// Return the intersection.
+			return result;
+
+		} else if (expression instanceof Or) {
+
+			// Get the expression.
+			final Or or = (Or) expression;
+
+			// Empty expressions do not filter anything.
+			if (or.isEmpty()) {
+				return null;
+			}
+
+			// Union of every sub-expression.
+			final Set<Object> result = new HashSet<Object>();
+			for (final Iterator<AbstractExpression> iterator = or.getExpressions().iterator(); iterator.hasNext();) {
+
+				// Resolve the sub-expression.
+				final Set<Object> candidates = findCandidates(iterator.next());
+
+				// Every sub-expression must be resolved with the indexes.
+				if (candidates == null) {
+					return null;
+				} else {
+					result.addAll(candidates);
+				}
+
+			}
+
+			// Return the union.
+			return result;
+
+		} else if (expression instanceof OperandlessExpression) {
+
+			// Get the expression.
+			final OperandlessExpression operandless = (OperandlessExpression) expression;
+
+			// Get the index of the attribute.
+			final AttributeIndex index = indexes.get(operandless.getAttribute());
+
+			// Validate that index can resolve the expression.
+			if ((index != null) && (index.supports(operandless.getOperator()))) {
+				if (expression instanceof AbstractOperandExpression) {
+
+					// Get the value of the expression.
+					final Object value = ((AbstractOperandExpression) expression).getValue();
+
+					// Expressions without value are ignored.
+					if (value != null) {
+						return index.lookup(operandless.getOperator(), value);
+					}
+
+				} else {
+					return index.lookup(operandless.getOperator(), null);
+				}
+			}
+
+		}
+
+		// At this point, expression cannot be resolved with the indexes.
+		return null;
+
+	}
+
+	/**
+	 * Evaluates a range of values.
+	 *
+	 * @param query  Query.<br>
+	 *               <br>
+	 * @param values Values to evaluate.<br>
+	 *               <br>
+	 * @param from   First position to evaluate (inclusive).<br>
+	 *               <br>
+	 * @param to     Last position to evaluate (exclusive).<br>
+	 *               <br>
+	 * @param <E>    The type of objects to search for.<br>
+	 *               <br>
+	 * @return Values that match the query.<br>
+	 *         <br>
+	 * @throws Exception If there is an error when trying to evaluate a value.<br>
+	 *                   <br>
+	 */
+	private static <E> List<E> filter(final Query<E> query, final List<Object> values, final int from, final int to)
+			throws Exception {
+
+		// Values that match the query.
+		final List<E> result = new ArrayList<E>();
+
+		// Evaluate each value.
+		for (int i = from; i < to; i++) {
+
+			// Get the value.
+			final Object value = values.get(i);
+
+			// Add the value when it matches the type and the WHERE clause.
+			if ((query.getObject().isInstance(value)) && (QueryEvaluator.matches(value, query.getWhere()))) {
+				result.add(query.getObject().cast(value));
+			}
+
+		}
+
+		// Return the values found.
+		return result;
+
+	}
+
+	/**
+	 * Evaluates the values in parallel. Values are split into chunks that are
+	 * evaluated by different threads and the results are joined in the original
+	 * order.
+	 *
+	 * @param query  Query.<br>
+	 *               <br>
+	 * @param values Values to evaluate.<br>
+	 *               <br>
+	 * @param <E>    The type of objects to search for.<br>
+	 *               <br>
+	 * @return Values that match the query.<br>
+	 *         <br>
+	 * @throws Exception If there is an error when trying to evaluate a value.<br>
+	 *                   <br>
+	 */
+	private <E> List<E> filterParallel(final Query<E> query, final List<Object> values) throws Exception {
+
+		// Size of each chunk.
+		final int chunk = (values.size() + parallelism - 1) / parallelism;
+
+		// Results of each chunk.
+		final List<Future<List<E>>> tasks = new ArrayList<Future<List<E>>>(parallelism);
+
+		// Evaluate each chunk.
+		final ExecutorService threads = getExecutor();
+		for (int from = 0; from < values.size(); from = from + chunk) {
+
+			// Range of the chunk.
+			final int start = from;
+			final int end = Math.min(from + chunk, values.size());
+
+			// Evaluate the chunk.
+			tasks.add(threads.submit(new Callable<List<E>>() {
+				public List<E> call() throws Exception {
+					return filter(query, values, start, end);
+				}
+			}));
+
+		}
+
+		// Join the results.
+		final List<E> result = new ArrayList<E>();
+		for (final Iterator<Future<List<E>>> iterator = tasks.iterator(); iterator.hasNext();) {
+			result.addAll(iterator.next().get());
+		}
+
+		// Return the values found.
+		return result;
+
+	}
+
+	/**
+	 * Gets the threads for parallel evaluation.
+	 *
+	 * @return Threads.<br>
+	 *         <br>
+	 */
+	private ExecutorService getExecutor() {
+		synchronized (indexes) {
+
+			// Create the threads when required.
+			if (executor == null) {
+				executor = ThreadL1Helper.createDaemonThreadPool(parallelism, "warework-" + getName() + "-query");
+			}
+
+			// Return the threads.
+			return executor;
+
+		}
+	}
+
+	/**
+	 * Indexes every value of a Hashtable. Invoke this method while the Hashtable
+	 * is locked.
+	 *
+	 * @param connection Hashtable.<br>
+	 *                   <br>
+	 */
+	private void buildIndexes(final Map<Object, Object> connection) {
+		for (final Iterator<AttributeIndex> iterator = indexes.values().iterator(); iterator.hasNext();) {
+
+			// Get the index.
+			final AttributeIndex index = iterator.next();
+
+			// Clear previous values.
+			index.clear();
+
+			// Index each value.
+			for (final Iterator<Map.Entry<Object, Object>> entries = connection.entrySet().iterator(); entries
+					.hasNext();) {
+
+				// Get the entry.
+				final Map.Entry<Object, Object> entry = entries.next();
+
+				// Index the value.
+				index.add(entry.getKey(), entry.getValue());
+
+			}
+
+		}
+
+		// Indexes represent this Hashtable now.
+		indexedConnection = connection;
+
+	}
+
+	/**
+	 * Creates the indexes defined in an initialization parameter.
+	 *
+	 * @param parameter Name of the initialization parameter.<br>
+	 *                  <br>
+	 * @param sorted    Sorted or hash indexes.<br>
+	 *                  <br>
+	 */
+	private void initIndexes(final String parameter, final boolean sorted) {
+
+		// Get the attributes to index.
+		final Object value = getInitParameter(parameter);
+
+		// Create one index for each attribute.
+		if (value instanceof String) {
+
+			// Get the names of the attributes.
+			final String[] attributes = ((String) value).split(StringL2Helper.CHARACTER_COMMA);
+
+			// Create the indexes.
+			for (int i = 0; i < attributes.length; i++) {
+
+				// Get the name of the attribute.
+				final String attribute = attributes[i].trim();
+
+				// Create the index.
+				if (attribute.length() > 0) {
+					indexes.put(attribute, new AttributeIndex(attribute, sorted));
+				}
+
+			}
+
+		}
+
+	}
+
+	/**
+	 * Gets the value of an integer initialization parameter.
+	 *
+	 * @param parameter    Name of the initialization parameter.<br>
+	 *                     <br>
+	 * @param defaultValue Value to return when the parameter is not defined.<br>
+	 *                     <br>
+	 * @return Value of the parameter.<br>
+	 *         <br>
+	 * @throws ClientException If the value of the parameter is not a valid
+	 *                         number.<br>
+	 *                         <br>
+	 */
+	private int initInteger(final String parameter, final int defaultValue) throws ClientException {
+
+		// Get the value of the parameter.
+		final Object value = getInitParameter(parameter);
+
+		// Parse the value.
+		if (value instanceof Integer) {
+			return ((Integer) value).intValue();
+		} else if (value instanceof String) {
+			try {
+				return Integer.parseInt(((String) value).trim());
+			} catch (final NumberFormatException e) {
+				throw new ClientException(getScopeFacade(),
+						"WAREWORK cannot add View '" + getClass().getName() + "' in Data Store '" + getName()
+								+ "' because the value of parameter '" + parameter + "' is not a valid '"
+								+ Integer.class.getName() + "' number (given value is '" + value + "').",
+						e, LogServiceConstants.LOG_LEVEL_WARN);
+			}
+		} else {
+			return defaultValue;
+		}
+
+	}
+
+}
@@ -0,0 +1,410 @@
+package com.warework.service.datastore.query.oo;
+
+import java.math.BigDecimal;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Set;
+import java.util.SortedMap;
+import java.util.TreeMap;
+
+import com.warework.core.util.helper.ReflectionL2Helper;
+
+/**
+ * Secondary index for the values of an attribute of beans stored in memory.
+ * Each bean is referenced by the key that it has in its container (for
+ * example: the key of a Hashtable) and the index maps the value of the
+ * attribute into the keys of the beans that have this value.<br>
+ * <br>
+ * Hash indexes resolve <code>EQUAL_TO</code> and <code>IS_NULL</code>
+ * expressions. Sorted indexes also resolve <code>LESS_THAN</code>,
+ * <code>LESS_THAN_OR_EQUAL_TO</code>, <code>GREATER_THAN</code> and
+ * <code>GREATER_THAN_OR_EQUAL_TO</code> expressions. Lookups return candidate
+ * keys that must be validated later with <code>QueryEvaluator</code>, so beans
+ * with values that cannot be indexed are always included as candidates.<br>
+ * <br>
+ * This class is not thread-safe.
+ *
+ * @author Jose Schiaffino
+ * @version ${project.version}
+ */
+public final class AttributeIndex {
+
+	// ///////////////////////////////////////////////////////////////////
+	// CONSTANTS
+	// ///////////////////////////////////////////////////////////////////
+
+	// Comparator for sorted indexes.
+	private static final Comparator<Object> COMPARATOR = new Comparator<Object>() {
+		public int compare(final Object value1, final Object value2) {
+			return QueryEvaluator.compare(value1, value2);
+		}
+	};
+
+	// ///////////////////////////////////////////////////////////////////
+	// ATTRIBUTES
+	// ///////////////////////////////////////////////////////////////////
+
+	// Name of the indexed attribute.
+	private String attribute;
+
+	// Sorted or hash index.
+	private boolean sorted;
+
+	// Keys of the beans for each value of the attribute.
+	private Map<Object, Set<Object>> entries;
+
+	// Indexed value for each key.
+	private Map<Object, Object> values = new HashMap<Object, Object>();
+
+	// Keys of the beans where the attribute is null.
+	private Set<Object> nullKeys = new HashSet<Object>();
+
+	// Keys of the beans where the attribute cannot be indexed.
+	private Set<Object> unindexedKeys = new HashSet<Object>();
+
+	// Type of the values in sorted indexes.
+	private Class<?> family;
+
+	// ///////////////////////////////////////////////////////////////////
+	// CONSTRUCTORS
+	// ///////////////////////////////////////////////////////////////////
+
+	/**
+	 * Creates an index for an attribute.
+	 *
+	 * @param attribute Name of the attribute to index. Dot notation is supported
+	 *                  to index attributes of nested beans.<br>
+	 *                  <br>
+	 * @param sorted    <code>true</code> to create a sorted index that resolves
+	 *                  range expressions and <code>false</code> to create a hash
+	 *                  index that only resolves equality expressions.<br>
+	 *                  <br>
+	 */
+	public AttributeIndex(final String attribute, final boolean sorted) {
+
+		// Set the attribute.
+		this.attribute = attribute;
+
+		// Set the type of index.
+		this.sorted = sorted;
+
+		// Create the index.
+		if (sorted) {
+			entries = new TreeMap<Object, Set<Object>>(COMPARATOR);
+		} else {
+			entries = new HashMap<Object, Set<Object>>();
+		}
+
+	}
+
+	// ///////////////////////////////////////////////////////////////////
+	// PUBLIC METHODS
+	// ///////////////////////////////////////////////////////////////////
+
+	/**
+	 * Gets the name of the indexed attribute.
+	 *
+	 * @return Name of the attribute.<br>
+	 *         <br>
+	 */
+	public String getAttribute() {
+		return attribute;
+	}
+
+	/**
+	 * Specifies if this is a sorted index.
+	 *
+	 * @return <code>true</code> if the index is sorted and <code>false</code> if
+	 *         it is a hash index.<br>
+	 *         <br>
+	 */
+	public boolean isSorted() {
+		return sorted;
+	}
+
+	/**
+	 * Decides if this index can resolve an operator.
+	 *
+	 * @param operator Operator to validate.<br>
+	 *                 <br>
+	 * @return <code>true</code> if <code>lookup</code> can resolve the operator.<br>
+	 *         <br>
+	 */
+	public boolean supports(final Operator operator) {
+		if ((operator.equals(Operator.EQUAL_TO)) || (operator.equals(Operator.IS_NULL))) {
+			return true;
+		} else if (sorted) {
+			return (operator.equals(Operator.LESS_THAN)) || (operator.equals(Operator.LESS_THAN_OR_EQUAL_TO))
+					|| (operator.equals(Operator.GREATER_THAN))
+					|| (operator.equals(Operator.GREATER_THAN_OR_EQUAL_TO));
+		} else {
+			return false;
+		}
+	}
+
+	// ///////////////////////////////////////////////////////////////////
+
+	/**
+	 * Indexes a bean. If the key is already indexed, the previous entry is
+	 * replaced.
+	 *
+	 * @param key  Key of the bean in its container.<br>
+	 *             <br>
+	 * @param bean Bean to index.<br>
+	 *             <br>
+	 */
+	public void add(final Object key, final Object bean) {
+
+		// Remove previous entry.
+		remove(key);
+
+		// Get the value of the attribute.
+		Object value = null;
+		try {
+			value = ReflectionL2Helper.getAttributeValue(bean, attribute);
+		} catch (final Exception e) {
+			unindexedKeys.add(key);
+			return;
+		}
+
+		// Index the value.
+		if (value == null) {
+			nullKeys.add(key);
+		} else if (isIndexable(value)) {
+
+			// Get the key used in the index.
+			final Object indexValue = QueryEvaluator.normalize(value);
+
+			// Get the keys for this value.
+			Set<Object> keys = entries.get(indexValue);
+			if (keys == null) {
+				keys = new HashSet<Object>();
+				entries.put(indexValue, keys);
+			}
+
+			// Index the key.
+			keys.add(key);
+			values.put(key, indexValue);
+
+		} else {
+			unindexedKeys.add(key);
+		}
+
+	}
+
+	/**
+	 * Removes a bean from the index.
+	 *
+	 * @param key Key of the bean in its container.<br>
+	 *            <br>
+	 */
+	public void remove(final Object key) {
+
+		// Get the indexed value.
+		final Object indexValue = values.remove(key);
+
+		// Remove the key from the index.
+		if (indexValue != null) {
+
+			// Get the keys for the value.
+			final Set<Object> keys = entries.get(indexValue);
+
+			// Remove the key and the value when it is not used anymore.
+			if (keys != null) {
+				keys.remove(key);
+				if (keys.isEmpty()) {
+					entries.remove(indexValue);
+				}
+			}
+
+		} else if (!nullKeys.remove(key)) {
+			unindexedKeys.remove(key);
+		}
+
+	}
+
+	/**
+	 * Removes every bean from the index.
+	 */
+	public void clear() {
+		entries.clear();
+		values.clear();
+		nullKeys.clear();
+		unindexedKeys.clear();
+		family = null;
+	}
+
+	// ///////////////////////////////////////////////////////////////////
+
+	/**
+	 * Gets the keys of the beans that may satisfy an expression.
+	 *
+	 * @param operator Operator of the expression. It must be supported by this
+	 *                 index.<br>
+	 *                 <br>
+	 * @param operand  Value of the expression.<br>
+	 *                 <br>
+	 * @return Candidate keys. Every key of a bean that satisfies the expression
+	 *         is included.<br>
+	 *         <br>
+	 */
+	public Set<Object> lookup(final Operator operator, final Object operand) {
+
+		// Beans that cannot be indexed are always candidates.
+		final Set<Object> result = new HashSet<Object>(unindexedKeys);
+
+		// Search in the index.
+		if (operator.equals(Operator.IS_NULL)) {
+			result.addAll(nullKeys);
+		} else if ((operand != null) && (isCompatible(operand))) {
+
+			// Get the key used in the index.
+			final Object indexValue = QueryEvaluator.normalize(operand);
+
+			// Search the values.
+			if (operator.equals(Operator.EQUAL_TO)) {
+				addKeys(entries.get(indexValue), result);
+			} else {
+
+				// Get the sorted index.
+				final SortedMap<Object, Set<Object>> sortedEntries = (SortedMap<Object, Set<Object>>) entries;
+
+				// Search the range.
+				if (operator.equals(Operator.LESS_THAN)) {
+					addKeys(sortedEntries.headMap(indexValue).values(), result);
+				} else if (operator.equals(Operator.LESS_THAN_OR_EQUAL_TO)) {
+					addKeys(sortedEntries.headMap(indexValue).values(), result);
+					addKeys(sortedEntries.get(indexValue), result);
+				} else if (operator.equals(Operator.GREATER_THAN)) {
+					addKeys(sortedEntries.tailMap(indexValue).values(), result);
+					final Set<Object> equal = sortedEntries.get(indexValue);
+					if (equal != null) {
+						result.removeAll(equal);
+					}
+				} else {
+					addKeys(sortedEntries.tailMap(indexValue).values(), result);
+				}
+
+			}
+
+		}
+
+		// Return the candidates.
+		return result;
+
+	}
+
+	// ///////////////////////////////////////////////////////////////////
+	// PRIVATE METHODS
+	// ///////////////////////////////////////////////////////////////////
+
+	/**
+	 * Validates if a value can be stored in this index.
+	 *
+	 * @param value Value of the attribute.<br>
+	 *              <br>
+	 * @return <code>true</code> if the value can be indexed.<br>
+	 *         <br>
+	 */
+	private boolean isIndexable(final Object value) {
+		if (!sorted) {
+			return true;
+		} else if ((!(value instanceof Comparable<?>)) || (!isOrdered(value))) {
+			return false;
+		} else if (family == null) {
+
+			// The first value decides the type of the values in the index.
+			family = getFamily(value);
+
+			// At this point, value can be indexed.
+			return true;
+
+		} else {
+			return family.equals(getFamily(value));
+		}
+	}
+
+	/**
+	 * Validates if an operand can be searched in this index.
+	 *
+	 * @param operand Value of the expression.<br>
+	 *                <br>
+	 * @return <code>true</code> if the operand can be searched.<br>
+	 *         <br>
+	 */
+	private boolean isCompatible(final Object operand) {
+		if (!sorted) {
+			return true;
+		} else if (family == null) {
+			return false;
+		} else {
+			return (operand instanceof Comparable<?>) && (isOrdered(operand)) && (family.equals(getFamily(operand)));
+		}
+	}
+
+	/**
+	 * Validates that a number has a decimal value (for example: it is not
+	 * <code>NaN</code>), so it can be compared with numbers of other types.
+	 *
+	 * @param value Value.<br>
+	 *              <br>
+	 * @return <code>true</code> if the value is not a number or if it is a
+	 *         number with a decimal value.<br>
+	 *         <br>
+	 */
+	private static boolean isOrdered(final Object value) {
+		return (!(value instanceof Number)) || (QueryEvaluator.normalize(value) instanceof BigDecimal);
+	}
+
+	/**
+	 * Gets the type used to decide if two values can be compared.
+	 *
+	 * @param value Value.<br>
+	 *              <br>
+	 * @return Type of the value.<br>
+	 *         <br>
+	 */
+	private static Class<?> getFamily(final Object value) {
+		if (value instanceof Number) {
+			return Number.class;
+		} else if (value instanceof Date) {
+			return Date.class;
+		} else {
+			return value.getClass();
+		}
+	}
+
+	/**
+	 * Copies keys into a set.
+	 *
+	 * @param source Keys to copy.<br>
+	 *               <br>
+	 * @param target Where to copy the keys.<br>
+	 *               <br>
+	 */
+	private static void addKeys(final Set<Object> source, final Set<Object> target) {
+		if (source != null) {
+			target.addAll(source);
+		}
+	}
+
+	/**
+	 * Copies groups of keys into a set.
+	 *
+	 * @param source Groups of keys to copy.<br>
+	 *               <br>
+	 * @param target Where to copy the keys.<br>
+	 *               <br>
+	 */
+	private static void addKeys(final Collection<Set<Object>> source, final Set<Object> target) {
+		for (final Iterator<Set<Object>> iterator = source.iterator(); iterator.hasNext();) {
+			target.addAll(iterator.next());
+		}
+	}
+
+}
@@ -91,6 +91,24 @@ public final class Query<E> implements Serializable {
 		this.object = object;
 	}
 
+	/**
+	 * Creates a copy of a query. The copy shares the WHERE and ORDER BY clauses
+	 * with the given query, so only its name, page and parameters can be changed
+	 * without changing the given query.
+	 * 
+	 * @param query Query to copy.<br>
+	 *              <br>
+	 */
+	public Query(final Query<E> query) {
+		this(query.scope, query.object);
+		this.name = query.name;
+		this.where = query.where;
+		this.orderBy = query.orderBy;
+		this.pageNumber = query.pageNumber;
+		this.pageResults = query.pageResults;
+		this.parameters = (query.parameters == null) ? null : new HashMap<String, Object>(query.parameters);
+	}
+
 	// ///////////////////////////////////////////////////////////////////
 	// PUBLIC METHODS
 	// ///////////////////////////////////////////////////////////////////
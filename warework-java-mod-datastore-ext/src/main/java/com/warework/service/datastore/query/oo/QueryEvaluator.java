@@ -0,0 +1,403 @@
+package com.warework.service.datastore.query.oo;
+
+import java.lang.reflect.Array;
+import java.math.BigDecimal;
+import java.util.Collection;
+import java.util.Date;
+import java.util.Iterator;
+import java.util.Map;
+
+import com.warework.core.util.helper.ReflectionL2Helper;
+
+/**
+ * Evaluates the expressions of a WHERE clause against objects that exist in
+ * memory. This class allows to filter beans with the same Object-Oriented
+ * queries used in Object Data Stores, without the need of a database.<br>
+ * <br>
+ * Supported operators are <code>EQUAL_TO</code>, <code>NOT_EQUAL_TO</code>,
+ * <code>LESS_THAN</code>, <code>LESS_THAN_OR_EQUAL_TO</code>,
+ * <code>GREATER_THAN</code>, <code>GREATER_THAN_OR_EQUAL_TO</code>,
+ * <code>IS_NULL</code>, <code>IS_NOT_NULL</code>, <code>LIKE</code> (with
+ * <code>%</code> and <code>_</code> wildcards), <code>NOT_LIKE</code>,
+ * <code>CONTAINS</code> and <code>NOT_CONTAINS</code>. Expressions with a
+ * <code>null</code> operand are ignored, just like they are ignored when the
+ * query is represented as a String.
+ *
+ * @author Jose Schiaffino
+ * @version ${project.version}
+ */
+public final class QueryEvaluator {
+
+	// ///////////////////////////////////////////////////////////////////
+	// CONSTANTS
+	// ///////////////////////////////////////////////////////////////////
+
+	// Wildcard for any sequence of characters in LIKE expressions.
+	private static final char WILDCARD_ANY = '%';
+
+	// Wildcard for a single character in LIKE expressions.
+	private static final char WILDCARD_ONE = '_';
+
+	// ///////////////////////////////////////////////////////////////////
+	// CONSTRUCTORS
+	// ///////////////////////////////////////////////////////////////////
+
+	/**
+	 * Default constructor.
+	 */
+	private QueryEvaluator() {
+		// DO NOTHING.
+	}
+
+	// ///////////////////////////////////////////////////////////////////
+	// PUBLIC METHODS
+	// ///////////////////////////////////////////////////////////////////
+
+	/**
+	 * Decides if a bean satisfies the WHERE clause of a query.
+	 *
+	 * @param bean  Object to validate.<br>
+	 *              <br>
+	 * @param where WHERE clause. If it is <code>null</code> or it does not have
+	 *              an expression, then every bean matches.<br>
+	 *              <br>
+	 * @return <code>true</code> if the bean matches the WHERE clause and
+	 *         <code>false</code> if not.<br>
+	 *         <br>
+	 * @throws Exception If there is an error when trying to read the value of an
+	 *                   attribute in the bean.<br>
+	 *                   <br>
+	 */
+	public static boolean matches(final Object bean, final Where where) throws Exception {
+		return (where == null) ? true : matches(bean, where.getExpression());
+	}
+
+	/**
+	 * Decides if a bean satisfies an expression.
+	 *
+	 * @param bean       Object to validate.<br>
+	 *                   <br>
+	 * @param expression Expression to evaluate. If it is <code>null</code> then
+	 *                   every bean matches.<br>
+	 *                   <br>
+	 * @return <code>true</code> if the bean matches the expression and
+	 *         <code>false</code> if not.<br>
+	 *         <br>
+	 * @throws Exception If there is an error when trying to read the value of an
+	 *                   attribute in the bean.<br>
+	 *                   <br>
+	 */
+	public static boolean matches(final Object bean, final AbstractExpression expression) throws Exception {
+		if (expression == null) {
+			return true;
+		} else if (expression instanceof And) {
+
+			// Every sub-expression must match.
+			for (final Iterator<AbstractExpression> iterator = ((And) expression).getExpressions()
+					.iterator(); iterator.hasNext();) {
+				if (!matches(bean, iterator.next())) {
+					return false;
+				}
+			}
+
+			// At this point, every sub-expression matches.
+			return true;
+
+		} else if (expression instanceof Or) {
+
+			// Get the OR expression.
+			final Or or = (Or) expression;
+
+			// Empty expressions do not filter anything.
+			if (or.isEmpty()) {
+				return true;
+			}
+
+			// Any sub-expression must match.
+			for (final Iterator<AbstractExpression> iterator = or.getExpressions().iterator(); iterator.hasNext();) {
+				if (matches(bean, iterator.next())) {
+					return true;
+				}
+			}
+
+			// At this point, no sub-expression matches.
+			return false;
+
+		} else if (expression instanceof Not) {
+
+			// Get the negated expression.
+			final AbstractExpression negated = ((Not) expression).getExpression();
+
+			// Negate only when there is something to negate.
+			return (negated == null) ? true : !matches(bean, negated);
+
+		} else if (expression instanceof AbstractOperandExpression) {
+
+			// Get the expression.
+			final AbstractOperandExpression operandExpression = (AbstractOperandExpression) expression;
+
+			// Get the value to compare with.
+			final Object operand = operandExpression.getValue();
+
+			// Expressions without value are ignored.
+			if (operand == null) {
+				return true;
+			}
+
+			// Evaluate the expression.
+			return evaluate(ReflectionL2Helper.getAttributeValue(bean, operandExpression.getAttribute()),
+					operandExpression.getOperator(), operand);
+
+		} else if (expression instanceof OperandlessExpression) {
+
+			// Get the expression.
+			final OperandlessExpression operandlessExpression = (OperandlessExpression) expression;
+
+			// Evaluate the expression.
+			return evaluate(ReflectionL2Helper.getAttributeValue(bean, operandlessExpression.getAttribute()),
+					operandlessExpression.getOperator(), null);
+
+		}
+
+		// At this point, expression is not supported.
+		throw new IllegalArgumentException("WAREWORK cannot evaluate expression '" + expression
+				+ "' because its type '" + expression.getClass().getName() + "' is not supported.");
+
+	}
+
+	/**
+	 * Evaluates an operator with the value of an attribute and an operand.
+	 *
+	 * @param value    Value of the attribute.<br>
+	 *                 <br>
+	 * @param operator Operator to apply.<br>
+	 *                 <br>
+	 * @param operand  Value to compare with. It is ignored with
+	 *                 <code>IS_NULL</code> and <code>IS_NOT_NULL</code>
+	 *                 operators.<br>
+	 *                 <br>
+	 * @return <code>true</code> if the operation is satisfied and
+	 *         <code>false</code> if not.<br>
+	 *         <br>
+	 */
+	public static boolean evaluate(final Object value, final Operator operator, final Object operand) {
+		if (operator.equals(Operator.IS_NULL)) {
+			return (value == null);
+		} else if (operator.equals(Operator.IS_NOT_NULL)) {
+			return (value != null);
+		} else if (operator.equals(Operator.EQUAL_TO)) {
+			return isEqual(value, operand);
+		} else if (operator.equals(Operator.NOT_EQUAL_TO)) {
+			return !isEqual(value, operand);
+		} else if (operator.equals(Operator.LIKE)) {
+			return (value != null) && isLike(value.toString(), operand.toString());
+		} else if (operator.equals(Operator.NOT_LIKE)) {
+			return (value == null) || !isLike(value.toString(), operand.toString());
+		} else if (operator.equals(Operator.CONTAINS)) {
+			return (value != null) && contains(value, operand);
+		} else if (operator.equals(Operator.NOT_CONTAINS)) {
+			return (value == null) || !contains(value, operand);
+		} else if ((value == null) || (operand == null) || (!isComparable(value, operand))) {
+			return false;
+		}
+
+		// Compare both values.
+		final int result = compare(value, operand);
+
+		// Evaluate the range operators.
+		if (operator.equals(Operator.LESS_THAN)) {
+			return (result < 0);
+		} else if (operator.equals(Operator.LESS_THAN_OR_EQUAL_TO)) {
+			return (result <= 0);
+		} else if (operator.equals(Operator.GREATER_THAN)) {
+			return (result > 0);
+		} else {
+			return (result >= 0);
+		}
+
+	}
+
+	// ///////////////////////////////////////////////////////////////////
+
+	/**
+	 * Decides if two values can be compared with <code>compare</code>.
+	 *
+	 * @param value1 First value.<br>
+	 *               <br>
+	 * @param value2 Second value.<br>
+	 *               <br>
+	 * @return <code>true</code> if both values are numbers or if both values are
+	 *         comparable objects of the same type.<br>
+	 *         <br>
+	 */
+	public static boolean isComparable(final Object value1, final Object value2) {
+		if ((value1 instanceof Number) && (value2 instanceof Number)) {
+			return (value1 instanceof Comparable<?>) && (value2 instanceof Comparable<?>);
+		} else if ((value1 instanceof Date) && (value2 instanceof Date)) {
+			return true;
+		} else {
+			return (value1 instanceof Comparable<?>) && (value1.getClass().equals(value2.getClass()));
+		}
+	}
+
+	/**
+	 * Compares two values. Numbers of different types are compared by their
+	 * decimal value.
+	 *
+	 * @param value1 First value.<br>
+	 *               <br>
+	 * @param value2 Second value.<br>
+	 *               <br>
+	 * @return A negative integer, zero, or a positive integer as the first value
+	 *         is less than, equal to, or greater than the second value.<br>
+	 *         <br>
+	 */
+	@SuppressWarnings("unchecked")
+	public static int compare(final Object value1, final Object value2) {
+		if ((value1 instanceof Number) && (value2 instanceof Number)
+				&& (!value1.getClass().equals(value2.getClass()))) {
+			return toDecimal((Number) value1).compareTo(toDecimal((Number) value2));
+		} else if ((value1 instanceof Date) && (value2 instanceof Date)) {
+			return ((Date) value1).compareTo((Date) value2);
+		} else {
+			return ((Comparable<Object>) value1).compareTo(value2);
+		}
+	}
+
+	/**
+	 * Creates a key for a value that is equal for every number that represents
+	 * the same decimal value (for example: <code>Integer</code> 5 and
+	 * <code>Long</code> 5). Any other object is returned as is.
+	 *
+	 * @param value Value to normalize.<br>
+	 *              <br>
+	 * @return Normalized value.<br>
+	 *         <br>
+	 */
+	public static Object normalize(final Object value) {
+		if (value instanceof Number) {
+			try {
+				return toDecimal((Number) value).stripTrailingZeros();
+			} catch (final NumberFormatException e) {
+				return value;
+			}
+		} else {
+			return value;
+		}
+	}
+
+	// ///////////////////////////////////////////////////////////////////
+	// PRIVATE METHODS
+	// ///////////////////////////////////////////////////////////////////
+
+	/**
+	 * Validates if two values are equal.
+	 *
+	 * @param value   Value of the attribute.<br>
+	 *                <br>
+	 * @param operand Value to compare with.<br>
+	 *                <br>
+	 * @return <code>true</code> if both values are equal.<br>
+	 *         <br>
+	 */
+	private static boolean isEqual(final Object value, final Object operand) {
+		if ((value == null) || (operand == null)) {
+			return (value == operand);
+		} else if ((value instanceof Number) && (operand instanceof Number)
+				&& (!value.getClass().equals(operand.getClass()))) {
+			return normalize(value).equals(normalize(operand));
+		} else {
+			return value.equals(operand);
+		}
+	}
+
+	/**
+	 * Validates if a collection, array, map or string contains a value.
+	 *
+	 * @param value   Collection, array, map (keys are validated) or string.<br>
+	 *                <br>
+	 * @param operand Value to search for.<br>
+	 *                <br>
+	 * @return <code>true</code> if the value is found.<br>
+	 *         <br>
+	 */
+	private static boolean contains(final Object value, final Object operand) {
+		if (value instanceof Collection<?>) {
+			for (final Iterator<?> iterator = ((Collection<?>) value).iterator(); iterator.hasNext();) {
+				if (isEqual(iterator.next(), operand)) {
+					return true;
+				}
+			}
+		} else if (value instanceof Map<?, ?>) {
+			return ((Map<?, ?>) value).containsKey(operand);
+		} else if (value.getClass().isArray()) {
+			for (int i = 0; i < Array.getLength(value); i++) {
+				if (isEqual(Array.get(value, i), operand)) {
+					return true;
+				}
+			}
+		} else if (operand != null) {
+			return (value.toString().indexOf(operand.toString()) > -1);
+		}
+		return false;
+	}
+
+	/**
+	 * Validates a string with a LIKE pattern.
+	 *
+	 * @param value   String to validate.<br>
+	 *                <br>
+	 * @param pattern Pattern where '%' matches any sequence of characters and '_'
+	 *                matches one character.<br>
+	 *                <br>
+	 * @return <code>true</code> if the string matches the pattern.<br>
+	 *         <br>
+	 */
+	private static boolean isLike(final String value, final String pattern) {
+
+		// Positions in the value and in the pattern.
+		int v = 0, p = 0;
+
+		// Last positions where a '%' wildcard was found.
+		int anyPattern = -1, anyValue = 0;
+
+		// Iterative matching with backtracking to the last '%' wildcard.
+		while (v < value.length()) {
+			if ((p < pattern.length())
+					&& ((pattern.charAt(p) == WILDCARD_ONE) || (pattern.charAt(p) == value.charAt(v)))) {
+				v++;
+				p++;
+			} else if ((p < pattern.length()) && (pattern.charAt(p) == WILDCARD_ANY)) {
+				anyPattern = p++;
+				anyValue = v;
+			} else if (anyPattern > -1) {
+				p = anyPattern + 1;
+				v = ++anyValue;
+			} else {
+				return false;
+			}
+		}
+
+		// Skip trailing '%' wildcards.
+		while ((p < pattern.length()) && (pattern.charAt(p) == WILDCARD_ANY)) {
+			p++;
+		}
+
+		// Match only if the whole pattern was consumed.
+		return (p == pattern.length());
+
+	}
+
+	/**
+	 * Converts a number into a decimal.
+	 *
+	 * @param number Number to convert.<br>
+	 *               <br>
+	 * @return Decimal value of the number.<br>
+	 *         <br>
+	 */
+	private static BigDecimal toDecimal(final Number number) {
+		return (number instanceof BigDecimal) ? (BigDecimal) number : new BigDecimal(number.toString());
+	}
+
+}
@@ -0,0 +1,54 @@
+package com.warework.service.datastore.view;
+
+import java.util.List;
+
+import com.warework.core.service.client.ClientException;
+import com.warework.service.datastore.query.oo.Query;
+
+/**
+ * Key-Value View that also allows to search the stored values with
+ * Object-Oriented queries. Values are filtered in memory, so this View is
+ * intended for local Data Stores like Hashtables, which may be used as a cache
+ * tier in front of slower Data Stores.
+ *
+ * @author Jose Schiaffino
+ * @version ${project.version}
+ */
+public interface KeyValueQueryView extends KeyValueView {
+
+	/**
+	 * Lists the values of the Data Store that match a query.
+	 *
+	 * @param query Object that specifies what to search for. It defines the type
+	 *              of the object to search for, how to filter the result, which
+	 *              order to apply and the page to retrieve.<br>
+	 *              <br>
+	 * @param <E>   The type of objects to search for.<br>
+	 *              <br>
+	 * @return List of values from the Data Store that matches the type and the
+	 *         WHERE clause of the given query.<br>
+	 *         <br>
+	 * @throws ClientException If there is an error when trying to list the values
+	 *                         in the Data Store.<br>
+	 *                         <br>
+	 */
+	<E> List<E> list(Query<E> query) throws ClientException;
+
+	/**
+	 * Counts the values of the Data Store that match a query. Order and page of
+	 * the query are ignored.
+	 *
+	 * @param query Object that specifies what to search for. It defines the type
+	 *              of the object to search for and how to filter the result.<br>
+	 *              <br>
+	 * @param <E>   The type of objects to count.<br>
+	 *              <br>
+	 * @return Number of values found.<br>
+	 *         <br>
+	 * @throws ClientException If there is an error when trying to count the values
+	 *                         in the Data Store.<br>
+	 *                         <br>
+	 */
+	<E> int count(Query<E> query) throws ClientException;
+
+}
@@ -0,0 +1,68 @@
+package com.warework.service.datastore.client;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Object Data Store that keeps the objects in a list. It does not support
+ * pagination in query operations.
+ * 
+ * @author Jose Schiaffino
+ * @version ${project.version}
+ */
+public final class DummyObjectDatastore extends AbstractObjectDatastore {
+
+	// ///////////////////////////////////////////////////////////////////
+	// PROTECTED METHODS
+	// ///////////////////////////////////////////////////////////////////
+
+	/**
+	 * This operation is not supported in this Data Store.
+	 */
+	protected void performCommit() {
+	}
+
+	/**
+	 * Closes the connection with the Data Store.
+	 */
+	protected void close() {
+	}
+
+	/**
+	 * Validates if the connection is closed.
+	 * 
+	 * @return <code>false</code>.<br>
+	 *         <br>
+	 */
+	protected boolean isClosed() {
+		return false;
+	}
+
+	/**
+	 * Gets every object of the Data Store.
+	 * 
+	 * @param statement Not used.<br>
+	 *                  <br>
+	 * @param values    Not used.<br>
+	 *                  <br>
+	 * @return List with the objects of the Data Store.<br>
+	 *         <br>
+	 */
+	protected Object performQuery(final Object statement, final Map<String, Object> values) {
+		return getConnection();
+	}
+
+	/**
+	 * Adds an object to the Data Store.
+	 * 
+	 * @param statement Object to add.<br>
+	 *                  <br>
+	 * @param values    Not used.<br>
+	 *                  <br>
+	 */
+	@SuppressWarnings("unchecked")
+	protected void performUpdate(final Object statement, final Map<String, Object> values) {
+		((List<Object>) getConnection()).add(statement);
+	}
+
+}
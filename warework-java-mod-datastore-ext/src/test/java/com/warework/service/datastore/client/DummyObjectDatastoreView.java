@@ -0,0 +1,150 @@
+package com.warework.service.datastore.client;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import com.warework.core.callback.CallbackInvoker;
+import com.warework.core.service.client.ClientException;
+import com.warework.service.datastore.query.oo.Query;
+
+/**
+ * View for the Object Data Store that keeps the objects in a list. Queries
+ * return every object of the Data Store in the order they were saved.
+ * 
+ * @author Jose Schiaffino
+ * @version ${project.version}
+ */
+public final class DummyObjectDatastoreView extends AbstractObjectDatastoreView {
+
+	// ///////////////////////////////////////////////////////////////////
+	// ATTRIBUTES
+	// ///////////////////////////////////////////////////////////////////
+
+	// Exception to throw in the next query.
+	private RuntimeException failure;
+
+	// Last query executed in the Data Store.
+	private Query<?> lastQuery;
+
+	// Page of the last query executed in the Data Store.
+	private int lastPage;
+
+	// ///////////////////////////////////////////////////////////////////
+	// PUBLIC METHODS
+	// ///////////////////////////////////////////////////////////////////
+
+	/**
+	 * Sets the exception to throw in the next query.
+	 * 
+	 * @param failure Exception to throw.<br>
+	 *                <br>
+	 */
+	public void setFailure(final RuntimeException failure) {
+		this.failure = failure;
+	}
+
+	/**
+	 * Gets the page of the last query executed in the Data Store.
+	 * 
+	 * @return Page of the query.<br>
+	 *         <br>
+	 */
+	public int getLastPage() {
+		return lastPage;
+	}
+
+	/**
+	 * Gets the last query executed in the Data Store.
+	 * 
+	 * @return Query.<br>
+	 *         <br>
+	 */
+	public Query<?> getLastQuery() {
+		return lastQuery;
+	}
+
+	// ///////////////////////////////////////////////////////////////////
+	// PROTECTED METHODS
+	// ///////////////////////////////////////////////////////////////////
+
+	/**
+	 * Saves an object in the Data Store.
+	 * 
+	 * @param object  Object to save.<br>
+	 *                <br>
+	 * @param invoker Object used to invoke the callback operation.<br>
+	 *                <br>
+	 */
+	protected void performSave(final Object object, final CallbackInvoker invoker) {
+		try {
+			getObjectDatastore().update(object, null);
+			invoker.success(null);
+		} catch (final ClientException e) {
+			invoker.failure(e);
+		}
+	}
+
+	/**
+	 * This operation is not supported in this Data Store.
+	 * 
+	 * @param object  Object to update.<br>
+	 *                <br>
+	 * @param invoker Object used to invoke the callback operation.<br>
+	 *                <br>
+	 */
+	protected void performUpdate(final Object object, final CallbackInvoker invoker) {
+		invoker.failure(new UnsupportedOperationException());
+	}
+
+	/**
+	 * This operation is not supported in this Data Store.
+	 * 
+	 * @param object  Object to delete.<br>
+	 *                <br>
+	 * @param invoker Object used to invoke the callback operation.<br>
+	 *                <br>
+	 */
+	protected void performDelete(final Object object, final CallbackInvoker invoker) {
+		invoker.failure(new UnsupportedOperationException());
+	}
+
+	/**
+	 * Lists every object of the Data Store.
+	 * 
+	 * @param query   Query to execute.<br>
+	 *                <br>
+	 * @param invoker Object used to invoke the callback operation.<br>
+	 *                <br>
+	 * @param <E>     The type of objects to search for.<br>
+	 *                <br>
+	 */
+	protected <E> void performList(final Query<E> query, final CallbackInvoker invoker) {
+
+		// Keep the query and its page.
+		lastQuery = query;
+		lastPage = query.getPage();
+
+		// Throw the exception once.
+		if (failure != null) {
+
+			// Get the exception.
+			final RuntimeException exception = failure;
+
+			// Reset the exception.
+			failure = null;
+
+			// Throw the exception.
+			throw exception;
+
+		}
+
+		// Return every object.
+		try {
+			invoker.success(new ArrayList<Object>((List<?>) getObjectDatastore().query(null, null)));
+		} catch (final ClientException e) {
+			invoker.failure(e);
+		}
+
+	}
+
+}
@@ -0,0 +1,279 @@
+package com.warework.service.datastore.client;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.warework.core.model.Scope;
+import com.warework.core.scope.AbstractModDatastoreExtTestCase;
+import com.warework.core.scope.ScopeFacade;
+import com.warework.core.util.data.OrderBy;
+import com.warework.service.datastore.DatastoreServiceConstants;
+import com.warework.service.datastore.DatastoreServiceFacade;
+import com.warework.service.datastore.DatastoreServiceImpl;
+import com.warework.service.datastore.client.connector.HashtableConnector;
+import com.warework.service.datastore.query.oo.And;
+import com.warework.service.datastore.query.oo.Query;
+import com.warework.service.datastore.query.oo.SampleBean;
+import com.warework.service.datastore.query.oo.Where;
+import com.warework.service.datastore.view.KeyValueQueryView;
+
+/**
+ * 
+ * 
+ * @author Jose Schiaffino
+ * @version ${project.version}
+ */
+public class HashtableQueryViewImplTest extends AbstractModDatastoreExtTestCase {
+
+	// ///////////////////////////////////////////////////////////////////
+	// CONSTANTS
+	// ///////////////////////////////////////////////////////////////////
+
+	//
+	private final static String DATA_STORE_NAME = "hashtable-datastore";
+
+	//
+	private final static String VIEW_NAME = "key-value-query-view";
+
+	// ///////////////////////////////////////////////////////////////////
+	// PUBLIC METHODS
+	// ///////////////////////////////////////////////////////////////////
+
+	/**
+	 * 
+	 */
+	public void testList1() {
+		try {
+
+			//
+			final ScopeFacade scope = createScope(null);
+
+			//
+			final KeyValueQueryView view = populate(scope);
+
+			//
+			final Query<SampleBean> query = new Query<SampleBean>(scope, SampleBean.class);
+
+			//
+			final Where where = query.getWhere(true);
+			where.setExpression(where.createEqualToValue("name", "john"));
+
+			//
+			final List<SampleBean> result = view.list(query);
+
+			//
+			assertEquals(1, result.size());
+			assertEquals(Integer.valueOf(30), result.get(0).getAge());
+
+		} catch (final Exception e) {
+			fail();
+		}
+	}
+
+	/**
+	 * 
+	 */
+	public void testList2() {
+		try {
+
+			//
+			final ScopeFacade scope = createScope(null);
+
+			//
+			final KeyValueQueryView view = populate(scope);
+
+			//
+			final Query<SampleBean> query = new Query<SampleBean>(scope, SampleBean.class);
+
+			//
+			final Where where = query.getWhere(true);
+			where.setExpression(where.createLikeValue("name", "j%"));
+
+			//
+			query.setOrderBy(new OrderBy().addDescending("age"));
+
+			//
+			final List<SampleBean> result = view.list(query);
+
+			//
+			assertEquals(2, result.size());
+			assertEquals("jane", result.get(0).getName());
+
+		} catch (final Exception e) {
+			fail();
+		}
+	}
+
+	/**
+	 * 
+	 */
+	public void testList3() {
+		try {
+
+			//
+			final Map<String, Object> parameters = new HashMap<String, Object>();
+			{
+				parameters.put(HashtableQueryViewImpl.PARAMETER_HASH_INDEXES, "name");
+				parameters.put(HashtableQueryViewImpl.PARAMETER_SORTED_INDEXES, "age");
+			}
+
+			//
+			final ScopeFacade scope = createScope(parameters);
+
+			//
+			final KeyValueQueryView view = populate(scope);
+
+			//
+			final Query<SampleBean> query = new Query<SampleBean>(scope, SampleBean.class);
+
+			//
+			final Where where = query.getWhere(true);
+			{
+
+				//
+				final And and = where.createAnd();
+				{
+					and.add(where.createGreaterThanOrEqualToValue("age", Integer.valueOf(30)));
+					and.add(where.createLessThanValue("age", Long.valueOf(45)));
+				}
+
+				//
+				where.setExpression(and);
+
+			}
+
+			//
+			assertEquals(2, view.count(query));
+
+			//
+			view.put("bob", new SampleBean("bob", Integer.valueOf(50)));
+			view.put("john", new SampleBean("john", Integer.valueOf(60)));
+
+			//
+			assertEquals(1, view.count(query));
+
+			//
+			view.remove("jane");
+
+			//
+			assertEquals(0, view.count(query));
+
+		} catch (final Exception e) {
+			fail();
+		}
+	}
+
+	/**
+	 * 
+	 */
+	public void testList4() {
+		try {
+
+			//
+			final Map<String, Object> parameters = new HashMap<String, Object>();
+			{
+				parameters.put(HashtableQueryViewImpl.PARAMETER_PARALLEL_THRESHOLD, "1");
+				parameters.put(HashtableQueryViewImpl.PARAMETER_PARALLELISM, "2");
+			}
+
+			//
+			final ScopeFacade scope = createScope(parameters);
+
+			//
+			final KeyValueQueryView view = populate(scope);
+
+			//
+			final Query<SampleBean> query = new Query<SampleBean>(scope, SampleBean.class);
+
+			//
+			final Where where = query.getWhere(true);
+			where.setExpression(where.createGreaterThanValue("age", Integer.valueOf(10)));
+
+			//
+			query.setOrderBy(new OrderBy().addAscending("age"));
+			query.setPage(1);
+			query.setPageSize(2);
+
+			//
+			final List<SampleBean> result = view.list(query);
+
+			//
+			assertEquals(2, result.size());
+			assertEquals("mike", result.get(0).getName());
+
+			//
+			((DatastoreServiceFacade) scope.getService(DatastoreServiceConstants.DEFAULT_SERVICE_NAME))
+					.disconnect(DATA_STORE_NAME);
+
+		} catch (final Exception e) {
+			fail();
+		}
+	}
+
+	// ///////////////////////////////////////////////////////////////////
+	// PRIVATE METHODS
+	// ///////////////////////////////////////////////////////////////////
+
+	/**
+	 * 
+	 * @param parameters
+	 * @return
+	 * @throws Exception
+	 */
+	private ScopeFacade createScope(final Map<String, Object> parameters) throws Exception {
+
+		//
+		final Scope config = new Scope("test");
+		{
+			config.setService(DatastoreServiceConstants.DEFAULT_SERVICE_NAME, DatastoreServiceImpl.class, null, null);
+		}
+
+		//
+		final ScopeFacade scope = create(config);
+
+		//
+		final DatastoreServiceFacade service = (DatastoreServiceFacade) scope
+				.getService(DatastoreServiceConstants.DEFAULT_SERVICE_NAME);
+
+		//
+		service.createClient(DATA_STORE_NAME, HashtableConnector.class, null);
+
+		//
+		service.addView(DATA_STORE_NAME, HashtableQueryViewImpl.class, VIEW_NAME, null, parameters);
+
+		//
+		return scope;
+
+	}
+
+	/**
+	 * 
+	 * @param scope
+	 * @return
+	 * @throws Exception
+	 */
+	private KeyValueQueryView populate(final ScopeFacade scope) throws Exception {
+
+		//
+		final DatastoreServiceFacade service = (DatastoreServiceFacade) scope
+				.getService(DatastoreServiceConstants.DEFAULT_SERVICE_NAME);
+
+		//
+		service.connect(DATA_STORE_NAME);
+
+		//
+		final KeyValueQueryView view = (KeyValueQueryView) service.getView(DATA_STORE_NAME);
+
+		//
+		view.put("john", new SampleBean("john", Integer.valueOf(30)));
+		view.put("jane", new SampleBean("jane", Integer.valueOf(40)));
+		view.put("mike", new SampleBean("mike", Integer.valueOf(20)));
+		view.put("note", "not a bean");
+
+		//
+		return view;
+
+	}
+
+}
@@ -0,0 +1,261 @@
+package com.warework.service.datastore.client;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import com.warework.core.callback.AbstractCallback;
+import com.warework.core.model.Scope;
+import com.warework.core.scope.AbstractModDatastoreExtTestCase;
+import com.warework.core.scope.ScopeFacade;
+import com.warework.service.datastore.DatastoreServiceConstants;
+import com.warework.service.datastore.DatastoreServiceFacade;
+import com.warework.service.datastore.DatastoreServiceImpl;
+import com.warework.service.datastore.client.connector.DummyObjectDatastoreConnector;
+import com.warework.service.datastore.query.oo.Query;
+import com.warework.service.datastore.query.oo.SampleBean;
+
+/**
+ * 
+ * 
+ * @author Jose Schiaffino
+ * @version ${project.version}
+ */
+public class ObjectDatastoreViewTest extends AbstractModDatastoreExtTestCase {
+
+	// ///////////////////////////////////////////////////////////////////
+	// CONSTANTS
+	// ///////////////////////////////////////////////////////////////////
+
+	//
+	private final static String DATA_STORE_NAME = "object-datastore";
+
+	//
+	private final static String VIEW_NAME = "object-view";
+
+	// ///////////////////////////////////////////////////////////////////
+	// PUBLIC METHODS
+	// ///////////////////////////////////////////////////////////////////
+
+	/**
+	 * 
+	 */
+	public void testList1() {
+		try {
+
+			//
+			final ScopeFacade scope = createScope();
+
+			//
+			final DummyObjectDatastoreView view = populate(scope);
+
+			//
+			final Query<SampleBean> query = createQuery(scope);
+
+			//
+			final List<SampleBean> result = view.list(query);
+
+			//
+			assertEquals(1, result.size());
+			assertEquals("mike", result.get(0).getName());
+
+			//
+			assertEquals(-1, view.getLastPage());
+			assertNotSame(query, view.getLastQuery());
+			assertEquals(2, query.getPage());
+			assertEquals(2, query.getPageSize());
+
+		} catch (final Exception e) {
+			fail();
+		}
+	}
+
+	/**
+	 * 
+	 */
+	public void testList2() {
+		try {
+
+			//
+			final ScopeFacade scope = createScope();
+
+			//
+			final DummyObjectDatastoreView view = populate(scope);
+
+			//
+			final Query<SampleBean> query = createQuery(scope);
+
+			//
+			final List<Object> result = new ArrayList<Object>();
+
+			//
+			view.list(query, new AbstractCallback(scope) {
+
+				protected void onSuccess(final Object value) {
+
+					// The query keeps its page while the Data Store runs it.
+					assertEquals(2, query.getPage());
+
+					//
+					result.addAll((List<?>) value);
+
+				}
+
+				protected void onFailure(final Throwable exception) {
+					fail();
+				}
+
+			});
+
+			//
+			assertEquals(1, result.size());
+			assertEquals("mike", ((SampleBean) result.get(0)).getName());
+
+			//
+			assertEquals(-1, view.getLastPage());
+			assertNotSame(query, view.getLastQuery());
+			assertEquals(2, query.getPage());
+			assertEquals(2, query.getPageSize());
+
+		} catch (final Exception e) {
+			fail();
+		}
+	}
+
+	/**
+	 * 
+	 */
+	public void testList3() {
+		try {
+
+			//
+			final ScopeFacade scope = createScope();
+
+			//
+			final DummyObjectDatastoreView view = populate(scope);
+
+			//
+			final Query<SampleBean> query = createQuery(scope);
+
+			//
+			final IllegalStateException failure = new IllegalStateException();
+
+			//
+			view.setFailure(failure);
+
+			//
+			try {
+
+				//
+				view.list(query, new AbstractCallback(scope) {
+
+					protected void onSuccess(final Object value) {
+						fail();
+					}
+
+					protected void onFailure(final Throwable exception) {
+						fail();
+					}
+
+				});
+
+				//
+				fail();
+
+			} catch (final IllegalStateException e) {
+				assertSame(failure, e);
+			}
+
+			//
+			assertEquals(-1, view.getLastPage());
+			assertNotSame(query, view.getLastQuery());
+			assertEquals(2, query.getPage());
+			assertEquals(2, query.getPageSize());
+
+		} catch (final Exception e) {
+			fail();
+		}
+	}
+
+	// ///////////////////////////////////////////////////////////////////
+	// PRIVATE METHODS
+	// ///////////////////////////////////////////////////////////////////
+
+	/**
+	 * 
+	 * @return
+	 * @throws Exception
+	 */
+	private ScopeFacade createScope() throws Exception {
+
+		//
+		final Scope config = new Scope("test");
+		{
+			config.setService(DatastoreServiceConstants.DEFAULT_SERVICE_NAME, DatastoreServiceImpl.class, null, null);
+		}
+
+		//
+		final ScopeFacade scope = create(config);
+
+		//
+		final DatastoreServiceFacade service = (DatastoreServiceFacade) scope
+				.getService(DatastoreServiceConstants.DEFAULT_SERVICE_NAME);
+
+		//
+		service.createClient(DATA_STORE_NAME, DummyObjectDatastoreConnector.class, null);
+
+		//
+		service.addView(DATA_STORE_NAME, DummyObjectDatastoreView.class, VIEW_NAME, null, null);
+
+		//
+		return scope;
+
+	}
+
+	/**
+	 * 
+	 * @param scope
+	 * @return
+	 * @throws Exception
+	 */
+	private DummyObjectDatastoreView populate(final ScopeFacade scope) throws Exception {
+
+		//
+		final DatastoreServiceFacade service = (DatastoreServiceFacade) scope
+				.getService(DatastoreServiceConstants.DEFAULT_SERVICE_NAME);
+
+		//
+		service.connect(DATA_STORE_NAME);
+
+		//
+		final DummyObjectDatastoreView view = (DummyObjectDatastoreView) service.getView(DATA_STORE_NAME);
+
+		//
+		view.save(new SampleBean("john", Integer.valueOf(30)));
+		view.save(new SampleBean("jane", Integer.valueOf(40)));
+		view.save(new SampleBean("mike", Integer.valueOf(20)));
+
+		//
+		return view;
+
+	}
+
+	/**
+	 * 
+	 * @param scope
+	 * @return
+	 */
+	private Query<SampleBean> createQuery(final ScopeFacade scope) {
+
+		//
+		final Query<SampleBean> query = new Query<SampleBean>(scope, SampleBean.class);
+
+		//
+		query.setPage(2);
+		query.setPageSize(2);
+
+		//
+		return query;
+
+	}
+
+}
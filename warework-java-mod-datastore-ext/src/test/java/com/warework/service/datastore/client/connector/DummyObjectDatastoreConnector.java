@@ -0,0 +1,53 @@
+package com.warework.service.datastore.client.connector;
+
+import java.util.ArrayList;
+
+import com.warework.service.datastore.client.DummyObjectDatastore;
+
+/**
+ * Connector that creates Object Data Stores that keep the objects in a list.
+ * 
+ * @author Jose Schiaffino
+ * @version ${project.version}
+ */
+public final class DummyObjectDatastoreConnector extends AbstractDatastoreConnector {
+
+	// ///////////////////////////////////////////////////////////////////
+	// PUBLIC METHODS
+	// ///////////////////////////////////////////////////////////////////
+
+	/**
+	 * Gets the type of the Data Store created by this Connector.
+	 * 
+	 * @return Type of the Data Store.<br>
+	 *         <br>
+	 */
+	public Class<DummyObjectDatastore> getClientType() {
+		return DummyObjectDatastore.class;
+	}
+
+	/**
+	 * Creates the list where the Data Store keeps the objects.
+	 * 
+	 * @return New list.<br>
+	 *         <br>
+	 */
+	public Object getClientConnection() {
+		return new ArrayList<Object>();
+	}
+
+	// ///////////////////////////////////////////////////////////////////
+	// PROTECTED METHODS
+	// ///////////////////////////////////////////////////////////////////
+
+	/**
+	 * Gets the type of the connection source.
+	 * 
+	 * @return <code>ArrayList</code> class.<br>
+	 *         <br>
+	 */
+	protected Object createConnectionSource() {
+		return ArrayList.class;
+	}
+
+}
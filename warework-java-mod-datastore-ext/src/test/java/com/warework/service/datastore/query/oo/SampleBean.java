@@ -4,6 +4,16 @@ public class SampleBean {
 
 	private String name;
 
+	private Integer age;
+
+	public SampleBean() {
+	}
+
+	public SampleBean(String name, Integer age) {
+		this.name = name;
+		this.age = age;
+	}
+
 	public String getName() {
 		return name;
 	}
@@ -12,4 +22,12 @@ public class SampleBean {
 		this.name = name;
 	}
 
+	public Integer getAge() {
+		return age;
+	}
+
+	public void setAge(Integer age) {
+		this.age = age;
+	}
+
 }
@@ -1,10 +1,14 @@
 package com.warework.module.marketing.message;
 
+import java.util.Collections;
 import java.util.Map;
 import java.util.Random;
 import java.util.ResourceBundle;
+import java.util.WeakHashMap;
+import java.util.concurrent.ConcurrentHashMap;
 
 import com.warework.core.util.CommonValueL2Constants;
+import com.warework.core.util.StringTemplate;
 import com.warework.core.util.helper.ResourceL2Helper;
 import com.warework.core.util.helper.StringL2Helper;
 
@@ -15,6 +19,41 @@ import com.warework.core.util.helper.StringL2Helper;
  */
 public final class GrammarHelper {
 
+	// ///////////////////////////////////////////////////////////////////
+	// INNER CLASSES
+	// ///////////////////////////////////////////////////////////////////
+
+	/**
+	 * Entries of a resource bundle already parsed.
+	 * 
+	 * @author jschiaffino
+	 *
+	 */
+	private static final class BundleCache {
+
+		// Number of options of each block.
+		private final Map<String, Integer> maxOptions = new ConcurrentHashMap<String, Integer>();
+
+		// Text of each option, without leading and trailing spaces.
+		private final Map<String, StringTemplate> options = new ConcurrentHashMap<String, StringTemplate>();
+
+	}
+
+	// ///////////////////////////////////////////////////////////////////
+	// ATTRIBUTES
+	// ///////////////////////////////////////////////////////////////////
+
+	// Parsed entries of each resource bundle.
+	private static final Map<ResourceBundle, BundleCache> BUNDLES = Collections
+			.synchronizedMap(new WeakHashMap<ResourceBundle, BundleCache>());
+
+	// Random generator of each thread.
+	private static final ThreadLocal<Random> RANDOM = new ThreadLocal<Random>() {
+		protected Random initialValue() {
+			return new Random();
+		}
+	};
+
 	// ///////////////////////////////////////////////////////////////////
 	// CONSTRUCTORS
 	// ///////////////////////////////////////////////////////////////////
@@ -56,6 +95,9 @@ public final class GrammarHelper {
 
 		}
 
+		//
+		final BundleCache cache = getBundleCache(pageBundle);
+
 		//
 		final StringBuilder output = new StringBuilder();
 
@@ -78,10 +120,7 @@ public final class GrammarHelper {
 			}
 
 			//
-			final int maxBlockOptions = Integer.parseInt(pageBundle
-					.getString(
-							messageKey + ResourceL2Helper.PROPERTIES_FILE_PROPERTY_HIERARCHY_SEPARATOR + "max-options")
-					.trim());
+			final int maxBlockOptions = getMaxOptions(pageBundle, cache, messageKey);
 
 			//
 			int selectedOption = -1;
@@ -90,7 +129,7 @@ public final class GrammarHelper {
 			} else if (hash > 0) {
 				selectedOption = (hash - (maxBlockOptions * ((int) hash / maxBlockOptions))) + 1;
 			} else {
-				selectedOption = new Random().nextInt(maxBlockOptions) + 1;
+				selectedOption = RANDOM.get().nextInt(maxBlockOptions) + 1;
 			}
 
 			//
@@ -99,10 +138,8 @@ public final class GrammarHelper {
 
 			// Get new line with variables replaced and leading plus trailing spaces (not
 			// new line, tabs...just spaces ' ') removed.
-			final String line = StringL2Helper
-					.replace(pageBundle.getString(updateKey(messageKey, messageBlock)), variables)
-					.replaceAll("^ +", CommonValueL2Constants.STRING_EMPTY)
-					.replaceAll(" +$", CommonValueL2Constants.STRING_EMPTY);
+			final String line = trim(
+					getOption(pageBundle, cache, updateKey(messageKey, messageBlock)).format(variables));
 
 			// Add new line.
 			output.append(line);
@@ -124,6 +161,130 @@ public final class GrammarHelper {
 	// PRIVATE METHODS
 	// ///////////////////////////////////////////////////////////////////
 
+	/**
+	 * Gets the parsed entries of a resource bundle. Two threads may create the
+	 * entries of the same bundle at the same time; just one of them remains in
+	 * the map and the other one is discarded when no longer used.
+	 * 
+	 * @param bundle Resource bundle where to read the entries.<br>
+	 *               <br>
+	 * @return Parsed entries of the resource bundle.<br>
+	 *         <br>
+	 */
+	private static BundleCache getBundleCache(final ResourceBundle bundle) {
+
+		//
+		BundleCache cache = BUNDLES.get(bundle);
+		if (cache == null) {
+
+			//
+			cache = new BundleCache();
+
+			//
+			BUNDLES.put(bundle, cache);
+
+		}
+
+		//
+		return cache;
+
+	}
+
+	/**
+	 * Gets the number of options of a block.
+	 * 
+	 * @param bundle     Resource bundle where to read the block.<br>
+	 *                   <br>
+	 * @param cache      Parsed entries of the resource bundle.<br>
+	 *                   <br>
+	 * @param messageKey Key of the block in the resource bundle.<br>
+	 *                   <br>
+	 * @return Number of options of the block.<br>
+	 *         <br>
+	 */
+	private static int getMaxOptions(final ResourceBundle bundle, final BundleCache cache, final String messageKey) {
+
+		//
+		Integer maxOptions = cache.maxOptions.get(messageKey);
+		if (maxOptions == null) {
+
+			//
+			maxOptions = Integer.valueOf(bundle
+					.getString(
+							messageKey + ResourceL2Helper.PROPERTIES_FILE_PROPERTY_HIERARCHY_SEPARATOR + "max-options")
+					.trim());
+
+			//
+			cache.maxOptions.put(messageKey, maxOptions);
+
+		}
+
+		//
+		return maxOptions.intValue();
+
+	}
+
+	/**
+	 * Gets the parsed text of an option.
+	 * 
+	 * @param bundle    Resource bundle where to read the option.<br>
+	 *                  <br>
+	 * @param cache     Parsed entries of the resource bundle.<br>
+	 *                  <br>
+	 * @param optionKey Key of the option in the resource bundle.<br>
+	 *                  <br>
+	 * @return Template with the text of the option.<br>
+	 *         <br>
+	 */
+	private static StringTemplate getOption(final ResourceBundle bundle, final BundleCache cache,
+			final String optionKey) {
+
+		//
+		StringTemplate option = cache.options.get(optionKey);
+		if (option == null) {
+
+			//
+			option = new StringTemplate(bundle.getString(optionKey));
+
+			//
+			cache.options.put(optionKey, option);
+
+		}
+
+		//
+		return option;
+
+	}
+
+	/**
+	 * Removes leading and trailing spaces (not new lines, tabs...just spaces ' ').
+	 * 
+	 * @param line Text to trim.<br>
+	 *             <br>
+	 * @return Text without leading and trailing spaces.<br>
+	 *         <br>
+	 */
+	private static String trim(final String line) {
+
+		//
+		int begin = 0;
+		int end = line.length();
+
+		//
+		while ((begin < end) && (line.charAt(begin) == ' ')) {
+			begin++;
+		}
+
+		//
+		while ((end > begin) && (line.charAt(end - 1) == ' ')) {
+			end--;
+		}
+
+		//
+		return ((begin == 0) && (end == line.length())) ? line : line.substring(begin, end);
+
+	}
+
 	/**
 	 * 
 	 * @param baseKey
@@ -0,0 +1,308 @@
+package com.warework.module.marketing.twitter;
+
+import java.util.Iterator;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+
+import com.warework.module.business.api.ApiException;
+
+/**
+ * Thread-safe cache where each entry expires after a given time and the number
+ * of entries is limited. When many threads request the same missing key at the
+ * same time, only one of them loads the value and the others wait for it.
+ *
+ * @author Jose Schiaffino
+ * @version ${project.version}
+ */
+final class ExpiringCache<K, V> {
+
+	// ///////////////////////////////////////////////////////////////////
+	// INNER CLASSES
+	// ///////////////////////////////////////////////////////////////////
+
+	/**
+	 * Loads the value of a key that does not exist in the cache.
+	 */
+	interface Loader<V> {
+
+		/**
+		 * Loads the value.
+		 *
+		 * @return Value or <code>null</code> if it does not exist.<br>
+		 *         <br>
+		 * @throws ApiException If there is an error when trying to load the
+		 *                      value.<br>
+		 *                      <br>
+		 */
+		V load() throws ApiException;
+
+	}
+
+	/**
+	 * Value of the cache with its expiration time.
+	 */
+	private static final class Entry<V> {
+
+		// Cached value.
+		private final V value;
+
+		// Time when the value expires.
+		private final long expiration;
+
+		/**
+		 * Creates the entry.
+		 *
+		 * @param value      Cached value.<br>
+		 *                   <br>
+		 * @param expiration Time when the value expires.<br>
+		 *                   <br>
+		 */
+		Entry(final V value, final long expiration) {
+			this.value = value;
+			this.expiration = expiration;
+		}
+
+	}
+
+	/**
+	 * Value that is being loaded by a thread.
+	 */
+	private static final class Pending<V> {
+
+		// Released when the value is loaded.
+		private final CountDownLatch latch = new CountDownLatch(1);
+
+		// Loaded value.
+		private V value;
+
+		// Runtime exception thrown by the loader.
+		private RuntimeException runtimeException;
+
+		// API exception thrown by the loader.
+		private ApiException apiException;
+
+		/**
+		 * Waits until the value is loaded.
+		 *
+		 * @return Loaded value.<br>
+		 *         <br>
+		 * @throws ApiException If the loader failed.<br>
+		 *                      <br>
+		 */
+		V await() throws ApiException {
+
+			// Wait for the loader, even if the thread is interrupted.
+			boolean interrupted = false;
+			while (true) {
+				try {
+					latch.await();
+					break;
+				} catch (final InterruptedException e) {
+					interrupted = true;
+				}
+			}
+
+			// Restore the interrupted status.
+			if (interrupted) {
+				Thread.currentThread().interrupt();
+			}
+
+			// Throw the same exception as the loader.
+			if (apiException != null) {
+				throw apiException;
+			} else if (runtimeException != null) {
+				throw runtimeException;
+			}
+
+			// Return the value.
+			return value;
+
+		}
+
+	}
+
+	// ///////////////////////////////////////////////////////////////////
+	// ATTRIBUTES
+	// ///////////////////////////////////////////////////////////////////
+
+	// Cached values.
+	private final ConcurrentHashMap<K, Entry<V>> entries = new ConcurrentHashMap<K, Entry<V>>();
+
+	// Values that are being loaded.
+	private final ConcurrentHashMap<K, Pending<V>> pending = new ConcurrentHashMap<K, Pending<V>>();
+
+	// Maximum number of entries.
+	private final int maxSize;
+
+	// Milliseconds that each entry lives.
+	private final long lifetime;
+
+	// ///////////////////////////////////////////////////////////////////
+	// CONSTRUCTORS
+	// ///////////////////////////////////////////////////////////////////
+
+	/**
+	 * Creates the cache.
+	 *
+	 * @param maxSize  Maximum number of entries.<br>
+	 *                 <br>
+	 * @param lifetime Milliseconds that each entry lives.<br>
+	 *                 <br>
+	 */
+	ExpiringCache(final int maxSize, final long lifetime) {
+		this.maxSize = Math.max(maxSize, 1);
+		this.lifetime = lifetime;
+	}
+
+	// ///////////////////////////////////////////////////////////////////
+	// PACKAGE METHODS
+	// ///////////////////////////////////////////////////////////////////
+
+	/**
+	 * Gets a value from the cache.
+	 *
+	 * @param key Key of the value.<br>
+	 *            <br>
+	 * @return Value or <code>null</code> if it does not exist or it expired.<br>
+	 *         <br>
+	 */
+	V get(final K key) {
+
+		// Search for the entry.
+		final Entry<V> entry = entries.get(key);
+		if (entry == null) {
+			return null;
+		}
+
+		// Remove the entry when it expired.
+		if (entry.expiration <= System.currentTimeMillis()) {
+			entries.remove(key, entry);
+			return null;
+		}
+
+		// Return the value.
+		return entry.value;
+
+	}
+
+	/**
+	 * Gets a value from the cache and loads it when it does not exist. Only one
+	 * thread loads the value of a key at a time; other threads that request the
+	 * same key wait for the result.
+	 *
+	 * @param key    Key of the value.<br>
+	 *               <br>
+	 * @param loader Loads the value when it is not cached.<br>
+	 *               <br>
+	 * @return Value or <code>null</code> if the loader did not find it.<br>
+	 *         <br>
+	 * @throws ApiException If there is an error when trying to load the
+	 *                      value.<br>
+	 *                      <br>
+	 */
+	V get(final K key, final Loader<V> loader) throws ApiException {
+
+		// Search for the value in the cache.
+		V value = get(key);
+		if (value != null) {
+			return value;
+		}
+
+		// Wait for the thread that is already loading this key.
+		final Pending<V> created = new Pending<V>();
+		final Pending<V> running = pending.putIfAbsent(key, created);
+		if (running != null) {
+			return running.await();
+		}
+
+		// Load the value.
+		try {
+
+			// Get the value from the loader.
+			value = loader.load();
+
+			// Save the value.
+			if (value != null) {
+				put(key, value);
+			}
+
+			// Share the value with the waiting threads.
+			created.value = value;
+
+			// Return the value.
+			return value;
+
+		} catch (final ApiException e) {
+			created.apiException = e;
+			throw e;
+		} catch (final RuntimeException e) {
+			created.runtimeException = e;
+			throw e;
+		} finally {
+			pending.remove(key, created);
+			created.latch.countDown();
+		}
+
+	}
+
+	/**
+	 * Saves a value in the cache.
+	 *
+	 * @param key   Key of the value.<br>
+	 *              <br>
+	 * @param value Value to save.<br>
+	 *              <br>
+	 */
+	void put(final K key, final V value) {
+
+		// Save the value.
+		entries.put(key, new Entry<V>(value, System.currentTimeMillis() + lifetime));
+
+		// Keep the size of the cache.
+		if (entries.size() > maxSize) {
+			evict();
+		}
+
+	}
+
+	/**
+	 * Removes a value from the cache.
+	 *
+	 * @param key Key of the value.<br>
+	 *            <br>
+	 */
+	void remove(final K key) {
+		entries.remove(key);
+	}
+
+	// ///////////////////////////////////////////////////////////////////
+	// PRIVATE METHODS
+	// ///////////////////////////////////////////////////////////////////
+
+	/**
+	 * Removes the expired entries and, when the cache is still full, as many
+	 * entries as required to leave room for a tenth of its size.
+	 */
+	private void evict() {
+
+		// Get the current time.
+		final long now = System.currentTimeMillis();
+
+		// Remove expired entries.
+		for (final Iterator<Entry<V>> iterator = entries.values().iterator(); iterator.hasNext();) {
+			if (iterator.next().expiration <= now) {
+				iterator.remove();
+			}
+		}
+
+		// Remove entries until there is room for new ones.
+		final int target = maxSize - (maxSize / 10);
+		for (final Iterator<K> iterator = entries.keySet().iterator(); (entries.size() > target)
+				&& (iterator.hasNext());) {
+			iterator.next();
+			iterator.remove();
+		}
+
+	}
+
+}
@@ -1,11 +1,5 @@
 package com.warework.module.marketing.twitter;
 
-import java.util.ArrayList;
-import java.util.Collection;
-import java.util.HashMap;
-import java.util.Iterator;
-import java.util.Map;
-
 import com.warework.module.business.api.ApiException;
 
 import twitter4j.IDs;
@@ -24,21 +18,22 @@ final class TwitterCache implements TwitterDelegate {
 	// ///////////////////////////////////////////////////////////////////
 
 	/**
+	 * Key of the relationship between two users.
 	 * 
 	 * @author jschiaffino
 	 *
 	 */
-	private class RelationshipCache {
+	private static final class RelationshipKey {
 
 		// ///////////////////////////////////////////////////////////////
 		// ATTRIBUTES
 		// ///////////////////////////////////////////////////////////////
 
 		//
-		private long targetUserId;
+		private final long sourceUserId;
 
 		//
-		private Relationship relationship;
+		private final long targetUserId;
 
 		// ///////////////////////////////////////////////////////////////
 		// CONSTRUCTORS
@@ -46,12 +41,12 @@ final class TwitterCache implements TwitterDelegate {
 
 		/**
 		 * 
+		 * @param sourceUserId
 		 * @param targetUserId
-		 * @param relationship
 		 */
-		RelationshipCache(final long targetUserId, final Relationship relationship) {
+		RelationshipKey(final long sourceUserId, final long targetUserId) {
+			this.sourceUserId = sourceUserId;
 			this.targetUserId = targetUserId;
-			this.relationship = relationship;
 		}
 
 		// ///////////////////////////////////////////////////////////////
@@ -60,18 +55,33 @@ final class TwitterCache implements TwitterDelegate {
 
 		/**
 		 * 
+		 * @param object
 		 * @return
 		 */
-		long getTargetUserId() {
-			return targetUserId;
+		public boolean equals(final Object object) {
+
+			//
+			if (object instanceof RelationshipKey) {
+
+				//
+				final RelationshipKey key = (RelationshipKey) object;
+
+				//
+				return (key.sourceUserId == sourceUserId) && (key.targetUserId == targetUserId);
+
+			}
+
+			//
+			return false;
+
 		}
 
 		/**
 		 * 
 		 * @return
 		 */
-		Relationship getRelationship() {
-			return relationship;
+		public int hashCode() {
+			return (31 * ((int) (sourceUserId ^ (sourceUserId >>> 32)))) + ((int) (targetUserId ^ (targetUserId >>> 32)));
 		}
 
 	}
@@ -81,19 +91,19 @@ final class TwitterCache implements TwitterDelegate {
 	// ///////////////////////////////////////////////////////////////////
 
 	//
-	private final Map<Long, User> cacheById = new HashMap<Long, User>();
+	private final ExpiringCache<Long, User> cacheById;
 
 	//
-	private final Map<String, User> cacheByName = new HashMap<String, User>();
+	private final ExpiringCache<String, User> cacheByName;
 
 	//
-	private final Map<Long, Collection<RelationshipCache>> relationships = new HashMap<Long, Collection<RelationshipCache>>();
+	private final ExpiringCache<RelationshipKey, Relationship> relationships;
 
 	//
-	private long authenticatingUserId = -1;
+	private volatile long authenticatingUserId = -1;
 
 	//
-	private String authenticatingUserName;
+	private volatile String authenticatingUserName;
 
 	//
 	private TwitterDelegate delegate;
@@ -104,22 +114,33 @@ final class TwitterCache implements TwitterDelegate {
 
 	/**
 	 * 
+	 * @param twitter
 	 */
-	private TwitterCache() {
-
+	TwitterCache(final TwitterDelegate twitter) {
+		this(twitter, TwitterConstants.CACHE_DEFAULT_SIZE_HELPER, TwitterConstants.CACHE_DEFAULT_LIFETIME_HELPER);
 	}
 
 	/**
 	 * 
 	 * @param twitter
+	 * @param size     Maximum number of users and of relationships to keep.<br>
+	 *                 <br>
+	 * @param lifetime Milliseconds that each user and relationship is kept.<br>
+	 *                 <br>
 	 */
-	TwitterCache(final TwitterDelegate twitter) {
+	TwitterCache(final TwitterDelegate twitter, final int size, final long lifetime) {
 
 		//
-		this();
+		this.delegate = twitter;
 
 		//
-		this.delegate = twitter;
+		cacheById = new ExpiringCache<Long, User>(size, lifetime);
+
+		//
+		cacheByName = new ExpiringCache<String, User>(size, lifetime);
+
+		//
+		relationships = new ExpiringCache<RelationshipKey, Relationship>(size, lifetime);
 
 	}
 
@@ -173,29 +194,12 @@ final class TwitterCache implements TwitterDelegate {
 	 * @throws ApiException
 	 */
 	public Relationship showFriendship(final long sourceUserId, final long targetUserId) throws ApiException {
-
-		//
-		Relationship relationship = findCacheRelationship(sourceUserId, targetUserId);
-
-		//
-		if (relationship == null) {
-
-			//
-			relationship = delegate.showFriendship(sourceUserId, targetUserId);
-
-			//
-			if (!relationships.containsKey(sourceUserId)) {
-				relationships.put(sourceUserId, new ArrayList<RelationshipCache>());
-			}
-
-			//
-			relationships.get(sourceUserId).add(new RelationshipCache(targetUserId, relationship));
-
-		}
-
-		//
-		return relationship;
-
+		return relationships.get(new RelationshipKey(sourceUserId, targetUserId),
+				new ExpiringCache.Loader<Relationship>() {
+					public Relationship load() throws ApiException {
+						return delegate.showFriendship(sourceUserId, targetUserId);
+					}
+				});
 	}
 
 	/**
@@ -212,28 +216,22 @@ final class TwitterCache implements TwitterDelegate {
 		}
 
 		//
-		if (!cacheById.containsKey(userId)) {
-
-			//
-			final User user = delegate.showUser(userId);
+		return cacheById.get(userId, new ExpiringCache.Loader<User>() {
+			public User load() throws ApiException {
 
-			//
-			if (user == null) {
-				return null;
-			} else {
+				//
+				final User user = delegate.showUser(userId);
 
 				//
-				cacheById.put(userId, user);
+				if (user != null) {
+					cacheByName.put(user.getScreenName(), user);
+				}
 
 				//
-				cacheByName.put(user.getName(), user);
+				return user;
 
 			}
-
-		}
-
-		//
-		return cacheById.get(userId);
+		});
 
 	}
 
@@ -251,28 +249,22 @@ final class TwitterCache implements TwitterDelegate {
 		}
 
 		//
-		if (!cacheByName.containsKey(userScreenName)) {
+		return cacheByName.get(userScreenName, new ExpiringCache.Loader<User>() {
+			public User load() throws ApiException {
 
-			//
-			final User user = delegate.showUser(userScreenName);
-
-			//
-			if (user == null) {
-				return null;
-			} else {
+				//
+				final User user = delegate.showUser(userScreenName);
 
 				//
-				cacheById.put(user.getId(), user);
+				if (user != null) {
+					cacheById.put(user.getId(), user);
+				}
 
 				//
-				cacheByName.put(userScreenName, user);
+				return user;
 
 			}
-
-		}
-
-		//
-		return cacheByName.get(userScreenName);
+		});
 
 	}
 
@@ -297,7 +289,13 @@ final class TwitterCache implements TwitterDelegate {
 	 * @throws ApiException
 	 */
 	public void createFriendship(final long userId) throws ApiException {
+
+		//
 		delegate.createFriendship(userId);
+
+		//
+		removeRelationships(userId);
+
 	}
 
 	/**
@@ -306,7 +304,13 @@ final class TwitterCache implements TwitterDelegate {
 	 * @throws ApiException
 	 */
 	public void destroyFriendship(final long userId) throws ApiException {
+
+		//
 		delegate.destroyFriendship(userId);
+
+		//
+		removeRelationships(userId);
+
 	}
 
 	/**
@@ -349,33 +353,22 @@ final class TwitterCache implements TwitterDelegate {
 	// ///////////////////////////////////////////////////////////////////
 
 	/**
+	 * Removes the cached relationships between the user of the account logged
+	 * into Twitter and another user.
 	 * 
-	 * @param sourceUserId
-	 * @param targetUserId
-	 * @return
+	 * @param userId
+	 * @throws ApiException
 	 */
-	private Relationship findCacheRelationship(final long sourceUserId, final long targetUserId) {
+	private void removeRelationships(final long userId) throws ApiException {
 
 		//
-		final Collection<RelationshipCache> userRelationships = relationships.get(sourceUserId);
+		final long authenticatedUserId = getAuthenticatingUserId();
 
 		//
-		if (userRelationships != null) {
-			for (final Iterator<RelationshipCache> iterator = userRelationships.iterator(); iterator.hasNext();) {
-
-				//
-				final RelationshipCache relationshipCache = iterator.next();
-
-				//
-				if (relationshipCache.getTargetUserId() == targetUserId) {
-					return relationshipCache.getRelationship();
-				}
-
-			}
-		}
+		relationships.remove(new RelationshipKey(authenticatedUserId, userId));
 
 		//
-		return null;
+		relationships.remove(new RelationshipKey(userId, authenticatedUserId));
 
 	}
 
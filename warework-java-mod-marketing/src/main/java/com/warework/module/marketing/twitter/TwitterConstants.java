@@ -27,6 +27,12 @@ public final class TwitterConstants {
 	 */
 	public static final long CACHE_DEFAULT_LIFETIME_HELPER = 15 * DateL2Helper.MINUTE_MILLIS;
 
+	/**
+	 * Maximum number of users and of relationships in the cache of the Twitter
+	 * helper.
+	 */
+	public static final int CACHE_DEFAULT_SIZE_HELPER = 10000;
+
 	/*
 	 * API RATE LIMITS
 	 */
@@ -31,12 +31,9 @@ public final class TwitterHelper {
 	//
 	private TwitterRateController rateController;
 
-	//
+	// Users and relationships that expire one by one.
 	private TwitterDelegate cache;
 
-	// Last time cache was updated.
-	private long cacheStartTime;
-
 	// ///////////////////////////////////////////////////////////////////
 	// CONSTRUCTORS
 	// ///////////////////////////////////////////////////////////////////
@@ -45,7 +42,7 @@ public final class TwitterHelper {
 	 * 
 	 */
 	private TwitterHelper() {
-		cacheStartTime = System.currentTimeMillis();
+		// DO NOTHING.
 	}
 
 	/**
@@ -410,21 +407,7 @@ public final class TwitterHelper {
 	 * @return
 	 */
 	private TwitterDelegate getTwitterDelegate() {
-
-		//
-		if ((System.currentTimeMillis() - cacheStartTime) >= TwitterConstants.CACHE_DEFAULT_LIFETIME_HELPER) {
-
-			//
-			cache = new TwitterCache(rateController);
-
-			// Set authenticating user cache time.
-			cacheStartTime = System.currentTimeMillis();
-
-		}
-
-		//
 		return cache;
-
 	}
 
 }
@@ -1,13 +1,24 @@
 package com.warework.core.scope;
 
+import java.util.ArrayList;
 import java.util.Enumeration;
+import java.util.List;
 
 import com.warework.core.model.Scope;
 
 import jakarta.servlet.http.HttpSessionContext;
 
 /**
- * 
+ * Warework Scope for HTTP sessions. Attributes are written into the wrapped
+ * <code>HttpSession</code> as soon as they are set, unless the context filter
+ * is configured with <code>PARAMETER_DEFER_SESSION_CHANGES</code>. In that
+ * case, the changes made while the filter processes a request are written into
+ * the <code>HttpSession</code> once, when the request ends. Until then, only
+ * this Scope sees them: JSP/EL <code>sessionScope</code>, other filters and code
+ * that reads the <code>HttpSession</code> directly see the previous values, and
+ * <code>HttpSessionBindingListener</code> and
+ * <code>HttpSessionAttributeListener</code> instances are notified after the
+ * response is committed.
  * 
  * @author Jose Schiaffino
  * @version ${project.version}
@@ -39,7 +50,7 @@ public abstract class AbstractHttpSessionScope extends AbstractJakartaContext.Ab
 	 */
 	@Override
 	public Enumeration<String> getAttributeNames() {
-		return getWrappedScope().getAttributeNames();
+		return getSessionAttributeNames();
 	}
 
 	/*
@@ -47,7 +58,7 @@ public abstract class AbstractHttpSessionScope extends AbstractJakartaContext.Ab
 	 */
 	@Override
 	public Object getAttribute(final String name) {
-		return getWrappedScope().getAttribute(name);
+		return getSessionAttribute(name);
 	}
 
 	// ///////////////////////////////////////////////////////////////////
@@ -110,7 +121,7 @@ public abstract class AbstractHttpSessionScope extends AbstractJakartaContext.Ab
 	 *                                  session.
 	 */
 	public Object getValue(final String name) {
-		return getWrappedScope().getValue(name);
+		return getSessionAttribute(name);
 	}
 
 	/**
@@ -127,7 +138,16 @@ public abstract class AbstractHttpSessionScope extends AbstractJakartaContext.Ab
 	 *                                  session.
 	 */
 	public String[] getValueNames() {
-		return getWrappedScope().getValueNames();
+
+		// Get the names of the attributes.
+		final List<String> names = new ArrayList<String>();
+		for (final Enumeration<String> e = getSessionAttributeNames(); e.hasMoreElements();) {
+			names.add(e.nextElement());
+		}
+
+		// Return the names.
+		return names.toArray(new String[names.size()]);
+
 	}
 
 	/**
@@ -147,7 +167,7 @@ public abstract class AbstractHttpSessionScope extends AbstractJakartaContext.Ab
 	 *
 	 */
 	public void putValue(final String name, final Object value) {
-		getWrappedScope().putValue(name, value);
+		setAttribute(name, value);
 	}
 
 	/**
@@ -163,14 +183,20 @@ public abstract class AbstractHttpSessionScope extends AbstractJakartaContext.Ab
 	 *                                  session.
 	 */
 	public void removeValue(final String name) {
-		getWrappedScope().removeValue(name);
+		removeAttribute(name);
 	}
 
 	/*
 	 * 
 	 */
 	public void invalidate() {
+
+		// Changes of the current request are lost with the session.
+		discardChanges();
+
+		// Invalidate the session.
 		getWrappedScope().invalidate();
+
 	}
 
 	/*
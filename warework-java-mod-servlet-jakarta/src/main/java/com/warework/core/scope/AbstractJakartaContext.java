@@ -3,9 +3,17 @@ package com.warework.core.scope;
 import java.io.IOException;
 import java.net.MalformedURLException;
 import java.net.URL;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.Collections;
 import java.util.Enumeration;
 import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
 import com.warework.core.model.Scope;
 import com.warework.core.provider.ProviderException;
@@ -57,6 +65,10 @@ public abstract class AbstractJakartaContext extends AbstractContext
 
 	private static final Map<String, AbstractScope> CONTEXT_REQUEST = new HashMap<String, AbstractScope>();
 
+	// PROTOTYPES
+
+	private static final Map<String, Scope> PROTOTYPE_REQUEST = new ConcurrentHashMap<String, Scope>();
+
 	// ///////////////////////////////////////////////////////////////////
 	// INNER CLASSES
 	// ///////////////////////////////////////////////////////////////////
@@ -252,9 +264,16 @@ public abstract class AbstractJakartaContext extends AbstractContext
 		// ATTRIBUTES
 		// ///////////////////////////////////////////////////////////////
 
+		// Value of the attributes removed by the current request.
+		private static final Object REMOVED = new Object();
+
 		// JEE wrapped Scope.
 		private HttpSession session;
 
+		// Attributes changed by the request that each thread is processing. Removed
+		// attributes hold the REMOVED value.
+		private final ThreadLocal<Map<String, Object>> changes = new ThreadLocal<Map<String, Object>>();
+
 		// ///////////////////////////////////////////////////////////////
 		// CONSTRUCTORS
 		// ///////////////////////////////////////////////////////////////
@@ -324,7 +343,12 @@ public abstract class AbstractJakartaContext extends AbstractContext
 		/**
 		 * Binds an object to a given attribute name to this Scope, using the name
 		 * specified. If an object of the same name is already bound to the Scope, the
-		 * object is replaced.
+		 * object is replaced. When the context filter defers session changes (see
+		 * <code>PARAMETER_DEFER_SESSION_CHANGES</code>) and is processing the
+		 * current request, the change is written into the HTTP session when the
+		 * request ends, and immutable values (strings, numbers, booleans, characters
+		 * and enumerations) equal to the bound ones are not written again, so
+		 * containers that replicate sessions do not consider them changed.
 		 * 
 		 * @param name  The name to which the object is bound. If an object of the same
 		 *              name is already bound to this session, the object is
@@ -336,14 +360,32 @@ public abstract class AbstractJakartaContext extends AbstractContext
 		@Override
 		public final void setAttribute(final String name, final Object value) {
 			if ((validateID(this)) || (!name.equals(ATTRIBUTE_SCOPE_ID))) {
-				session.setAttribute(name, value);
+				if (value == null) {
+					removeAttribute(name);
+				} else {
+
+					// Get the changes of the current request.
+					final Map<String, Object> pending = changes.get();
+
+					// Write the value or record the change.
+					if (pending == null) {
+						session.setAttribute(name, value);
+					} else if (isUnchanged(session.getAttribute(name), value)) {
+						pending.remove(name);
+					} else {
+						pending.put(name, value);
+					}
+
+				}
 			}
 		}
 
 		/**
 		 * Removes the object bound with the specified name from this Scope. If this
 		 * Scope does not have an object bound with the specified name, this method does
-		 * nothing.
+		 * nothing. When the context filter defers session changes and is processing
+		 * the current request, the attribute is removed from the HTTP session when
+		 * the request ends.
 		 * 
 		 * @param name The name to which the object is bound.<br>
 		 *             <br>
@@ -351,7 +393,19 @@ public abstract class AbstractJakartaContext extends AbstractContext
 		@Override
 		public final void removeAttribute(final String name) {
 			if ((validateID(this)) || (!name.equals(ATTRIBUTE_SCOPE_ID))) {
-				session.removeAttribute(name);
+
+				// Get the changes of the current request.
+				final Map<String, Object> pending = changes.get();
+
+				// Remove the attribute or record the change.
+				if (pending == null) {
+					session.removeAttribute(name);
+				} else if (session.getAttribute(name) == null) {
+					pending.remove(name);
+				} else {
+					pending.put(name, REMOVED);
+				}
+
 			}
 		}
 
@@ -380,6 +434,171 @@ public abstract class AbstractJakartaContext extends AbstractContext
 			return session;
 		}
 
+		/**
+		 * Gets an attribute of the HTTP session, including the changes of the
+		 * current request that are not written yet.
+		 * 
+		 * @param name The name of the attribute.<br>
+		 *             <br>
+		 * @return Value of the attribute or <code>null</code> if it does not
+		 *         exist.<br>
+		 *         <br>
+		 */
+		protected final Object getSessionAttribute(final String name) {
+
+			// Get the changes of the current request.
+			final Map<String, Object> pending = changes.get();
+
+			// Get the value changed by the request.
+			if ((pending != null) && (pending.containsKey(name))) {
+
+				// Get the new value.
+				final Object value = pending.get(name);
+
+				// Return the value.
+				return (value == REMOVED) ? null : value;
+
+			}
+
+			// Get the value from the HTTP session.
+			return session.getAttribute(name);
+
+		}
+
+		/**
+		 * Gets the names of the attributes of the HTTP session, including the changes
+		 * of the current request that are not written yet.
+		 * 
+		 * @return Names of the attributes.<br>
+		 *         <br>
+		 */
+		protected final Enumeration<String> getSessionAttributeNames() {
+
+			// Get the changes of the current request.
+			final Map<String, Object> pending = changes.get();
+
+			// Return the names of the HTTP session when there are no changes.
+			if ((pending == null) || (pending.isEmpty())) {
+				return session.getAttributeNames();
+			}
+
+			// Get the names of the HTTP session.
+			final Set<String> names = new LinkedHashSet<String>();
+			for (final Enumeration<String> e = session.getAttributeNames(); e.hasMoreElements();) {
+				names.add(e.nextElement());
+			}
+
+			// Apply the changes of the request.
+			for (final Iterator<Map.Entry<String, Object>> i = pending.entrySet().iterator(); i.hasNext();) {
+
+				// Get one change.
+				final Map.Entry<String, Object> entry = i.next();
+
+				// Add or remove the name.
+				if (entry.getValue() == REMOVED) {
+					names.remove(entry.getKey());
+				} else {
+					names.add(entry.getKey());
+				}
+
+			}
+
+			// Return the names.
+			return Collections.enumeration(names);
+
+		}
+
+		/**
+		 * Discards the changes of the current request that are not written yet.
+		 */
+		protected final void discardChanges() {
+			changes.remove();
+		}
+
+		// ///////////////////////////////////////////////////////////////
+		// PACKAGE METHODS
+		// ///////////////////////////////////////////////////////////////
+
+		/**
+		 * Starts recording the changes of the attributes made by the current request.
+		 * 
+		 * @return <code>true</code> if the changes were not being recorded yet.<br>
+		 *         <br>
+		 */
+		final boolean startChanges() {
+
+			// Validate that no outer request is recording changes.
+			if (changes.get() != null) {
+				return false;
+			}
+
+			// Start recording.
+			changes.set(new LinkedHashMap<String, Object>());
+
+			// Recording started.
+			return true;
+
+		}
+
+		/**
+		 * Writes in the HTTP session the attributes changed by the current request
+		 * and stops recording changes.
+		 */
+		final void commitChanges() {
+
+			// Get the changes of the current request.
+			final Map<String, Object> pending = changes.get();
+
+			// Stop recording.
+			changes.remove();
+
+			// Write each change.
+			if (pending != null) {
+				try {
+					for (final Iterator<Map.Entry<String, Object>> i = pending.entrySet().iterator(); i.hasNext();) {
+
+						// Get one change.
+						final Map.Entry<String, Object> entry = i.next();
+
+						// Write the change.
+						if (entry.getValue() == REMOVED) {
+							session.removeAttribute(entry.getKey());
+						} else {
+							session.setAttribute(entry.getKey(), entry.getValue());
+						}
+
+					}
+				} catch (final IllegalStateException e) {
+					// DO NOTHING. SESSION WAS INVALIDATED.
+				}
+			}
+
+		}
+
+		// ///////////////////////////////////////////////////////////////
+		// PRIVATE METHODS
+		// ///////////////////////////////////////////////////////////////
+
+		/**
+		 * Validates if a new value of an attribute is an immutable value equal to the
+		 * current one.
+		 * 
+		 * @param current Current value.<br>
+		 *                <br>
+		 * @param value   New value.<br>
+		 *                <br>
+		 * @return <code>true</code> if writing the new value does not change the
+		 *         attribute.<br>
+		 *         <br>
+		 */
+		private static boolean isUnchanged(final Object current, final Object value) {
+			return (current != null) && ((value instanceof String) || (value instanceof Boolean)
+					|| (value instanceof Character) || (value instanceof Byte) || (value instanceof Short)
+					|| (value instanceof Integer) || (value instanceof Long) || (value instanceof Float)
+					|| (value instanceof Double) || (value instanceof BigInteger) || (value instanceof BigDecimal)
+					|| (value instanceof Enum<?>)) && (value.equals(current));
+		}
+
 	}
 
 	/**
@@ -679,6 +898,13 @@ public abstract class AbstractJakartaContext extends AbstractContext
 
 	}
 
+	// ///////////////////////////////////////////////////////////////////
+	// ATTRIBUTES
+	// ///////////////////////////////////////////////////////////////////
+
+	// Flag to write the session changes of each request when the request ends.
+	private boolean deferSessionChanges;
+
 	// ///////////////////////////////////////////////////////////////////
 	// PUBLIC METHODS
 	// ///////////////////////////////////////////////////////////////////
@@ -737,6 +963,19 @@ public abstract class AbstractJakartaContext extends AbstractContext
 					.log("WAREWORK cannot create the Servlet Scope because the following problem was found: "
 							+ e.getMessage(), e);
 		}
+		try {
+
+			// Get the JEE servlet context.
+			final ServletContext context = event.getServletContext();
+
+			// Load the configuration of the Request Scopes just once.
+			PROTOTYPE_REQUEST.put(getScopeName(context), createRequestPrototype(context));
+
+		} catch (final ScopeException e) {
+			event.getServletContext()
+					.log("WAREWORK cannot load the configuration of the Request Scope because the following problem was found: "
+							+ e.getMessage(), e);
+		}
 	}
 
 	/**
@@ -754,6 +993,9 @@ public abstract class AbstractJakartaContext extends AbstractContext
 		// Get the name of the Scope.
 		final String name = getScopeName(context);
 
+		// Remove the configuration of the Request Scopes.
+		PROTOTYPE_REQUEST.remove(name);
+
 		// Validate Scope exists in global context.
 		if (CONTEXT_SERVLET.containsKey(name)) {
 
@@ -881,31 +1123,18 @@ public abstract class AbstractJakartaContext extends AbstractContext
 			final String name = KEYWORD_WEB + StringL2Helper.CHARACTER_GREATER_THAN + KEYWORD_SCOPE_REQUEST
 					+ StringL2Helper.CHARACTER_LEFT_PARENTHESES + id + StringL2Helper.CHARACTER_RIGHT_PARENTHESES;
 
-			// Get XML configuration file path.
-			URL configTarget = null;
-			try {
-				configTarget = getScopeURL(context, DEFAULT_CONFIG_NAME_REQUEST);
-			} catch (final MalformedURLException e) {
-				// DO NOTHING. CONFIG IS OPTIONAL.
+			// Get the configuration loaded on start up or load it when it does not exist.
+			Scope prototype = PROTOTYPE_REQUEST.get(getScopeName(context));
+			if (prototype == null) {
+				prototype = createRequestPrototype(context);
 			}
 
 			// Create new Scope configuration.
-			final Scope config = new Scope(name);
-
-			// Configure Scope to create.
-			config.setInitParameter(ScopeL1Constants.PARAMETER_WRAPPED_SCOPE, request);
-			config.setInitParameter(ScopeL1Constants.PARAMETER_CONTEXT_LOADER, context);
-
-			// Load XML configuration file.
-			if (configTarget != null) {
-				config.setInitParameter(ScopeL1Constants.PARAMETER_CONFIG_CLASS, ServletXmlLoader.class);
-				config.setInitParameter(ScopeL1Constants.PARAMETER_CONFIG_TARGET, configTarget);
-			}
+			final Scope config = createConfig(prototype, name, request);
 
 			// Add Scope in this context.
-			CONTEXT_REQUEST.put(name,
-					(request instanceof HttpServletRequest) ? createHttpRequestScope(updateConfig(config))
-							: createRequestScope(updateConfig(config)));
+			CONTEXT_REQUEST.put(name, (request instanceof HttpServletRequest) ? createHttpRequestScope(config)
+					: createRequestScope(config));
 
 			// Save request ID as a request attribute.
 			if (!validateID(request)) {
@@ -950,10 +1179,17 @@ public abstract class AbstractJakartaContext extends AbstractContext
 	// ///////////////////////////////////////////////////////////////////
 
 	/**
-	 * This method does not perform any operation.
+	 * Initializes the filter.
+	 * 
+	 * @param config Filter configuration. Initialization parameter
+	 *               <code>PARAMETER_DEFER_SESSION_CHANGES</code> is read from
+	 *               it.<br>
+	 *               <br>
+	 * @throws ServletException If the filter cannot be initialized.<br>
+	 *                          <br>
 	 */
 	public final void init(final FilterConfig config) throws ServletException {
-		// DO NOTHING.
+		deferSessionChanges = Boolean.parseBoolean(config.getInitParameter(PARAMETER_DEFER_SESSION_CHANGES));
 	}
 
 	/**
@@ -969,7 +1205,22 @@ public abstract class AbstractJakartaContext extends AbstractContext
 	 */
 	public final void doFilter(final ServletRequest request, final ServletResponse response, final FilterChain chain)
 			throws IOException, ServletException {
-		chain.doFilter((ServletRequest) CONTEXT_REQUEST.get(getScopeName(request)), response);
+
+		// Get the Session Scope of the request when its changes are deferred.
+		final AbstractHttpSessionScope session = (deferSessionChanges) ? getSessionScope(request) : null;
+
+		// Record the changes of the session attributes until the request ends.
+		final boolean tracking = (session != null) && (session.startChanges());
+
+		// Process the request with the Warework request Scope.
+		try {
+			chain.doFilter((ServletRequest) CONTEXT_REQUEST.get(getScopeName(request)), response);
+		} finally {
+			if (tracking) {
+				session.commitChanges();
+			}
+		}
+
 	}
 
 	/**
@@ -1089,6 +1340,63 @@ public abstract class AbstractJakartaContext extends AbstractContext
 				+ StringL2Helper.CHARACTER_RIGHT_PARENTHESES;
 	}
 
+	/**
+	 * Loads the prototype of the configuration for the Request Scopes of a
+	 * servlet context.
+	 * 
+	 * @param context JEE servlet context.<br>
+	 *                <br>
+	 * @return Prototype of the Request Scope configuration.<br>
+	 *         <br>
+	 * @throws ScopeException If there is an error when trying to load the
+	 *                        configuration of the Scope.<br>
+	 *                        <br>
+	 */
+	private Scope createRequestPrototype(final ServletContext context) throws ScopeException {
+
+		// Get XML configuration file path.
+		URL configTarget = null;
+		try {
+			configTarget = getScopeURL(context, DEFAULT_CONFIG_NAME_REQUEST);
+		} catch (final MalformedURLException e) {
+			// DO NOTHING. CONFIG IS OPTIONAL.
+		}
+
+		// Load the configuration.
+		return createPrototype(context, configTarget);
+
+	}
+
+	/**
+	 * Gets the Session Scope of a request.
+	 * 
+	 * @param request JEE servlet request.<br>
+	 *                <br>
+	 * @return Session Scope or <code>null</code> if the request has no HTTP
+	 *         session.<br>
+	 *         <br>
+	 */
+	private static AbstractHttpSessionScope getSessionScope(final ServletRequest request) {
+
+		// Only HTTP requests have sessions.
+		if (!(request instanceof HttpServletRequest)) {
+			return null;
+		}
+
+		// Get the session without creating it.
+		final HttpSession session = ((HttpServletRequest) request).getSession(false);
+		if (session == null) {
+			return null;
+		}
+
+		// Get the Session Scope.
+		final AbstractScope scope = CONTEXT_SESSION.get(getScopeName(session));
+
+		// Return the Session Scope.
+		return (scope instanceof AbstractHttpSessionScope) ? (AbstractHttpSessionScope) scope : null;
+
+	}
+
 	// ///////////////////////////////////////////////////////////////////
 
 	/**
@@ -1,9 +1,20 @@
 package com.warework.core.scope;
 
+import java.util.ArrayList;
+import java.util.Enumeration;
+import java.util.List;
+
 import com.warework.core.loader.AbstractLoader;
 import com.warework.core.loader.LoaderFacade;
+import com.warework.core.model.Client;
+import com.warework.core.model.ObjectReference;
+import com.warework.core.model.Provider;
+import com.warework.core.model.ProxyService;
 import com.warework.core.model.Scope;
+import com.warework.core.model.Service;
+import com.warework.core.util.bean.Parameter;
 import com.warework.core.util.helper.StringL2Helper;
+import com.warework.loader.ServletXmlLoader;
 import com.warework.service.log.LogServiceConstants;
 
 /**
@@ -44,6 +55,19 @@ public abstract class AbstractContext {
 
 	protected static final String ATTRIBUTE_SCOPE_ID = "$" + KEYWORD_SCOPE + StringL2Helper.CHARACTER_HYPHEN + "id";
 
+	// FILTER PARAMETERS
+
+	/**
+	 * Filter initialization parameter that specifies if the changes of the
+	 * session attributes made by a request are written into the HTTP session
+	 * when the request ends, instead of when they are made. Repeated writes of an
+	 * attribute then reach the container as one change, but other code that
+	 * reads the HTTP session during the request does not see them. Values for
+	 * this parameter can be <code>true</code> or <code>false</code>. Default
+	 * value is <code>false</code>.
+	 */
+	public static final String PARAMETER_DEFER_SESSION_CHANGES = "defer-session-changes";
+
 	// ///////////////////////////////////////////////////////////////////
 	// INNER CLASSES
 	// ///////////////////////////////////////////////////////////////////
@@ -385,6 +409,128 @@ public abstract class AbstractContext {
 
 	}
 
+	/**
+	 * Creates the prototype of the configuration for a type of Scope. The
+	 * configuration file is loaded and validated just once, so each new Scope of
+	 * this type only has to copy the prototype with <code>createConfig</code>.
+	 * 
+	 * @param contextLoader Context loader for the Scopes.<br>
+	 *                      <br>
+	 * @param configTarget  Configuration file for the Scopes or <code>null</code>
+	 *                      if they do not have one.<br>
+	 *                      <br>
+	 * @return Prototype of the Scope configuration.<br>
+	 *         <br>
+	 * @throws ScopeException If there is an error when trying to load the
+	 *                        configuration of the Scope.<br>
+	 *                        <br>
+	 */
+	protected final Scope createPrototype(final Object contextLoader, final Object configTarget)
+			throws ScopeException {
+
+		// Create new Scope configuration.
+		final Scope config = new Scope();
+
+		// Configure Scope to create.
+		config.setInitParameter(ScopeL1Constants.PARAMETER_CONTEXT_LOADER, contextLoader);
+
+		// Load XML configuration file.
+		if (configTarget != null) {
+			config.setInitParameter(ScopeL1Constants.PARAMETER_CONFIG_CLASS, ServletXmlLoader.class);
+			config.setInitParameter(ScopeL1Constants.PARAMETER_CONFIG_TARGET, configTarget);
+		}
+
+		// Return the full configuration.
+		return updateConfig(config);
+
+	}
+
+	/**
+	 * Creates the configuration for a Scope from a prototype. Each Provider,
+	 * Service and Client of the prototype is copied into the new configuration,
+	 * so the Scopes created from the same prototype do not share them and the
+	 * prototype is not modified. Initialization parameters, object references
+	 * and context Scopes are shared with the prototype.
+	 * 
+	 * @param prototype    Prototype of the Scope configuration.<br>
+	 *                     <br>
+	 * @param name         Name of the Scope.<br>
+	 *                     <br>
+	 * @param wrappedScope JEE object wrapped by the Scope.<br>
+	 *                     <br>
+	 * @return Scope configuration.<br>
+	 *         <br>
+	 */
+	protected static Scope createConfig(final Scope prototype, final String name, final Object wrappedScope) {
+
+		// Create new Scope configuration.
+		final Scope config = new Scope(name);
+
+		// Set parent Scope name.
+		config.setParent(prototype.getParent());
+
+		// Copy initialization parameters.
+		final Enumeration<String> initParamNames = prototype.getInitParameterNames();
+		if (initParamNames != null) {
+			while (initParamNames.hasMoreElements()) {
+
+				// Get the name of the initialization parameter.
+				final String initParamName = initParamNames.nextElement();
+
+				// Set the initialization parameter in the new configuration.
+				config.setInitParameter(initParamName, prototype.getInitParameter(initParamName));
+
+			}
+		}
+
+		// Copy Providers.
+		final Enumeration<String> providerNames = prototype.getProviderNames();
+		if (providerNames != null) {
+			while (providerNames.hasMoreElements()) {
+				config.setProvider(copyProvider(prototype.getProvider(providerNames.nextElement())));
+			}
+		}
+
+		// Copy Services.
+		final Enumeration<String> serviceNames = prototype.getServiceNames();
+		if (serviceNames != null) {
+			while (serviceNames.hasMoreElements()) {
+				config.setService(copyService(prototype.getService(serviceNames.nextElement())));
+			}
+		}
+
+		// Copy object references.
+		final Enumeration<String> objectReferenceNames = prototype.getObjectReferenceNames();
+		if (objectReferenceNames != null) {
+			while (objectReferenceNames.hasMoreElements()) {
+
+				// Get the object reference config.
+				final ObjectReference objectReference = prototype
+						.getObjectReference(objectReferenceNames.nextElement());
+
+				// Set the object reference in the new configuration.
+				config.setObjectReference(objectReference.getName(), objectReference.getProvider(),
+						objectReference.getObject());
+
+			}
+		}
+
+		// Copy context scopes.
+		final Enumeration<String> contextScopeNames = prototype.getContextScopeNames();
+		if (contextScopeNames != null) {
+			while (contextScopeNames.hasMoreElements()) {
+				config.setContextScope(prototype.getContextScope(contextScopeNames.nextElement()));
+			}
+		}
+
+		// Configure Scope to create.
+		config.setInitParameter(ScopeL1Constants.PARAMETER_WRAPPED_SCOPE, wrappedScope);
+
+		// Return the configuration.
+		return config;
+
+	}
+
 	/**
 	 * Gets the class than implements an interface defined by an initialization
 	 * parameter.
@@ -425,4 +571,125 @@ public abstract class AbstractContext {
 
 	}
 
+	// ///////////////////////////////////////////////////////////////////
+	// PRIVATE METHODS
+	// ///////////////////////////////////////////////////////////////////
+
+	/**
+	 * Creates a copy of a Provider configuration.
+	 * 
+	 * @param provider Provider configuration to copy.<br>
+	 *                 <br>
+	 * @return New Provider configuration with the same name, class and
+	 *         parameters.<br>
+	 *         <br>
+	 */
+	private static Provider copyProvider(final Provider provider) {
+
+		// Create new Provider configuration.
+		final Provider copy = new Provider();
+
+		// Copy the Provider.
+		copy.setName(provider.getName());
+		copy.setClazz(provider.getClazz());
+		copy.setParameters(copyParameters(provider.getParameters()));
+
+		// Return the copy.
+		return copy;
+
+	}
+
+	/**
+	 * Creates a copy of a Service configuration. When the Service is the
+	 * configuration target of itself, the parameter is not copied, so the
+	 * Scope sets the copy as its configuration target.
+	 * 
+	 * @param service Service configuration to copy.<br>
+	 *                <br>
+	 * @return New Service configuration with the same name, class, parameters
+	 *         and Clients.<br>
+	 *         <br>
+	 */
+	private static Service copyService(final Service service) {
+
+		// Create new Service configuration.
+		final Service copy = (service instanceof ProxyService) ? new ProxyService() : new Service();
+
+		// Copy the Service.
+		copy.setName(service.getName());
+		copy.setClazz(service.getClazz());
+
+		// Copy the parameters of the Service.
+		if (service.getParameters() != null) {
+			for (final Parameter parameter : service.getParameters()) {
+				if (parameter.getValue() != service) {
+					copy.setParameter(parameter.getName(), parameter.getValue());
+				}
+			}
+		}
+
+		// Copy the Clients of the Service.
+		if (service instanceof ProxyService) {
+
+			// Get the Service that holds the Clients.
+			final ProxyService proxyService = (ProxyService) service;
+
+			// Get the name of every Client.
+			final Enumeration<String> clientNames = proxyService.getClientNames();
+			if (clientNames != null) {
+				while (clientNames.hasMoreElements()) {
+
+					// Get the Client config.
+					final Client client = proxyService.getClient(clientNames.nextElement());
+
+					// Create new Client configuration.
+					final Client clientCopy = new Client();
+
+					// Copy the Client.
+					clientCopy.setName(client.getName());
+					clientCopy.setConnector(client.getConnector());
+					clientCopy.setParameters(copyParameters(client.getParameters()));
+
+					// Set the Client in the new Service.
+					((ProxyService) copy).setClient(clientCopy);
+
+				}
+			}
+
+		}
+
+		// Return the copy.
+		return copy;
+
+	}
+
+	/**
+	 * Creates a copy of a list of parameters. Values are not copied.
+	 * 
+	 * @param parameters Parameters to copy.<br>
+	 *                   <br>
+	 * @return New list with a new parameter for each given parameter or
+	 *         <code>null</code> if no parameters are given.<br>
+	 *         <br>
+	 */
+	private static List<Parameter> copyParameters(final List<Parameter> parameters) {
+
+		// Nothing to copy.
+		if (parameters == null) {
+			return null;
+		}
+
+		// Create the list for the copies.
+		final List<Parameter> copy = new ArrayList<Parameter>(parameters.size());
+
+		// Copy each parameter.
+		for (final Parameter parameter : parameters) {
+			copy.add(new Parameter(parameter.getName(), parameter.getValue()));
+		}
+
+		// Return the copy.
+		return copy;
+
+	}
+
 }
@@ -1,11 +1,16 @@
 package com.warework.service.converter;
 
+import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 import com.warework.core.service.AbstractProxyService;
 import com.warework.core.service.ServiceException;
+import com.warework.core.service.ServiceOperation;
 import com.warework.core.service.client.ClientException;
+import com.warework.core.service.client.connector.ConnectorFacade;
 import com.warework.service.converter.client.ConverterFacade;
+import com.warework.service.converter.client.connector.AbstractConverterConnector;
 import com.warework.service.log.LogServiceConstants;
 
 /**
@@ -122,10 +127,76 @@ import com.warework.service.log.LogServiceConstants;
  */
 public final class ConverterServiceImpl extends AbstractProxyService implements ConverterServiceFacade {
 
+	// ///////////////////////////////////////////////////////////////////
+	// ATTRIBUTES
+	// ///////////////////////////////////////////////////////////////////
+
+	// Cache of each Converter that defines the cache-size parameter.
+	private final Map<String, TransformCache> caches = new ConcurrentHashMap<String, TransformCache>();
+
 	// ///////////////////////////////////////////////////////////////////
 	// PUBLIC METHODS
 	// ///////////////////////////////////////////////////////////////////
 
+	/**
+	 * Creates a Converter and binds it to this Service, using the name specified.
+	 * The cache of the Converter is created here when the Converter defines the
+	 * <code>cache-size</code> parameter.
+	 * 
+	 * @param clientName           The name to which the Converter will be bound in
+	 *                             the Service.<br>
+	 *                             <br>
+	 * @param connectorType        Implementation of the Connector that specifies
+	 *                             which Converter to use.<br>
+	 *                             <br>
+	 * @param connectionParameters Parameters that specifies how the Connector will
+	 *                             create the Converter.<br>
+	 *                             <br>
+	 * @throws ServiceException If there is an error when trying to create the
+	 *                          Converter.<br>
+	 *                          <br>
+	 */
+	public void createClient(final String clientName, final Class<? extends ConnectorFacade> connectorType,
+			final Map<String, Object> connectionParameters) throws ServiceException {
+
+		// Create the Converter.
+		super.createClient(clientName, connectorType, connectionParameters);
+
+		// Get the Connector of the Converter.
+		final ConnectorFacade connector = getClient(clientName).getConnector();
+
+		// Get the size of the cache.
+		final Integer cacheSize = connector.toInteger(AbstractConverterConnector.PARAMETER_CACHE_SIZE);
+
+		// Create the cache when required.
+		if ((cacheSize != null) && (cacheSize.intValue() > 0)) {
+			caches.put(clientName, new TransformCache(connector, cacheSize.intValue()));
+		}
+
+	}
+
+	/**
+	 * Removes a Converter bound to this Service and its cache.
+	 * 
+	 * @param clientName The name to which the Converter is bound in the
+	 *                   Service.<br>
+	 *                   <br>
+	 * @throws ServiceException If there is an error when trying to remove the
+	 *                          Converter.<br>
+	 *                          <br>
+	 */
+	public void removeClient(final String clientName) throws ServiceException {
+
+		// Remove the Converter.
+		super.removeClient(clientName);
+
+		// Remove the cache of the Converter.
+		if (clientName != null) {
+			caches.remove(clientName);
+		}
+
+	}
+
 	/**
 	 * Transforms a given object into another object.
 	 * 
@@ -149,7 +220,32 @@ public final class ConverterServiceImpl extends AbstractProxyService implements
 		// Return the object from the Converter.
 		if (converter != null) {
 			try {
-				return converter.transform(source);
+
+				// Get the cache of the Converter, if any.
+				final TransformCache cache = caches.get(converterName);
+
+				// Get the key of the source object in the cache.
+				final TransformCache.Key key = (cache == null) ? null : cache.toKey(source);
+
+				// Return the cached result when the source was already transformed.
+				if (key != null) {
+					final Object result = cache.get(key);
+					if (result != null) {
+						return result;
+					}
+				}
+
+				// Transform the object.
+				final Object result = converter.transform(source);
+
+				// Cache the result.
+				if (key != null) {
+					cache.put(key, result);
+				}
+
+				// Return the result.
+				return result;
+
 			} catch (final ClientException e) {
 				throw new ServiceException(getScopeFacade(),
 						"WAREWORK cannot transform given object in Converter '" + converterName + "' at Service '"
@@ -194,24 +290,65 @@ public final class ConverterServiceImpl extends AbstractProxyService implements
 	}
 
 	/**
-	 * Executes a Converter Service operation.
+	 * Gets the statistics of the cache of a Converter. Results are cached only
+	 * when the Converter defines the <code>cache-size</code> parameter.
 	 * 
-	 * @param operationName Name of the operation to execute.<br>
-	 *                      <br>
-	 * @param parameters    Operation parameters.<br>
+	 * @param converterName The name to which the Converter is bound in the
+	 *                      Service.<br>
 	 *                      <br>
-	 * @return Operation result.<br>
+	 * @return Number of hits, misses and results stored in the cache. Use the
+	 *         <code>ConverterServiceConstants.CACHE_STATISTIC_xyz</code>
+	 *         constants to get each value.<br>
 	 *         <br>
-	 * @throws ServiceException If there is an error when trying to perform the
-	 *                          transformation.<br>
+	 * @throws ServiceException If the Converter does not exists.<br>
 	 *                          <br>
 	 */
-	public Object execute(final String operationName, final Map<String, Object> parameters) throws ServiceException {
-		if (operationName.equals(ConverterServiceConstants.OPERATION_NAME_TRANSFORM)) {
-			return executeTransform(parameters);
-		} else {
-			return super.execute(operationName, parameters);
+	public Map<String, Long> getCacheStatistics(final String converterName) throws ServiceException {
+
+		// Get the facade of the Converter.
+		final ConverterFacade converter = (ConverterFacade) getClient(converterName);
+		if (converter == null) {
+			throw new ServiceException(getScopeFacade(), "WAREWORK cannot get the cache statistics of Converter '"
+					+ converterName + "' because Converter does not exists.", null, LogServiceConstants.LOG_LEVEL_WARN);
 		}
+
+		// Get the cache of the Converter.
+		final TransformCache cache = caches.get(converterName);
+
+		// Create the statistics.
+		final Map<String, Long> statistics = new HashMap<String, Long>();
+		statistics.put(ConverterServiceConstants.CACHE_STATISTIC_HITS, (cache == null) ? 0L : cache.getHits());
+		statistics.put(ConverterServiceConstants.CACHE_STATISTIC_MISSES, (cache == null) ? 0L : cache.getMisses());
+		statistics.put(ConverterServiceConstants.CACHE_STATISTIC_SIZE, (cache == null) ? 0L : (long) cache.size());
+
+		// Return the statistics.
+		return statistics;
+
+	}
+
+	// ///////////////////////////////////////////////////////////////////
+	// PROTECTED METHODS
+	// ///////////////////////////////////////////////////////////////////
+
+	/**
+	 * Initializes the Service and registers the operations of the Converter Service.
+	 * 
+	 * @throws ServiceException If there is an error when trying to initialize the
+	 *                          Service.<br>
+	 *                          <br>
+	 */
+	protected void initialize() throws ServiceException {
+
+		// Initialize the Proxy Service.
+		super.initialize();
+
+		// Register the operations of the Service.
+		registerOperation(ConverterServiceConstants.OPERATION_NAME_TRANSFORM, new ServiceOperation() {
+			public Object execute(final Map<String, Object> parameters) throws ServiceException {
+				return executeTransform(parameters);
+			}
+		});
+
 	}
 
 	// ///////////////////////////////////////////////////////////////////
@@ -0,0 +1,341 @@
+package com.warework.service.converter;
+
+import java.util.Arrays;
+import java.util.Enumeration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import com.warework.core.service.client.connector.ConnectorFacade;
+
+/**
+ * Bounded cache with the results of the transformations performed by one
+ * Converter. Results are stored by the content of the source object (strings
+ * and byte arrays only), so the same template or static asset is transformed
+ * once. When the cache is full, the least recently used result is discarded.
+ * Each cache belongs to one Connector: when a Converter is created again with
+ * another configuration, a new cache is used.<br>
+ * <br>
+ * This class is thread-safe.
+ *
+ * @author Jose Schiaffino
+ * @version ${project.version}
+ */
+final class TransformCache {
+
+	// ///////////////////////////////////////////////////////////////////
+	// ATTRIBUTES
+	// ///////////////////////////////////////////////////////////////////
+
+	// Hash code of the configuration of the Connector.
+	private int configuration;
+
+	// Maximum number of results.
+	private int maxSize;
+
+	// Results of the transformations. Least recently used first.
+	private Map<Key, Object> results;
+
+	// Number of results found in the cache.
+	private long hits;
+
+	// Number of results not found in the cache.
+	private long misses;
+
+	// ///////////////////////////////////////////////////////////////////
+	// CONSTRUCTORS
+	// ///////////////////////////////////////////////////////////////////
+
+	/**
+	 * Creates the cache.
+	 *
+	 * @param connector Connector of the Converter.<br>
+	 *                  <br>
+	 * @param maxSize   Maximum number of results. Use <code>0</code> to disable
+	 *                  the cache.<br>
+	 *                  <br>
+	 */
+	TransformCache(final ConnectorFacade connector, final int maxSize) {
+
+		// Set the configuration of the Connector.
+		this.configuration = toHashCode(connector);
+
+		// Set the size of the cache.
+		this.maxSize = maxSize;
+
+		// Create the storage for the results.
+		this.results = new LinkedHashMap<Key, Object>(16, 0.75f, true) {
+
+			// Serial version.
+			private static final long serialVersionUID = 1L;
+
+			// Discard the least recently used result when the cache is full.
+			protected boolean removeEldestEntry(final Map.Entry<Key, Object> eldest) {
+				return size() > TransformCache.this.maxSize;
+			}
+
+		};
+
+	}
+
+	// ///////////////////////////////////////////////////////////////////
+	// PACKAGE METHODS
+	// ///////////////////////////////////////////////////////////////////
+
+	/**
+	 * Creates the key to look up the result of a transformation. The key refers
+	 * to the source object without copying it; <code>put</code> stores a copy.
+	 *
+	 * @param source Source object to transform.<br>
+	 *               <br>
+	 * @return Key for the source object or <code>null</code> if the cache is
+	 *         disabled or the source object cannot be cached.<br>
+	 *         <br>
+	 */
+	Key toKey(final Object source) {
+		if (maxSize < 1) {
+			return null;
+		} else if (source instanceof String) {
+			return new Key(configuration, source, source.hashCode());
+		} else if (source instanceof byte[]) {
+			return new Key(configuration, source, Arrays.hashCode((byte[]) source));
+		} else {
+			return null;
+		}
+	}
+
+	/**
+	 * Gets the result of a transformation.
+	 *
+	 * @param key Key of the source object.<br>
+	 *            <br>
+	 * @return Result of the transformation or <code>null</code> if it is not
+	 *         cached.<br>
+	 *         <br>
+	 */
+	synchronized Object get(final Key key) {
+
+		// Get the result.
+		final Object result = results.get(key);
+
+		// Count the lookup.
+		if (result == null) {
+			misses = misses + 1;
+		} else {
+			hits = hits + 1;
+		}
+
+		// Return a copy of the result.
+		return copy(result);
+
+	}
+
+	/**
+	 * Stores the result of a transformation.
+	 *
+	 * @param key    Key of the source object.<br>
+	 *               <br>
+	 * @param result Result of the transformation.<br>
+	 *               <br>
+	 */
+	void put(final Key key, final Object result) {
+		if (result != null) {
+
+			// Copy the key and the result out of the lock, as the source array and
+			// the result may change after the transformation.
+			final Key storedKey = key.copy();
+			final Object storedResult = copy(result);
+
+			// Store the result.
+			synchronized (this) {
+				results.put(storedKey, storedResult);
+			}
+
+		}
+	}
+
+	/**
+	 * Gets the number of results found in the cache.
+	 *
+	 * @return Number of hits.<br>
+	 *         <br>
+	 */
+	synchronized long getHits() {
+		return hits;
+	}
+
+	/**
+	 * Gets the number of results not found in the cache.
+	 *
+	 * @return Number of misses.<br>
+	 *         <br>
+	 */
+	synchronized long getMisses() {
+		return misses;
+	}
+
+	/**
+	 * Gets the number of results stored in the cache.
+	 *
+	 * @return Number of results.<br>
+	 *         <br>
+	 */
+	synchronized int size() {
+		return results.size();
+	}
+
+	// ///////////////////////////////////////////////////////////////////
+	// PRIVATE METHODS
+	// ///////////////////////////////////////////////////////////////////
+
+	/**
+	 * Copies byte arrays so callers cannot modify the cached results.
+	 *
+	 * @param result Result of a transformation.<br>
+	 *               <br>
+	 * @return The same result or a copy of it.<br>
+	 *         <br>
+	 */
+	private static Object copy(final Object result) {
+		return (result instanceof byte[]) ? ((byte[]) result).clone() : result;
+	}
+
+	/**
+	 * Calculates the hash code of the configuration of a Connector.
+	 *
+	 * @param connector Connector of the Converter.<br>
+	 *                  <br>
+	 * @return Hash code of the initialization parameters.<br>
+	 *         <br>
+	 */
+	private static int toHashCode(final ConnectorFacade connector) {
+
+		// Hash code of the configuration.
+		int hashCode = connector.getClientType().hashCode();
+
+		// Add every initialization parameter.
+		final Enumeration<String> names = connector.getInitParameterNames();
+		if (names != null) {
+			while (names.hasMoreElements()) {
+
+				// Get the name of the parameter.
+				final String name = names.nextElement();
+
+				// Get the value of the parameter.
+				final Object value = connector.getInitParameter(name);
+
+				// Parameters may come in any order.
+				hashCode = hashCode + (name.hashCode() ^ ((value == null) ? 0 : value.hashCode()));
+
+			}
+		}
+
+		// Return the hash code.
+		return hashCode;
+
+	}
+
+	// ///////////////////////////////////////////////////////////////////
+	// INNER CLASSES
+	// ///////////////////////////////////////////////////////////////////
+
+	/**
+	 * Key of a cached result: the content of the source object and the
+	 * configuration of the Converter.
+	 */
+	static final class Key {
+
+		// Hash code of the configuration of the Connector.
+		private final int configuration;
+
+		// Source object.
+		private final Object source;
+
+		// Hash code of the content of the source object.
+		private final int hashCode;
+
+		/**
+		 * Creates the key.
+		 *
+		 * @param configuration Hash code of the configuration.<br>
+		 *                      <br>
+		 * @param source        Source object.<br>
+		 *                      <br>
+		 * @param hashCode      Hash code of the content of the source object.<br>
+		 *                      <br>
+		 */
+		private Key(final int configuration, final Object source, final int hashCode) {
+			this.configuration = configuration;
+			this.source = source;
+			this.hashCode = (31 * configuration) + hashCode;
+		}
+
+		/**
+		 * Creates a key with the same configuration and hash code as another key.
+		 *
+		 * @param key    Key to copy.<br>
+		 *               <br>
+		 * @param source Copy of the source object of the key.<br>
+		 *               <br>
+		 */
+		private Key(final Key key, final Object source) {
+			this.configuration = key.configuration;
+			this.source = source;
+			this.hashCode = key.hashCode;
+		}
+
+		/**
+		 * Creates a copy of the key that does not share byte arrays with the
+		 * caller.
+		 *
+		 * @return Key to store in the cache.<br>
+		 *         <br>
+		 */
+		private Key copy() {
+			return (source instanceof byte[]) ? new Key(this, ((byte[]) source).clone()) : this;
+		}
+
+		/**
+		 * Gets the hash code of the key.
+		 *
+		 * @return Hash code.<br>
+		 *         <br>
+		 */
+		public int hashCode() {
+			return hashCode;
+		}
+
+		/**
+		 * Validates if two keys represent the same source object.
+		 *
+		 * @param object Key to compare.<br>
+		 *               <br>
+		 * @return <code>true</code> if both keys have the same content.<br>
+		 *         <br>
+		 */
+		public boolean equals(final Object object) {
+
+			// Validate the type of the key.
+			if (!(object instanceof Key)) {
+				return false;
+			}
+
+			// Get the key to compare.
+			final Key key = (Key) object;
+
+			// Compare the hash codes first, as they are faster.
+			if ((key.hashCode != hashCode) || (key.configuration != configuration)) {
+				return false;
+			}
+
+			// Compare the content.
+			if ((source instanceof byte[]) && (key.source instanceof byte[])) {
+				return Arrays.equals((byte[]) source, (byte[]) key.source);
+			} else {
+				return source.equals(key.source);
+			}
+
+		}
+
+	}
+
+}
@@ -1,8 +1,11 @@
 package com.warework.service.converter.client;
 
+import java.io.InputStream;
+
 import com.warework.core.service.client.AbstractClient;
 import com.warework.core.service.client.ClientException;
 import com.warework.core.util.helper.CodecL1Helper;
+import com.warework.core.util.io.Base64InputStream;
 import com.warework.service.converter.client.connector.Base64ConverterConnector;
 import com.warework.service.log.LogServiceConstants;
 
@@ -28,9 +31,13 @@ public final class Base64Converter extends AbstractClient implements ConverterFa
 	// ///////////////////////////////////////////////////////////////////
 
 	/**
-	 * Encodes a string into Base64 notation or decodes a Base64 string.
+	 * Encodes a string into Base64 notation or decodes a Base64 string. When the
+	 * source is an input stream, this method returns a new input stream that
+	 * encodes or decodes the bytes of the source as they are read, so large data
+	 * is not loaded in memory.
 	 * 
-	 * @param source Source string to encode or decode.<br>
+	 * @param source Source string, byte array or input stream to encode or
+	 *               decode.<br>
 	 *               <br>
 	 * @return New object that represents the transformation of the source
 	 *         object.<br>
@@ -40,14 +47,17 @@ public final class Base64Converter extends AbstractClient implements ConverterFa
 	 *                         <br>
 	 */
 	public Object transform(final Object source) throws ClientException {
-		if ((source instanceof String) || (source instanceof byte[])) {
+		if ((source instanceof String) || (source instanceof byte[]) || (source instanceof InputStream)) {
 
 			// Get the operation mode.
 			final String operationMode = (String) getConnector()
 					.getInitParameter(Base64ConverterConnector.PARAMETER_OPERATION_MODE);
 
 			// Execute the transformation.
-			if (operationMode.equalsIgnoreCase(Base64ConverterConnector.OPERATION_MODE_ENCODE)) {
+			if (source instanceof InputStream) {
+				return new Base64InputStream((InputStream) source,
+						operationMode.equalsIgnoreCase(Base64ConverterConnector.OPERATION_MODE_ENCODE));
+			} else if (operationMode.equalsIgnoreCase(Base64ConverterConnector.OPERATION_MODE_ENCODE)) {
 				if (source instanceof String) {
 					return CodecL1Helper.encodeBase64((String) source);
 				} else {
@@ -72,7 +82,7 @@ public final class Base64Converter extends AbstractClient implements ConverterFa
 		} else {
 			throw new ClientException(getScopeFacade(),
 					"WAREWORK cannot encode or decode given object in Converter '" + getName() + "' at Service '"
-							+ getService().getName() + "' because given value is not a string or a byte array.",
+							+ getService().getName() + "' because given value is not a string, a byte array or an input stream.",
 					null, LogServiceConstants.LOG_LEVEL_WARN);
 		}
 	}
@@ -12,6 +12,22 @@ import com.warework.service.converter.ConverterServiceImpl;
  */
 public abstract class AbstractConverterConnector extends AbstractConnector {
 
+	// ///////////////////////////////////////////////////////////////////
+	// CONSTANTS
+	// ///////////////////////////////////////////////////////////////////
+
+	// PARAMETERS
+
+	/**
+	 * Initialization parameter that specifies how many results of the Converter
+	 * are cached by the Converter Service. When the same string or byte array is
+	 * transformed again, the cached result is returned instead. Use it only with
+	 * Converters that always return the same result for the same source, like
+	 * compressors. This parameter must be a string or an integer value with the
+	 * maximum number of results. By default, results are not cached.
+	 */
+	public static final String PARAMETER_CACHE_SIZE = "cache-size";
+
 	// ///////////////////////////////////////////////////////////////////
 	// PROTECTED METHODS
 	// ///////////////////////////////////////////////////////////////////
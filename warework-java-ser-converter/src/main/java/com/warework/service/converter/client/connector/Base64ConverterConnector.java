@@ -6,7 +6,8 @@ import com.warework.service.log.LogServiceConstants;
 
 /**
  * This connector holds the configuration required to setup a Converter to
- * encode / decode strings and byte arrays with Base64.<br>
+ * encode / decode strings, byte arrays and input streams with Base64. Input
+ * streams are encoded or decoded as they are read.<br>
  * <br>
  * The configuration has to specify what kind of operation to perform (encode or
  * decode with Base64). Use the <code>PARAMETER_OPERATION_MODE</code> constant
@@ -1,5 +1,8 @@
 package com.warework.service.converter;
 
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+
 import com.warework.core.scope.AbstractSerConverterTestCase;
 import com.warework.core.scope.ScopeFacade;
 
@@ -117,4 +120,43 @@ public class Base64ConverterTest extends AbstractSerConverterTestCase {
 		}
 	}
 
+	/**
+	 * 
+	 */
+	public void testTransformA3() {
+		try {
+
+			//
+			final ScopeFacade scope = create("system-1");
+
+			//
+			final ConverterServiceFacade service = (ConverterServiceFacade) scope
+					.getService(ConverterServiceConstants.DEFAULT_SERVICE_NAME);
+
+			//
+			final InputStream encoded = (InputStream) service.transform("base64-encoder",
+					new ByteArrayInputStream("Hola".getBytes()));
+
+			//
+			final InputStream decoded = (InputStream) service.transform("base64-decoder", encoded);
+
+			//
+			final StringBuffer result = new StringBuffer();
+			for (int value = decoded.read(); value >= 0; value = decoded.read()) {
+				result.append((char) value);
+			}
+
+			//
+			decoded.close();
+
+			//
+			if (!result.toString().equals("Hola")) {
+				fail();
+			}
+
+		} catch (final Exception e) {
+			fail();
+		}
+	}
+
 }
@@ -1,5 +1,7 @@
 package com.warework.service.converter;
 
+import java.util.Map;
+
 import com.warework.core.scope.AbstractSerConverterTestCase;
 import com.warework.core.scope.ScopeFacade;
 
@@ -267,4 +269,71 @@ public class StringFormatterTest extends AbstractSerConverterTestCase {
 		}
 	}
 
+	/**
+	 * 
+	 */
+	public void testTransform6() {
+		try {
+
+			//
+			final ScopeFacade scope = create("system-1");
+
+			//
+			final ConverterServiceFacade service = (ConverterServiceFacade) scope
+					.getService(ConverterServiceConstants.DEFAULT_SERVICE_NAME);
+
+			//
+			service.transform("cached-uppercase-formatter", "a");
+			service.transform("cached-uppercase-formatter", "b");
+			service.transform("cached-uppercase-formatter", "a");
+			service.transform("cached-uppercase-formatter", "c");
+
+			//
+			final String result = (String) service.transform("cached-uppercase-formatter", "a");
+
+			//
+			final Map<String, Long> statistics = service.getCacheStatistics("cached-uppercase-formatter");
+
+			//
+			if ((!result.equals("A")) || (statistics.get(ConverterServiceConstants.CACHE_STATISTIC_HITS) != 2)
+					|| (statistics.get(ConverterServiceConstants.CACHE_STATISTIC_MISSES) != 3)
+					|| (statistics.get(ConverterServiceConstants.CACHE_STATISTIC_SIZE) != 2)) {
+				fail();
+			}
+
+		} catch (final Exception e) {
+			fail();
+		}
+	}
+
+	/**
+	 * 
+	 */
+	public void testTransform7() {
+		try {
+
+			//
+			final ScopeFacade scope = create("system-1");
+
+			//
+			final ConverterServiceFacade service = (ConverterServiceFacade) scope
+					.getService(ConverterServiceConstants.DEFAULT_SERVICE_NAME);
+
+			//
+			service.transform("uppercase-formatter", "a");
+			service.transform("uppercase-formatter", "a");
+
+			//
+			final Map<String, Long> statistics = service.getCacheStatistics("uppercase-formatter");
+
+			//
+			if (statistics.get(ConverterServiceConstants.CACHE_STATISTIC_SIZE) != 0) {
+				fail();
+			}
+
+		} catch (final Exception e) {
+			fail();
+		}
+	}
+
 }
@@ -3,6 +3,7 @@ package com.warework.provider;
 import java.util.ArrayList;
 import java.util.Enumeration;
 import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
 
 import com.warework.core.provider.AbstractProvider;
 import com.warework.core.provider.ProviderException;
@@ -160,6 +161,9 @@ public final class DatastoreViewProvider extends AbstractProvider {
 	// Data Store name.
 	private String datastoreName;
 
+	// Views already retrieved from the Data Store Service.
+	private volatile ViewCache cache;
+
 	// ///////////////////////////////////////////////////////////////////
 	// PUBLIC METHODS
 	// ///////////////////////////////////////////////////////////////////
@@ -169,6 +173,7 @@ public final class DatastoreViewProvider extends AbstractProvider {
 	 */
 	public void close() {
 		serviceName = null;
+		cache = null;
 	}
 
 	// ///////////////////////////////////////////////////////////////////
@@ -240,7 +245,9 @@ public final class DatastoreViewProvider extends AbstractProvider {
 	}
 
 	/**
-	 * Retrieves an instance of a View from a Data Store Service.
+	 * Retrieves an instance of a View from a Data Store Service. Views are
+	 * cached by name until a Data Store of the Service is created, removed or
+	 * disconnected or a View is added to or removed from a Data Store.
 	 * 
 	 * @param name
 	 *            Name of the Data Store that exists in the Data Store Service
@@ -257,51 +264,82 @@ public final class DatastoreViewProvider extends AbstractProvider {
 	 */
 	protected Object getObject(String name) {
 
-		// Get the Data Store Service.
-		ServiceFacade service = getScopeFacade().getService(serviceName);
+		// Get the Views retrieved before from the Data Store Service.
+		ViewCache views = cache;
 
-		// Validate the Service.
-		if ((service != null) && (service instanceof DatastoreServiceFacade)) {
+		// Retrieve the Service again when its Data Stores changed.
+		if ((views == null)
+				|| (views.modificationCount != views.service
+						.getModificationCount())) {
 
-			// Get the Data Store Facade.
-			DatastoreServiceFacade datastoreService = (DatastoreServiceFacade) service;
+			// Get the Data Store Service.
+			ServiceFacade service = getScopeFacade().getService(serviceName);
+
+			// Validate the Service.
+			if ((service != null)
+					&& (service instanceof DatastoreServiceFacade)) {
+
+				// Create a new cache for the Views of the Service.
+				views = new ViewCache((DatastoreServiceFacade) service);
+
+				// Save the cache.
+				cache = views;
 
-			// Return the Current View.
-			if (datastoreName == null) {
-				return datastoreService.getView(name);
-			} else if (datastoreService.existsClient(datastoreName)) {
-				return datastoreService.getView(datastoreName, name);
 			} else {
 
 				// Log a Warework message.
-				getScopeFacade().log(
-						"WAREWORK cannot retrieve object '" + name
-								+ "' from Provider '" + getName()
-								+ "' because Data Store '" + datastoreName
-								+ "' does not exists.",
-						LogServiceConstants.LOG_LEVEL_WARN);
+				getScopeFacade()
+						.log("WAREWORK cannot retrieve object '"
+								+ name
+								+ "' from Provider '"
+								+ getName()
+								+ "' because the name of the Service where to retrieve the View is null or it is not a Data Store Service.",
+								LogServiceConstants.LOG_LEVEL_WARN);
 
 				// Nothing to return.
 				return null;
 
 			}
 
+		}
+
+		// Search for the View in the cache.
+		Object view = (name == null) ? null : views.views.get(name);
+		if (view != null) {
+			return view;
+		}
+
+		// Get the Data Store Facade.
+		DatastoreServiceFacade datastoreService = views.service;
+
+		// Get the Current View.
+		if (datastoreName == null) {
+			view = datastoreService.getView(name);
+		} else if (datastoreService.existsClient(datastoreName)) {
+			view = datastoreService.getView(datastoreName, name);
 		} else {
 
 			// Log a Warework message.
-			getScopeFacade()
-					.log("WAREWORK cannot retrieve object '"
-							+ name
-							+ "' from Provider '"
-							+ getName()
-							+ "' because the name of the Service where to retrieve the View is null or it is not a Data Store Service.",
-							LogServiceConstants.LOG_LEVEL_WARN);
+			getScopeFacade().log(
+					"WAREWORK cannot retrieve object '" + name
+							+ "' from Provider '" + getName()
+							+ "' because Data Store '" + datastoreName
+							+ "' does not exists.",
+					LogServiceConstants.LOG_LEVEL_WARN);
 
 			// Nothing to return.
 			return null;
 
 		}
 
+		// Save the View for the next requests.
+		if ((name != null) && (view != null)) {
+			views.views.put(name, view);
+		}
+
+		// Return the View.
+		return view;
+
 	}
 
 	/**
@@ -365,4 +403,37 @@ public final class DatastoreViewProvider extends AbstractProvider {
 
 	}
 
+	// ///////////////////////////////////////////////////////////////////
+	// INNER CLASSES
+	// ///////////////////////////////////////////////////////////////////
+
+	/**
+	 * Views retrieved from a Data Store Service. The cache is valid while the
+	 * modification count of the Service does not change.
+	 */
+	private static final class ViewCache {
+
+		// Data Store Service where the Views exist.
+		private final DatastoreServiceFacade service;
+
+		// Modification count of the Service when the cache was created.
+		private final long modificationCount;
+
+		// Views by the name used to request them.
+		private final ConcurrentHashMap<String, Object> views = new ConcurrentHashMap<String, Object>();
+
+		/**
+		 * Creates the cache of the Views of a Data Store Service.
+		 * 
+		 * @param service
+		 *            Data Store Service.<br>
+		 * <br>
+		 */
+		private ViewCache(DatastoreServiceFacade service) {
+			this.service = service;
+			this.modificationCount = service.getModificationCount();
+		}
+
+	}
+
 }
@@ -5,6 +5,7 @@ import java.util.Map;
 import com.warework.core.service.ProxyServiceOperationHandler;
 import com.warework.core.service.ServiceException;
 import com.warework.core.service.ServiceFacade;
+import com.warework.core.service.ServiceOperation;
 import com.warework.core.service.client.ClientException;
 import com.warework.core.util.helper.DataStructureL1Helper;
 import com.warework.service.datastore.view.DbmsView;
@@ -55,62 +56,141 @@ public class DatastoreOperationHandler extends ProxyServiceOperationHandler {
 		// Initialize Proxy Service.
 		super.init(datastoreService);
 
-	}
+		// Register the operations of Data Store Services.
+		register(DatastoreServiceConstants.OPERATION_NAME_QUERY, new ServiceOperation() {
+			public Object execute(final Map<String, Object> parameters) throws ServiceException {
+				return executeQuery(parameters);
+			}
+		});
+		register(DatastoreServiceConstants.OPERATION_NAME_QUERY_BY_NAME, new ServiceOperation() {
+			public Object execute(final Map<String, Object> parameters) throws ServiceException {
+				return executeQueryByName(parameters);
+			}
+		});
+		register(DatastoreServiceConstants.OPERATION_NAME_UPDATE, new ServiceOperation() {
+			public Object execute(final Map<String, Object> parameters) throws ServiceException {
 
-	/**
-	 * Executes a Data Store Service operation.
-	 * 
-	 * @param operationName Name of the operation to execute.<br>
-	 *                      <br>
-	 * @param parameters    Operation parameters.<br>
-	 *                      <br>
-	 * @return Operation result.<br>
-	 *         <br>
-	 * @throws ServiceException If there is an error when trying to execute the
-	 *                          operation.<br>
-	 *                          <br>
-	 */
-	public Object execute(String operationName, Map<String, Object> parameters) throws ServiceException {
-
-		// Validate the operation to perform.
-		if (operationName.equals(DatastoreServiceConstants.OPERATION_NAME_QUERY)) {
-			return executeQuery(parameters);
-		} else if (operationName.equals(DatastoreServiceConstants.OPERATION_NAME_QUERY_BY_NAME)) {
-			return executeQueryByName(parameters);
-		} else if (operationName.equals(DatastoreServiceConstants.OPERATION_NAME_UPDATE)) {
-			executeUpdate(parameters);
-		} else if (operationName.equals(DatastoreServiceConstants.OPERATION_NAME_UPDATE_BY_NAME)) {
-			executeUpdateByName(parameters);
-		} else if (operationName.equals(DatastoreServiceConstants.OPERATION_NAME_COMMIT)) {
-			executeCommit(parameters);
-		} else if (operationName.equals(DatastoreServiceConstants.OPERATION_NAME_DBMS_BEGIN_TRANSACTION)) {
-			executeDBMSBeginTransaction(parameters);
-		} else if (operationName.equals(DatastoreServiceConstants.OPERATION_NAME_DBMS_ROLLBACK)) {
-			executeDBMSRollback(parameters);
-		} else if (operationName.equals(DatastoreServiceConstants.OPERATION_NAME_RDBMS_QUERY)) {
-			return executeRDBMSQuery(parameters);
-		} else if (operationName.equals(DatastoreServiceConstants.OPERATION_NAME_RDBMS_QUERY_BY_NAME)) {
-			return executeRDBMSQueryByName(parameters);
-		} else if (operationName.equals(DatastoreServiceConstants.OPERATION_NAME_RDBMS_UPDATE)) {
-			executeRDBMSUpdate(parameters);
-		} else if (operationName.equals(DatastoreServiceConstants.OPERATION_NAME_RDBMS_UPDATE_BY_NAME)) {
-			executeRDBMSUpdateByName(parameters);
-		} else if (operationName.equals(DatastoreServiceConstants.OPERATION_NAME_KEY_VALUE_PUT)) {
-			executeKeyValuePut(parameters);
-		} else if (operationName.equals(DatastoreServiceConstants.OPERATION_NAME_KEY_VALUE_GET)) {
-			return executeKeyValueGet(parameters);
-		} else if (operationName.equals(DatastoreServiceConstants.OPERATION_NAME_KEY_VALUE_REMOVE)) {
-			executeKeyValueRemove(parameters);
-		} else if (operationName.equals(DatastoreServiceConstants.OPERATION_NAME_KEY_VALUE_KEYS)) {
-			return executeKeyValueKeys(parameters);
-		} else if (operationName.equals(DatastoreServiceConstants.OPERATION_NAME_KEY_VALUE_SIZE)) {
-			return executeKeyValueSize(parameters);
-		} else {
-			return super.execute(operationName, parameters);
-		}
+				// Execute the operation.
+				executeUpdate(parameters);
+
+				// Nothing to return.
+				return null;
 
-		// Nothing to return.
-		return null;
+			}
+		});
+		register(DatastoreServiceConstants.OPERATION_NAME_UPDATE_BY_NAME, new ServiceOperation() {
+			public Object execute(final Map<String, Object> parameters) throws ServiceException {
+
+				// Execute the operation.
+				executeUpdateByName(parameters);
+
+				// Nothing to return.
+				return null;
+
+			}
+		});
+		register(DatastoreServiceConstants.OPERATION_NAME_COMMIT, new ServiceOperation() {
+			public Object execute(final Map<String, Object> parameters) throws ServiceException {
+
+				// Execute the operation.
+				executeCommit(parameters);
+
+				// Nothing to return.
+				return null;
+
+			}
+		});
+		register(DatastoreServiceConstants.OPERATION_NAME_DBMS_BEGIN_TRANSACTION, new ServiceOperation() {
+			public Object execute(final Map<String, Object> parameters) throws ServiceException {
+
+				// Execute the operation.
+				executeDBMSBeginTransaction(parameters);
+
+				// Nothing to return.
+				return null;
+
+			}
+		});
+		register(DatastoreServiceConstants.OPERATION_NAME_DBMS_ROLLBACK, new ServiceOperation() {
+			public Object execute(final Map<String, Object> parameters) throws ServiceException {
+
+				// Execute the operation.
+				executeDBMSRollback(parameters);
+
+				// Nothing to return.
+				return null;
+
+			}
+		});
+		register(DatastoreServiceConstants.OPERATION_NAME_RDBMS_QUERY, new ServiceOperation() {
+			public Object execute(final Map<String, Object> parameters) throws ServiceException {
+				return executeRDBMSQuery(parameters);
+			}
+		});
+		register(DatastoreServiceConstants.OPERATION_NAME_RDBMS_QUERY_BY_NAME, new ServiceOperation() {
+			public Object execute(final Map<String, Object> parameters) throws ServiceException {
+				return executeRDBMSQueryByName(parameters);
+			}
+		});
+		register(DatastoreServiceConstants.OPERATION_NAME_RDBMS_UPDATE, new ServiceOperation() {
+			public Object execute(final Map<String, Object> parameters) throws ServiceException {
+
+				// Execute the operation.
+				executeRDBMSUpdate(parameters);
+
+				// Nothing to return.
+				return null;
+
+			}
+		});
+		register(DatastoreServiceConstants.OPERATION_NAME_RDBMS_UPDATE_BY_NAME, new ServiceOperation() {
+			public Object execute(final Map<String, Object> parameters) throws ServiceException {
+
+				// Execute the operation.
+				executeRDBMSUpdateByName(parameters);
+
+				// Nothing to return.
+				return null;
+
+			}
+		});
+		register(DatastoreServiceConstants.OPERATION_NAME_KEY_VALUE_PUT, new ServiceOperation() {
+			public Object execute(final Map<String, Object> parameters) throws ServiceException {
+
+				// Execute the operation.
+				executeKeyValuePut(parameters);
+
+				// Nothing to return.
+				return null;
+
+			}
+		});
+		register(DatastoreServiceConstants.OPERATION_NAME_KEY_VALUE_GET, new ServiceOperation() {
+			public Object execute(final Map<String, Object> parameters) throws ServiceException {
+				return executeKeyValueGet(parameters);
+			}
+		});
+		register(DatastoreServiceConstants.OPERATION_NAME_KEY_VALUE_REMOVE, new ServiceOperation() {
+			public Object execute(final Map<String, Object> parameters) throws ServiceException {
+
+				// Execute the operation.
+				executeKeyValueRemove(parameters);
+
+				// Nothing to return.
+				return null;
+
+			}
+		});
+		register(DatastoreServiceConstants.OPERATION_NAME_KEY_VALUE_KEYS, new ServiceOperation() {
+			public Object execute(final Map<String, Object> parameters) throws ServiceException {
+				return executeKeyValueKeys(parameters);
+			}
+		});
+		register(DatastoreServiceConstants.OPERATION_NAME_KEY_VALUE_SIZE, new ServiceOperation() {
+			public Object execute(final Map<String, Object> parameters) throws ServiceException {
+				return executeKeyValueSize(parameters);
+			}
+		});
 
 	}
 
@@ -867,6 +867,9 @@ public interface DatastoreServiceFacade extends ProxyServiceFacade {
 
 	/**
 	 * Searchs in the stack of Views the first View that matches a given type.
+	 * Views whose class is the given type are searched first; if there are
+	 * none, this method returns the first View that extends or implements the
+	 * given type, for example: a View interface.
 	 * 
 	 * @param datastoreName
 	 *            The name to which the Data Store is bound in the Service.<br>
@@ -906,4 +909,16 @@ public interface DatastoreServiceFacade extends ProxyServiceFacade {
 	 */
 	Enumeration<String> getViewNames(String datastoreName);
 
+	/**
+	 * Gets a number that changes every time a Data Store is created, removed or
+	 * disconnected and every time a View is added to or removed from a Data
+	 * Store. Components that keep references to the Views of this Service can
+	 * compare this number with the one they got before to know if their
+	 * references are still valid.
+	 * 
+	 * @return Number of changes in the Data Stores of this Service.<br>
+	 * <br>
+	 */
+	long getModificationCount();
+
 }
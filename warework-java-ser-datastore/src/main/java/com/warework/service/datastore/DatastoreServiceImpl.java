@@ -5,6 +5,7 @@ import java.util.Enumeration;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
 
 import com.warework.core.model.Client;
 import com.warework.core.model.ProxyService;
@@ -689,11 +690,11 @@ public final class DatastoreServiceImpl extends AbstractService implements Datas
 	// ATTRIBUTES
 	// ///////////////////////////////////////////////////////////////////
 
-	// Context for clients.
-	private Map<String, AbstractViewsLogic> clients;
+	// Context for clients with the stack of Views of each Data Store.
+	private Map<String, ViewIndex> clients;
 
-	// Service operation handler.
-	private OperationHandler operationHandler;
+	// Number of changes in the Data Stores and their Views.
+	private final AtomicLong modificationCount = new AtomicLong();
 
 	// ///////////////////////////////////////////////////////////////////
 	// PUBLIC METHODS
@@ -707,7 +708,17 @@ public final class DatastoreServiceImpl extends AbstractService implements Datas
 	 *                          <br>
 	 */
 	public void close() throws ServiceException {
-		removeAllClients();
+
+		// Remove every Data Store.
+		try {
+			removeAllClients();
+		} finally {
+			closeOperationMetrics();
+		}
+
+		// Invalidate the references to this Service.
+		modificationCount.incrementAndGet();
+
 	}
 
 	// ///////////////////////////////////////////////////////////////////
@@ -774,11 +785,12 @@ public final class DatastoreServiceImpl extends AbstractService implements Datas
 
 		// Create the context when needed.
 		if (clients == null) {
-			clients = new HashMap<String, AbstractViewsLogic>();
+			clients = new HashMap<String, ViewIndex>();
 		}
 
 		// Save this Data Store.
-		clients.put(datastoreName, datastoreView);
+		clients.put(datastoreName, new ViewIndex(datastoreView));
+		modificationCount.incrementAndGet();
 
 		// Log a message.
 		getScopeFacade().log(
@@ -884,6 +896,7 @@ public final class DatastoreServiceImpl extends AbstractService implements Datas
 
 			// Remove the data source.
 			clients.remove(datastoreName);
+			modificationCount.incrementAndGet();
 
 			// Remove the context if it's empty.
 			if (clients.size() < 1) {
@@ -1066,6 +1079,8 @@ public final class DatastoreServiceImpl extends AbstractService implements Datas
 				throw new ServiceException(getScopeFacade(),
 						"WAREWORK cannot disconnect Data Store '" + datastoreName + "' at Service '" + getName() + "'.",
 						e, LogServiceConstants.LOG_LEVEL_WARN);
+			} finally {
+				modificationCount.incrementAndGet();
 			}
 		} else {
 			getScopeFacade().log("WAREWORK cannot disconnect Data Store '" + datastoreName + "' in Service '"
@@ -1478,32 +1493,17 @@ public final class DatastoreServiceImpl extends AbstractService implements Datas
 					null, LogServiceConstants.LOG_LEVEL_WARN);
 		} else {
 
-			// Get the Data Store.
-			AbstractViewsLogic datastore = (AbstractViewsLogic) getDatastore(datastoreName);
+			// Get the stack of Views of the Data Store.
+			final ViewIndex views = getViewIndex(datastoreName);
 
 			// Validate that no Views in the stack have the same name as the
 			// given one.
-			if (datastore != null) {
-				while (datastore != null) {
-					if (datastore.getViewName().equals(viewName)) {
-						throw new ServiceException(getScopeFacade(),
-								"WAREWORK cannot add the View in Data Store '" + datastoreName + "' of Service '"
-										+ getName() + "' because there is another View named '" + viewName + "'.",
-								null, LogServiceConstants.LOG_LEVEL_WARN);
-					} else {
-
-						// Get the parent view.
-						AbstractViewsLogic view = datastore.getParentView();
-
-						// Validate the view.
-						if (view instanceof DefaultView) {
-							break;
-						} else {
-							datastore = (AbstractViewsLogic) view;
-						}
-
-					}
-				}
+			if ((views != null)
+					&& ((views.getView(viewName) != null) || (viewName.equals(DefaultView.DEFAULT_VIEW_NAME)))) {
+				throw new ServiceException(getScopeFacade(),
+						"WAREWORK cannot add the View in Data Store '" + datastoreName + "' of Service '" + getName()
+								+ "' because there is another View named '" + viewName + "'.",
+						null, LogServiceConstants.LOG_LEVEL_WARN);
 			}
 
 		}
@@ -1537,8 +1537,9 @@ public final class DatastoreServiceImpl extends AbstractService implements Datas
 						e, LogServiceConstants.LOG_LEVEL_WARN);
 			}
 
-			// Update the view.
-			clients.put(datastoreName, view);
+			// Update the stack of Views.
+			clients.put(datastoreName, new ViewIndex(view));
+			modificationCount.incrementAndGet();
 
 		} else {
 			throw new ServiceException(
@@ -1565,7 +1566,8 @@ public final class DatastoreServiceImpl extends AbstractService implements Datas
 		// Remove the view from the Data Store.
 		if (datastore != null) {
 			if (datastore.getParentView() != null) {
-				clients.put(datastoreName, datastore.getParentView());
+				clients.put(datastoreName, new ViewIndex(datastore.getParentView()));
+				modificationCount.incrementAndGet();
 			} else {
 				getScopeFacade().log("WAREWORK cannot remove a view from Data Store '" + datastoreName
 						+ "' in Service '" + getName() + "' because Data Store does not have more Views.",
@@ -1632,6 +1634,9 @@ public final class DatastoreServiceImpl extends AbstractService implements Datas
 
 	/**
 	 * Searchs in the stack of Views the first View that matches a given type.
+	 * Views whose class is the given type are searched first; if there are none,
+	 * this method returns the first View that extends or implements the given
+	 * type, for example: a View interface.
 	 * 
 	 * @param datastoreName The name to which the Data Store is bound in the
 	 *                      Service.<br>
@@ -1668,38 +1673,26 @@ public final class DatastoreServiceImpl extends AbstractService implements Datas
 
 		} else {
 
-			// Get the Data Store.
-			AbstractDatastoreView datastore = (AbstractDatastoreView) getDatastore(datastoreName);
+			// Get the stack of Views of the Data Store.
+			final ViewIndex views = getViewIndex(datastoreName);
 
 			// Search for the view.
-			if (datastore != null) {
-				while (datastore != null) {
-					if (datastore.getClass().equals(viewType)) {
-						return datastore;
-					} else {
-
-						// Get the parent view.
-						AbstractViewsLogic view = datastore.getParentView();
-
-						// Validate the view.
-						if (view instanceof DefaultView) {
+			if (views != null) {
 
-							// Log a message.
-							getScopeFacade().log("WAREWORK cannot get the View of Data Store '" + datastoreName
-									+ "' in Service '" + getName()
-									+ "' because given type of the View does not exists in the stack of Views of the Data Store.",
-									LogServiceConstants.LOG_LEVEL_WARN);
+				// Get the View.
+				final AbstractDatastoreView view = views.getView(viewType);
 
-							// Nothing to return.
-							return null;
-
-						} else {
-							datastore = (AbstractDatastoreView) view;
-						}
+				// Return the View.
+				if (view != null) {
+					return view;
+				}
 
-					}
+				// Log a message.
+				getScopeFacade().log("WAREWORK cannot get the View of Data Store '" + datastoreName + "' in Service '"
+						+ getName()
+						+ "' because given type of the View does not exists in the stack of Views of the Data Store.",
+						LogServiceConstants.LOG_LEVEL_WARN);
 
-				}
 			} else {
 				getScopeFacade().log("WAREWORK cannot get the View of Data Store '" + datastoreName + "' in Service '"
 						+ getName() + "' because Data Store does not exists.", LogServiceConstants.LOG_LEVEL_WARN);
@@ -1725,54 +1718,25 @@ public final class DatastoreServiceImpl extends AbstractService implements Datas
 	 */
 	public AbstractDatastoreView getView(String datastoreName, String viewName) {
 
-		// Get the Data Store.
-		AbstractViewsLogic datastore = (AbstractViewsLogic) getDatastore(datastoreName);
+		// Get the stack of Views of the Data Store.
+		final ViewIndex views = getViewIndex(datastoreName);
 
 		// Search for the view.
-		if (datastore != null) {
-
-			// Validate that default View name is not given.
-			if (viewName.equals(DefaultView.DEFAULT_VIEW_NAME)) {
-
-				// Log a message.
-				getScopeFacade().log(
-						"WAREWORK cannot get View '" + viewName + "' from Data Store '" + datastoreName
-								+ "' in Service '" + getName()
-								+ "' because no View exists with this name in the stack of Views of the Data Store.",
-						LogServiceConstants.LOG_LEVEL_WARN);
+		if (views != null) {
 
-				// Nothing to return.
-				return null;
+			// Get the View.
+			final AbstractDatastoreView view = views.getView(viewName);
 
+			// Return the View.
+			if (view != null) {
+				return view;
 			}
 
-			// Search for the View.
-			while (datastore != null) {
-				if (datastore.getViewName().equals(viewName)) {
-					return (AbstractDatastoreView) datastore;
-				} else {
-
-					// Get the parent view.
-					AbstractViewsLogic view = datastore.getParentView();
-
-					// Validate the view.
-					if (view instanceof DefaultView) {
-
-						// Log a message.
-						getScopeFacade().log("WAREWORK cannot get View '" + viewName + "' from Data Store '"
-								+ datastoreName + "' in Service '" + getName()
-								+ "' because no View exists with this name in the stack of Views of the Data Store.",
-								LogServiceConstants.LOG_LEVEL_WARN);
-
-						// Nothing to return.
-						return null;
-
-					} else {
-						datastore = (AbstractDatastoreView) view;
-					}
-
-				}
-			}
+			// Log a message.
+			getScopeFacade().log("WAREWORK cannot get View '" + viewName + "' from Data Store '" + datastoreName
+					+ "' in Service '" + getName()
+					+ "' because no View exists with this name in the stack of Views of the Data Store.",
+					LogServiceConstants.LOG_LEVEL_WARN);
 
 		} else {
 			getScopeFacade().log("WAREWORK cannot get the View of Data Store '" + datastoreName + "' in Service '"
@@ -1829,23 +1793,16 @@ public final class DatastoreServiceImpl extends AbstractService implements Datas
 
 	}
 
-	// ///////////////////////////////////////////////////////////////////
-
 	/**
-	 * Executes a Data Store Service operation.
+	 * Gets a number that changes every time a Data Store is created, removed or
+	 * disconnected and every time a View is added to or removed from a Data
+	 * Store.
 	 * 
-	 * @param operationName Name of the operation to execute.<br>
-	 *                      <br>
-	 * @param parameters    Operation parameters.<br>
-	 *                      <br>
-	 * @return Operation result.<br>
+	 * @return Number of changes in the Data Stores of this Service.<br>
 	 *         <br>
-	 * @throws ServiceException If there is an error when trying to executea Service
-	 *                          operation.<br>
-	 *                          <br>
 	 */
-	public Object execute(String operationName, Map<String, Object> parameters) throws ServiceException {
-		return operationHandler.execute(operationName, parameters);
+	public long getModificationCount() {
+		return modificationCount.get();
 	}
 
 	// ///////////////////////////////////////////////////////////////////
@@ -1972,6 +1929,7 @@ public final class DatastoreServiceImpl extends AbstractService implements Datas
 
 		// Create the Data Store Extension operation handler if it is available.
 		// If not, create the default Data Store operation handler.
+		OperationHandler operationHandler = null;
 		try {
 
 			// Get the class for the Data Store Extension operation handler.
@@ -1988,6 +1946,9 @@ public final class DatastoreServiceImpl extends AbstractService implements Datas
 		// initialize the operation handler.
 		operationHandler.init(this);
 
+		// Execute the operations with the handler.
+		setOperationHandler(operationHandler);
+
 	}
 
 	/**
@@ -2002,14 +1963,11 @@ public final class DatastoreServiceImpl extends AbstractService implements Datas
 	 */
 	protected AbstractViewsLogic getDatastore(String datastoreName) {
 
-		// Return the client.
-		if ((datastoreName != null) && (!datastoreName.equals(CommonValueL1Constants.STRING_EMPTY)) && (clients != null)
-				&& (clients.containsKey(datastoreName))) {
-			return (AbstractViewsLogic) clients.get(datastoreName);
-		}
+		// Get the stack of Views of the Data Store.
+		final ViewIndex views = getViewIndex(datastoreName);
 
-		// Nothing to return at this point.
-		return null;
+		// Return the Current View.
+		return (views == null) ? null : views.getCurrentView();
 
 	}
 
@@ -2017,6 +1975,29 @@ public final class DatastoreServiceImpl extends AbstractService implements Datas
 	// PRIVATE METHODS
 	// ///////////////////////////////////////////////////////////////////
 
+	/**
+	 * Gets the stack of Views of a Data Store.
+	 * 
+	 * @param datastoreName The name to which the Data Store is bound in the
+	 *                      Service.<br>
+	 *                      <br>
+	 * @return Stack of Views or <code>null</code> if the Data Store does not
+	 *         exists.<br>
+	 *         <br>
+	 */
+	private ViewIndex getViewIndex(final String datastoreName) {
+
+		// Return the stack of Views.
+		if ((datastoreName != null) && (!datastoreName.equals(CommonValueL1Constants.STRING_EMPTY))
+				&& (clients != null)) {
+			return clients.get(datastoreName);
+		}
+
+		// Nothing to return at this point.
+		return null;
+
+	}
+
 	/**
 	 * Gets the class of a View.
 	 * 
@@ -0,0 +1,167 @@
+package com.warework.service.datastore;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Stack of Views of a Data Store with lookup tables to find its Views by name
+ * and by type. Instances are immutable: a new index is created every time a
+ * View is added to or removed from the stack.<br>
+ *
+ * @author Jose Schiaffino
+ * @version ${project.version}
+ */
+final class ViewIndex {
+
+	// ///////////////////////////////////////////////////////////////////
+	// ATTRIBUTES
+	// ///////////////////////////////////////////////////////////////////
+
+	// View at the top of the stack.
+	private final AbstractViewsLogic currentView;
+
+	// Views by name.
+	private final Map<String, AbstractDatastoreView> viewsByName = new HashMap<String, AbstractDatastoreView>();
+
+	// Views by implementation class.
+	private final Map<Class<?>, AbstractDatastoreView> viewsByClass = new HashMap<Class<?>, AbstractDatastoreView>();
+
+	// Views by every class and interface they implement.
+	private final Map<Class<?>, AbstractDatastoreView> viewsByType = new HashMap<Class<?>, AbstractDatastoreView>();
+
+	// ///////////////////////////////////////////////////////////////////
+	// CONSTRUCTORS
+	// ///////////////////////////////////////////////////////////////////
+
+	/**
+	 * Creates the index of a stack of Views.
+	 *
+	 * @param currentView View at the top of the stack.<br>
+	 *                    <br>
+	 */
+	ViewIndex(final AbstractViewsLogic currentView) {
+
+		// Set the Current View.
+		this.currentView = currentView;
+
+		// Index every View from the top of the stack, so upper Views win.
+		AbstractViewsLogic view = currentView;
+		while ((view != null) && (!(view instanceof DefaultView))) {
+
+			// Get the View.
+			final AbstractDatastoreView datastoreView = (AbstractDatastoreView) view;
+
+			// Index the View by name.
+			if (!viewsByName.containsKey(datastoreView.getViewName())) {
+				viewsByName.put(datastoreView.getViewName(), datastoreView);
+			}
+
+			// Index the View by its class.
+			if (!viewsByClass.containsKey(datastoreView.getClass())) {
+				viewsByClass.put(datastoreView.getClass(), datastoreView);
+			}
+
+			// Index the View by its superclasses and interfaces.
+			Class<?> type = datastoreView.getClass();
+			while ((type != null) && (!type.equals(AbstractViewsLogic.class))) {
+
+				// Index the class and its interfaces.
+				indexType(type, datastoreView);
+
+				// Next class.
+				type = type.getSuperclass();
+
+			}
+
+			// Next View.
+			view = view.getParentView();
+
+		}
+
+	}
+
+	// ///////////////////////////////////////////////////////////////////
+	// PACKAGE METHODS
+	// ///////////////////////////////////////////////////////////////////
+
+	/**
+	 * Gets the View at the top of the stack.
+	 *
+	 * @return Current View or the default View if the Data Store does not have
+	 *         Views.<br>
+	 *         <br>
+	 */
+	AbstractViewsLogic getCurrentView() {
+		return currentView;
+	}
+
+	/**
+	 * Validates if the Data Store only has the default View.
+	 *
+	 * @return <code>true</code> if there are no Views in the stack.<br>
+	 *         <br>
+	 */
+	boolean isDefaultView() {
+		return (currentView instanceof DefaultView);
+	}
+
+	/**
+	 * Gets the upper View with a given name.
+	 *
+	 * @param viewName Name of the View.<br>
+	 *                 <br>
+	 * @return View or <code>null</code> if no View has this name.<br>
+	 *         <br>
+	 */
+	AbstractDatastoreView getView(final String viewName) {
+		return viewsByName.get(viewName);
+	}
+
+	/**
+	 * Gets the upper View of a given type. Views whose class is the given type
+	 * are searched first; when none exists, this method returns the upper View
+	 * that extends or implements the given type.
+	 *
+	 * @param viewType Type of the View.<br>
+	 *                 <br>
+	 * @return View or <code>null</code> if no View matches the type.<br>
+	 *         <br>
+	 */
+	AbstractDatastoreView getView(final Class<?> viewType) {
+
+		// Search for a View of this class.
+		final AbstractDatastoreView view = viewsByClass.get(viewType);
+
+		// Return the View or search for a View that is an instance of the type.
+		return (view == null) ? viewsByType.get(viewType) : view;
+
+	}
+
+	// ///////////////////////////////////////////////////////////////////
+	// PRIVATE METHODS
+	// ///////////////////////////////////////////////////////////////////
+
+	/**
+	 * Indexes a View by a type and every interface that the type extends.
+	 *
+	 * @param type Type to index.<br>
+	 *             <br>
+	 * @param view View of the type.<br>
+	 *             <br>
+	 */
+	private void indexType(final Class<?> type, final AbstractDatastoreView view) {
+
+		// Index the type.
+		if (!viewsByType.containsKey(type)) {
+			viewsByType.put(type, view);
+		}
+
+		// Index the interfaces.
+		final Class<?>[] interfaces = type.getInterfaces();
+		for (int i = 0; i < interfaces.length; i++) {
+			indexType(interfaces[i], view);
+		}
+
+	}
+
+}
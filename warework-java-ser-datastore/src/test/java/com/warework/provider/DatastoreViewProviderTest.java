@@ -9,7 +9,9 @@ import com.warework.core.scope.ScopeFacade;
 import com.warework.core.service.ServiceException;
 import com.warework.service.datastore.AbstractHashtableDatastoreTest;
 import com.warework.service.datastore.DatastoreServiceConstants;
+import com.warework.service.datastore.DatastoreServiceFacade;
 import com.warework.service.datastore.view.KeyValueView;
+import com.warework.service.datastore.view.SampleKeyValueViewL1;
 
 /**
  * 
@@ -74,6 +76,49 @@ public class DatastoreViewProviderTest extends AbstractHashtableDatastoreTest {
 		}
 	}
 
+	/**
+	 * 
+	 */
+	public void testGetObject3() {
+		try {
+
+			//
+			final ScopeFacade scope = getScope1();
+
+			//
+			final DatastoreServiceFacade service = (DatastoreServiceFacade) scope
+					.getService(DatastoreServiceConstants.DEFAULT_SERVICE_NAME);
+
+			//
+			final Object view1 = scope.getObject(PROVIDER_NAME, DATA_STORE_NAME);
+
+			// Same View from the cache.
+			if (scope.getObject(PROVIDER_NAME, DATA_STORE_NAME) != view1) {
+				fail();
+			}
+
+			// Add a View to the stack.
+			service.addView(DATA_STORE_NAME, SampleKeyValueViewL1.class,
+					"sample-view", null, null);
+
+			//
+			if (!(scope.getObject(PROVIDER_NAME, DATA_STORE_NAME) instanceof SampleKeyValueViewL1)) {
+				fail();
+			}
+
+			// Remove the View from the stack.
+			service.removeView(DATA_STORE_NAME);
+
+			//
+			if (scope.getObject(PROVIDER_NAME, DATA_STORE_NAME) != view1) {
+				fail();
+			}
+
+		} catch (final Exception e) {
+			fail();
+		}
+	}
+
 	// ///////////////////////////////////////////////////////////////////
 	// PRIVATE METHODS
 	// ///////////////////////////////////////////////////////////////////
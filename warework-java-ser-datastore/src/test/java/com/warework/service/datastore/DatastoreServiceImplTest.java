@@ -1,13 +1,18 @@
 package com.warework.service.datastore;
 
 import java.util.Enumeration;
+import java.util.HashMap;
+import java.util.Map;
 
 import com.warework.core.model.Scope;
 import com.warework.core.provider.ProviderException;
 import com.warework.core.scope.AbstractSerDatastoreTestCase;
 import com.warework.core.scope.ScopeException;
 import com.warework.core.scope.ScopeFacade;
+import com.warework.core.service.ProxyServiceConstants;
 import com.warework.core.service.ServiceException;
+import com.warework.core.service.metric.OperationMetrics;
+import com.warework.core.service.metric.OperationStatistics;
 import com.warework.service.datastore.client.HashtableViewImpl;
 import com.warework.service.datastore.client.connector.HashtableConnector;
 import com.warework.service.datastore.view.KeyValueView;
@@ -199,6 +204,61 @@ public class DatastoreServiceImplTest extends AbstractSerDatastoreTestCase {
 
 	// ///////////////////////////////////////////////////////////////////
 
+	/**
+	 * Views by name and by type
+	 */
+	public void testGetView1() {
+		try {
+
+			//
+			final DatastoreServiceFacade service = getService2();
+
+			// Add View 1
+			service.addView(DATA_STORE_NAME, HashtableViewImpl.class, "key-value-view-1", null, null);
+
+			// Add View 2
+			service.addView(DATA_STORE_NAME, SampleKeyValueViewL1.class, "key-value-view-2", null, null);
+
+			//
+			if (!(service.getView(DATA_STORE_NAME, "key-value-view-1") instanceof HashtableViewImpl)) {
+				fail();
+			}
+
+			//
+			if (!(service.getView(DATA_STORE_NAME, HashtableViewImpl.class) instanceof HashtableViewImpl)) {
+				fail();
+			}
+
+			// Upper View that implements the interface
+			if (!(service.getView(DATA_STORE_NAME, KeyValueView.class) instanceof SampleKeyValueViewL1)) {
+				fail();
+			}
+
+			// Remove View 2
+			service.removeView(DATA_STORE_NAME);
+
+			//
+			if (service.getView(DATA_STORE_NAME, "key-value-view-2") != null) {
+				fail();
+			}
+
+			//
+			if (!(service.getView(DATA_STORE_NAME, KeyValueView.class) instanceof HashtableViewImpl)) {
+				fail();
+			}
+
+			//
+			if (service.getView(DATA_STORE_NAME, SampleKeyValueViewL1.class) != null) {
+				fail();
+			}
+
+		} catch (final Exception e) {
+			fail();
+		}
+	}
+
+	// ///////////////////////////////////////////////////////////////////
+
 	/**
 	 * 
 	 */
@@ -233,6 +293,67 @@ public class DatastoreServiceImplTest extends AbstractSerDatastoreTestCase {
 		}
 	}
 
+	// ///////////////////////////////////////////////////////////////////
+
+	/**
+	 * Data Store operations are recorded when metrics are enabled.
+	 */
+	public void testOperationMetrics1() {
+		try {
+
+			//
+			final Map<String, Object> serviceParameters = new HashMap<String, Object>();
+			serviceParameters.put(ProxyServiceConstants.PARAMETER_OPERATION_METRICS, OperationMetrics.class);
+
+			//
+			final Scope config = new Scope(SCOPE_NAME);
+			{
+				config.setService(DatastoreServiceConstants.DEFAULT_SERVICE_NAME, DatastoreServiceImpl.class,
+						serviceParameters, null);
+			}
+
+			//
+			final DatastoreServiceImpl service = (DatastoreServiceImpl) create(config)
+					.getService(DatastoreServiceConstants.DEFAULT_SERVICE_NAME);
+
+			//
+			service.createClient(DATA_STORE_NAME, HashtableConnector.class, null);
+			service.connect(DATA_STORE_NAME);
+
+			//
+			final Map<String, Object> parameters = new HashMap<String, Object>();
+			parameters.put(DatastoreServiceConstants.OPERATION_PARAMETER_CLIENT_NAME, DATA_STORE_NAME);
+			parameters.put(DatastoreServiceConstants.OPERATION_PARAMETER_STATEMENT, "name=steve");
+
+			//
+			service.execute(DatastoreServiceConstants.OPERATION_NAME_UPDATE, parameters);
+
+			//
+			parameters.put(DatastoreServiceConstants.OPERATION_PARAMETER_STATEMENT, "name");
+			if (!"steve".equals(service.execute(DatastoreServiceConstants.OPERATION_NAME_QUERY, parameters))) {
+				fail();
+			}
+
+			//
+			final OperationMetrics metrics = (OperationMetrics) service.getOperationMetrics();
+
+			//
+			final OperationStatistics update = metrics.getStatistics(DATA_STORE_NAME,
+					DatastoreServiceConstants.OPERATION_NAME_UPDATE);
+			final OperationStatistics query = metrics.getStatistics(DATA_STORE_NAME,
+					DatastoreServiceConstants.OPERATION_NAME_QUERY);
+			if ((update.getCount() != 1) || (query.getCount() != 1) || (query.getErrorCount() != 0)) {
+				fail();
+			}
+
+			//
+			service.disconnect(DATA_STORE_NAME);
+
+		} catch (final Exception e) {
+			fail();
+		}
+	}
+
 	// ///////////////////////////////////////////////////////////////////
 	// PRIVATE METHODS
 	// ///////////////////////////////////////////////////////////////////
@@ -1,31 +1,51 @@
 package com.warework.service.file.client;
 
+import java.io.ByteArrayInputStream;
+import java.io.DataInputStream;
+import java.io.IOException;
 import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
 import java.text.ParseException;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Date;
 import java.util.Iterator;
+import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 import com.amazonaws.AmazonServiceException;
 import com.amazonaws.SdkClientException;
 import com.amazonaws.services.s3.AmazonS3;
+import com.amazonaws.services.s3.model.AbortMultipartUploadRequest;
+import com.amazonaws.services.s3.model.CompleteMultipartUploadRequest;
 import com.amazonaws.services.s3.model.CopyObjectRequest;
 import com.amazonaws.services.s3.model.DeleteObjectRequest;
 import com.amazonaws.services.s3.model.DeleteObjectsRequest;
 import com.amazonaws.services.s3.model.DeleteObjectsRequest.KeyVersion;
 import com.amazonaws.services.s3.model.DeleteObjectsResult;
 import com.amazonaws.services.s3.model.GetObjectRequest;
+import com.amazonaws.services.s3.model.InitiateMultipartUploadRequest;
 import com.amazonaws.services.s3.model.ListObjectsRequest;
 import com.amazonaws.services.s3.model.MultiObjectDeleteException;
 import com.amazonaws.services.s3.model.ObjectListing;
 import com.amazonaws.services.s3.model.ObjectMetadata;
+import com.amazonaws.services.s3.model.PartETag;
 import com.amazonaws.services.s3.model.PutObjectRequest;
 import com.amazonaws.services.s3.model.ResponseHeaderOverrides;
 import com.amazonaws.services.s3.model.S3Object;
 import com.amazonaws.services.s3.model.S3ObjectSummary;
+import com.amazonaws.services.s3.model.UploadPartRequest;
 import com.warework.core.service.client.ClientException;
 import com.warework.core.service.client.ReplyCodeClientException;
 import com.warework.core.util.CommonValueL1Constants;
@@ -33,8 +53,10 @@ import com.warework.core.util.CommonValueL2Constants;
 import com.warework.core.util.helper.DateL2Helper;
 import com.warework.core.util.helper.ResourceL2Helper;
 import com.warework.core.util.helper.StringL2Helper;
+import com.warework.core.util.helper.ThreadL1Helper;
 import com.warework.core.util.io.LengthInputStream;
 import com.warework.service.file.FileRef;
+import com.warework.service.file.FileRefIterator;
 import com.warework.service.file.FileServiceConstants;
 import com.warework.service.file.client.connector.AmazonS3Connector;
 import com.warework.service.log.LogServiceConstants;
@@ -55,6 +77,33 @@ public final class AmazonS3Client extends AbstractFileClient {
 	 */
 	public static final String DEFAULT_CLIENT_NAME = "aws-s3-client";
 
+	/**
+	 * Default minimum size of the files that are uploaded in multiple parts: 16
+	 * MB.
+	 */
+	public static final int DEFAULT_MULTIPART_THRESHOLD = 1024 * 1024 * 16;
+
+	/**
+	 * Default size of each part of a multipart upload: 8 MB.
+	 */
+	public static final int DEFAULT_MULTIPART_PART_SIZE = 1024 * 1024 * 8;
+
+	/**
+	 * Default number of parts transferred at the same time.
+	 */
+	public static final int DEFAULT_MULTIPART_PARALLELISM = 4;
+
+	/**
+	 * Minimum size of every part of a multipart upload, except the last one,
+	 * accepted by AWS S3: 5 MB.
+	 */
+	public static final int MULTIPART_MIN_PART_SIZE = 1024 * 1024 * 5;
+
+	/**
+	 * Maximum number of parts of a multipart upload accepted by AWS S3.
+	 */
+	public static final int MULTIPART_MAX_PARTS = 10000;
+
 	/*
 	 * EXECUTABLE OPTIONS
 	 */
@@ -270,6 +319,22 @@ public final class AmazonS3Client extends AbstractFileClient {
 	 */
 	public static final String OPERATION_OPTION_READ_EXPIRES = "expires";
 
+	/**
+	 * Read operation parameter that specifies if the object is downloaded in byte
+	 * ranges at the same time. Ranges have <code>multipart-part-size</code> bytes
+	 * and up to <code>multipart-parallelism</code> ranges are downloaded at the
+	 * same time. When the object is read as a stream, ranges are returned in
+	 * order and only <code>multipart-parallelism</code> ranges are downloaded
+	 * ahead of the one that is being read. When the object is copied into a
+	 * <code>FileChannel</code>, each range is written directly at its position in
+	 * the file.
+	 * This option is ignored when <code>range-start</code> or
+	 * <code>range-end</code> are given. Use this parameter only for
+	 * <code>read</code> operations. Values for this parameter can be
+	 * <code>true</code> or <code>false</code> as boolean or string objects.
+	 */
+	public static final String OPERATION_OPTION_READ_PARALLEL = "parallel";
+
 	// WRITE OPTIONS
 
 	/**
@@ -314,12 +379,23 @@ public final class AmazonS3Client extends AbstractFileClient {
 	 */
 	public static final String OPERATION_OPTION_WRITE_CONTENT_MD5 = "content-md5";
 
+	// TRANSFER THREADS
+
+	// Milliseconds to keep an unused transfer thread.
+	private static final long TRANSFER_THREAD_KEEP_ALIVE = 1000 * 60;
+
 	// ///////////////////////////////////////////////////////////////////
 	// PUBLIC METHODS
 	// ///////////////////////////////////////////////////////////////////
 
 	/**
-	 * Writes the content of a file.
+	 * Writes the content of a file. Files with at least
+	 * <code>multipart-threshold</code> bytes are uploaded in parts of
+	 * <code>multipart-part-size</code> bytes, and up to
+	 * <code>multipart-parallelism</code> parts are uploaded at the same time. If
+	 * one part fails, the multipart upload is aborted so no parts are left in the
+	 * bucket. The <code>content-md5</code> option only applies to files uploaded
+	 * with one request.
 	 * 
 	 * @param source  Source file to read. Input stream is not closed when operation
 	 *                is successfully completed.<br>
@@ -376,7 +452,12 @@ public final class AmazonS3Client extends AbstractFileClient {
 			final AmazonS3 connection = (AmazonS3) getConnection();
 
 			// Upload object.
-			connection.putObject(new PutObjectRequest(getBucketName(), targerPath, source, metadata));
+			if (size >= getConnectorInteger(AmazonS3Connector.PARAMETER_MULTIPART_THRESHOLD,
+				DEFAULT_MULTIPART_THRESHOLD)) {
+				writeMultipart(connection, source, size, metadata, targerPath);
+			} else {
+				connection.putObject(new PutObjectRequest(getBucketName(), targerPath, source, metadata));
+			}
 
 			// Log a message.
 			getScopeFacade().info("WAREWORK successfully created file '" + target + "' in File Client '" + getName()
@@ -397,7 +478,209 @@ public final class AmazonS3Client extends AbstractFileClient {
 							+ getService().getName() + "' due to the following AWS S3 service problem: "
 							+ e.getMessage(),
 					e, LogServiceConstants.LOG_LEVEL_WARN);
+		} catch (final IOException e) {
+			throw new ClientException(getScopeFacade(),
+					"WAREWORK cannot create file '" + target + "' in File Client '" + getName() + "' at Service '"
+							+ getService().getName() + "' because the following I/O exception is thrown: "
+							+ e.getMessage(),
+					e, LogServiceConstants.LOG_LEVEL_WARN);
+		} catch (final InterruptedException e) {
+
+			// Keep the interrupted status.
+			Thread.currentThread().interrupt();
+
+			// Notify the error.
+			throw new ClientException(getScopeFacade(),
+					"WAREWORK cannot create file '" + target + "' in File Client '" + getName() + "' at Service '"
+							+ getService().getName() + "' because the thread was interrupted.",
+					e, LogServiceConstants.LOG_LEVEL_WARN);
+
+		}
+	}
+
+	/**
+	 * Reads the content of a file into a local file. The content is written at
+	 * the current position of the channel and the position is moved to the end
+	 * of the content. When the <code>parallel</code> option is
+	 * <code>true</code>, the object is downloaded in byte ranges at the same time
+	 * and each range is written directly at its position in the channel.<br>
+	 * <br>
+	 * The channel must not be opened in append mode (for example, with
+	 * <code>new FileOutputStream(file, true)</code>) because such channels ignore
+	 * the position of each write and the ranges would be appended out of order.
+	 * Use <code>read(String, Map, OutputStream)</code> to append a file.
+	 * 
+	 * @param source  File to read in the File Client.<br>
+	 *                <br>
+	 * @param options Options to read the file. This argument is not mandatory.<br>
+	 *                <br>
+	 * @param target  Channel of the local file where to copy the content of the
+	 *                file. Channel is not closed when operation is successfully
+	 *                completed.<br>
+	 *                <br>
+	 * @return <code>true</code> if successfully completed, <code>false</code> if
+	 *         not.<br>
+	 *         <br>
+	 * @throws ClientException If there is an error when trying to read the
+	 *                         file.<br>
+	 *                         <br>
+	 */
+	public boolean read(final String source, final Map<String, Object> options, final FileChannel target)
+			throws ClientException {
+
+		// Threads that download the ranges.
+		ExecutorService executor = null;
+
+		// Download the file.
+		try {
+
+			// Validate options.
+			validateReadOptions(options);
+
+			// Get the connection with the File Client.
+			final AmazonS3 connection = (AmazonS3) getConnection();
+
+			// Create request.
+			final GetObjectRequest request = createRequest(source, options);
+
+			// Get the size of each range.
+			final int rangeSize = getConnectorInteger(AmazonS3Connector.PARAMETER_MULTIPART_PART_SIZE,
+					DEFAULT_MULTIPART_PART_SIZE);
+
+			// Get the S3 object reference.
+			final S3Object object = isParallelRead(request, options)
+					? getFirstRange(connection, request, source, options, rangeSize)
+					: connection.getObject(request);
+
+			// Validate the object exists.
+			if (object == null) {
+
+				// Log a message.
+				getScopeFacade().warn("WAREWORK cannot load file '" + source + "' in File Client '" + getName()
+						+ "' of Service '" + getService().getName()
+						+ "' because AWS S3 request constraints were specified but not met (for example: object is not found).");
+
+				// Nothing to return.
+				return false;
+
+			}
+
+			// Get where to write the content.
+			final long position = target.position();
+
+			// Get the size of the content.
+			final long length = (request.getRange() == null) ? object.getObjectMetadata().getInstanceLength()
+					: object.getObjectMetadata().getContentLength();
+
+			// Get the size of the first range.
+			final long firstLength = object.getObjectMetadata().getContentLength();
+
+			// Download the content.
+			if (firstLength >= length) {
+				transfer(object.getObjectContent(), target, position);
+			} else {
+
+				// Get the ETag of the object.
+				final String eTag = object.getObjectMetadata().getETag();
+
+				// Get how many ranges can be downloaded at the same time.
+				final int parallelism = getConnectorInteger(AmazonS3Connector.PARAMETER_MULTIPART_PARALLELISM,
+						DEFAULT_MULTIPART_PARALLELISM);
+
+				// Create the threads.
+				executor = createExecutor(parallelism);
+
+				// Ranges to download.
+				final List<Future<Long>> ranges = new ArrayList<Future<Long>>();
+
+				// Download the first range.
+				ranges.add(executor.submit(new Callable<Long>() {
+					public Long call() throws IOException {
+						return transfer(object.getObjectContent(), target, position);
+					}
+				}));
+
+				// Download the next ranges.
+				for (long start = firstLength; start < length; start = start + rangeSize) {
+
+					// Get the request of the range.
+					final GetObjectRequest range = AmazonS3RangeInputStream.createRangeRequest(request, eTag, start,
+							Math.min(start + rangeSize, length) - 1);
+
+					// Get where to write the range.
+					final long offset = position + start;
+
+					// Download the range.
+					ranges.add(executor.submit(new Callable<Long>() {
+						public Long call() throws IOException {
+							return transfer(AmazonS3RangeInputStream.getRange(connection, range), target, offset);
+						}
+					}));
+
+				}
+
+				// Wait for every range.
+				for (final Iterator<Future<Long>> iterator = ranges.iterator(); iterator.hasNext();) {
+					try {
+						iterator.next().get();
+					} catch (final ExecutionException e) {
+						if (e.getCause() instanceof IOException) {
+							throw (IOException) e.getCause();
+						} else if (e.getCause() instanceof RuntimeException) {
+							throw (RuntimeException) e.getCause();
+						} else {
+							throw new SdkClientException(e.getCause());
+						}
+					}
+				}
+
+			}
+
+			// Move the channel to the end of the content.
+			target.position(position + length);
+
+			// Log a message.
+			getScopeFacade().info("WAREWORK successfully loaded file '" + source + "' in File Client '" + getName()
+					+ "' of Service '" + getService().getName() + "'.");
+
+			// Return operation result.
+			return true;
+
+		} catch (final AmazonServiceException e) {
+			throw new ReplyCodeClientException(getScopeFacade(),
+					"WAREWORK cannot read file '" + source + "' in File Client '" + getName() + "' at Service '"
+							+ getService().getName() + "' because AWS S3 service was not able to process the request: "
+							+ e.getMessage(),
+					e, LogServiceConstants.LOG_LEVEL_WARN, e.getStatusCode(), e.getErrorCode());
+		} catch (final SdkClientException e) {
+			throw new ClientException(getScopeFacade(),
+					"WAREWORK cannot read file '" + source + "' in File Client '" + getName() + "' at Service '"
+							+ getService().getName() + "' due to the following AWS S3 service problem: "
+							+ e.getMessage(),
+					e, LogServiceConstants.LOG_LEVEL_WARN);
+		} catch (final IOException e) {
+			throw new ClientException(getScopeFacade(),
+					"WAREWORK cannot read file '" + source + "' in File Client '" + getName() + "' at Service '"
+							+ getService().getName() + "' because the following I/O exception is thrown: "
+							+ e.getMessage(),
+					e, LogServiceConstants.LOG_LEVEL_WARN);
+		} catch (final InterruptedException e) {
+
+			// Keep the interrupted status.
+			Thread.currentThread().interrupt();
+
+			// Notify the error.
+			throw new ClientException(getScopeFacade(),
+					"WAREWORK cannot read file '" + source + "' in File Client '" + getName() + "' at Service '"
+							+ getService().getName() + "' because the thread was interrupted.",
+					e, LogServiceConstants.LOG_LEVEL_WARN);
+
+		} finally {
+			if (executor != null) {
+				executor.shutdownNow();
+			}
 		}
+
 	}
 
 	/**
@@ -705,6 +988,85 @@ public final class AmazonS3Client extends AbstractFileClient {
 		}
 	}
 
+	/**
+	 * Iterates objects in a specific path. Objects are listed in pages: a new
+	 * page is requested to AWS S3 with the marker of the previous one only when
+	 * every object of the current page was returned. Use the
+	 * <code>page-size</code> option to set the maximum number of keys of each
+	 * page.
+	 * 
+	 * @param path    Where to list the resources in the file storage.<br>
+	 *                <br>
+	 * @param options Options to list the files. This argument is not mandatory.<br>
+	 *                <br>
+	 * @param orderBy Criteria used to compare the resources returned. Use any of
+	 *                the <code>FileServiceConstants.ORDER_BY_xyz</code> constants.
+	 *                This argument is not mandatory.<br>
+	 *                <br>
+	 * @return Iterator of the resources found.<br>
+	 *         <br>
+	 * @throws ClientException If there is an error when trying to list the
+	 *                         resources.<br>
+	 *                         <br>
+	 */
+	public FileRefIterator iterate(final String path, final Map<String, Object> options, final String[] orderBy)
+			throws ClientException {
+
+		// Get the connection with the File Client.
+		final AmazonS3 connection = (AmazonS3) getConnection();
+
+		// Get AWS path (transform given path if required).
+		final String target = updatePath(path);
+
+		// Configure request.
+		final ListObjectsRequest request = new ListObjectsRequest().withBucketName(getBucketName())
+				.withPrefix(target).withDelimiter(FileServiceConstants.DIRECTORY_SEPARATOR_UNIX_STYLE)
+				.withMaxKeys(getPageSize(options));
+
+		// List the first page.
+		final ObjectListing first = listObjects(connection, request);
+
+		// Log a message.
+		getScopeFacade().info("WAREWORK successfully listed files and/or directories from '" + path
+				+ "' in File Client '" + getName() + "' of Service '" + getService().getName() + "'.");
+
+		// Return the objects page by page.
+		return new AbstractFileRefIterator() {
+
+			// Last page listed.
+			private ObjectListing listing = first;
+
+			// Objects of the last page not returned yet.
+			private LinkedList<FileRef> page = toFileRefs(first, target, orderBy);
+
+			protected FileRef fetch() throws ClientException {
+
+				// List the next page when every object of the current one is returned.
+				while ((page.isEmpty()) && (listing != null) && (listing.isTruncated())) {
+
+					// Set marker indicating where in the bucket to begin listing.
+					request.setMarker(listing.getNextMarker());
+
+					// List objects.
+					listing = listObjects(connection, request);
+					page = toFileRefs(listing, target, orderBy);
+
+				}
+
+				// Return the next object.
+				return page.poll();
+
+			}
+
+			protected void release() {
+				page.clear();
+				listing = null;
+			}
+
+		};
+
+	}
+
 	// ///////////////////////////////////////////////////////////////////
 
 	/**
@@ -775,14 +1137,16 @@ public final class AmazonS3Client extends AbstractFileClient {
 			final AmazonS3 connection = (AmazonS3) getConnection();
 
 			// Create request.
-			final GetObjectRequest request = updateRequest(new GetObjectRequest(getBucketName(), updatePath(source)),
-					options);
+			final GetObjectRequest request = createRequest(source, options);
 
-			// Get the response header attributes.
-			request.setResponseHeaders(createResponseHeader(options));
+			// Get the size of each range for parallel downloads.
+			final int rangeSize = getConnectorInteger(AmazonS3Connector.PARAMETER_MULTIPART_PART_SIZE,
+					DEFAULT_MULTIPART_PART_SIZE);
 
 			// Get the S3 object reference.
-			final S3Object object = connection.getObject(request);
+			final boolean parallel = isParallelRead(request, options);
+			final S3Object object = parallel ? getFirstRange(connection, request, source, options, rangeSize)
+					: connection.getObject(request);
 
 			// Return stream.
 			if (object == null) {
@@ -806,6 +1170,20 @@ public final class AmazonS3Client extends AbstractFileClient {
 							+ getName() + "' of Service '" + getService().getName() + "'.");
 				}
 
+				// Download the next ranges at the same time.
+				if ((parallel) && (object.getObjectMetadata().getContentLength() < object.getObjectMetadata()
+						.getInstanceLength())) {
+
+					// Get how many ranges can be downloaded ahead.
+					final int parallelism = getConnectorInteger(AmazonS3Connector.PARAMETER_MULTIPART_PARALLELISM,
+							DEFAULT_MULTIPART_PARALLELISM);
+
+					// Return operation result.
+					return new LengthInputStream(new AmazonS3RangeInputStream(connection, request, object, rangeSize,
+							parallelism, createExecutor(parallelism)), object.getObjectMetadata().getInstanceLength());
+
+				}
+
 				// Return operation result.
 				return new LengthInputStream(input, object.getObjectMetadata().getContentLength());
 
@@ -857,6 +1235,488 @@ public final class AmazonS3Client extends AbstractFileClient {
 		return getConnector().toString(AmazonS3Connector.PARAMETER_BUCKET_NAME);
 	}
 
+	/**
+	 * Gets the value of an integer parameter of the Connector.
+	 * 
+	 * @param parameterName Name of the initialization parameter.<br>
+	 *                      <br>
+	 * @param defaultValue  Value to return when the parameter is not defined.<br>
+	 *                      <br>
+	 * @return Value of the parameter.<br>
+	 *         <br>
+	 */
+	private int getConnectorInteger(final String parameterName, final int defaultValue) {
+
+		// Get the value of the parameter.
+		final Integer value = getConnector().toInteger(parameterName);
+
+		// Return the value of the parameter.
+		return (value == null) ? defaultValue : value;
+
+	}
+
+	/**
+	 * Creates the threads that transfer the parts of a file. Threads stop when
+	 * they are not used for some time, so streams that are not closed do not
+	 * keep them alive.
+	 * 
+	 * @param threads Number of threads.<br>
+	 *                <br>
+	 * @return Threads.<br>
+	 *         <br>
+	 */
+	private ExecutorService createExecutor(final int threads) {
+
+		// Create the threads.
+		final ThreadPoolExecutor executor = new ThreadPoolExecutor(threads, threads, TRANSFER_THREAD_KEEP_ALIVE,
+				TimeUnit.MILLISECONDS, new LinkedBlockingQueue<Runnable>(),
+				ThreadL1Helper.createDaemonThreadFactory("warework-" + getName() + "-transfer"));
+
+		// Stop unused threads even if the executor is never shut down.
+		executor.allowCoreThreadTimeOut(true);
+
+		// Return the threads.
+		return executor;
+
+	}
+
+	/**
+	 * Creates the request to retrieve an object.
+	 * 
+	 * @param source  File to read in the File Client.<br>
+	 *                <br>
+	 * @param options Options where to retrieve the get request attributes.<br>
+	 *                <br>
+	 * @return Object request.<br>
+	 *         <br>
+	 * @throws ClientException If there is an error when trying to create the
+	 *                         request.<br>
+	 *                         <br>
+	 */
+	private GetObjectRequest createRequest(final String source, final Map<String, Object> options)
+			throws ClientException {
+
+		// Create request.
+		final GetObjectRequest request = updateRequest(new GetObjectRequest(getBucketName(), updatePath(source)),
+				options);
+
+		// Get the response header attributes.
+		request.setResponseHeaders(createResponseHeader(options));
+
+		// Return the request.
+		return request;
+
+	}
+
+	/**
+	 * Validates if an object must be downloaded in byte ranges at the same time.
+	 * 
+	 * @param options Options of the read operation.<br>
+	 *                <br>
+	 * @return <code>true</code> if the <code>parallel</code> option is
+	 *         <code>true</code>.<br>
+	 *         <br>
+	 * @throws ClientException If the option value is not a valid boolean.<br>
+	 *                         <br>
+	 */
+	private boolean isParallelRead(final Map<String, Object> options) throws ClientException {
+
+		// Get the value of the read option.
+		final Object optionValue = (options == null) ? null : options.get(OPERATION_OPTION_READ_PARALLEL);
+
+		// Get the flag.
+		if (optionValue instanceof Boolean) {
+			return (Boolean) optionValue;
+		} else if (optionValue instanceof String) {
+			try {
+				return (Boolean) StringL2Helper.parse(Boolean.class, (String) optionValue, null, null, null);
+			} catch (final ParseException e) {
+				throw new ClientException(getScopeFacade(), "WAREWORK cannot parse read option '"
+						+ OPERATION_OPTION_READ_PARALLEL + "' in Client '" + getName() + "' at Service '"
+						+ getService().getName()
+						+ "' because option value is a string without the required 'true' or 'false' values.",
+						e, LogServiceConstants.LOG_LEVEL_WARN);
+			}
+		} else {
+			return false;
+		}
+
+	}
+
+	/**
+	 * Validates if an object must be downloaded in byte ranges at the same time.
+	 * 
+	 * @param request Object request.<br>
+	 *                <br>
+	 * @param options Options of the read operation.<br>
+	 *                <br>
+	 * @return <code>true</code> if the <code>parallel</code> option is
+	 *         <code>true</code> and the request does not specify a byte range.<br>
+	 *         <br>
+	 * @throws ClientException If the option value is not a valid boolean.<br>
+	 *                         <br>
+	 */
+	private boolean isParallelRead(final GetObjectRequest request, final Map<String, Object> options)
+			throws ClientException {
+		return (request.getRange() == null) && (isParallelRead(options));
+	}
+
+	/**
+	 * Gets the first byte range of an object. The metadata of the response gives
+	 * the size and the ETag of the whole object. The range is requested with a
+	 * copy of the given request, which keeps asking for the whole object.
+	 * 
+	 * @param connection Connection with AWS S3.<br>
+	 *                   <br>
+	 * @param request    Object request.<br>
+	 *                   <br>
+	 * @param source     File to read in the File Client.<br>
+	 *                   <br>
+	 * @param options    Options of the read operation.<br>
+	 *                   <br>
+	 * @param rangeSize  Size of each range.<br>
+	 *                   <br>
+	 * @return First range of the object or <code>null</code> if request
+	 *         constraints are not met.<br>
+	 *         <br>
+	 * @throws ClientException If there is an error when trying to create the
+	 *                         request.<br>
+	 *                         <br>
+	 */
+	private S3Object getFirstRange(final AmazonS3 connection, final GetObjectRequest request, final String source,
+			final Map<String, Object> options, final int rangeSize) throws ClientException {
+
+		// Get the first range.
+		try {
+			return connection.getObject(AmazonS3RangeInputStream.createRangeRequest(request, null, 0, rangeSize - 1));
+		} catch (final AmazonServiceException e) {
+			if (e.getStatusCode() == 416) {
+
+				// Empty objects have no ranges.
+				return connection.getObject(createRequest(source, options));
+
+			} else {
+				throw e;
+			}
+		}
+
+	}
+
+	/**
+	 * Copies a stream into a channel at a given position. The stream is closed at
+	 * the end.
+	 * 
+	 * @param source Stream to read.<br>
+	 *               <br>
+	 * @param target Channel where to write.<br>
+	 *               <br>
+	 * @param offset Position in the channel where to write the first byte.<br>
+	 *               <br>
+	 * @return Number of bytes copied.<br>
+	 *         <br>
+	 * @throws IOException If there is an error when trying to copy the bytes.<br>
+	 *                     <br>
+	 */
+	private static long transfer(final InputStream source, final FileChannel target, final long offset)
+			throws IOException {
+		try {
+
+			// Buffer to copy the bytes.
+			final byte[] buffer = new byte[DEFAULT_BUFFER_SIZE];
+
+			// Copy the bytes.
+			long position = offset;
+			int count;
+			while ((count = source.read(buffer)) != -1) {
+
+				// Wrap the bytes read.
+				final ByteBuffer bytes = ByteBuffer.wrap(buffer, 0, count);
+
+				// Write the bytes at their position.
+				while (bytes.hasRemaining()) {
+					position = position + target.write(bytes, position);
+				}
+
+			}
+
+			// Return the number of bytes copied.
+			return position - offset;
+
+		} finally {
+			source.close();
+		}
+	}
+
+	// ///////////////////////////////////////////////////////////////////
+
+	/**
+	 * Lists one page of objects.
+	 * 
+	 * @param connection Connection with AWS S3.<br>
+	 *                   <br>
+	 * @param request    Request that specifies the page to list.<br>
+	 *                   <br>
+	 * @return Objects of the page.<br>
+	 *         <br>
+	 * @throws ClientException If AWS S3 cannot list the objects.<br>
+	 *                         <br>
+	 */
+	private ObjectListing listObjects(final AmazonS3 connection, final ListObjectsRequest request)
+			throws ClientException {
+		try {
+			return connection.listObjects(request);
+		} catch (final AmazonServiceException e) {
+			throw new ReplyCodeClientException(getScopeFacade(),
+					"WAREWORK cannot list files in File Client '" + getName() + "' at Service '"
+							+ getService().getName() + "' because AWS S3 service was not able to process the request: "
+							+ e.getMessage(),
+					e, LogServiceConstants.LOG_LEVEL_WARN, e.getStatusCode(), e.getErrorCode());
+		} catch (final SdkClientException e) {
+			throw new ClientException(getScopeFacade(),
+					"WAREWORK cannot list files in File Client '" + getName() + "' at Service '"
+							+ getService().getName() + "' due to the following AWS S3 service problem: "
+							+ e.getMessage(),
+					e, LogServiceConstants.LOG_LEVEL_WARN);
+		}
+	}
+
+	/**
+	 * Wraps the objects of a page.
+	 * 
+	 * @param listing Objects of the page.<br>
+	 *                <br>
+	 * @param target  Path listed.<br>
+	 *                <br>
+	 * @param orderBy Criteria used to compare the resources.<br>
+	 *                <br>
+	 * @return File references of the page.<br>
+	 *         <br>
+	 */
+	private LinkedList<FileRef> toFileRefs(final ObjectListing listing, final String target,
+			final String[] orderBy) {
+
+		// Store file references here.
+		final LinkedList<FileRef> files = new LinkedList<FileRef>();
+
+		// Process result.
+		if (listing != null) {
+
+			// Wrap each S3 object that represents a directory.
+			for (final String commonPrefix : listing.getCommonPrefixes()) {
+				files.add(new FileRefAmazonS3Impl(this, commonPrefix, orderBy));
+			}
+
+			// Wrap each S3 object that represents a file.
+			for (final S3ObjectSummary objectSummary : listing.getObjectSummaries()) {
+				if (!objectSummary.getKey().equals(target)) {
+					files.add(new FileRefAmazonS3Impl(this, objectSummary, orderBy));
+				}
+			}
+
+		}
+
+		// Return the file references.
+		return files;
+
+	}
+
+	// ///////////////////////////////////////////////////////////////////
+
+	/**
+	 * Uploads a file in multiple parts. Parts are read one after another from the
+	 * source stream and uploaded in parallel. At most
+	 * <code>multipart-parallelism</code> parts are kept in memory. Parts are at
+	 * least <code>MULTIPART_MIN_PART_SIZE</code> bytes and, when the file needs
+	 * more than <code>MULTIPART_MAX_PARTS</code> parts, the size of each part grows,
+	 * so the upload is not rejected by AWS S3 after the last part. If a part cannot
+	 * be uploaded, the multipart upload is aborted.
+	 * 
+	 * @param connection Connection with AWS S3.<br>
+	 *                   <br>
+	 * @param source     Source file to read.<br>
+	 *                   <br>
+	 * @param size       Bytes of the source file.<br>
+	 *                   <br>
+	 * @param metadata   Metadata of the object.<br>
+	 *                   <br>
+	 * @param key        Key of the object in the bucket.<br>
+	 *                   <br>
+	 * @throws IOException          If the source stream cannot be read or the file
+	 *                              is too large to upload.<br>
+	 *                              <br>
+	 * @throws InterruptedException If the thread is interrupted while waiting for
+	 *                              the parts.<br>
+	 *                              <br>
+	 */
+	private void writeMultipart(final AmazonS3 connection, final InputStream source, final long size,
+			final ObjectMetadata metadata, final String key) throws IOException, InterruptedException {
+
+		// Get the name of the bucket.
+		final String bucketName = getBucketName();
+
+		// Get the configured size of each part.
+		final int configPartSize = getConnectorInteger(AmazonS3Connector.PARAMETER_MULTIPART_PART_SIZE,
+				DEFAULT_MULTIPART_PART_SIZE);
+
+		// Get the size of each part accepted by AWS S3.
+		final int partSize = getPartSize(size, configPartSize);
+		if (partSize != configPartSize) {
+			getScopeFacade().debug("WAREWORK uses parts of " + partSize + " bytes instead of " + configPartSize
+					+ " bytes to upload a file of " + size + " bytes in File Client '" + getName() + "' at Service '"
+					+ getService().getName() + "'.");
+		}
+
+		// Get how many parts can be uploaded at the same time.
+		final int parallelism = getConnectorInteger(AmazonS3Connector.PARAMETER_MULTIPART_PARALLELISM,
+				DEFAULT_MULTIPART_PARALLELISM);
+
+		// Metadata for the multipart upload: length and digest belong to each part.
+		final ObjectMetadata uploadMetadata = metadata.clone();
+		uploadMetadata.setContentLength(0);
+		uploadMetadata.setContentMD5(null);
+
+		// Start the multipart upload.
+		final String uploadId = connection
+				.initiateMultipartUpload(new InitiateMultipartUploadRequest(bucketName, key, uploadMetadata))
+				.getUploadId();
+
+		// Create the threads.
+		final ExecutorService executor = createExecutor(parallelism);
+
+		// Limits the parts kept in memory.
+		final Semaphore permits = new Semaphore(parallelism);
+
+		// Flag to stop when a part cannot be uploaded.
+		final AtomicBoolean failed = new AtomicBoolean(false);
+
+		// Uploaded parts.
+		final List<Future<PartETag>> parts = new ArrayList<Future<PartETag>>();
+
+		// Upload the parts.
+		boolean completed = false;
+		try {
+
+			// Stream to read the parts.
+			final DataInputStream input = new DataInputStream(source);
+
+			// Read and upload each part.
+			long remaining = size;
+			while ((remaining > 0) && (!failed.get())) {
+
+				// Read the part.
+				final byte[] part = new byte[(int) Math.min(partSize, remaining)];
+				input.readFully(part);
+
+				// Wait until the part can be uploaded.
+				permits.acquire();
+
+				// Get the number of the part.
+				final int partNumber = parts.size() + 1;
+
+				// Upload the part.
+				parts.add(executor.submit(new Callable<PartETag>() {
+					public PartETag call() {
+						try {
+							return connection.uploadPart(new UploadPartRequest().withBucketName(bucketName).withKey(key)
+									.withUploadId(uploadId).withPartNumber(partNumber).withPartSize(part.length)
+									.withInputStream(new ByteArrayInputStream(part))).getPartETag();
+						} catch (final RuntimeException e) {
+
+							// Stop reading parts.
+							failed.set(true);
+
+							// Notify the error.
+							throw e;
+
+						} finally {
+							permits.release();
+						}
+					}
+				}));
+
+				// Count the bytes read.
+				remaining = remaining - part.length;
+
+			}
+
+			// Wait for every part.
+			final List<PartETag> etags = new ArrayList<PartETag>(parts.size());
+			for (final Iterator<Future<PartETag>> iterator = parts.iterator(); iterator.hasNext();) {
+				try {
+					etags.add(iterator.next().get());
+				} catch (final ExecutionException e) {
+					if (e.getCause() instanceof RuntimeException) {
+						throw (RuntimeException) e.getCause();
+					} else {
+						throw new SdkClientException(e.getCause());
+					}
+				}
+			}
+
+			// Complete the multipart upload.
+			connection.completeMultipartUpload(new CompleteMultipartUploadRequest(bucketName, key, uploadId, etags));
+
+			// At this point, the file is uploaded.
+			completed = true;
+
+		} finally {
+
+			// Stop the threads.
+			executor.shutdownNow();
+
+			// Remove the parts uploaded.
+			if (!completed) {
+				try {
+					connection.abortMultipartUpload(new AbortMultipartUploadRequest(bucketName, key, uploadId));
+				} catch (final SdkClientException e) {
+					getScopeFacade().warn("WAREWORK cannot abort the multipart upload '" + uploadId + "' of file '"
+							+ key + "' in File Client '" + getName() + "' at Service '" + getService().getName()
+							+ "' due to the following AWS S3 service problem: " + e.getMessage());
+				}
+			}
+
+		}
+
+	}
+
+	/**
+	 * Gets the size of each part of a multipart upload. The configured size is
+	 * used unless it is smaller than <code>MULTIPART_MIN_PART_SIZE</code> or the
+	 * file needs more than <code>MULTIPART_MAX_PARTS</code> parts with it.
+	 * 
+	 * @param size     Bytes of the file to upload.<br>
+	 *                 <br>
+	 * @param partSize Configured size of each part.<br>
+	 *                 <br>
+	 * @return Size of each part.<br>
+	 *         <br>
+	 * @throws IOException If the file does not fit in
+	 *                     <code>MULTIPART_MAX_PARTS</code> parts that can be kept
+	 *                     in memory.<br>
+	 *                     <br>
+	 */
+	static int getPartSize(final long size, final int partSize) throws IOException {
+
+		// Smallest size accepted by AWS S3 that keeps the file within the maximum
+		// number of parts.
+		final long minPartSize = Math.max(MULTIPART_MIN_PART_SIZE,
+				(size + MULTIPART_MAX_PARTS - 1) / MULTIPART_MAX_PARTS);
+
+		// Use the configured size when it is accepted by AWS S3.
+		if (minPartSize <= partSize) {
+			return partSize;
+		}
+
+		// Parts are kept in byte arrays.
+		if (minPartSize > Integer.MAX_VALUE) {
+			throw new IOException("File of " + size + " bytes does not fit in " + MULTIPART_MAX_PARTS + " parts.");
+		}
+
+		// Return the smallest size accepted by AWS S3.
+		return (int) minPartSize;
+
+	}
+
 	// ///////////////////////////////////////////////////////////////////
 
 	/**
@@ -1056,6 +1916,23 @@ public final class AmazonS3Client extends AbstractFileClient {
 
 			}
 
+			// Validate option.
+			if (options.containsKey(OPERATION_OPTION_READ_PARALLEL)) {
+
+				// Get the value of the option.
+				final Object optionValue = options.get(OPERATION_OPTION_READ_PARALLEL);
+
+				// Validate option value.
+				if (!(optionValue instanceof String) && !(optionValue instanceof Boolean)) {
+					throw new ClientException(getScopeFacade(),
+							"WAREWORK cannot perform the operation with File Client '" + getName() + "' at Service '"
+									+ getService().getName() + "' because given '" + OPERATION_OPTION_READ_PARALLEL
+									+ "' option is not a boolean or a string value.",
+							null, LogServiceConstants.LOG_LEVEL_WARN);
+				}
+
+			}
+
 			// Validate option.
 			if (options.containsKey(OPERATION_OPTION_READ_VERSION_ID)) {
 
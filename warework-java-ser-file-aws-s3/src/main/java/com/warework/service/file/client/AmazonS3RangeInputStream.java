@@ -0,0 +1,414 @@
+package com.warework.service.file.client;
+
+import java.io.ByteArrayInputStream;
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InterruptedIOException;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedList;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+
+import com.amazonaws.services.s3.AmazonS3;
+import com.amazonaws.services.s3.model.GetObjectRequest;
+import com.amazonaws.services.s3.model.S3Object;
+
+/**
+ * Input stream that downloads an Amazon S3 object in byte ranges. The ranges
+ * are downloaded at the same time by a pool of threads and this stream returns
+ * them in order. Only a limited number of ranges is downloaded ahead of the
+ * range that is being read, so memory use does not depend on the size of the
+ * object. Every range is downloaded with the ETag of the first one, so the
+ * stream fails if the object changes while it is read.
+ *
+ * @author Jose Schiaffino
+ * @version ${project.version}
+ */
+final class AmazonS3RangeInputStream extends InputStream {
+
+	// ///////////////////////////////////////////////////////////////////
+	// ATTRIBUTES
+	// ///////////////////////////////////////////////////////////////////
+
+	// Connection with AWS S3.
+	private AmazonS3 connection;
+
+	// Request of the first range.
+	private GetObjectRequest request;
+
+	// ETag of the object.
+	private String eTag;
+
+	// Size of the object.
+	private long length;
+
+	// Size of each range.
+	private int rangeSize;
+
+	// Threads that download the ranges.
+	private ExecutorService executor;
+
+	// Ranges downloaded ahead of the current one.
+	private LinkedList<Future<byte[]>> ranges = new LinkedList<Future<byte[]>>();
+
+	// Position of the first byte of the next range to download.
+	private long next;
+
+	// Range that is being read.
+	private InputStream current;
+
+	// ///////////////////////////////////////////////////////////////////
+	// CONSTRUCTORS
+	// ///////////////////////////////////////////////////////////////////
+
+	/**
+	 * Creates the input stream.
+	 *
+	 * @param connection Connection with AWS S3.<br>
+	 *                   <br>
+	 * @param request    Request of the whole object.<br>
+	 *                   <br>
+	 * @param first      First range of the object.<br>
+	 *                   <br>
+	 * @param rangeSize  Size of each range.<br>
+	 *                   <br>
+	 * @param readAhead  Number of ranges to download ahead of the range that is
+	 *                   being read.<br>
+	 *                   <br>
+	 * @param executor   Threads that download the ranges. They are stopped when
+	 *                   the last range is submitted or when this stream is
+	 *                   closed.<br>
+	 *                   <br>
+	 */
+	AmazonS3RangeInputStream(final AmazonS3 connection, final GetObjectRequest request, final S3Object first,
+			final int rangeSize, final int readAhead, final ExecutorService executor) {
+
+		// Set the connection.
+		this.connection = connection;
+
+		// Set the request.
+		this.request = request;
+
+		// Get the ETag of the object.
+		this.eTag = first.getObjectMetadata().getETag();
+
+		// Get the size of the object.
+		this.length = first.getObjectMetadata().getInstanceLength();
+
+		// Set the size of each range.
+		this.rangeSize = rangeSize;
+
+		// Set the threads.
+		this.executor = executor;
+
+		// The first range is read directly from AWS S3.
+		this.current = first.getObjectContent();
+		this.next = first.getObjectMetadata().getContentLength();
+
+		// Start to download the next ranges.
+		for (int i = 0; i < readAhead; i++) {
+			downloadNext();
+		}
+
+	}
+
+	// ///////////////////////////////////////////////////////////////////
+	// PUBLIC METHODS
+	// ///////////////////////////////////////////////////////////////////
+
+	/**
+	 * Reads the next byte of data from the input stream.
+	 *
+	 * @return The next byte of data, or <code>-1</code> if the end of the stream
+	 *         is reached.<br>
+	 *         <br>
+	 * @throws IOException If an I/O error occurs.<br>
+	 *                     <br>
+	 */
+	public int read() throws IOException {
+		while (current != null) {
+
+			// Read from the current range.
+			final int value = current.read();
+			if (value >= 0) {
+				return value;
+			}
+
+			// Move to the next range.
+			nextRange();
+
+		}
+
+		// At this point, every range is read.
+		return -1;
+
+	}
+
+	/**
+	 * Reads up to <code>len</code> bytes of data from the input stream into an
+	 * array of bytes.
+	 *
+	 * @param b   The buffer into which the data is read.<br>
+	 *            <br>
+	 * @param off The start offset in array <code>b</code> at which the data is
+	 *            written.<br>
+	 *            <br>
+	 * @param len The maximum number of bytes to read.<br>
+	 *            <br>
+	 * @return The total number of bytes read into the buffer, or <code>-1</code>
+	 *         if there is no more data because the end of the stream has been
+	 *         reached.<br>
+	 *         <br>
+	 * @throws IOException If an I/O error occurs.<br>
+	 *                     <br>
+	 */
+	public int read(final byte[] b, final int off, final int len) throws IOException {
+
+		// Nothing to read.
+		if (len == 0) {
+			return 0;
+		}
+
+		// Read from the current range or move to the next one.
+		while (current != null) {
+
+			// Read from the current range.
+			final int count = current.read(b, off, len);
+			if (count >= 0) {
+				return count;
+			}
+
+			// Move to the next range.
+			nextRange();
+
+		}
+
+		// At this point, every range is read.
+		return -1;
+
+	}
+
+	/**
+	 * Returns an estimate of the number of bytes that can be read without
+	 * blocking.
+	 *
+	 * @return Bytes available in the current range.<br>
+	 *         <br>
+	 * @throws IOException If an I/O error occurs.<br>
+	 *                     <br>
+	 */
+	public int available() throws IOException {
+		return (current == null) ? 0 : current.available();
+	}
+
+	/**
+	 * Closes the stream and stops the downloads.
+	 *
+	 * @throws IOException If an I/O error occurs.<br>
+	 *                     <br>
+	 */
+	public void close() throws IOException {
+		try {
+			if (current != null) {
+				current.close();
+			}
+		} finally {
+
+			// Stop the downloads.
+			for (final Iterator<Future<byte[]>> iterator = ranges.iterator(); iterator.hasNext();) {
+				iterator.next().cancel(true);
+			}
+
+			// Stop the threads.
+			executor.shutdownNow();
+
+			// Release the ranges.
+			ranges.clear();
+			current = null;
+
+		}
+	}
+
+	// ///////////////////////////////////////////////////////////////////
+	// PACKAGE METHODS
+	// ///////////////////////////////////////////////////////////////////
+
+	/**
+	 * Creates the request to download a byte range of an object. The request
+	 * keeps the constraints and the response headers of the given request and,
+	 * when an ETag is given, it only succeeds if the object still has it.
+	 *
+	 * @param request Request of the whole object.<br>
+	 *                <br>
+	 * @param eTag    ETag of the object or <code>null</code> to not check it.<br>
+	 *                <br>
+	 * @param start   Position of the first byte of the range.<br>
+	 *                <br>
+	 * @param end     Position of the last byte of the range.<br>
+	 *                <br>
+	 * @return Request for the range.<br>
+	 *         <br>
+	 */
+	static GetObjectRequest createRangeRequest(final GetObjectRequest request, final String eTag, final long start,
+			final long end) {
+
+		// Create the request for the same object.
+		final GetObjectRequest range = new GetObjectRequest(request.getBucketName(), request.getKey(),
+				request.getVersionId());
+
+		// Keep the options that affect how the object is retrieved.
+		range.setRequesterPays(request.isRequesterPays());
+		range.setSSECustomerKey(request.getSSECustomerKey());
+		range.setResponseHeaders(request.getResponseHeaders());
+
+		// Keep the constraints of the request.
+		range.setMatchingETagConstraints(new ArrayList<String>(request.getMatchingETagConstraints()));
+		range.setNonmatchingETagConstraints(new ArrayList<String>(request.getNonmatchingETagConstraints()));
+		range.setModifiedSinceConstraint(request.getModifiedSinceConstraint());
+		range.setUnmodifiedSinceConstraint(request.getUnmodifiedSinceConstraint());
+
+		// Fail if the object changes.
+		if (eTag != null) {
+			range.withMatchingETagConstraint(eTag);
+		}
+
+		// Set the range.
+		range.setRange(start, end);
+
+		// Return the request.
+		return range;
+
+	}
+
+	/**
+	 * Gets the stream of a byte range of an object.
+	 *
+	 * @param connection Connection with AWS S3.<br>
+	 *                   <br>
+	 * @param request    Request for the range.<br>
+	 *                   <br>
+	 * @return Stream to read the range.<br>
+	 *         <br>
+	 * @throws IOException If the object was modified or deleted.<br>
+	 *                     <br>
+	 */
+	static InputStream getRange(final AmazonS3 connection, final GetObjectRequest request) throws IOException {
+
+		// Get the object.
+		final S3Object object = connection.getObject(request);
+
+		// Constraints are not met when the object was modified.
+		if (object == null) {
+			throw new IOException("Object '" + request.getKey() + "' was modified while it was downloaded.");
+		}
+
+		// Return the stream.
+		return object.getObjectContent();
+
+	}
+
+	// ///////////////////////////////////////////////////////////////////
+	// PRIVATE METHODS
+	// ///////////////////////////////////////////////////////////////////
+
+	/**
+	 * Starts to download the next range of the object, if any. The threads are
+	 * stopped when every range is submitted, so they do not outlive a stream that
+	 * is read to the end but never closed.
+	 */
+	private void downloadNext() {
+		if (next < length) {
+
+			// Get the request of the range.
+			final GetObjectRequest range = createRangeRequest(request, eTag, next,
+					Math.min(next + rangeSize, length) - 1);
+
+			// Download the range.
+			ranges.add(executor.submit(new Callable<byte[]>() {
+				public byte[] call() throws IOException {
+
+					// Get the range.
+					final InputStream input = getRange(connection, range);
+
+					// Read every byte of the range.
+					try {
+
+						// Create the buffer.
+						final byte[] data = new byte[(int) (range.getRange()[1] - range.getRange()[0] + 1)];
+
+						// Read the range.
+						new DataInputStream(input).readFully(data);
+
+						// Return the range.
+						return data;
+
+					} finally {
+						input.close();
+					}
+
+				}
+			}));
+
+			// Set the start of the next range.
+			next = next + rangeSize;
+
+		}
+
+		// Let the threads finish the submitted ranges and stop.
+		if (next >= length) {
+			executor.shutdown();
+		}
+
+	}
+
+	/**
+	 * Moves to the next downloaded range.
+	 *
+	 * @throws IOException If the range cannot be downloaded.<br>
+	 *                     <br>
+	 */
+	private void nextRange() throws IOException {
+
+		// Close the current range.
+		current.close();
+		current = null;
+
+		// Get the next range.
+		if (!ranges.isEmpty()) {
+
+			// Get the range.
+			final Future<byte[]> range = ranges.removeFirst();
+
+			// Keep the read-ahead.
+			downloadNext();
+
+			// Wait for the range.
+			try {
+				current = new ByteArrayInputStream(range.get());
+			} catch (final InterruptedException e) {
+
+				// Keep the interrupted status.
+				Thread.currentThread().interrupt();
+
+				// Notify the error.
+				throw new InterruptedIOException("Download of object '" + request.getKey() + "' was interrupted.");
+
+			} catch (final ExecutionException e) {
+				if (e.getCause() instanceof IOException) {
+					throw (IOException) e.getCause();
+				} else {
+					throw new IOException(
+							"Cannot download object '" + request.getKey() + "': " + e.getCause().getMessage(),
+							e.getCause());
+				}
+			}
+
+		}
+
+	}
+
+}
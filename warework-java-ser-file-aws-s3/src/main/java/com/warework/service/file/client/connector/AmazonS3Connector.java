@@ -279,6 +279,37 @@ public final class AmazonS3Connector extends AbstractFileClientConnector {
 	 */
 	public static final String PARAMETER_PATH_TRANSFORM = "path-transform";
 
+	// MULTIPART TRANSFER INITIALIZATION PARAMETERS
+
+	/**
+	 * Initialization parameter that specifies the minimum size (in bytes) of the
+	 * files that are uploaded in multiple parts. Files smaller than this value are
+	 * uploaded with one request. This is an optional parameter and it defaults to
+	 * <code>AmazonS3Client.DEFAULT_MULTIPART_THRESHOLD</code> (16 MB).
+	 */
+	public static final String PARAMETER_MULTIPART_THRESHOLD = "multipart-threshold";
+
+	/**
+	 * Initialization parameter that specifies the size (in bytes) of each part of
+	 * a multipart upload and of each byte range of a parallel download. AWS S3
+	 * requires at least 5 MB for every part except the last one, so smaller values
+	 * are raised to <code>AmazonS3Client.MULTIPART_MIN_PART_SIZE</code> for uploads.
+	 * When a file needs more than <code>AmazonS3Client.MULTIPART_MAX_PARTS</code>
+	 * parts, the size of each part grows so the file fits in that number of parts.
+	 * Byte ranges of parallel downloads use the given value. This is an
+	 * optional parameter and it defaults to
+	 * <code>AmazonS3Client.DEFAULT_MULTIPART_PART_SIZE</code> (8 MB).
+	 */
+	public static final String PARAMETER_MULTIPART_PART_SIZE = "multipart-part-size";
+
+	/**
+	 * Initialization parameter that specifies how many parts of a file can be
+	 * transferred at the same time. It also limits how many parts are kept in
+	 * memory. This is an optional parameter and it defaults to
+	 * <code>AmazonS3Client.DEFAULT_MULTIPART_PARALLELISM</code> (4).
+	 */
+	public static final String PARAMETER_MULTIPART_PARALLELISM = "multipart-parallelism";
+
 	// ///////////////////////////////////////////////////////////////////
 	// ATTRIBUTES
 	// ///////////////////////////////////////////////////////////////////
@@ -437,6 +468,11 @@ public final class AmazonS3Connector extends AbstractFileClientConnector {
 					null, LogServiceConstants.LOG_LEVEL_WARN);
 		}
 
+		// Validate multipart transfer parameters.
+		validatePositiveInteger(PARAMETER_MULTIPART_THRESHOLD);
+		validatePositiveInteger(PARAMETER_MULTIPART_PART_SIZE);
+		validatePositiveInteger(PARAMETER_MULTIPART_PARALLELISM);
+
 		// Validate client configuration.
 		if (config == null) {
 
@@ -0,0 +1,462 @@
+package com.warework.service.file.client;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import com.amazonaws.services.s3.model.GetObjectRequest;
+import com.amazonaws.services.s3.model.S3Object;
+
+import com.warework.core.model.Scope;
+import com.warework.core.scope.AbstractTestCase;
+import com.warework.core.scope.ScopeFacade;
+import com.warework.service.file.FileServiceConstants;
+import com.warework.service.file.FileServiceFacade;
+import com.warework.service.file.FileServiceImpl;
+import com.warework.service.file.client.connector.AmazonS3Connector;
+import com.warework.service.file.client.connector.DummyAmazonS3Connector;
+
+/**
+ * Transfers files in parts with an in-memory AWS S3 bucket.
+ * 
+ * @author Jose Schiaffino
+ * @version ${project.version}
+ */
+public final class AmazonS3ClientTransferTest extends AbstractTestCase {
+
+	// ///////////////////////////////////////////////////////////////////
+	// CONSTANTS
+	// ///////////////////////////////////////////////////////////////////
+
+	// Name of the File Client.
+	private static final String CLIENT_NAME = FileServiceConstants.DEFAULT_CLIENT_NAME;
+
+	// Path of the file to transfer.
+	private static final String FILE = "/sample.bin";
+
+	// ///////////////////////////////////////////////////////////////////
+	// TEST METHODS
+	// ///////////////////////////////////////////////////////////////////
+
+	/**
+	 * 
+	 */
+	public void testWriteMultipart1() {
+		try {
+
+			//
+			final DummyAmazonS3 connection = new DummyAmazonS3();
+
+			//
+			final FileServiceFacade service = createService(connection, AmazonS3Client.MULTIPART_MIN_PART_SIZE);
+
+			//
+			final byte[] content = createContent(AmazonS3Client.MULTIPART_MIN_PART_SIZE * 2 + 25);
+
+			//
+			service.connect(CLIENT_NAME);
+
+			//
+			final boolean success = service.write(CLIENT_NAME, new ByteArrayInputStream(content), content.length,
+					null, FILE);
+
+			//
+			final ByteArrayOutputStream output = new ByteArrayOutputStream();
+			service.read(CLIENT_NAME, FILE, null, output);
+
+			//
+			service.disconnect(CLIENT_NAME);
+
+			//
+			if ((!success) || (connection.getLastUploadParts() != 3)
+					|| (!Arrays.equals(content, output.toByteArray()))) {
+				fail();
+			}
+
+		} catch (final Exception e) {
+			fail();
+		}
+	}
+
+	/**
+	 * 
+	 */
+	public void testWriteMultipart2() {
+		try {
+
+			// Minimum parts would need more parts than AWS S3 accepts.
+			final long size = (long) AmazonS3Client.MULTIPART_MIN_PART_SIZE * AmazonS3Client.MULTIPART_MAX_PARTS * 2
+					+ 1;
+
+			//
+			final int partSize = AmazonS3Client.getPartSize(size, AmazonS3Client.MULTIPART_MIN_PART_SIZE);
+
+			//
+			if ((partSize <= AmazonS3Client.MULTIPART_MIN_PART_SIZE)
+					|| ((long) partSize * AmazonS3Client.MULTIPART_MAX_PARTS < size)) {
+				fail();
+			}
+
+			// Parts are kept in byte arrays.
+			try {
+				AmazonS3Client.getPartSize((long) Integer.MAX_VALUE * AmazonS3Client.MULTIPART_MAX_PARTS + 1,
+						AmazonS3Client.MULTIPART_MIN_PART_SIZE);
+				fail();
+			} catch (final IOException e) {
+				// EXPECTED.
+			}
+
+		} catch (final Exception e) {
+			fail();
+		}
+	}
+
+	/**
+	 * 
+	 */
+	public void testWriteMultipart3() {
+		try {
+
+			//
+			final DummyAmazonS3 connection = new DummyAmazonS3();
+
+			// One byte parts are smaller than AWS S3 accepts.
+			final FileServiceFacade service = createService(connection, 1);
+
+			//
+			final byte[] content = createContent(AmazonS3Client.MULTIPART_MIN_PART_SIZE + 1);
+
+			//
+			service.connect(CLIENT_NAME);
+
+			//
+			final boolean success = service.write(CLIENT_NAME, new ByteArrayInputStream(content), content.length,
+					null, FILE);
+
+			//
+			final ByteArrayOutputStream output = new ByteArrayOutputStream();
+			service.read(CLIENT_NAME, FILE, null, output);
+
+			//
+			service.disconnect(CLIENT_NAME);
+
+			//
+			if ((!success) || (connection.getLastUploadParts() != 2)
+					|| (!Arrays.equals(content, output.toByteArray()))) {
+				fail();
+			}
+
+		} catch (final Exception e) {
+			fail();
+		}
+	}
+
+	/**
+	 * 
+	 */
+	public void testReadParallel1() {
+		try {
+
+			//
+			final DummyAmazonS3 connection = new DummyAmazonS3();
+
+			//
+			final FileServiceFacade service = createService(connection, 10);
+
+			//
+			final byte[] content = createContent(25);
+
+			//
+			service.connect(CLIENT_NAME);
+
+			//
+			service.write(CLIENT_NAME, new ByteArrayInputStream(content), content.length, null, FILE);
+
+			// Download the object in ranges into a local file.
+			final File file = File.createTempFile("warework-", ".bin");
+			file.deleteOnExit();
+			final FileOutputStream output = new FileOutputStream(file);
+			final boolean success;
+			try {
+				success = service.read(CLIENT_NAME, FILE, createParallelOptions(), output);
+			} finally {
+				output.close();
+			}
+
+			//
+			service.disconnect(CLIENT_NAME);
+
+			//
+			if ((!success) || (file.length() != content.length) || (connection.getGetRequests() != 3)
+					|| (!Arrays.equals(content, toBytes(new FileInputStream(file))))) {
+				fail();
+			}
+
+		} catch (final Exception e) {
+			fail();
+		}
+	}
+
+	/**
+	 * 
+	 */
+	public void testReadParallel2() {
+		try {
+
+			//
+			final DummyAmazonS3 connection = new DummyAmazonS3();
+
+			//
+			final FileServiceFacade service = createService(connection, 10);
+
+			//
+			final byte[] content = createContent(25);
+
+			//
+			service.connect(CLIENT_NAME);
+
+			//
+			service.write(CLIENT_NAME, new ByteArrayInputStream(content), content.length, null, FILE);
+
+			// Download the object in ranges with a stream.
+			final byte[] result = toBytes(service.read(CLIENT_NAME, FILE, createParallelOptions()));
+
+			//
+			service.disconnect(CLIENT_NAME);
+
+			//
+			if ((connection.getGetRequests() != 3) || (!Arrays.equals(content, result))) {
+				fail();
+			}
+
+		} catch (final Exception e) {
+			fail();
+		}
+	}
+
+	/**
+	 * 
+	 */
+	public void testReadParallel3() {
+		try {
+
+			//
+			final DummyAmazonS3 connection = new DummyAmazonS3();
+
+			//
+			final FileServiceFacade service = createService(connection, 10);
+
+			//
+			final byte[] content = createContent(25);
+
+			//
+			service.connect(CLIENT_NAME);
+
+			//
+			service.write(CLIENT_NAME, new ByteArrayInputStream(content), content.length, null, FILE);
+
+			// Local file with some content.
+			final File file = File.createTempFile("warework-", ".bin");
+			file.deleteOnExit();
+			final FileOutputStream prefix = new FileOutputStream(file);
+			try {
+				prefix.write(new byte[] { 1, 2, 3 });
+			} finally {
+				prefix.close();
+			}
+
+			// Append the object in ranges to the local file.
+			final FileOutputStream output = new FileOutputStream(file, true);
+			final boolean success;
+			try {
+				success = service.read(CLIENT_NAME, FILE, createParallelOptions(), output);
+			} finally {
+				output.close();
+			}
+
+			//
+			service.disconnect(CLIENT_NAME);
+
+			//
+			final byte[] expected = new byte[content.length + 3];
+			expected[0] = 1;
+			expected[1] = 2;
+			expected[2] = 3;
+			System.arraycopy(content, 0, expected, 3, content.length);
+
+			//
+			if ((!success) || (connection.getGetRequests() != 3)
+					|| (!Arrays.equals(expected, toBytes(new FileInputStream(file))))) {
+				fail();
+			}
+
+		} catch (final Exception e) {
+			fail();
+		}
+	}
+
+	/**
+	 * 
+	 */
+	public void testReadParallel4() {
+		try {
+
+			//
+			final DummyAmazonS3 connection = new DummyAmazonS3();
+
+			//
+			final FileServiceFacade service = createService(connection, 10);
+
+			//
+			final byte[] content = createContent(25);
+
+			//
+			service.connect(CLIENT_NAME);
+
+			//
+			service.write(CLIENT_NAME, new ByteArrayInputStream(content), content.length, null, FILE);
+
+			//
+			service.disconnect(CLIENT_NAME);
+
+			// Get the first range of the object.
+			final GetObjectRequest request = new GetObjectRequest("bucket", FILE);
+			final S3Object first = connection
+					.getObject(AmazonS3RangeInputStream.createRangeRequest(request, null, 0, 9));
+
+			// Threads that download the next ranges.
+			final ExecutorService executor = Executors.newFixedThreadPool(1);
+
+			// Read every byte of the object without closing the stream.
+			final InputStream input = new AmazonS3RangeInputStream(connection, request, first, 10, 1, executor);
+			final ByteArrayOutputStream output = new ByteArrayOutputStream();
+			int read;
+			while ((read = input.read()) != -1) {
+				output.write(read);
+			}
+
+			// Threads stop once the last range is submitted.
+			if ((!executor.isShutdown()) || (!Arrays.equals(content, output.toByteArray()))) {
+				fail();
+			}
+
+		} catch (final Exception e) {
+			fail();
+		}
+	}
+
+	// ///////////////////////////////////////////////////////////////////
+	// PRIVATE METHODS
+	// ///////////////////////////////////////////////////////////////////
+
+	/**
+	 * 
+	 * @param connection
+	 * @param partSize
+	 * @return
+	 * @throws Exception
+	 */
+	private FileServiceFacade createService(final DummyAmazonS3 connection, final int partSize) throws Exception {
+
+		//
+		final Scope config = new Scope(SCOPE_NAME);
+
+		//
+		config.enableDefaultLog();
+
+		//
+		config.setService(FileServiceConstants.DEFAULT_SERVICE_NAME, FileServiceImpl.class, null, null);
+
+		//
+		final Map<String, Object> parameters = new HashMap<String, Object>();
+		parameters.put(DummyAmazonS3Connector.PARAMETER_CONNECTION, connection);
+		parameters.put(AmazonS3Connector.PARAMETER_BUCKET_NAME, "bucket");
+		parameters.put(AmazonS3Connector.PARAMETER_MULTIPART_THRESHOLD, Integer.valueOf(1));
+		parameters.put(AmazonS3Connector.PARAMETER_MULTIPART_PART_SIZE, Integer.valueOf(partSize));
+		parameters.put(AmazonS3Connector.PARAMETER_MULTIPART_PARALLELISM, Integer.valueOf(3));
+
+		//
+		config.setClient(FileServiceConstants.DEFAULT_SERVICE_NAME, CLIENT_NAME, DummyAmazonS3Connector.class,
+				parameters);
+
+		//
+		final ScopeFacade system = create(config);
+
+		//
+		return (FileServiceFacade) system.getService(FileServiceConstants.DEFAULT_SERVICE_NAME);
+
+	}
+
+	/**
+	 * 
+	 * @return
+	 */
+	private static Map<String, Object> createParallelOptions() {
+
+		//
+		final Map<String, Object> options = new HashMap<String, Object>();
+
+		//
+		options.put(AmazonS3Client.OPERATION_OPTION_READ_PARALLEL, Boolean.TRUE);
+
+		//
+		return options;
+
+	}
+
+	/**
+	 * 
+	 * @param input
+	 * @return
+	 * @throws Exception
+	 */
+	private static byte[] toBytes(final InputStream input) throws Exception {
+		try {
+
+			//
+			final ByteArrayOutputStream output = new ByteArrayOutputStream();
+
+			//
+			final byte[] buffer = new byte[7];
+			int read;
+			while ((read = input.read(buffer)) != -1) {
+				output.write(buffer, 0, read);
+			}
+
+			//
+			return output.toByteArray();
+
+		} finally {
+			input.close();
+		}
+	}
+
+	/**
+	 * 
+	 * @param size
+	 * @return
+	 */
+	private static byte[] createContent(final int size) {
+
+		//
+		final byte[] content = new byte[size];
+
+		//
+		new Random(size).nextBytes(content);
+
+		//
+		return content;
+
+	}
+
+}
@@ -0,0 +1,305 @@
+package com.warework.service.file.client;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import com.amazonaws.SdkClientException;
+import com.amazonaws.services.s3.AbstractAmazonS3;
+import com.amazonaws.services.s3.model.AbortMultipartUploadRequest;
+import com.amazonaws.services.s3.model.AmazonS3Exception;
+import com.amazonaws.services.s3.model.CompleteMultipartUploadRequest;
+import com.amazonaws.services.s3.model.CompleteMultipartUploadResult;
+import com.amazonaws.services.s3.model.GetObjectRequest;
+import com.amazonaws.services.s3.model.InitiateMultipartUploadRequest;
+import com.amazonaws.services.s3.model.InitiateMultipartUploadResult;
+import com.amazonaws.services.s3.model.ObjectMetadata;
+import com.amazonaws.services.s3.model.PartETag;
+import com.amazonaws.services.s3.model.PutObjectRequest;
+import com.amazonaws.services.s3.model.PutObjectResult;
+import com.amazonaws.services.s3.model.S3Object;
+import com.amazonaws.services.s3.model.UploadPartRequest;
+import com.amazonaws.services.s3.model.UploadPartResult;
+
+/**
+ * In-memory AWS S3 bucket that supports the operations used to transfer files
+ * in parts.
+ * 
+ * @author Jose Schiaffino
+ * @version ${project.version}
+ */
+public final class DummyAmazonS3 extends AbstractAmazonS3 {
+
+	// ///////////////////////////////////////////////////////////////////
+	// ATTRIBUTES
+	// ///////////////////////////////////////////////////////////////////
+
+	// Content of the objects by key.
+	private final Map<String, byte[]> objects = Collections.synchronizedMap(new HashMap<String, byte[]>());
+
+	// Parts of the multipart uploads in progress by upload id.
+	private final Map<String, Map<Integer, byte[]>> uploads = Collections
+			.synchronizedMap(new HashMap<String, Map<Integer, byte[]>>());
+
+	// Parts of the last completed multipart upload.
+	private volatile int lastUploadParts;
+
+	// Requests to get objects.
+	private final AtomicInteger getRequests = new AtomicInteger(0);
+
+	// ///////////////////////////////////////////////////////////////////
+	// PUBLIC METHODS
+	// ///////////////////////////////////////////////////////////////////
+
+	/**
+	 * 
+	 * @param key
+	 * @param content
+	 */
+	public void setContent(final String key, final byte[] content) {
+		objects.put(key, content);
+	}
+
+	/**
+	 * 
+	 * @param key
+	 * @return
+	 */
+	public byte[] getContent(final String key) {
+		return objects.get(key);
+	}
+
+	/**
+	 * 
+	 * @return
+	 */
+	public int getLastUploadParts() {
+		return lastUploadParts;
+	}
+
+	/**
+	 * 
+	 * @return
+	 */
+	public int getGetRequests() {
+		return getRequests.get();
+	}
+
+	// ///////////////////////////////////////////////////////////////////
+
+	/**
+	 * 
+	 */
+	public PutObjectResult putObject(final PutObjectRequest request) {
+
+		//
+		objects.put(request.getKey(), toBytes(request.getInputStream(), -1));
+
+		//
+		return new PutObjectResult();
+
+	}
+
+	/**
+	 * 
+	 */
+	public S3Object getObject(final GetObjectRequest request) {
+
+		//
+		getRequests.incrementAndGet();
+
+		//
+		final byte[] content = objects.get(request.getKey());
+		if (content == null) {
+			throw new SdkClientException("Object '" + request.getKey() + "' does not exist.");
+		}
+
+		//
+		final String eTag = getETag(content);
+		if ((!request.getMatchingETagConstraints().isEmpty())
+				&& (!request.getMatchingETagConstraints().contains(eTag))) {
+			throw new SdkClientException("Object '" + request.getKey() + "' was modified.");
+		}
+
+		//
+		final long[] range = request.getRange();
+		final int start = (range == null) ? 0 : (int) range[0];
+		final int end = (range == null) ? content.length - 1 : (int) Math.min(range[1], content.length - 1);
+
+		//
+		final ObjectMetadata metadata = new ObjectMetadata();
+		metadata.setContentLength(end - start + 1);
+		metadata.setHeader("ETag", eTag);
+		if (range != null) {
+			metadata.setHeader("Content-Range", "bytes " + start + "-" + end + "/" + content.length);
+		}
+
+		//
+		final S3Object object = new S3Object();
+		object.setBucketName(request.getBucketName());
+		object.setKey(request.getKey());
+		object.setObjectMetadata(metadata);
+		object.setObjectContent(new ByteArrayInputStream(content, start, end - start + 1));
+
+		//
+		return object;
+
+	}
+
+	/**
+	 * 
+	 */
+	public InitiateMultipartUploadResult initiateMultipartUpload(final InitiateMultipartUploadRequest request) {
+
+		//
+		final String uploadId = request.getKey() + "-" + System.nanoTime();
+
+		//
+		uploads.put(uploadId, Collections.synchronizedMap(new HashMap<Integer, byte[]>()));
+
+		//
+		final InitiateMultipartUploadResult result = new InitiateMultipartUploadResult();
+		result.setBucketName(request.getBucketName());
+		result.setKey(request.getKey());
+		result.setUploadId(uploadId);
+
+		//
+		return result;
+
+	}
+
+	/**
+	 * 
+	 */
+	public UploadPartResult uploadPart(final UploadPartRequest request) {
+
+		//
+		final byte[] part = toBytes(request.getInputStream(), request.getPartSize());
+
+		//
+		uploads.get(request.getUploadId()).put(Integer.valueOf(request.getPartNumber()), part);
+
+		//
+		final UploadPartResult result = new UploadPartResult();
+		result.setPartNumber(request.getPartNumber());
+		result.setETag(getETag(part));
+
+		//
+		return result;
+
+	}
+
+	/**
+	 * 
+	 */
+	public CompleteMultipartUploadResult completeMultipartUpload(final CompleteMultipartUploadRequest request) {
+
+		//
+		final Map<Integer, byte[]> parts = uploads.remove(request.getUploadId());
+
+		//
+		final ByteArrayOutputStream content = new ByteArrayOutputStream();
+		for (final Iterator<PartETag> iterator = request.getPartETags().iterator(); iterator.hasNext();) {
+
+			//
+			final byte[] part = parts.get(Integer.valueOf(iterator.next().getPartNumber()));
+
+			// AWS S3 rejects small parts when the upload is completed.
+			if ((iterator.hasNext()) && (part.length < AmazonS3Client.MULTIPART_MIN_PART_SIZE)) {
+
+				//
+				final AmazonS3Exception exception = new AmazonS3Exception(
+						"Your proposed upload is smaller than the minimum allowed size.");
+				exception.setErrorCode("EntityTooSmall");
+
+				//
+				throw exception;
+
+			}
+
+			//
+			content.write(part, 0, part.length);
+
+		}
+
+		//
+		objects.put(request.getKey(), content.toByteArray());
+
+		//
+		lastUploadParts = request.getPartETags().size();
+
+		//
+		final CompleteMultipartUploadResult result = new CompleteMultipartUploadResult();
+		result.setBucketName(request.getBucketName());
+		result.setKey(request.getKey());
+
+		//
+		return result;
+
+	}
+
+	/**
+	 * 
+	 */
+	public void abortMultipartUpload(final AbortMultipartUploadRequest request) {
+		uploads.remove(request.getUploadId());
+	}
+
+	// ///////////////////////////////////////////////////////////////////
+	// PRIVATE METHODS
+	// ///////////////////////////////////////////////////////////////////
+
+	/**
+	 * 
+	 * @param content
+	 * @return
+	 */
+	private static String getETag(final byte[] content) {
+		return Integer.toHexString(Arrays.hashCode(content));
+	}
+
+	/**
+	 * 
+	 * @param input
+	 * @param size
+	 * @return
+	 */
+	private static byte[] toBytes(final InputStream input, final long size) {
+		try {
+
+			//
+			final ByteArrayOutputStream output = new ByteArrayOutputStream();
+
+			//
+			final byte[] buffer = new byte[1024];
+			long remaining = (size < 0) ? Long.MAX_VALUE : size;
+			while (remaining > 0) {
+
+				//
+				final int read = input.read(buffer, 0, (int) Math.min(buffer.length, remaining));
+				if (read < 0) {
+					break;
+				}
+
+				//
+				output.write(buffer, 0, read);
+				remaining = remaining - read;
+
+			}
+
+			//
+			return output.toByteArray();
+
+		} catch (final IOException e) {
+			throw new SdkClientException(e);
+		}
+	}
+
+}
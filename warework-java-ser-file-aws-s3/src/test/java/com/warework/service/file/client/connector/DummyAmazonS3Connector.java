@@ -0,0 +1,55 @@
+package com.warework.service.file.client.connector;
+
+import com.warework.service.file.client.AmazonS3Client;
+
+/**
+ * Connector that creates AWS S3 File Clients with a given connection.
+ * 
+ * @author Jose Schiaffino
+ * @version ${project.version}
+ */
+public final class DummyAmazonS3Connector extends AbstractFileClientConnector {
+
+	// ///////////////////////////////////////////////////////////////////
+	// CONSTANTS
+	// ///////////////////////////////////////////////////////////////////
+
+	/**
+	 * Initialization parameter with the <code>AmazonS3</code> instance used by the
+	 * File Client.
+	 */
+	public static final String PARAMETER_CONNECTION = "connection";
+
+	// ///////////////////////////////////////////////////////////////////
+	// PUBLIC METHODS
+	// ///////////////////////////////////////////////////////////////////
+
+	/**
+	 * 
+	 * @return
+	 */
+	public Class<AmazonS3Client> getClientType() {
+		return AmazonS3Client.class;
+	}
+
+	/**
+	 * 
+	 * @return
+	 */
+	public Object getClientConnection() {
+		return getConnectionSource();
+	}
+
+	// ///////////////////////////////////////////////////////////////////
+	// PROTECTED METHODS
+	// ///////////////////////////////////////////////////////////////////
+
+	/**
+	 * 
+	 * @return
+	 */
+	protected Object createConnectionSource() {
+		return getInitParameter(PARAMETER_CONNECTION);
+	}
+
+}
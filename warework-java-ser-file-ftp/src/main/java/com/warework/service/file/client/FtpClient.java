@@ -4,12 +4,14 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
 import java.util.ArrayList;
+import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
 
 import org.apache.commons.net.ftp.FTPClient;
 import org.apache.commons.net.ftp.FTPConnectionClosedException;
 import org.apache.commons.net.ftp.FTPFile;
+import org.apache.commons.net.ftp.FTPListParseEngine;
 import org.apache.commons.net.ftp.FTPReply;
 import org.apache.commons.net.io.CopyStreamException;
 
@@ -18,6 +20,7 @@ import com.warework.core.service.client.ReplyCodeClientException;
 import com.warework.core.util.CommonValueL1Constants;
 import com.warework.core.util.io.LengthInputStream;
 import com.warework.service.file.FileRef;
+import com.warework.service.file.FileRefIterator;
 import com.warework.service.file.client.connector.FtpConnector;
 import com.warework.service.log.LogServiceConstants;
 
@@ -589,35 +592,8 @@ public final class FtpClient extends AbstractFileClient {
 			throws ClientException {
 		try {
 
-			// Update path.
-			final String updatedPath = updatePath(path);
-
-			// Validate path length.
-			if (updatedPath.length() < 1) {
-				throw new ClientException(getScopeFacade(),
-						"WAREWORK cannot list files and directories from '" + path + "' in FTP Client '" + getName()
-								+ "' at Service '" + getService().getName()
-								+ "' because given path must be at least one character length.",
-						null, LogServiceConstants.LOG_LEVEL_WARN);
-			}
-
-			// Validate directory separator character.
-			if (updatedPath.indexOf('\\') > 0) {
-				throw new ClientException(getScopeFacade(),
-						"WAREWORK cannot list files and directories from '" + path + "' in FTP Client '" + getName()
-								+ "' at Service '" + getService().getName()
-								+ "' because given path contains invalid directory character '\\'.",
-						null, LogServiceConstants.LOG_LEVEL_WARN);
-			}
-
-			// Validate first character.
-			if (updatedPath.charAt(0) != CommonValueL1Constants.CHAR_FORWARD_SLASH) {
-				throw new ClientException(getScopeFacade(),
-						"WAREWORK cannot list files and directories from '" + path + "' in FTP Client '" + getName()
-								+ "' at Service '" + getService().getName()
-								+ "' because given path does not start with character '/'.",
-						null, LogServiceConstants.LOG_LEVEL_WARN);
-			}
+			// Update and validate path.
+			final String updatedPath = toListPath(path);
 
 			// Get the connection with the FTP Client.
 			final FTPClient connection = (FTPClient) getConnection();
@@ -653,6 +629,97 @@ public final class FtpClient extends AbstractFileClient {
 		}
 	}
 
+	/**
+	 * Iterates resources (files and directories) in a specific path. The listing
+	 * of the directory is transferred from the FTP server at once, so the
+	 * connection is free for other operations while the resources are iterated,
+	 * but each entry is parsed and wrapped only when the iterator requests it.
+	 * Use the <code>page-size</code> option to set how many entries are parsed
+	 * at once.
+	 * 
+	 * @param path    Where to list the resources in the file storage.<br>
+	 *                <br>
+	 * @param options Options to list the files. This argument is not mandatory.<br>
+	 *                <br>
+	 * @param orderBy Criteria used to compare the resources returned. Use any of
+	 *                the <code>FileServiceConstants.ORDER_BY_xyz</code> constants.
+	 *                This argument is not mandatory.<br>
+	 *                <br>
+	 * @return Iterator of the resources found.<br>
+	 *         <br>
+	 * @throws ClientException If there is an error when trying to list the
+	 *                         resources.<br>
+	 *                         <br>
+	 */
+	public FileRefIterator iterate(final String path, final Map<String, Object> options, final String[] orderBy)
+			throws ClientException {
+		try {
+
+			// Update and validate path.
+			final String updatedPath = toListPath(path);
+
+			// Get the connection with the FTP Client.
+			final FTPClient connection = (FTPClient) getConnection();
+
+			// Get the listing of the directory.
+			final FTPListParseEngine engine = connection.initiateListParsing(updatedPath);
+
+			// Get how many entries to parse at once.
+			final int pageSize = getPageSize(options);
+
+			// Log a message.
+			getScopeFacade().info("WAREWORK successfully listed files and directories from '" + path
+					+ "' in FTP Client '" + getName() + "' of Service '" + getService().getName() + "'.");
+
+			// Parse the entries when they are requested.
+			return new AbstractFileRefIterator() {
+
+				// Entries parsed and not returned yet.
+				private LinkedList<FileRef> page = new LinkedList<FileRef>();
+
+				protected FileRef fetch() {
+
+					// Parse the next entries when every parsed entry is returned.
+					while ((page.isEmpty()) && (engine.hasNext())) {
+
+						// Parse the entries.
+						final FTPFile[] files = engine.getNext(pageSize);
+
+						// Wrap each entry. Entries that cannot be parsed are discarded.
+						for (int i = 0; i < files.length; i++) {
+							if (files[i] != null) {
+								page.add(new FileRefFtpImpl(FtpClient.this, files[i], updatedPath, orderBy));
+							}
+						}
+
+					}
+
+					// Return the next entry.
+					return page.poll();
+
+				}
+
+				protected void release() {
+					page.clear();
+				}
+
+			};
+
+		} catch (final FTPConnectionClosedException e) {
+			throw new ReplyCodeClientException(getScopeFacade(),
+					"WAREWORK cannot list files and directories from '" + path + "' in  FTP Client '" + getName()
+							+ "' at Service '" + getService().getName() + "' because FTP connection is closed: "
+							+ e.getMessage(),
+					e, LogServiceConstants.LOG_LEVEL_WARN, FTPReply.SERVICE_NOT_AVAILABLE, null);
+		} catch (final IOException e) {
+			throw new ClientException(getScopeFacade(),
+					"WAREWORK cannot list files and directories from '" + path + "' in FTP Client '" + getName()
+							+ "' at Service '" + getService().getName()
+							+ "' because the following exception is thrown: " + e.getMessage(),
+					e, LogServiceConstants.LOG_LEVEL_WARN);
+		}
+	}
+
 	/**
 	 * Gets a resource (file or directory) reference.
 	 * 
@@ -1045,4 +1112,51 @@ public final class FtpClient extends AbstractFileClient {
 				: getConnector().toString(FtpConnector.PARAMETER_BASE_PATH) + path;
 	}
 
+	/**
+	 * Adds the base path to the path of a directory to list and validates it.
+	 * 
+	 * @param path Directory to list.<br>
+	 *             <br>
+	 * @return Updated path.<br>
+	 *         <br>
+	 * @throws ClientException If the path is not valid.<br>
+	 *                         <br>
+	 */
+	private String toListPath(final String path) throws ClientException {
+
+		// Update path.
+		final String updatedPath = updatePath(path);
+
+		// Validate path length.
+		if (updatedPath.length() < 1) {
+			throw new ClientException(getScopeFacade(),
+					"WAREWORK cannot list files and directories from '" + path + "' in FTP Client '" + getName()
+							+ "' at Service '" + getService().getName()
+							+ "' because given path must be at least one character length.",
+					null, LogServiceConstants.LOG_LEVEL_WARN);
+		}
+
+		// Validate directory separator character.
+		if (updatedPath.indexOf('\\') > 0) {
+			throw new ClientException(getScopeFacade(),
+					"WAREWORK cannot list files and directories from '" + path + "' in FTP Client '" + getName()
+							+ "' at Service '" + getService().getName()
+							+ "' because given path contains invalid directory character '\\'.",
+					null, LogServiceConstants.LOG_LEVEL_WARN);
+		}
+
+		// Validate first character.
+		if (updatedPath.charAt(0) != CommonValueL1Constants.CHAR_FORWARD_SLASH) {
+			throw new ClientException(getScopeFacade(),
+					"WAREWORK cannot list files and directories from '" + path + "' in FTP Client '" + getName()
+							+ "' at Service '" + getService().getName()
+							+ "' because given path does not start with character '/'.",
+					null, LogServiceConstants.LOG_LEVEL_WARN);
+		}
+
+		// Return the path.
+		return updatedPath;
+
+	}
+
 }
@@ -0,0 +1,296 @@
+package com.warework.service.file.client;
+
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+
+import com.warework.core.util.io.LengthInputStream;
+
+/**
+ * Input stream for files of the local file system. When it reads the whole
+ * file, it gives access to the channel of the file, so local files can be
+ * copied without moving the bytes through the Java heap. It can also read only
+ * a range of bytes of the file, starting at any position without reading the
+ * previous bytes.
+ * 
+ * @author Jose Schiaffino
+ * @version ${project.version}
+ */
+final class LocalFileInputStream extends LengthInputStream {
+
+	// ///////////////////////////////////////////////////////////////////
+	// ATTRIBUTES
+	// ///////////////////////////////////////////////////////////////////
+
+	// Channel of the file or null when the stream reads a range.
+	private FileChannel channel;
+
+	// ///////////////////////////////////////////////////////////////////
+	// CONSTRUCTORS
+	// ///////////////////////////////////////////////////////////////////
+
+	/**
+	 * Creates the input stream to read the whole file.
+	 * 
+	 * @param stream Stream to read the file.<br>
+	 *               <br>
+	 * @param length Number of bytes to read.<br>
+	 *               <br>
+	 */
+	LocalFileInputStream(final FileInputStream stream, final long length) {
+
+		// Invoke parent constructor.
+		super(stream, length);
+
+		// Set the channel of the file.
+		this.channel = stream.getChannel();
+
+	}
+
+	/**
+	 * Creates the input stream to read a range of bytes of the file.
+	 * 
+	 * @param stream Stream to read the file.<br>
+	 *               <br>
+	 * @param start  Position of the first byte to read.<br>
+	 *               <br>
+	 * @param length Number of bytes to read.<br>
+	 *               <br>
+	 * @param mapped <code>true</code> to map the range into memory and
+	 *               <code>false</code> to read it from the channel of the
+	 *               file.<br>
+	 *               <br>
+	 * @throws IOException If there is an error when trying to access the range.<br>
+	 *                     <br>
+	 */
+	LocalFileInputStream(final FileInputStream stream, final long start, final long length, final boolean mapped)
+			throws IOException {
+
+		// Invoke parent constructor. The channel is not exposed because it would
+		// give access to the bytes after the range.
+		super(new RangeInputStream(stream, start, length, mapped), length);
+
+	}
+
+	// ///////////////////////////////////////////////////////////////////
+	// PACKAGE METHODS
+	// ///////////////////////////////////////////////////////////////////
+
+	/**
+	 * Gets the channel of the file. The position of the channel is the position
+	 * of the next byte to read and reading the channel also moves the position of
+	 * this stream.
+	 * 
+	 * @return Channel of the file or <code>null</code> if this stream reads a
+	 *         range of the file.<br>
+	 *         <br>
+	 */
+	FileChannel getChannel() {
+		return channel;
+	}
+
+	// ///////////////////////////////////////////////////////////////////
+	// INNER CLASSES
+	// ///////////////////////////////////////////////////////////////////
+
+	/**
+	 * Reads a range of bytes of a file.
+	 */
+	private static final class RangeInputStream extends InputStream {
+
+		// ///////////////////////////////////////////////////////////////////
+		// ATTRIBUTES
+		// ///////////////////////////////////////////////////////////////////
+
+		// Stream of the file.
+		private FileInputStream stream;
+
+		// Channel of the file.
+		private FileChannel channel;
+
+		// Bytes of the range mapped into memory.
+		private ByteBuffer mapped;
+
+		// Bytes of the range that are not read yet.
+		private long remaining;
+
+		// ///////////////////////////////////////////////////////////////////
+		// CONSTRUCTORS
+		// ///////////////////////////////////////////////////////////////////
+
+		/**
+		 * Creates the stream.
+		 * 
+		 * @param stream Stream of the file.<br>
+		 *               <br>
+		 * @param start  Position of the first byte to read.<br>
+		 *               <br>
+		 * @param length Number of bytes to read.<br>
+		 *               <br>
+		 * @param mapped Map the range into memory.<br>
+		 *               <br>
+		 * @throws IOException If there is an error when trying to access the
+		 *                     range.<br>
+		 *                     <br>
+		 */
+		private RangeInputStream(final FileInputStream stream, final long start, final long length,
+				final boolean mapped) throws IOException {
+
+			// Set the stream.
+			this.stream = stream;
+
+			// Set the channel.
+			this.channel = stream.getChannel();
+
+			// Move to the first byte of the range.
+			channel.position(start);
+
+			// Set the bytes to read.
+			this.remaining = length;
+
+			// Map the range when required.
+			if ((mapped) && (length <= Integer.MAX_VALUE)) {
+				this.mapped = channel.map(FileChannel.MapMode.READ_ONLY, start, length);
+			}
+
+		}
+
+		// ///////////////////////////////////////////////////////////////////
+		// PUBLIC METHODS
+		// ///////////////////////////////////////////////////////////////////
+
+		/**
+		 * Reads the next byte of the range.
+		 * 
+		 * @return Next byte or <code>-1</code> at the end of the range.<br>
+		 *         <br>
+		 * @throws IOException If there is an error when trying to read the byte.<br>
+		 *                     <br>
+		 */
+		public int read() throws IOException {
+
+			// Read one byte.
+			final byte[] b = new byte[1];
+
+			// Return the byte.
+			return (read(b, 0, 1) == -1) ? -1 : b[0] & 0xff;
+
+		}
+
+		/**
+		 * Reads bytes of the range.
+		 * 
+		 * @param b   Where to store the bytes.<br>
+		 *            <br>
+		 * @param off Offset in the array.<br>
+		 *            <br>
+		 * @param len Maximum number of bytes to read.<br>
+		 *            <br>
+		 * @return Number of bytes read or <code>-1</code> at the end of the
+		 *         range.<br>
+		 *         <br>
+		 * @throws IOException If there is an error when trying to read the
+		 *                     bytes.<br>
+		 *                     <br>
+		 */
+		public int read(final byte[] b, final int off, final int len) throws IOException {
+
+			// Validate the end of the range.
+			if (remaining <= 0) {
+				return -1;
+			} else if (len == 0) {
+				return 0;
+			}
+
+			// Bytes to read.
+			final int count = (int) Math.min(len, remaining);
+
+			// Read the bytes.
+			int read;
+			if (mapped == null) {
+				read = channel.read(ByteBuffer.wrap(b, off, count));
+			} else {
+
+				// Read the bytes from memory.
+				mapped.get(b, off, count);
+
+				// Keep the position of the channel.
+				channel.position(channel.position() + count);
+
+				// Bytes read.
+				read = count;
+
+			}
+
+			// Count the bytes read.
+			if (read > 0) {
+				remaining = remaining - read;
+			}
+
+			// Return the number of bytes read.
+			return read;
+
+		}
+
+		/**
+		 * Skips bytes of the range without reading them.
+		 * 
+		 * @param n Number of bytes to skip.<br>
+		 *          <br>
+		 * @return Number of bytes skipped.<br>
+		 *         <br>
+		 * @throws IOException If there is an error when trying to skip the
+		 *                     bytes.<br>
+		 *                     <br>
+		 */
+		public long skip(final long n) throws IOException {
+
+			// Bytes to skip.
+			final long count = Math.max(0, Math.min(n, remaining));
+
+			// Move the position.
+			channel.position(channel.position() + count);
+			if (mapped != null) {
+				mapped.position(mapped.position() + (int) count);
+			}
+
+			// Count the bytes skipped.
+			remaining = remaining - count;
+
+			// Return the number of bytes skipped.
+			return count;
+
+		}
+
+		/**
+		 * Gets the number of bytes that can be read.
+		 * 
+		 * @return Bytes not read yet, up to <code>Integer.MAX_VALUE</code>.<br>
+		 *         <br>
+		 */
+		public int available() {
+			return (int) Math.min(remaining, Integer.MAX_VALUE);
+		}
+
+		/**
+		 * Closes the file.
+		 * 
+		 * @throws IOException If there is an error when trying to close the
+		 *                     file.<br>
+		 *                     <br>
+		 */
+		public void close() throws IOException {
+
+			// Release the mapped bytes.
+			mapped = null;
+
+			// Close the file.
+			stream.close();
+
+		}
+
+	}
+
+}
@@ -7,6 +7,9 @@ import java.io.FileNotFoundException;
 import java.io.FileOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
 import java.text.ParseException;
 import java.util.ArrayList;
 import java.util.Date;
@@ -16,8 +19,8 @@ import java.util.Map;
 import com.warework.core.service.client.ClientException;
 import com.warework.core.util.CommonValueL2Constants;
 import com.warework.core.util.helper.DateL2Helper;
-import com.warework.core.util.io.LengthInputStream;
 import com.warework.service.file.FileRef;
+import com.warework.service.file.FileRefIterator;
 import com.warework.service.file.client.connector.LocalFileSystemConnector;
 import com.warework.service.log.LogServiceConstants;
 
@@ -54,6 +57,46 @@ public final class LocalFileSystemClient extends AbstractFileClient {
 	 */
 	public static final String OPERATION_OPTION_LAST_MODIFIED = "last-modified";
 
+	/**
+	 * Read operation parameter that specifies the beginning of a byte range within
+	 * the file to read. Use this parameter only for <code>read</code> operations.
+	 * The first byte of a file has position 0 and this parameter defaults to 0
+	 * when only <code>range-end</code> is provided; as an example, the first ten
+	 * bytes of a file can be read by specifying a range of 0 to 9. Bytes before
+	 * the range are not read. Values for this parameter can be
+	 * <code>java.lang.Long</code> or <code>java.lang.String</code> objects. If no
+	 * byte range is specified, the entire file is read.
+	 */
+	public static final String OPERATION_OPTION_READ_RANGE_START = "range-start";
+
+	/**
+	 * Read operation parameter that specifies the end of a byte range within the
+	 * file to read (inclusive). Use this parameter only for <code>read</code>
+	 * operations. When only <code>range-start</code> is provided, the file is read
+	 * until its last byte. Values for this parameter can be
+	 * <code>java.lang.Long</code> or <code>java.lang.String</code> objects.
+	 */
+	public static final String OPERATION_OPTION_READ_RANGE_END = "range-end";
+
+	/**
+	 * Read operation parameter that specifies if the byte range to read should be
+	 * mapped into memory. It may speed up reading large ranges, but memory is not
+	 * released until the stream is garbage collected. Values for this parameter
+	 * can be <code>true</code> or <code>false</code> as boolean or string objects.
+	 * By default it is <code>false</code>.
+	 */
+	public static final String OPERATION_OPTION_READ_MEMORY_MAPPED = "memory-mapped";
+
+	// Maximum size of the buffers kept for each thread: 1 MB.
+	private static final int MAX_REUSABLE_BUFFER_SIZE = 1024 * 1024;
+
+	// ///////////////////////////////////////////////////////////////////
+	// ATTRIBUTES
+	// ///////////////////////////////////////////////////////////////////
+
+	// Direct buffer reused by each thread to copy channels.
+	private static final ThreadLocal<ByteBuffer> BUFFER = new ThreadLocal<ByteBuffer>();
+
 	// ///////////////////////////////////////////////////////////////////
 	// PUBLIC METHODS
 	// ///////////////////////////////////////////////////////////////////
@@ -82,6 +125,16 @@ public final class LocalFileSystemClient extends AbstractFileClient {
 	 */
 	public boolean write(final InputStream source, final long size, final Map<String, Object> options,
 			final String target) throws ClientException {
+
+		// Copy local files with their channels. Ranges of files are copied as any
+		// other stream.
+		if ((source instanceof LocalFileInputStream) && (((LocalFileInputStream) source).getChannel() != null)) {
+			return write(((LocalFileInputStream) source).getChannel(), size, options, target);
+		} else if (source instanceof FileInputStream) {
+			return write(((FileInputStream) source).getChannel(), size, options, target);
+		}
+
+		// Copy any other stream.
 		try {
 
 			/*
@@ -103,7 +156,7 @@ public final class LocalFileSystemClient extends AbstractFileClient {
 			final BufferedOutputStream buffer = new BufferedOutputStream(stream);
 
 			// Copy source stream bytes into target output stream.
-			copy(source, buffer, getBufferSize(options), true);
+			copy(source, buffer, options);
 
 			// Close target stream.
 			stream.close();
@@ -136,6 +189,91 @@ public final class LocalFileSystemClient extends AbstractFileClient {
 		}
 	}
 
+	/**
+	 * Writes the content of a file from a channel. When the source channel is a
+	 * file channel, bytes are transferred by the operating system without
+	 * copying them into the Java heap.
+	 * 
+	 * @param source  Channel where to read the bytes. Channel is not closed when
+	 *                operation is successfully completed.<br>
+	 *                <br>
+	 * @param size    Bytes to read from the channel. Provide <code>-1</code> to
+	 *                read every byte until the end of the channel.<br>
+	 *                <br>
+	 * @param options Options to write the file. This argument is not
+	 *                mandatory.<br>
+	 *                <br>
+	 * @param target  Where to copy the content of the source channel in this File
+	 *                Client.<br>
+	 *                <br>
+	 * @return <code>true</code> if successfully completed, <code>false</code> if
+	 *         not.<br>
+	 *         <br>
+	 * @throws ClientException If there is an error when trying to write the
+	 *                         file.<br>
+	 *                         <br>
+	 */
+	public boolean write(final ReadableByteChannel source, final long size, final Map<String, Object> options,
+			final String target) throws ClientException {
+
+		// Stream to write the file.
+		FileOutputStream stream = null;
+
+		// Write the file.
+		try {
+
+			// Validate options.
+			validate(options);
+
+			// Create target file.
+			final File file = new File(updatePath(target));
+
+			// Create output stream.
+			stream = new FileOutputStream(file);
+
+			// Transfer source channel bytes into target file.
+			transfer(source, size, stream.getChannel(), getBufferSize(options));
+
+			// Close target stream.
+			stream.close();
+			stream = null;
+
+			// Update file.
+			update(file, options);
+
+			// Log a message.
+			getScopeFacade().info("WAREWORK successfully created file '" + target + "' in File Client '" + getName()
+					+ "' of Service '" + getService().getName() + "'.");
+
+			// Return operation result.
+			return true;
+
+		} catch (final IOException e) {
+			throw new ClientException(getScopeFacade(),
+					"WAREWORK cannot write file '" + target + "' in File Client '" + getName() + "' at Service '"
+							+ getService().getName() + "' because the following I/O exception is thrown: "
+							+ e.getMessage(),
+					e, LogServiceConstants.LOG_LEVEL_WARN);
+		} catch (final SecurityException e) {
+			throw new ClientException(getScopeFacade(),
+					"WAREWORK cannot write file '" + target + "' in File Client '" + getName() + "' at Service '"
+							+ getService().getName() + "' because the following security exception is thrown: "
+							+ e.getMessage(),
+					e, LogServiceConstants.LOG_LEVEL_WARN);
+		} finally {
+			if (stream != null) {
+				try {
+					stream.close();
+				} catch (final IOException e) {
+					getScopeFacade().warn("WAREWORK cannot close file '" + target + "' in File Client '" + getName()
+							+ "' at Service '" + getService().getName()
+							+ "' because the following I/O exception is thrown: " + e.getMessage());
+				}
+			}
+		}
+
+	}
+
 	/**
 	 * Creates a new directory, including anynecessary but nonexistent parent
 	 * directories. Note that if thisoperation fails it may have succeeded in
@@ -382,6 +520,74 @@ public final class LocalFileSystemClient extends AbstractFileClient {
 
 	}
 
+	/**
+	 * Iterates resources (files and directories) in a specific path. Only the
+	 * names of the resources are read from the directory at once; each file
+	 * reference is created when the iterator requests it.
+	 * 
+	 * @param path    Where to list the resources in the file storage.<br>
+	 *                <br>
+	 * @param options Options to list the files. This argument is not mandatory.<br>
+	 *                <br>
+	 * @param orderBy Criteria used to compare the resources returned. Use any of
+	 *                the <code>FileServiceConstants.ORDER_BY_xyz</code> constants.
+	 *                This argument is not mandatory.<br>
+	 *                <br>
+	 * @return Iterator of the resources found.<br>
+	 *         <br>
+	 * @throws ClientException If there is an error when trying to list the
+	 *                         resources.<br>
+	 *                         <br>
+	 */
+	public FileRefIterator iterate(final String path, final Map<String, Object> options, final String[] orderBy)
+			throws ClientException {
+
+		// Get the object that points to the directory.
+		final File target = new File(updatePath(path));
+
+		// Files are listed as usual.
+		if (target.isFile()) {
+			return super.iterate(path, options, orderBy);
+		}
+
+		// Get the names of the files and directories.
+		final String[] names = target.list();
+
+		// Log a message.
+		getScopeFacade().info("WAREWORK successfully listed files and directories from '" + path
+				+ "' in File Client '" + getName() + "' of Service '" + getService().getName() + "'.");
+
+		// Wrap each file or directory when it is requested.
+		return new AbstractFileRefIterator() {
+
+			// Position of the next name.
+			private int index;
+
+			protected FileRef fetch() {
+				if ((names != null) && (index < names.length)) {
+
+					// Get the name of the file or directory.
+					final String name = names[index];
+
+					// Release the name.
+					names[index++] = null;
+
+					// Wrap the file or directory.
+					return new FileRefFileImpl(LocalFileSystemClient.this, new File(target, name), orderBy);
+
+				} else {
+					return null;
+				}
+			}
+
+			protected void release() {
+				// DO NOTHING.
+			}
+
+		};
+
+	}
+
 	/**
 	 * Gets a resource (file or directory) reference.
 	 * 
@@ -491,8 +697,75 @@ public final class LocalFileSystemClient extends AbstractFileClient {
 			// will be thrown in this case.
 			final File resource = new File(updatePath(source));
 
+			// Validate range options.
+			if (options != null) {
+				validateLong(options, OPERATION_OPTION_READ_RANGE_START);
+				validateLong(options, OPERATION_OPTION_READ_RANGE_END);
+			}
+
+			// Get the range to read.
+			final Long rangeStart = getLong(options, OPERATION_OPTION_READ_RANGE_START);
+			final Long rangeEnd = getLong(options, OPERATION_OPTION_READ_RANGE_END);
+
 			// Create input stream.
-			final InputStream sourceStream = new FileInputStream(resource);
+			final FileInputStream sourceStream = new FileInputStream(resource);
+
+			// Create the stream to read the whole file or a range of it.
+			final InputStream stream;
+			if ((rangeStart == null) && (rangeEnd == null)) {
+				stream = new LocalFileInputStream(sourceStream, resource.length());
+			} else {
+
+				// Get the size of the file.
+				final long size = resource.length();
+
+				// Get first and last byte of the range.
+				final long start = (rangeStart == null) ? 0 : rangeStart.longValue();
+				final long end = ((rangeEnd == null) || (rangeEnd.longValue() >= size)) ? size - 1
+						: rangeEnd.longValue();
+
+				// Validate the range.
+				if ((start < 0) || ((start > end) && (start != size))) {
+
+					// Release the file.
+					try {
+						sourceStream.close();
+					} catch (final IOException e) {
+						// DO NOTHING.
+					}
+
+					// Notify the error.
+					throw new ClientException(getScopeFacade(),
+							"WAREWORK cannot read bytes " + start + " to " + end + " from file '" + source
+									+ "' in File Client '" + getName() + "' at Service '" + getService().getName()
+									+ "' because the range is not valid for a file of " + size + " bytes.",
+							null, LogServiceConstants.LOG_LEVEL_WARN);
+
+				}
+
+				// Create the stream for the range.
+				try {
+					stream = new LocalFileInputStream(sourceStream, start, Math.max(0, end - start + 1),
+							isMemoryMapped(options));
+				} catch (final IOException e) {
+
+					// Release the file.
+					try {
+						sourceStream.close();
+					} catch (final IOException ex) {
+						// DO NOTHING.
+					}
+
+					// Notify the error.
+					throw new ClientException(getScopeFacade(),
+							"WAREWORK cannot read bytes " + start + " to " + end + " from file '" + source
+									+ "' in File Client '" + getName() + "' at Service '" + getService().getName()
+									+ "' because the following I/O exception is thrown: " + e.getMessage(),
+							e, LogServiceConstants.LOG_LEVEL_WARN);
+
+				}
+
+			}
 
 			// Log a message.
 			if (log) {
@@ -501,7 +774,7 @@ public final class LocalFileSystemClient extends AbstractFileClient {
 			}
 
 			// Return operation result.
-			return new LengthInputStream(sourceStream, resource.length());
+			return stream;
 
 		} catch (final FileNotFoundException e) {
 
@@ -589,6 +862,27 @@ public final class LocalFileSystemClient extends AbstractFileClient {
 
 			}
 
+			// Validate range options.
+			validateLong(options, OPERATION_OPTION_READ_RANGE_START);
+			validateLong(options, OPERATION_OPTION_READ_RANGE_END);
+
+			// Validate option.
+			if (options.containsKey(OPERATION_OPTION_READ_MEMORY_MAPPED)) {
+
+				// Get the value of the option.
+				final Object optionValue = options.get(OPERATION_OPTION_READ_MEMORY_MAPPED);
+
+				// Validate option value.
+				if (!(optionValue instanceof String) && !(optionValue instanceof Boolean)) {
+					throw new ClientException(getScopeFacade(),
+							"WAREWORK cannot perform the operation with File Client '" + getName() + "' at Service '"
+									+ getService().getName() + "' because given '" + OPERATION_OPTION_READ_MEMORY_MAPPED
+									+ "' option is not a boolean or a string value.",
+							null, LogServiceConstants.LOG_LEVEL_WARN);
+				}
+
+			}
+
 		}
 
 	}
@@ -618,6 +912,211 @@ public final class LocalFileSystemClient extends AbstractFileClient {
 
 	}
 
+	/**
+	 * Validates that an option is a long or a string with a long value.
+	 * 
+	 * @param options    Options to validate.<br>
+	 *                   <br>
+	 * @param optionName Name of the option to validate.<br>
+	 *                   <br>
+	 * @throws ClientException If option is not a long value.<br>
+	 *                         <br>
+	 */
+	private void validateLong(final Map<String, Object> options, final String optionName) throws ClientException {
+		if ((options.containsKey(optionName)) && (getLong(options, optionName) == null)) {
+			throw new ClientException(getScopeFacade(),
+					"WAREWORK cannot perform the operation with File Client '" + getName() + "' at Service '"
+							+ getService().getName() + "' because given '" + optionName
+							+ "' option is not a long or a string value.",
+					null, LogServiceConstants.LOG_LEVEL_WARN);
+		}
+	}
+
+	/**
+	 * Gets the value of a long option.
+	 * 
+	 * @param options    Operation options. This argument is not mandatory.<br>
+	 *                   <br>
+	 * @param optionName Name of the option.<br>
+	 *                   <br>
+	 * @return Value of the option or <code>null</code> if it is not provided or
+	 *         it is not a long value.<br>
+	 *         <br>
+	 */
+	private static Long getLong(final Map<String, Object> options, final String optionName) {
+
+		// Get the value of the option.
+		final Object optionValue = (options == null) ? null : options.get(optionName);
+
+		// Return the value of the option.
+		if ((optionValue instanceof Long) || (optionValue instanceof Integer)) {
+			return Long.valueOf(((Number) optionValue).longValue());
+		} else if (optionValue instanceof String) {
+			try {
+				return Long.valueOf(((String) optionValue).trim());
+			} catch (final NumberFormatException e) {
+				return null;
+			}
+		} else {
+			return null;
+		}
+
+	}
+
+	/**
+	 * Decides if the range to read should be mapped into memory.
+	 * 
+	 * @param options Operation options. This argument is not mandatory.<br>
+	 *                <br>
+	 * @return <code>true</code> to map the range into memory.<br>
+	 *         <br>
+	 */
+	private static boolean isMemoryMapped(final Map<String, Object> options) {
+
+		// Get the value of the option.
+		final Object optionValue = (options == null) ? null : options.get(OPERATION_OPTION_READ_MEMORY_MAPPED);
+
+		// Return the value of the option.
+		if (optionValue instanceof Boolean) {
+			return (Boolean) optionValue;
+		} else if (optionValue instanceof String) {
+			return ((String) optionValue).equalsIgnoreCase(CommonValueL2Constants.STRING_TRUE);
+		} else {
+			return false;
+		}
+
+	}
+
+	/**
+	 * Transfers the bytes of a channel into a file.
+	 * 
+	 * @param source     Channel where to read the bytes.<br>
+	 *                   <br>
+	 * @param size       Bytes to read or <code>-1</code> to read until the end of
+	 *                   the channel.<br>
+	 *                   <br>
+	 * @param target     File where to write the bytes.<br>
+	 *                   <br>
+	 * @param bufferSize Size of the buffer used when the bytes cannot be
+	 *                   transferred directly.<br>
+	 *                   <br>
+	 * @throws IOException If there is an error when trying to transfer the
+	 *                     bytes.<br>
+	 *                     <br>
+	 */
+	private static void transfer(final ReadableByteChannel source, final long size, final FileChannel target,
+			final int bufferSize) throws IOException {
+		if (source instanceof FileChannel) {
+
+			// Get the file to read.
+			final FileChannel channel = (FileChannel) source;
+
+			// Where to start reading.
+			final long position = channel.position();
+
+			// Bytes to transfer.
+			final long count = (size < 0) ? channel.size() - position : size;
+
+			// Transfer the bytes.
+			long transferred = 0;
+			while (transferred < count) {
+
+				// Transfer next bytes.
+				final long bytes = channel.transferTo(position + transferred, count - transferred, target);
+
+				// Stop at the end of the file.
+				if (bytes <= 0) {
+					break;
+				}
+
+				// Count bytes transferred.
+				transferred = transferred + bytes;
+
+			}
+
+			// Keep source position as if bytes were read.
+			channel.position(position + transferred);
+
+		} else if (size >= 0) {
+
+			// Transfer the bytes.
+			long transferred = 0;
+			while (transferred < size) {
+
+				// Transfer next bytes.
+				final long bytes = target.transferFrom(source, transferred, size - transferred);
+
+				// Stop at the end of the channel.
+				if (bytes <= 0) {
+					break;
+				}
+
+				// Count bytes transferred.
+				transferred = transferred + bytes;
+
+			}
+
+		} else {
+
+			// Get the buffer.
+			final ByteBuffer buffer = getBuffer(bufferSize);
+
+			// Copy every byte until the end of the channel.
+			while (source.read(buffer) != -1) {
+
+				// Write the bytes read.
+				buffer.flip();
+				while (buffer.hasRemaining()) {
+					target.write(buffer);
+				}
+
+				// Prepare the buffer for the next bytes.
+				buffer.clear();
+
+			}
+
+		}
+	}
+
+	/**
+	 * Gets a buffer to copy channels. Direct buffers are expensive to create and
+	 * are only released by the garbage collector, so each thread reuses its own
+	 * one. Buffers that are too big to keep are created in the heap.
+	 * 
+	 * @param bufferSize Size of the buffer.<br>
+	 *                   <br>
+	 * @return Empty buffer.<br>
+	 *         <br>
+	 */
+	private static ByteBuffer getBuffer(final int bufferSize) {
+
+		// Big buffers are not kept in memory.
+		if (bufferSize > MAX_REUSABLE_BUFFER_SIZE) {
+			return ByteBuffer.allocate(bufferSize);
+		}
+
+		// Get the buffer of this thread.
+		ByteBuffer buffer = BUFFER.get();
+
+		// Create the buffer when required.
+		if ((buffer == null) || (buffer.capacity() != bufferSize)) {
+
+			// Create the buffer.
+			buffer = ByteBuffer.allocateDirect(bufferSize);
+
+			// Keep it for next copies.
+			BUFFER.set(buffer);
+
+		}
+
+		// Prepare the buffer for a new copy.
+		buffer.clear();
+
+		// Return the buffer.
+		return buffer;
+
+	}
+
 	/**
 	 * Updates a file with a set of given options.
 	 * 
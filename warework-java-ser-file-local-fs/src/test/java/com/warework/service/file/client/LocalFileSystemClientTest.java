@@ -1,10 +1,16 @@
 package com.warework.service.file.client;
 
+import java.io.InputStream;
 import java.util.HashMap;
 import java.util.Map;
 
 import com.warework.core.scope.AbstractSerFileTestCase;
+import com.warework.core.scope.ScopeFacade;
 import com.warework.core.service.client.connector.ConnectorFacade;
+import com.warework.core.util.helper.ResourceL1Helper;
+import com.warework.service.file.FileServiceConstants;
+import com.warework.service.file.FileServiceFacade;
+import com.warework.service.log.LogServiceConstants;
 import com.warework.service.file.client.connector.LocalFileSystemConnector;
 
 /**
@@ -15,6 +21,100 @@ import com.warework.service.file.client.connector.LocalFileSystemConnector;
  */
 public final class LocalFileSystemClientTest extends AbstractSerFileTestCase {
 
+	// ///////////////////////////////////////////////////////////////////
+	// TEST METHODS
+	// ///////////////////////////////////////////////////////////////////
+
+	/**
+	 * 
+	 */
+	public void testWriteRange1() {
+		try {
+
+			// Text file.
+			final String file = DIR_BASE + ResourceL1Helper.DIRECTORY_SEPARATOR + FILE_TEXT_1;
+
+			// Where to copy the range of the text file.
+			final String target = DIR_BASE + ResourceL1Helper.DIRECTORY_SEPARATOR + "range-" + FILE_TEXT_1;
+
+			// Create Scope.
+			final ScopeFacade system = create("test");
+
+			// Log test unit.
+			system.info("·······················································");
+			system.info("T E S T: testWriteRange1");
+			system.info("·······················································");
+
+			/*
+			 * SETUP TEST
+			 */
+
+			// Get the File Service.
+			final FileServiceFacade service = (FileServiceFacade) system
+					.getService(FileServiceConstants.DEFAULT_SERVICE_NAME);
+
+			// Connect with the local file system.
+			service.connect(CLIENT_NAME);
+
+			// Initialize workspace.
+			setup(service);
+
+			// Read bytes 2 to 9 of the text file.
+			final Map<String, Object> options = new HashMap<String, Object>();
+
+			// Set the range to read.
+			options.put(LocalFileSystemClient.OPERATION_OPTION_READ_RANGE_START, Long.valueOf(2));
+			options.put(LocalFileSystemClient.OPERATION_OPTION_READ_RANGE_END, Long.valueOf(9));
+
+			/*
+			 * EXECUTE TEST
+			 */
+
+			// Read the range of the text file.
+			final InputStream range = service.read(CLIENT_NAME, file, options);
+
+			// Copy the range into another file without giving its size.
+			final boolean success;
+			try {
+				success = service.write(CLIENT_NAME, range, -1, null, target);
+			} finally {
+				range.close();
+			}
+
+			// Read the copy.
+			final String text = service.readAsText(CLIENT_NAME, target, null);
+
+			/*
+			 * VALIDATE
+			 */
+			if ((!success) || (text.length() != 8) || (!getResourceText1String().substring(2, 10).equals(text))) {
+				fail();
+			}
+
+			/*
+			 * FINALIZE
+			 */
+
+			// Shut down service.
+			service.disconnect(CLIENT_NAME);
+
+			// Log test message.
+			system.info("····· T E S T: SUCCESSFULLY FINALIZED");
+
+		} catch (final Exception e) {
+
+			// Log error message.
+			if (get(SCOPE_NAME) != null) {
+				get(SCOPE_NAME).log("····· T E S T: CANNOT EXECUTE TEST AS EXCEPTION '" + e.getClass().getName()
+						+ "' WAS THROWN (" + e.getMessage() + ")", LogServiceConstants.LOG_LEVEL_FATAL);
+			}
+
+			// Stop test execution.
+			fail();
+
+		}
+	}
+
 	// ///////////////////////////////////////////////////////////////////
 	// PROTECTED METHODS
 	// ///////////////////////////////////////////////////////////////////
@@ -0,0 +1,453 @@
+package com.warework.service.file.client;
+
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.LinkedList;
+import java.util.Map;
+
+import com.jcraft.jsch.ChannelSftp;
+import com.jcraft.jsch.Session;
+import com.warework.core.service.client.connector.ConnectorException;
+import com.warework.service.file.client.connector.SftpConnector;
+
+/**
+ * Pool of SFTP channels multiplexed over one or more SSH sessions. JSch
+ * channels cannot run more than one operation at the same time, so each
+ * operation of the SFTP Client borrows a channel from this pool and releases it
+ * when it finishes. New channels are opened within the existing sessions until
+ * they reach the maximum number of channels per session; then a new session is
+ * created. Unused channels are closed after some time and sessions are closed
+ * when they have no channels.<br>
+ * <br>
+ * This class is thread-safe.
+ *
+ * @author Jose Schiaffino
+ * @version ${project.version}
+ */
+final class SftpChannelPool {
+
+	// ///////////////////////////////////////////////////////////////////
+	// ATTRIBUTES
+	// ///////////////////////////////////////////////////////////////////
+
+	// Connector that creates the sessions and the channels.
+	private SftpConnector connector;
+
+	// Channel created when the Client is connected. It is never evicted.
+	private ChannelSftp primary;
+
+	// Maximum number of channels.
+	private int maxChannels;
+
+	// Maximum number of channels for each session.
+	private int channelsPerSession;
+
+	// Milliseconds to wait for a channel.
+	private long borrowTimeout;
+
+	// Milliseconds to keep an unused channel.
+	private long idleTimeout;
+
+	// Unused channels. Most recently used first.
+	private LinkedList<ChannelSftp> idle = new LinkedList<ChannelSftp>();
+
+	// When each unused channel was released.
+	private Map<ChannelSftp, Long> idleSince = new HashMap<ChannelSftp, Long>();
+
+	// Session of each open channel.
+	private Map<ChannelSftp, Session> owners = new HashMap<ChannelSftp, Session>();
+
+	// Number of channels (open or being opened) for each session.
+	private Map<Session, Integer> sessions = new LinkedHashMap<Session, Integer>();
+
+	// Number of channels open or being opened.
+	private int opened;
+
+	// Flag that indicates that the pool is closed.
+	private boolean closed;
+
+	// Lock to create one session at a time.
+	private final Object sessionLock = new Object();
+
+	// ///////////////////////////////////////////////////////////////////
+	// CONSTRUCTORS
+	// ///////////////////////////////////////////////////////////////////
+
+	/**
+	 * Creates the pool.
+	 *
+	 * @param connector          Connector that creates the sessions and the
+	 *                           channels.<br>
+	 *                           <br>
+	 * @param primary            Channel created when the Client is connected.<br>
+	 *                           <br>
+	 * @param session            Session of the primary channel.<br>
+	 *                           <br>
+	 * @param maxChannels        Maximum number of channels.<br>
+	 *                           <br>
+	 * @param channelsPerSession Maximum number of channels for each session.<br>
+	 *                           <br>
+	 * @param borrowTimeout      Milliseconds to wait for a channel.<br>
+	 *                           <br>
+	 * @param idleTimeout        Milliseconds to keep an unused channel.<br>
+	 *                           <br>
+	 */
+	SftpChannelPool(final SftpConnector connector, final ChannelSftp primary, final Session session,
+			final int maxChannels, final int channelsPerSession, final long borrowTimeout, final long idleTimeout) {
+
+		// Set the connector.
+		this.connector = connector;
+
+		// Set the pool configuration.
+		this.maxChannels = maxChannels;
+		this.channelsPerSession = channelsPerSession;
+		this.borrowTimeout = borrowTimeout;
+		this.idleTimeout = idleTimeout;
+
+		// Register the primary channel.
+		this.primary = primary;
+		owners.put(primary, session);
+		sessions.put(session, 1);
+		idle.add(primary);
+		idleSince.put(primary, System.currentTimeMillis());
+		opened = 1;
+
+	}
+
+	// ///////////////////////////////////////////////////////////////////
+	// PACKAGE METHODS
+	// ///////////////////////////////////////////////////////////////////
+
+	/**
+	 * Gets a channel for one operation. Unused channels are reused first. When
+	 * there are no unused channels, a new channel is opened if the maximum is not
+	 * reached; otherwise this method waits until another operation releases its
+	 * channel.
+	 *
+	 * @return Connected channel or <code>null</code> if no channel is available
+	 *         before the borrow timeout expires.<br>
+	 *         <br>
+	 * @throws ConnectorException   If a new session or channel cannot be
+	 *                              opened.<br>
+	 *                              <br>
+	 * @throws InterruptedException If the thread is interrupted while waiting for
+	 *                              a channel.<br>
+	 *                              <br>
+	 */
+	ChannelSftp borrow() throws ConnectorException, InterruptedException {
+
+		// Session where to open a new channel (null to create a new session).
+		Session session = null;
+
+		// Get an unused channel or reserve a new one.
+		synchronized (this) {
+
+			// Close channels that are not used anymore.
+			evict();
+
+			// Time limit to get a channel.
+			final long deadline = System.currentTimeMillis() + borrowTimeout;
+
+			// Wait until a channel is available.
+			while (true) {
+
+				// Validate the pool is open.
+				if (closed) {
+					throw new IllegalStateException("SFTP channel pool is closed.");
+				}
+
+				// Reuse an unused channel.
+				if (!idle.isEmpty()) {
+
+					// Get the most recently used channel.
+					final ChannelSftp channel = idle.removeFirst();
+					idleSince.remove(channel);
+
+					// Discard channels closed by the server.
+					if (channel.isConnected()) {
+						return channel;
+					} else {
+						discard(channel);
+						continue;
+					}
+
+				}
+
+				// Reserve a new channel.
+				if (opened < maxChannels) {
+
+					// Count the new channel.
+					opened = opened + 1;
+
+					// Find a session with room for one more channel.
+					session = reserveSession();
+
+					// Open the channel.
+					break;
+
+				}
+
+				// Wait for a channel.
+				final long wait = deadline - System.currentTimeMillis();
+				if (wait > 0) {
+					wait(wait);
+				} else {
+					return null;
+				}
+
+			}
+
+		}
+
+		// Create a new session when required.
+		if (session == null) {
+			synchronized (sessionLock) {
+
+				// Another thread may have created a session meanwhile.
+				synchronized (this) {
+					session = reserveSession();
+				}
+
+				// Open the session.
+				if (session == null) {
+
+					// Connect with the server.
+					try {
+						session = connector.openSession();
+					} catch (final ConnectorException e) {
+						synchronized (this) {
+							opened = opened - 1;
+							notifyAll();
+						}
+						throw e;
+					}
+
+					// Register the session.
+					synchronized (this) {
+
+						// Close the session if the pool was closed meanwhile.
+						if (closed) {
+							session.disconnect();
+							throw new IllegalStateException("SFTP channel pool is closed.");
+						}
+
+						// Count the new channel in the session.
+						sessions.put(session, 1);
+
+					}
+
+				}
+
+			}
+		}
+
+		// Open the channel within the session.
+		try {
+
+			// Open the channel.
+			final ChannelSftp channel = connector.openChannel(session);
+
+			// Register the channel.
+			synchronized (this) {
+
+				// Close the channel if the pool was closed meanwhile.
+				if (closed) {
+					channel.disconnect();
+					session.disconnect();
+					throw new IllegalStateException("SFTP channel pool is closed.");
+				}
+
+				// Register the owner of the channel.
+				owners.put(channel, session);
+
+			}
+
+			// Return the channel.
+			return channel;
+
+		} catch (final ConnectorException e) {
+			synchronized (this) {
+
+				// Release the reserved channel.
+				opened = opened - 1;
+				removeChannel(session);
+
+				// Let others open the channel.
+				notifyAll();
+
+			}
+			throw e;
+		}
+
+	}
+
+	/**
+	 * Returns a channel to the pool.
+	 *
+	 * @param channel Channel to release.<br>
+	 *                <br>
+	 */
+	synchronized void release(final ChannelSftp channel) {
+
+		// Keep the channel for other operations or close it.
+		if (!owners.containsKey(channel)) {
+			channel.disconnect();
+		} else if ((!closed) && (channel.isConnected())) {
+			idle.addFirst(channel);
+			idleSince.put(channel, System.currentTimeMillis());
+		} else {
+			discard(channel);
+		}
+
+		// Notify waiting operations.
+		notifyAll();
+
+	}
+
+	/**
+	 * Closes every channel and session of the pool. Channels that are in use are
+	 * closed with their sessions.
+	 */
+	synchronized void close() {
+
+		// Flag the pool as closed.
+		closed = true;
+
+		// Close the sessions.
+		for (final Iterator<Session> iterator = sessions.keySet().iterator(); iterator.hasNext();) {
+			iterator.next().disconnect();
+		}
+
+		// Release the channels.
+		idle.clear();
+		idleSince.clear();
+		owners.clear();
+		sessions.clear();
+		opened = 0;
+
+		// Notify waiting operations.
+		notifyAll();
+
+	}
+
+	/**
+	 * Validates if the pool is closed.
+	 *
+	 * @return <code>true</code> if the pool is closed.<br>
+	 *         <br>
+	 */
+	synchronized boolean isClosed() {
+		return closed;
+	}
+
+	// ///////////////////////////////////////////////////////////////////
+	// PRIVATE METHODS
+	// ///////////////////////////////////////////////////////////////////
+
+	/**
+	 * Reserves one channel in a session that has room for it.
+	 *
+	 * @return Session where to open the channel or <code>null</code> if a new
+	 *         session is required.<br>
+	 *         <br>
+	 */
+	private Session reserveSession() {
+
+		// Find a session with room for one more channel.
+		for (final Iterator<Map.Entry<Session, Integer>> iterator = sessions.entrySet().iterator(); iterator
+				.hasNext();) {
+
+			// Get one session.
+			final Map.Entry<Session, Integer> entry = iterator.next();
+
+			// Reserve the channel in the session.
+			if ((entry.getValue() < channelsPerSession) && (entry.getKey().isConnected())) {
+
+				// Count the new channel in the session.
+				entry.setValue(entry.getValue() + 1);
+
+				// Return the session.
+				return entry.getKey();
+
+			}
+
+		}
+
+		// At this point, a new session is required.
+		return null;
+
+	}
+
+	/**
+	 * Closes the unused channels that reached the idle timeout.
+	 */
+	private void evict() {
+
+		// Get the time limit.
+		final long limit = System.currentTimeMillis() - idleTimeout;
+
+		// Close every unused channel except the primary one.
+		for (final Iterator<ChannelSftp> iterator = idle.iterator(); iterator.hasNext();) {
+
+			// Get one channel.
+			final ChannelSftp channel = iterator.next();
+
+			// Close the channel when it reached the idle timeout.
+			if ((channel != primary) && (idleSince.get(channel) < limit)) {
+				iterator.remove();
+				idleSince.remove(channel);
+				discard(channel);
+			}
+
+		}
+
+	}
+
+	/**
+	 * Closes a channel and its session when the session has no more channels.
+	 *
+	 * @param channel Channel to close.<br>
+	 *                <br>
+	 */
+	private void discard(final ChannelSftp channel) {
+
+		// Close the channel.
+		channel.disconnect();
+
+		// Get the session of the channel.
+		final Session session = owners.remove(channel);
+
+		// Update the counters.
+		if (session != null) {
+			opened = opened - 1;
+			removeChannel(session);
+		}
+
+	}
+
+	/**
+	 * Removes one channel from a session and closes the session when it has no
+	 * more channels.
+	 *
+	 * @param session Session of the channel.<br>
+	 *                <br>
+	 */
+	private void removeChannel(final Session session) {
+
+		// Get the number of channels of the session.
+		final Integer count = sessions.get(session);
+
+		// Update the session.
+		if (count != null) {
+			if (count > 1) {
+				sessions.put(session, count - 1);
+			} else {
+				sessions.remove(session);
+				session.disconnect();
+			}
+		}
+
+	}
+
+}
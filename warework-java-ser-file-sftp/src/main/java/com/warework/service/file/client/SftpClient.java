@@ -7,9 +7,14 @@ import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Vector;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 import com.jcraft.jsch.ChannelSftp;
 import com.jcraft.jsch.ChannelSftp.LsEntry;
+import com.jcraft.jsch.ChannelSftp.LsEntrySelector;
 import com.jcraft.jsch.JSchException;
 import com.jcraft.jsch.SftpException;
 import com.warework.core.service.client.ClientException;
@@ -19,6 +24,7 @@ import com.warework.core.util.CommonValueL1Constants;
 import com.warework.core.util.helper.ResourceL1Helper;
 import com.warework.core.util.helper.StringL1Helper;
 import com.warework.service.file.FileRef;
+import com.warework.service.file.FileRefIterator;
 import com.warework.service.file.FileServiceConstants;
 import com.warework.service.file.client.connector.SftpConnector;
 import com.warework.service.log.LogServiceConstants;
@@ -31,13 +37,23 @@ import com.warework.service.log.LogServiceConstants;
  */
 public final class SftpClient extends AbstractFileClient {
 
+	// ///////////////////////////////////////////////////////////////////
+	// CONSTANTS
+	// ///////////////////////////////////////////////////////////////////
+
+	// Element that marks the end of the resources of a directory.
+	private static final Object END_OF_LIST = new Object();
+
+	// Element that marks that the directory was not read to the end because the
+	// iterator was abandoned.
+	private static final Object ABANDONED_LIST = new Object();
+
 	// ///////////////////////////////////////////////////////////////////
 	// ATTRIBUTES
 	// ///////////////////////////////////////////////////////////////////
 
-	// Extra connection for specific operations (for example: required when writting
-	// a stream that comes from the same connection).
-	private ChannelSftp alternateConnection;
+	// Connections used by the operations of this Client.
+	private SftpChannelPool pool;
 
 	// ///////////////////////////////////////////////////////////////////
 	// PULBIC METHODS
@@ -62,6 +78,11 @@ public final class SftpClient extends AbstractFileClient {
 	 */
 	public boolean read(final String source, final Map<String, Object> options, final OutputStream target)
 			throws ClientException {
+
+		// Connection with the SFTP Client.
+		ChannelSftp connection = null;
+
+		// Perform the operation.
 		try {
 
 			// Update path.
@@ -100,8 +121,8 @@ public final class SftpClient extends AbstractFileClient {
 						null, LogServiceConstants.LOG_LEVEL_WARN);
 			}
 
-			// Get the connection with the SFTP Client.
-			final ChannelSftp connection = (ChannelSftp) getConnection();
+			// Get a connection with the SFTP Client.
+			connection = borrowConnection();
 
 			// Load file.
 			connection.get(updatedSource, target);
@@ -114,6 +135,8 @@ public final class SftpClient extends AbstractFileClient {
 					"WAREWORK cannot read file '" + target + "' in SFTP Client '" + getName() + "' at Service '"
 							+ getService().getName() + "' because the following exception is thrown: " + e.getMessage(),
 					e);
+		} finally {
+			releaseConnection(connection);
 		}
 	}
 
@@ -139,6 +162,11 @@ public final class SftpClient extends AbstractFileClient {
 	 */
 	public boolean write(final InputStream source, final long size, final Map<String, Object> options,
 			final String target) throws ClientException {
+
+		// Connection with the SFTP Client.
+		ChannelSftp connection = null;
+
+		// Perform the operation.
 		try {
 
 			// Update path.
@@ -176,37 +204,14 @@ public final class SftpClient extends AbstractFileClient {
 						null, LogServiceConstants.LOG_LEVEL_WARN);
 			}
 
-			// Get the connection with the SFTP Client.
-			final ChannelSftp connection = (ChannelSftp) getConnection();
-
-			// Validate stream comes from current connection.
-			if (source instanceof SftpInputStream) {
-
-				// Get SFTP stream.
-				final SftpInputStream stream = (SftpInputStream) source;
-
-				// Validate stream connection is the same as current connection.
-				if (stream.getChannel() == connection) {
-
-					// Create new connection with the same SFTP Client. This is because JSch cannot
-					// use Input and Output Streams at the same time within the same connection.
-					if (alternateConnection == null) {
-						alternateConnection = (ChannelSftp) getConnector().getClientConnection();
-					}
-
-					// Copy file.
-					alternateConnection.put(source, updatedTarget);
+			// Get a connection with the SFTP Client.
+			connection = borrowConnection();
 
-					// Log a message.
-					getScopeFacade().info("WAREWORK successfully copied file '" + stream.getPath() + "' to '" + target
-							+ "' within SFTP Client '" + getName() + "' of Service '" + getService().getName() + "'.");
-
-					// Return operation result.
-					return true;
-
-				}
-
-			}
+			/*
+			 * Streams read from this Client keep their own connection until they are
+			 * closed, so files can be copied within the same SFTP server without waiting
+			 * for the source stream.
+			 */
 
 			// Write file.
 			connection.put(source, updatedTarget);
@@ -223,8 +228,8 @@ public final class SftpClient extends AbstractFileClient {
 					"WAREWORK cannot write file '" + target + "' in SFTP Client '" + getName() + "' at Service '"
 							+ getService().getName() + "' because the following exception is thrown: " + e.getMessage(),
 					e);
-		} catch (ConnectorException e) {
-			throw new ClientException(getScopeFacade(), target, null, DEFAULT_BUFFER_SIZE);
+		} finally {
+			releaseConnection(connection);
 		}
 	}
 
@@ -245,6 +250,11 @@ public final class SftpClient extends AbstractFileClient {
 	 *                         <br>
 	 */
 	public boolean makeDir(final String path, final Map<String, Object> options) throws ClientException {
+
+		// Connection with the SFTP Client.
+		ChannelSftp connection = null;
+
+		// Perform the operation.
 		try {
 
 			// Update path.
@@ -277,8 +287,8 @@ public final class SftpClient extends AbstractFileClient {
 						null, LogServiceConstants.LOG_LEVEL_WARN);
 			}
 
-			// Get the connection with the SFTP Client.
-			final ChannelSftp connection = (ChannelSftp) getConnection();
+			// Get a connection with the SFTP Client.
+			connection = borrowConnection();
 
 			// Create directory in target SFTP server.
 			connection.mkdir(updatedPath);
@@ -295,6 +305,8 @@ public final class SftpClient extends AbstractFileClient {
 					"WAREWORK cannot create directory '" + path + "' in SFTP Client '" + getName() + "' at Service '"
 							+ getService().getName() + "' because the following exception is thrown: " + e.getMessage(),
 					e);
+		} finally {
+			releaseConnection(connection);
 		}
 	}
 
@@ -314,6 +326,11 @@ public final class SftpClient extends AbstractFileClient {
 	 *                         <br>
 	 */
 	public boolean delete(final String path, final Map<String, Object> options) throws ClientException {
+
+		// Connection with the SFTP Client.
+		ChannelSftp connection = null;
+
+		// Perform the operation.
 		try {
 
 			// Update path.
@@ -328,11 +345,11 @@ public final class SftpClient extends AbstractFileClient {
 						null, LogServiceConstants.LOG_LEVEL_WARN);
 			}
 
-			// Get the connection with the SFTP Client.
-			final ChannelSftp connection = (ChannelSftp) getConnection();
+			// Get a connection with the SFTP Client.
+			connection = borrowConnection();
 
 			// Find FTP server file or directory.
-			final FileRef resource = find(path, options);
+			final LsEntry resource = find(connection, updatedPath);
 
 			// Validate resource exists.
 			if (resource == null) {
@@ -347,7 +364,7 @@ public final class SftpClient extends AbstractFileClient {
 			} else {
 
 				// Delete file or directory in target SFTP server.
-				if (resource.isDirectory()) {
+				if (resource.getAttrs().isDir()) {
 
 					// Delete directory.
 					connection.rmdir(updatedPath);
@@ -376,6 +393,8 @@ public final class SftpClient extends AbstractFileClient {
 			throw createException("WAREWORK cannot delete file or directory '" + path + "' in SFTP Client '" + getName()
 					+ "' at Service '" + getService().getName() + "' because the following exception is thrown: "
 					+ e.getMessage(), e);
+		} finally {
+			releaseConnection(connection);
 		}
 	}
 
@@ -394,6 +413,11 @@ public final class SftpClient extends AbstractFileClient {
 	 *                         <br>
 	 */
 	public boolean rename(final String source, final String newname) throws ClientException {
+
+		// Connection with the SFTP Client.
+		ChannelSftp connection = null;
+
+		// Perform the operation.
 		try {
 
 			// Update path.
@@ -456,8 +480,8 @@ public final class SftpClient extends AbstractFileClient {
 						null, LogServiceConstants.LOG_LEVEL_WARN);
 			}
 
-			// Get the connection with the SFTP Client.
-			final ChannelSftp connection = (ChannelSftp) getConnection();
+			// Get a connection with the SFTP Client.
+			connection = borrowConnection();
 
 			// Rename file or directory.
 			connection.rename(updatedSource, updatedNewname);
@@ -473,6 +497,8 @@ public final class SftpClient extends AbstractFileClient {
 			throw createException("WAREWORK cannot rename file or directory '" + source + "' in SFTP Client '"
 					+ getName() + "' at Service '" + getService().getName()
 					+ "' because the following exception is thrown: " + e.getMessage(), e);
+		} finally {
+			releaseConnection(connection);
 		}
 	}
 
@@ -491,40 +517,18 @@ public final class SftpClient extends AbstractFileClient {
 	 */
 	public List<FileRef> list(final String path, final Map<String, Object> options, final String[] orderBy)
 			throws ClientException {
-		try {
 
-			// Update path.
-			final String updatedPath = updatePath(path);
-
-			// Validate path length.
-			if (updatedPath.length() < 1) {
-				throw new ClientException(getScopeFacade(),
-						"WAREWORK cannot list files and directories from '" + path + "' in SFTP Client '" + getName()
-								+ "' at Service '" + getService().getName()
-								+ "' because given path must be at least one character length.",
-						null, LogServiceConstants.LOG_LEVEL_WARN);
-			}
+		// Connection with the SFTP Client.
+		ChannelSftp connection = null;
 
-			// Validate directory separator character.
-			if (updatedPath.indexOf('\\') > 0) {
-				throw new ClientException(getScopeFacade(),
-						"WAREWORK cannot list files and directories from '" + path + "' in SFTP Client '" + getName()
-								+ "' at Service '" + getService().getName()
-								+ "' because given path contains invalid directory character '\\'.",
-						null, LogServiceConstants.LOG_LEVEL_WARN);
-			}
+		// Perform the operation.
+		try {
 
-			// Validate first character.
-			if (updatedPath.charAt(0) != CommonValueL1Constants.CHAR_FORWARD_SLASH) {
-				throw new ClientException(getScopeFacade(),
-						"WAREWORK cannot list files and directories from '" + path + "' in SFTP Client '" + getName()
-								+ "' at Service '" + getService().getName()
-								+ "' because given path does not start with character '/'.",
-						null, LogServiceConstants.LOG_LEVEL_WARN);
-			}
+			// Update and validate path.
+			final String updatedPath = toListPath(path);
 
-			// Get the connection with the SFTP Client.
-			final ChannelSftp connection = (ChannelSftp) getConnection();
+			// Get a connection with the SFTP Client.
+			connection = borrowConnection();
 
 			// Store file references here.
 			final List<FileRef> output = new ArrayList<FileRef>();
@@ -537,16 +541,8 @@ public final class SftpClient extends AbstractFileClient {
 				final LsEntry entry = (LsEntry) iterator.next();
 
 				// Validate file or directory.
-				if ((!entry.getFilename().equals(ResourceL1Helper.DIRECTORY_CURRENT))
-						&& (!entry.getFilename().equals(ResourceL1Helper.DIRECTORY_PARENT))) {
-					if (updatedPath.equals(FileServiceConstants.DIRECTORY_SEPARATOR_UNIX_STYLE)) {
-						output.add(new FileRefSftpImpl(this, entry,
-								FileServiceConstants.DIRECTORY_SEPARATOR_UNIX_STYLE + entry.getFilename(), orderBy));
-					} else {
-						output.add(new FileRefSftpImpl(this, entry,
-								updatedPath + FileServiceConstants.DIRECTORY_SEPARATOR_UNIX_STYLE + entry.getFilename(),
-								orderBy));
-					}
+				if (isListed(entry)) {
+					output.add(toFileRef(updatedPath, entry, orderBy));
 				}
 
 			}
@@ -562,10 +558,168 @@ public final class SftpClient extends AbstractFileClient {
 			throw createException("WAREWORK cannot list files and directories from '" + path + "' in SFTP Client '"
 					+ getName() + "' at Service '" + getService().getName()
 					+ "' because the following exception is thrown: " + e.getMessage(), e);
-
+		} finally {
+			releaseConnection(connection);
 		}
 	}
 
+	/**
+	 * Iterates resources (files and directories) in a specific path. The
+	 * directory is read by a background thread with its own connection, which
+	 * hands the resources to the iterator as the SFTP server returns them. At
+	 * most <code>page-size</code> resources are kept in memory: the thread waits
+	 * while the iterator does not request more resources. The iterator must be
+	 * closed, even when not every resource is read, to stop the thread and to
+	 * return the connection to the pool. If the iterator does not request
+	 * resources for <code>pool-idle-timeout</code> milliseconds, the thread stops
+	 * and releases the connection by itself, and the iterator fails when it is
+	 * used again.
+	 * 
+	 * @param path    Where to list the resources in the file storage.<br>
+	 *                <br>
+	 * @param options Options to list the files. This argument is not mandatory.<br>
+	 *                <br>
+	 * @param orderBy Criteria used to compare the resources returned. Use any of
+	 *                the <code>FileServiceConstants.ORDER_BY_xyz</code> constants.
+	 *                This argument is not mandatory.<br>
+	 *                <br>
+	 * @return Iterator of the resources found.<br>
+	 *         <br>
+	 * @throws ClientException If there is an error when trying to list the
+	 *                         resources.<br>
+	 *                         <br>
+	 */
+	public FileRefIterator iterate(final String path, final Map<String, Object> options, final String[] orderBy)
+			throws ClientException {
+
+		// Update and validate path.
+		final String updatedPath = toListPath(path);
+
+		// Get a connection with the SFTP Client for the whole iteration.
+		final ChannelSftp connection = borrowConnection();
+
+		// Resources listed and not returned yet.
+		final BlockingQueue<Object> entries = new ArrayBlockingQueue<Object>(getPageSize(options));
+
+		// Flag that indicates that the iterator is closed.
+		final AtomicBoolean closed = new AtomicBoolean(false);
+
+		// How long the thread waits for the iterator before it gives up.
+		final long timeout = getConnectorInteger(SftpConnector.PARAMETER_POOL_IDLE_TIMEOUT,
+				SftpConnector.DEFAULT_POOL_IDLE_TIMEOUT);
+
+		// Read the directory in the background.
+		final Thread reader = new Thread(new Runnable() {
+			public void run() {
+
+				// Last element to hand to the iterator.
+				Object last = END_OF_LIST;
+
+				// List files.
+				try {
+					connection.ls(updatedPath, new LsEntrySelector() {
+						public int select(final LsEntry entry) {
+
+							// Hand the resource to the iterator.
+							if ((isListed(entry)) && (!offer(entries, entry, closed, timeout))) {
+								return BREAK;
+							}
+
+							// Stop when the iterator is closed.
+							return (closed.get()) ? BREAK : CONTINUE;
+
+						}
+					});
+				} catch (final SftpException e) {
+					last = e;
+				} catch (final RuntimeException e) {
+					last = e;
+				} finally {
+
+					// Release the connection as soon as the directory is read.
+					releaseConnection(connection);
+
+					// Notify the end of the list.
+					offer(entries, last, closed, timeout);
+
+				}
+
+			}
+		}, "warework-" + getName() + "-list");
+
+		// Start to read the directory.
+		reader.setDaemon(true);
+		reader.start();
+
+		// Log a message.
+		getScopeFacade().info("WAREWORK successfully started to list files and directories from '" + path
+				+ "' in SFTP Client '" + getName() + "' of Service '" + getService().getName() + "'.");
+
+		// Return the resources as the thread reads them.
+		return new AbstractFileRefIterator() {
+
+			protected FileRef fetch() throws ClientException {
+
+				// Wait for the next element.
+				final Object element;
+				try {
+					element = entries.take();
+				} catch (final InterruptedException e) {
+
+					// Keep the interrupted status.
+					Thread.currentThread().interrupt();
+
+					// Notify the error.
+					throw new ClientException(getScopeFacade(),
+							"WAREWORK cannot list files and directories from '" + path + "' in SFTP Client '"
+									+ getName() + "' at Service '" + getService().getName()
+									+ "' because the thread was interrupted.",
+							e, LogServiceConstants.LOG_LEVEL_WARN);
+
+				}
+
+				// Return the resource or notify the end of the list.
+				if (element instanceof LsEntry) {
+					return toFileRef(updatedPath, (LsEntry) element, orderBy);
+				} else if (element instanceof SftpException) {
+					throw createException("WAREWORK cannot list files and directories from '" + path
+							+ "' in SFTP Client '" + getName() + "' at Service '" + getService().getName()
+							+ "' because the following exception is thrown: "
+							+ ((SftpException) element).getMessage(), (SftpException) element);
+				} else if (element instanceof RuntimeException) {
+					throw new ClientException(getScopeFacade(),
+							"WAREWORK cannot list files and directories from '" + path + "' in SFTP Client '"
+									+ getName() + "' at Service '" + getService().getName()
+									+ "' because the following exception is thrown: "
+									+ ((RuntimeException) element).getMessage(),
+							(RuntimeException) element, LogServiceConstants.LOG_LEVEL_WARN);
+				} else if (element == ABANDONED_LIST) {
+					throw new ClientException(getScopeFacade(),
+							"WAREWORK cannot list files and directories from '" + path + "' in SFTP Client '"
+									+ getName() + "' at Service '" + getService().getName()
+									+ "' because the iterator was not used for " + timeout
+									+ " milliseconds and its connection was released.",
+							null, LogServiceConstants.LOG_LEVEL_WARN);
+				} else {
+					return null;
+				}
+
+			}
+
+			protected void release() {
+
+				// Stop the thread.
+				closed.set(true);
+
+				// Release the resources not returned.
+				entries.clear();
+
+			}
+
+		};
+
+	}
+
 	/**
 	 * Gets a resource (file or directory) reference.
 	 * 
@@ -582,6 +736,11 @@ public final class SftpClient extends AbstractFileClient {
 	 *                         <br>
 	 */
 	public FileRef find(final String path, final Map<String, Object> options) throws ClientException {
+
+		// Connection with the SFTP Client.
+		ChannelSftp connection = null;
+
+		// Perform the operation.
 		try {
 
 			// Update path.
@@ -614,8 +773,8 @@ public final class SftpClient extends AbstractFileClient {
 						null, LogServiceConstants.LOG_LEVEL_WARN);
 			}
 
-			// Get the connection with the SFTP Client.
-			final ChannelSftp connection = (ChannelSftp) getConnection();
+			// Get a connection with the SFTP Client.
+			connection = borrowConnection();
 
 			// Find and return resource.
 			final LsEntry entry = find(connection, updatedPath);
@@ -643,6 +802,8 @@ public final class SftpClient extends AbstractFileClient {
 			throw createException("WAREWORK cannot find file or directory from '" + path + "' in SFTP Client '"
 					+ getName() + "' at Service '" + getService().getName()
 					+ "' because the following exception is thrown: " + e.getMessage(), e);
+		} finally {
+			releaseConnection(connection);
 		}
 	}
 
@@ -693,6 +854,11 @@ public final class SftpClient extends AbstractFileClient {
 	 */
 	protected InputStream performRead(final String source, final Map<String, Object> options, final boolean log)
 			throws ClientException {
+
+		// Connection with the SFTP Client.
+		ChannelSftp connection = null;
+
+		// Perform the operation.
 		try {
 
 			// Update path.
@@ -725,8 +891,8 @@ public final class SftpClient extends AbstractFileClient {
 						null, LogServiceConstants.LOG_LEVEL_WARN);
 			}
 
-			// Get the connection with the SFTP Client.
-			final ChannelSftp connection = (ChannelSftp) getConnection();
+			// Get a connection with the SFTP Client.
+			connection = borrowConnection();
 
 			// Load resource.
 			final LsEntry entry = find(connection, updatedSource);
@@ -748,7 +914,11 @@ public final class SftpClient extends AbstractFileClient {
 			} else {
 
 				// Load file.
-				final InputStream stream = new SftpInputStream(connection, updatedSource, entry.getAttrs().getSize());
+				final InputStream stream = new SftpInputStream(connection, updatedSource, entry.getAttrs().getSize(),
+						getPool());
+
+				// The stream releases the connection when it is closed.
+				connection = null;
 
 				// Log a message.
 				getScopeFacade().info("WAREWORK successfully loaded file '" + source + "' in SFTP Client '" + getName()
@@ -764,6 +934,8 @@ public final class SftpClient extends AbstractFileClient {
 					"WAREWORK cannot load file '" + source + "' in SFTP Client '" + getName() + "' at Service '"
 							+ getService().getName() + "' because the following exception is thrown: " + e.getMessage(),
 					e, LogServiceConstants.LOG_LEVEL_WARN);
+		} finally {
+			releaseConnection(connection);
 		}
 	}
 
@@ -780,6 +952,9 @@ public final class SftpClient extends AbstractFileClient {
 		// Exception that may be thrown when trying to close the connection.
 		JSchException exception = null;
 
+		// Close the pooled connections.
+		closePool();
+
 		// Close main connection.
 		try {
 
@@ -796,21 +971,6 @@ public final class SftpClient extends AbstractFileClient {
 			exception = e;
 		}
 
-		// Close alternate connection.
-		if (alternateConnection != null) {
-			try {
-
-				// Close channel.
-				alternateConnection.disconnect();
-
-				// Close session
-				alternateConnection.getSession().disconnect();
-
-			} catch (final JSchException e) {
-				exception = e;
-			}
-		}
-
 		// Throw exception when required.
 		if (exception != null) {
 			throw new ClientException(getScopeFacade(),
@@ -834,8 +994,16 @@ public final class SftpClient extends AbstractFileClient {
 		// Get the connection with the FTP Client.
 		final ChannelSftp connection = (ChannelSftp) getConnection();
 
-		// Close channel.
-		return connection.isClosed();
+		// Validate the channel.
+		final boolean closed = connection.isClosed();
+
+		// Close the pooled connections of a lost connection.
+		if (closed) {
+			closePool();
+		}
+
+		// Return the state of the channel.
+		return closed;
 
 	}
 
@@ -843,6 +1011,157 @@ public final class SftpClient extends AbstractFileClient {
 	// PRIVATE METHODS
 	// //////////////////////////////////////////////////////////////////
 
+	/**
+	 * Gets a connection from the pool of this Client. The connection must be
+	 * released with <code>releaseConnection</code> when the operation finishes.
+	 * 
+	 * @return SFTP channel.<br>
+	 *         <br>
+	 * @throws ClientException If there is an error when trying to open a new
+	 *                         connection or if every connection is in use until
+	 *                         the borrow timeout expires.<br>
+	 *                         <br>
+	 */
+	private ChannelSftp borrowConnection() throws ClientException {
+		try {
+
+			// Get a channel.
+			final ChannelSftp channel = getPool().borrow();
+
+			// Validate a channel was released in time.
+			if (channel == null) {
+				throw new ClientException(getScopeFacade(),
+						"WAREWORK cannot get a connection in SFTP Client '" + getName() + "' at Service '"
+								+ getService().getName() + "' because every connection is in use (check parameter '"
+								+ SftpConnector.PARAMETER_POOL_MAX_CHANNELS + "') and none was released in time.",
+						null, LogServiceConstants.LOG_LEVEL_WARN);
+			}
+
+			// Return the channel.
+			return channel;
+
+		} catch (final ConnectorException e) {
+			throw new ClientException(getScopeFacade(),
+					"WAREWORK cannot get a connection in SFTP Client '" + getName() + "' at Service '"
+							+ getService().getName() + "' because the following exception is thrown: "
+							+ e.getMessage(),
+					e, LogServiceConstants.LOG_LEVEL_WARN);
+		} catch (final InterruptedException e) {
+
+			// Keep the interrupted status.
+			Thread.currentThread().interrupt();
+
+			// Notify the error.
+			throw new ClientException(getScopeFacade(),
+					"WAREWORK cannot get a connection in SFTP Client '" + getName() + "' at Service '"
+							+ getService().getName() + "' because the thread was interrupted.",
+					e, LogServiceConstants.LOG_LEVEL_WARN);
+
+		}
+	}
+
+	/**
+	 * Returns a connection to the pool of this Client.
+	 * 
+	 * @param connection SFTP channel to release. It can be <code>null</code>.<br>
+	 *                   <br>
+	 */
+	private void releaseConnection(final ChannelSftp connection) {
+		if (connection != null) {
+
+			// Get the pool.
+			final SftpChannelPool channels;
+			synchronized (this) {
+				channels = pool;
+			}
+
+			// Release the channel or close it when the pool was closed.
+			if (channels == null) {
+				connection.disconnect();
+			} else {
+				channels.release(connection);
+			}
+
+		}
+	}
+
+	/**
+	 * Gets the pool of connections of this Client. It is created with the
+	 * connection opened when the Client is connected.
+	 * 
+	 * @return Pool of SFTP channels.<br>
+	 *         <br>
+	 * @throws ClientException If the session of the connection cannot be
+	 *                         retrieved.<br>
+	 *                         <br>
+	 */
+	private synchronized SftpChannelPool getPool() throws ClientException {
+
+		// Create the pool.
+		if ((pool == null) || (pool.isClosed())) {
+
+			// Get the connection with the SFTP Client.
+			final ChannelSftp connection = (ChannelSftp) getConnection();
+
+			// Get the connector of the SFTP Client.
+			final SftpConnector connector = (SftpConnector) getConnector();
+
+			// Create the pool.
+			try {
+				pool = new SftpChannelPool(connector, connection, connection.getSession(),
+						getConnectorInteger(SftpConnector.PARAMETER_POOL_MAX_CHANNELS,
+								SftpConnector.DEFAULT_POOL_MAX_CHANNELS),
+						getConnectorInteger(SftpConnector.PARAMETER_POOL_CHANNELS_PER_SESSION,
+								SftpConnector.DEFAULT_POOL_CHANNELS_PER_SESSION),
+						getConnectorInteger(SftpConnector.PARAMETER_POOL_BORROW_TIMEOUT,
+								SftpConnector.DEFAULT_POOL_BORROW_TIMEOUT),
+						getConnectorInteger(SftpConnector.PARAMETER_POOL_IDLE_TIMEOUT,
+								SftpConnector.DEFAULT_POOL_IDLE_TIMEOUT));
+			} catch (final JSchException e) {
+				throw new ClientException(getScopeFacade(),
+						"WAREWORK cannot get a connection in SFTP Client '" + getName() + "' at Service '"
+								+ getService().getName() + "' because the following exception is thrown: "
+								+ e.getMessage(),
+						e, LogServiceConstants.LOG_LEVEL_WARN);
+			}
+
+		}
+
+		// Return the pool.
+		return pool;
+
+	}
+
+	/**
+	 * Closes the pool of connections of this Client.
+	 */
+	private synchronized void closePool() {
+		if (pool != null) {
+			pool.close();
+			pool = null;
+		}
+	}
+
+	/**
+	 * Gets the value of an integer parameter of the Connector.
+	 * 
+	 * @param parameterName Name of the initialization parameter.<br>
+	 *                      <br>
+	 * @param defaultValue  Value to return when the parameter is not defined.<br>
+	 *                      <br>
+	 * @return Value of the parameter.<br>
+	 *         <br>
+	 */
+	private int getConnectorInteger(final String parameterName, final int defaultValue) {
+
+		// Get the value of the parameter.
+		final Integer value = getConnector().toInteger(parameterName);
+
+		// Return the value of the parameter.
+		return (value == null) ? defaultValue : value;
+
+	}
+
 	/**
 	 * Add base path when required.
 	 * 
@@ -856,6 +1175,136 @@ public final class SftpClient extends AbstractFileClient {
 				: getConnector().toString(SftpConnector.PARAMETER_BASE_PATH) + path;
 	}
 
+	/**
+	 * Adds the base path to the path of a directory to list and validates it.
+	 * 
+	 * @param path Directory to list.<br>
+	 *             <br>
+	 * @return Updated path.<br>
+	 *         <br>
+	 * @throws ClientException If the path is not valid.<br>
+	 *                         <br>
+	 */
+	private String toListPath(final String path) throws ClientException {
+
+		// Update path.
+		final String updatedPath = updatePath(path);
+
+		// Validate path length.
+		if (updatedPath.length() < 1) {
+			throw new ClientException(getScopeFacade(),
+					"WAREWORK cannot list files and directories from '" + path + "' in SFTP Client '" + getName()
+							+ "' at Service '" + getService().getName()
+							+ "' because given path must be at least one character length.",
+					null, LogServiceConstants.LOG_LEVEL_WARN);
+		}
+
+		// Validate directory separator character.
+		if (updatedPath.indexOf('\\') > 0) {
+			throw new ClientException(getScopeFacade(),
+					"WAREWORK cannot list files and directories from '" + path + "' in SFTP Client '" + getName()
+							+ "' at Service '" + getService().getName()
+							+ "' because given path contains invalid directory character '\\'.",
+					null, LogServiceConstants.LOG_LEVEL_WARN);
+		}
+
+		// Validate first character.
+		if (updatedPath.charAt(0) != CommonValueL1Constants.CHAR_FORWARD_SLASH) {
+			throw new ClientException(getScopeFacade(),
+					"WAREWORK cannot list files and directories from '" + path + "' in SFTP Client '" + getName()
+							+ "' at Service '" + getService().getName()
+							+ "' because given path does not start with character '/'.",
+					null, LogServiceConstants.LOG_LEVEL_WARN);
+		}
+
+		// Return the path.
+		return updatedPath;
+
+	}
+
+	/**
+	 * Validates if an entry of a directory is a file or directory to list.
+	 * 
+	 * @param entry Entry of the directory.<br>
+	 *              <br>
+	 * @return <code>false</code> for the current and the parent directories.<br>
+	 *         <br>
+	 */
+	private static boolean isListed(final LsEntry entry) {
+		return (!entry.getFilename().equals(ResourceL1Helper.DIRECTORY_CURRENT))
+				&& (!entry.getFilename().equals(ResourceL1Helper.DIRECTORY_PARENT));
+	}
+
+	/**
+	 * Wraps an entry of a directory.
+	 * 
+	 * @param directory Path of the directory.<br>
+	 *                  <br>
+	 * @param entry     Entry of the directory.<br>
+	 *                  <br>
+	 * @param orderBy   Criteria to sort the resources.<br>
+	 *                  <br>
+	 * @return File reference.<br>
+	 *         <br>
+	 */
+	private FileRef toFileRef(final String directory, final LsEntry entry, final String[] orderBy) {
+		if (directory.equals(FileServiceConstants.DIRECTORY_SEPARATOR_UNIX_STYLE)) {
+			return new FileRefSftpImpl(this, entry,
+					FileServiceConstants.DIRECTORY_SEPARATOR_UNIX_STYLE + entry.getFilename(), orderBy);
+		} else {
+			return new FileRefSftpImpl(this, entry,
+					directory + FileServiceConstants.DIRECTORY_SEPARATOR_UNIX_STYLE + entry.getFilename(), orderBy);
+		}
+	}
+
+	/**
+	 * Hands an element to the iterator of a directory. It waits while the queue
+	 * is full, unless the iterator is closed. When the queue stays full for the
+	 * given time, the iterator is considered abandoned: it is marked as closed
+	 * and the resources not returned are replaced with
+	 * <code>ABANDONED_LIST</code>.
+	 * 
+	 * @param entries Queue of the iterator.<br>
+	 *                <br>
+	 * @param element Element to hand.<br>
+	 *                <br>
+	 * @param closed  Flag that indicates that the iterator is closed.<br>
+	 *                <br>
+	 * @param timeout Milliseconds to wait for the iterator.<br>
+	 *                <br>
+	 * @return <code>true</code> if the element was handed and <code>false</code>
+	 *         if the iterator is closed or abandoned.<br>
+	 *         <br>
+	 */
+	private static boolean offer(final BlockingQueue<Object> entries, final Object element,
+			final AtomicBoolean closed, final long timeout) {
+		try {
+
+			// Time when the iterator is considered abandoned.
+			final long deadline = System.currentTimeMillis() + timeout;
+
+			// Wait until the iterator takes an element.
+			while (!closed.get()) {
+				if (entries.offer(element, 100, TimeUnit.MILLISECONDS)) {
+					return true;
+				} else if (System.currentTimeMillis() >= deadline) {
+
+					// Stop reading the directory.
+					closed.set(true);
+
+					// Tell the iterator why the resources are gone.
+					entries.clear();
+					entries.offer(ABANDONED_LIST);
+
+				}
+			}
+
+		} catch (final InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+		return false;
+	}
+
 	/**
 	 * Creates an exception with an error code.
 	 * 
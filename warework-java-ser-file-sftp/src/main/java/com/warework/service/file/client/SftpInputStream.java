@@ -1,5 +1,7 @@
 package com.warework.service.file.client;
 
+import java.io.IOException;
+
 import com.jcraft.jsch.ChannelSftp;
 import com.jcraft.jsch.SftpException;
 import com.warework.core.util.io.LengthInputStream;
@@ -22,6 +24,9 @@ public final class SftpInputStream extends LengthInputStream {
 	// Path of the resource in the SFTP server.
 	private String path;
 
+	// Pool where to release the SFTP connection when the stream is closed.
+	private SftpChannelPool pool;
+
 	// ///////////////////////////////////////////////////////////////////
 	// CONSTRUCTORS
 	// ///////////////////////////////////////////////////////////////////
@@ -35,11 +40,15 @@ public final class SftpInputStream extends LengthInputStream {
 	 *                   <br>
 	 * @param size       Wrapped stream content length.<br>
 	 *                   <br>
+	 * @param pool       Pool where to release the SFTP connection when the
+	 *                   stream is closed.<br>
+	 *                   <br>
 	 * @throws SftpException If there is an error when trying to create the
 	 *                       stream.<br>
 	 *                       <br>
 	 */
-	SftpInputStream(final ChannelSftp connection, final String path, final long size) throws SftpException {
+	SftpInputStream(final ChannelSftp connection, final String path, final long size, final SftpChannelPool pool)
+			throws SftpException {
 
 		// Invoke default constructor.
 		super(connection.get(path), size);
@@ -50,6 +59,9 @@ public final class SftpInputStream extends LengthInputStream {
 		// Set the path to the resource.
 		this.path = path;
 
+		// Set the pool of the connection.
+		this.pool = pool;
+
 	}
 
 	// ///////////////////////////////////////////////////////////////////
@@ -66,6 +78,36 @@ public final class SftpInputStream extends LengthInputStream {
 		return path;
 	}
 
+	/**
+	 * Closes the stream and releases the SFTP connection. When the Client was
+	 * closed before the stream, the file was already closed with the connection.
+	 * 
+	 * @throws IOException If an I/O error occurs.<br>
+	 *                     <br>
+	 */
+	public void close() throws IOException {
+		try {
+			super.close();
+		} catch (final IOException e) {
+
+			// Ignore the error when the connection is already closed.
+			if (connection.isConnected()) {
+				throw e;
+			}
+
+		} finally {
+			if (pool != null) {
+
+				// Release the connection.
+				pool.release(connection);
+
+				// Release the connection only once.
+				pool = null;
+
+			}
+		}
+	}
+
 	// ///////////////////////////////////////////////////////////////////
 	// PACKAGE METHODS
 	// ///////////////////////////////////////////////////////////////////
@@ -70,6 +70,70 @@ public final class SftpConnector extends AbstractFileClientConnector {
 	 */
 	public static final String PARAMETER_KNOWN_HOSTS = "known-hosts";
 
+	// CHANNEL POOL INITIALIZATION PARAMETERS
+
+	/**
+	 * Optional initialization parameter that specifies how many SFTP channels can
+	 * be open at the same time. Each operation uses its own channel, so this is
+	 * the number of operations that can run at the same time (streams returned by
+	 * <code>read</code> keep their channel until they are closed). Copying a file
+	 * within the same SFTP server requires at least two channels. Accepted values
+	 * for this parameter are integer numbers as <code>java.lang.String</code> or
+	 * <code>java.lang.Integer</code> objects. Default value is
+	 * <code>DEFAULT_POOL_MAX_CHANNELS</code>.
+	 */
+	public static final String PARAMETER_POOL_MAX_CHANNELS = "pool-max-channels";
+
+	/**
+	 * Optional initialization parameter that specifies how many SFTP channels are
+	 * opened within each SSH session. New sessions are created when every session
+	 * has this number of channels. SSH servers limit the channels of a session
+	 * (for example: OpenSSH allows 10 by default). Accepted values for this
+	 * parameter are integer numbers as <code>java.lang.String</code> or
+	 * <code>java.lang.Integer</code> objects. Default value is
+	 * <code>DEFAULT_POOL_CHANNELS_PER_SESSION</code>.
+	 */
+	public static final String PARAMETER_POOL_CHANNELS_PER_SESSION = "pool-channels-per-session";
+
+	/**
+	 * Optional initialization parameter that specifies how many milliseconds an
+	 * operation waits for a channel when every channel is in use. Accepted values
+	 * for this parameter are integer numbers as <code>java.lang.String</code> or
+	 * <code>java.lang.Integer</code> objects. Default value is
+	 * <code>DEFAULT_POOL_BORROW_TIMEOUT</code>.
+	 */
+	public static final String PARAMETER_POOL_BORROW_TIMEOUT = "pool-borrow-timeout";
+
+	/**
+	 * Optional initialization parameter that specifies how many milliseconds an
+	 * unused channel is kept open. Sessions are closed when they have no channels.
+	 * The channel created when the Client is connected is never closed by this
+	 * rule. Accepted values for this parameter are integer numbers as
+	 * <code>java.lang.String</code> or <code>java.lang.Integer</code> objects.
+	 * Default value is <code>DEFAULT_POOL_IDLE_TIMEOUT</code>.
+	 */
+	public static final String PARAMETER_POOL_IDLE_TIMEOUT = "pool-idle-timeout";
+
+	/**
+	 * Default maximum number of SFTP channels.
+	 */
+	public static final int DEFAULT_POOL_MAX_CHANNELS = 8;
+
+	/**
+	 * Default number of SFTP channels for each SSH session.
+	 */
+	public static final int DEFAULT_POOL_CHANNELS_PER_SESSION = 8;
+
+	/**
+	 * Default time (in milliseconds) to wait for a channel: 30 seconds.
+	 */
+	public static final int DEFAULT_POOL_BORROW_TIMEOUT = 1000 * 30;
+
+	/**
+	 * Default time (in milliseconds) to keep an unused channel open: 5 minutes.
+	 */
+	public static final int DEFAULT_POOL_IDLE_TIMEOUT = 1000 * 60 * 5;
+
 	// ///////////////////////////////////////////////////////////////////
 
 	// CONFIG PROPERTIES
@@ -125,6 +189,19 @@ public final class SftpConnector extends AbstractFileClientConnector {
 	 *                            <br>
 	 */
 	public Object getClientConnection() throws ConnectorException {
+		return openChannel(openSession());
+	}
+
+	/**
+	 * Opens a new SSH session with the SFTP server.
+	 * 
+	 * @return Connected SSH session.<br>
+	 *         <br>
+	 * @throws ConnectorException If there is an error when trying to create the
+	 *                            session with the SFTP server.<br>
+	 *                            <br>
+	 */
+	public Session openSession() throws ConnectorException {
 		try {
 
 			// Get the FTP connection source.
@@ -147,6 +224,31 @@ public final class SftpConnector extends AbstractFileClientConnector {
 			//
 			session.connect();
 
+			//
+			return session;
+
+		} catch (final JSchException e) {
+			throw new ConnectorException(getScopeFacade(),
+					"WAREWORK cannot connect SFTP Client '" + getClientName() + "' in Service '"
+							+ getService().getName() + "' because the following exception is thrown: " + e.getMessage(),
+					e, LogServiceConstants.LOG_LEVEL_WARN);
+		}
+	}
+
+	/**
+	 * Opens a new SFTP channel within an SSH session.
+	 * 
+	 * @param session Connected SSH session.<br>
+	 *                <br>
+	 * @return Connected SFTP channel.<br>
+	 *         <br>
+	 * @throws ConnectorException If there is an error when trying to open the
+	 *                            channel.<br>
+	 *                            <br>
+	 */
+	public ChannelSftp openChannel(final Session session) throws ConnectorException {
+		try {
+
 			//
 			final ChannelSftp channel = (ChannelSftp) session.openChannel("sftp");
 
@@ -288,6 +390,12 @@ public final class SftpConnector extends AbstractFileClientConnector {
 
 		}
 
+		// Validate the channel pool parameters.
+		validatePositiveInteger(PARAMETER_POOL_MAX_CHANNELS);
+		validatePositiveInteger(PARAMETER_POOL_CHANNELS_PER_SESSION);
+		validatePositiveInteger(PARAMETER_POOL_BORROW_TIMEOUT);
+		validatePositiveInteger(PARAMETER_POOL_IDLE_TIMEOUT);
+
 	}
 
 	/**
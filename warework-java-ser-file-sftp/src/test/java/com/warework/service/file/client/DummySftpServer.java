@@ -0,0 +1,229 @@
+package com.warework.service.file.client;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.Collections;
+
+import org.apache.sshd.common.file.virtualfs.VirtualFileSystemFactory;
+import org.apache.sshd.common.session.Session;
+import org.apache.sshd.common.session.SessionListener;
+import org.apache.sshd.server.SshServer;
+import org.apache.sshd.server.auth.password.PasswordAuthenticator;
+import org.apache.sshd.server.keyprovider.SimpleGeneratorHostKeyProvider;
+import org.apache.sshd.server.session.ServerSession;
+import org.apache.sshd.sftp.server.SftpSubsystemFactory;
+
+/**
+ * Embedded SFTP server that keeps the files in a temporary directory and counts
+ * the SSH sessions opened by the clients.
+ * 
+ * @author Jose Schiaffino
+ * @version ${project.version}
+ */
+public final class DummySftpServer {
+
+	// ///////////////////////////////////////////////////////////////////
+	// CONSTANTS
+	// ///////////////////////////////////////////////////////////////////
+
+	/**
+	 * Host of the server.
+	 */
+	public static final String HOST = "localhost";
+
+	/**
+	 * User accepted by the server.
+	 */
+	public static final String USER = "warework";
+
+	/**
+	 * Password accepted by the server.
+	 */
+	public static final String PASSWORD = "warework";
+
+	// ///////////////////////////////////////////////////////////////////
+	// ATTRIBUTES
+	// ///////////////////////////////////////////////////////////////////
+
+	// SSH server.
+	private SshServer server;
+
+	// Directory where the files are stored.
+	private File root;
+
+	// Number of sessions created.
+	private int createdSessions;
+
+	// Number of sessions not closed yet.
+	private int openSessions;
+
+	// ///////////////////////////////////////////////////////////////////
+	// PUBLIC METHODS
+	// ///////////////////////////////////////////////////////////////////
+
+	/**
+	 * Starts the server in a random port.
+	 * 
+	 * @throws IOException If the server cannot be started.<br>
+	 *                     <br>
+	 */
+	public void start() throws IOException {
+
+		// Create the directory for the files.
+		root = Files.createTempDirectory("warework-sftp").toFile();
+
+		// Configure the server.
+		server = SshServer.setUpDefaultServer();
+		server.setHost(HOST);
+		server.setPort(0);
+		server.setKeyPairProvider(new SimpleGeneratorHostKeyProvider());
+		server.setFileSystemFactory(new VirtualFileSystemFactory(root.toPath()));
+		server.setSubsystemFactories(Collections.singletonList(new SftpSubsystemFactory()));
+
+		// Accept only the test user.
+		server.setPasswordAuthenticator(new PasswordAuthenticator() {
+
+			public boolean authenticate(final String username, final String password, final ServerSession session) {
+				return (USER.equals(username)) && (PASSWORD.equals(password));
+			}
+
+		});
+
+		// Count the sessions.
+		server.addSessionListener(new SessionListener() {
+
+			public void sessionCreated(final Session session) {
+				synchronized (DummySftpServer.this) {
+					createdSessions = createdSessions + 1;
+					openSessions = openSessions + 1;
+				}
+			}
+
+			public void sessionClosed(final Session session) {
+				synchronized (DummySftpServer.this) {
+					openSessions = openSessions - 1;
+					DummySftpServer.this.notifyAll();
+				}
+			}
+
+		});
+
+		// Start the server.
+		server.start();
+
+	}
+
+	/**
+	 * Stops the server and removes its files.
+	 * 
+	 * @throws IOException If the server cannot be stopped.<br>
+	 *                     <br>
+	 */
+	public void stop() throws IOException {
+		try {
+			if (server != null) {
+				server.stop(true);
+			}
+		} finally {
+			delete(root);
+		}
+	}
+
+	/**
+	 * Gets the port where the server listens.
+	 * 
+	 * @return Port of the server.<br>
+	 *         <br>
+	 */
+	public int getPort() {
+		return server.getPort();
+	}
+
+	/**
+	 * Gets the number of sessions created since the server started.
+	 * 
+	 * @return Number of sessions.<br>
+	 *         <br>
+	 */
+	public synchronized int getCreatedSessions() {
+		return createdSessions;
+	}
+
+	/**
+	 * Gets the number of sessions that are not closed yet.
+	 * 
+	 * @return Number of sessions.<br>
+	 *         <br>
+	 */
+	public synchronized int getOpenSessions() {
+		return openSessions;
+	}
+
+	/**
+	 * Waits until the number of open sessions drops to a given value. Clients
+	 * close their sessions asynchronously, so the server may notice it some time
+	 * later.
+	 * 
+	 * @param sessions Number of open sessions to wait for.<br>
+	 *                 <br>
+	 * @param timeout  Maximum milliseconds to wait.<br>
+	 *                 <br>
+	 * @return Number of open sessions when the method returns.<br>
+	 *         <br>
+	 * @throws InterruptedException If the thread is interrupted.<br>
+	 *                              <br>
+	 */
+	public synchronized int waitForOpenSessions(final int sessions, final long timeout)
+			throws InterruptedException {
+
+		// Time limit to wait.
+		final long deadline = System.currentTimeMillis() + timeout;
+
+		// Wait until the sessions are closed.
+		while (openSessions > sessions) {
+
+			// Validate the time limit.
+			final long wait = deadline - System.currentTimeMillis();
+			if (wait <= 0) {
+				break;
+			}
+
+			// Wait for a session to close.
+			wait(wait);
+
+		}
+
+		// Return the open sessions.
+		return openSessions;
+
+	}
+
+	// ///////////////////////////////////////////////////////////////////
+	// PRIVATE METHODS
+	// ///////////////////////////////////////////////////////////////////
+
+	/**
+	 * Deletes a file or a directory with its contents.
+	 * 
+	 * @param file File or directory to delete.<br>
+	 *             <br>
+	 */
+	private static void delete(final File file) {
+		if (file != null) {
+
+			// Delete the contents of the directory.
+			final File[] files = file.listFiles();
+			if (files != null) {
+				for (int i = 0; i < files.length; i++) {
+					delete(files[i]);
+				}
+			}
+
+			// Delete the file.
+			file.delete();
+
+		}
+	}
+
+}
@@ -1,11 +1,20 @@
 package com.warework.service.file.client;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Arrays;
 import java.util.HashMap;
 import java.util.Map;
 
 import com.warework.core.scope.AbstractSerFileTestCase;
+import com.warework.core.scope.ScopeFacade;
+import com.warework.core.service.ServiceException;
 import com.warework.core.service.client.connector.ConnectorFacade;
+import com.warework.core.util.helper.ResourceL1Helper;
+import com.warework.service.file.FileServiceConstants;
+import com.warework.service.file.FileServiceFacade;
 import com.warework.service.file.client.connector.SftpConnector;
+import com.warework.service.log.LogServiceConstants;
 
 /**
  * 
@@ -15,6 +24,275 @@ import com.warework.service.file.client.connector.SftpConnector;
  */
 public final class SftpClientTest extends AbstractSerFileTestCase {
 
+	// ///////////////////////////////////////////////////////////////////
+	// CONSTANTS
+	// ///////////////////////////////////////////////////////////////////
+
+	//
+	private static final long SESSION_CLOSE_TIMEOUT = 1000 * 10;
+
+	// ///////////////////////////////////////////////////////////////////
+	// ATTRIBUTES
+	// ///////////////////////////////////////////////////////////////////
+
+	//
+	private DummySftpServer server;
+
+	//
+	private final Map<String, Object> poolParameters = new HashMap<String, Object>();
+
+	// ///////////////////////////////////////////////////////////////////
+	// PUBLIC METHODS
+	// ///////////////////////////////////////////////////////////////////
+
+	/**
+	 * Starts the SFTP server.
+	 */
+	public void setUp() throws Exception {
+
+		//
+		server = new DummySftpServer();
+
+		//
+		server.start();
+
+	}
+
+	/**
+	 * Cleans up file client and stops the SFTP server.
+	 */
+	public void tearDown() {
+		try {
+			super.tearDown();
+		} finally {
+			try {
+				server.stop();
+			} catch (final IOException e) {
+				fail();
+			}
+		}
+	}
+
+	// ///////////////////////////////////////////////////////////////////
+	// TEST METHODS
+	// ///////////////////////////////////////////////////////////////////
+
+	/**
+	 * 
+	 */
+	public void testPoolBorrowTimeout1() {
+		try {
+
+			//
+			poolParameters.put(SftpConnector.PARAMETER_POOL_MAX_CHANNELS, Integer.valueOf(1));
+			poolParameters.put(SftpConnector.PARAMETER_POOL_BORROW_TIMEOUT, Integer.valueOf(500));
+
+			//
+			final FileServiceFacade service = connect("testPoolBorrowTimeout1");
+
+			/*
+			 * EXECUTE TEST
+			 */
+
+			// Keep the only channel busy.
+			final InputStream stream = service.read(CLIENT_NAME, getTextPath(null), null);
+
+			// No channel is released in time.
+			try {
+
+				//
+				service.read(CLIENT_NAME, getTextPath("/a"), null);
+
+				//
+				fail();
+
+			} catch (final ServiceException e) {
+				// EXPECTED.
+			}
+
+			// Release the channel.
+			stream.close();
+
+			/*
+			 * VALIDATE
+			 */
+
+			// The released channel is reused.
+			final InputStream reused = service.read(CLIENT_NAME, getTextPath("/a"), null);
+			try {
+				validateText(reused);
+			} finally {
+				reused.close();
+			}
+
+			//
+			assertEquals(1, server.getCreatedSessions());
+
+			/*
+			 * FINALIZE
+			 */
+
+			//
+			disconnect(service);
+
+		} catch (final Exception e) {
+			failTest(e);
+		}
+	}
+
+	/**
+	 * 
+	 */
+	public void testPoolChannelsPerSession1() {
+		try {
+
+			//
+			poolParameters.put(SftpConnector.PARAMETER_POOL_MAX_CHANNELS, Integer.valueOf(4));
+			poolParameters.put(SftpConnector.PARAMETER_POOL_CHANNELS_PER_SESSION, Integer.valueOf(2));
+
+			//
+			final FileServiceFacade service = connect("testPoolChannelsPerSession1");
+
+			/*
+			 * EXECUTE TEST
+			 */
+
+			// Use every channel at the same time.
+			final InputStream[] streams = readAll(service);
+
+			// Two channels in each session.
+			assertEquals(2, server.getCreatedSessions());
+
+			// Read the files and release the channels.
+			validateText(streams);
+
+			// Use every channel again.
+			validateText(readAll(service));
+
+			/*
+			 * VALIDATE
+			 */
+
+			// The sessions are reused.
+			assertEquals(2, server.getCreatedSessions());
+			assertEquals(2, server.getOpenSessions());
+
+			/*
+			 * FINALIZE
+			 */
+
+			//
+			disconnect(service);
+
+		} catch (final Exception e) {
+			failTest(e);
+		}
+	}
+
+	/**
+	 * 
+	 */
+	public void testPoolIdleTimeout1() {
+		try {
+
+			//
+			poolParameters.put(SftpConnector.PARAMETER_POOL_MAX_CHANNELS, Integer.valueOf(4));
+			poolParameters.put(SftpConnector.PARAMETER_POOL_CHANNELS_PER_SESSION, Integer.valueOf(1));
+			poolParameters.put(SftpConnector.PARAMETER_POOL_IDLE_TIMEOUT, Integer.valueOf(200));
+
+			//
+			final FileServiceFacade service = connect("testPoolIdleTimeout1");
+
+			/*
+			 * EXECUTE TEST
+			 */
+
+			// One session for each channel.
+			validateText(readAll(service));
+
+			//
+			assertEquals(4, server.getOpenSessions());
+
+			// Let the channels reach the idle timeout.
+			Thread.sleep(400);
+
+			// Borrowing a channel closes the unused ones.
+			service.find(CLIENT_NAME, getTextPath(null), null);
+
+			/*
+			 * VALIDATE
+			 */
+
+			// Only the session of the Client connection is kept.
+			assertEquals(1, server.waitForOpenSessions(1, SESSION_CLOSE_TIMEOUT));
+
+			/*
+			 * FINALIZE
+			 */
+
+			//
+			disconnect(service);
+
+		} catch (final Exception e) {
+			failTest(e);
+		}
+	}
+
+	/**
+	 * 
+	 */
+	public void testPoolReleaseAfterClose1() {
+		try {
+
+			//
+			poolParameters.put(SftpConnector.PARAMETER_POOL_MAX_CHANNELS, Integer.valueOf(2));
+			poolParameters.put(SftpConnector.PARAMETER_POOL_CHANNELS_PER_SESSION, Integer.valueOf(1));
+
+			//
+			final FileServiceFacade service = connect("testPoolReleaseAfterClose1");
+
+			/*
+			 * EXECUTE TEST
+			 */
+
+			// One stream in the session of the Client connection and another one in a
+			// pooled session.
+			final InputStream stream1 = service.read(CLIENT_NAME, getTextPath(null), null);
+			final InputStream stream2 = service.read(CLIENT_NAME, getTextPath("/a"), null);
+
+			//
+			assertEquals(2, server.getOpenSessions());
+
+			// Close the Client while the streams are open.
+			service.disconnect(CLIENT_NAME);
+
+			// Release the channels of the closed Client.
+			stream1.close();
+			stream2.close();
+
+			/*
+			 * VALIDATE
+			 */
+
+			// Every session is closed.
+			assertEquals(0, server.waitForOpenSessions(0, SESSION_CLOSE_TIMEOUT));
+
+			// A new connection creates a new pool.
+			service.connect(CLIENT_NAME);
+			assertEquals(getResourceText1String(), service.readAsText(CLIENT_NAME, getTextPath(null), null));
+
+			/*
+			 * FINALIZE
+			 */
+
+			//
+			disconnect(service);
+
+		} catch (final Exception e) {
+			failTest(e);
+		}
+	}
+
 	// ///////////////////////////////////////////////////////////////////
 	// PROTECTED METHODS
 	// ///////////////////////////////////////////////////////////////////
@@ -37,15 +315,147 @@ public final class SftpClientTest extends AbstractSerFileTestCase {
 		final Map<String, Object> parameters = new HashMap<String, Object>();
 
 		//
-		parameters.put(SftpConnector.PARAMETER_HOST, System.getProperty("hostname"));
-		parameters.put(SftpConnector.PARAMETER_PORT, Integer.valueOf(System.getProperty("port")));
-		parameters.put(SftpConnector.PARAMETER_USER, System.getProperty("username"));
-		parameters.put(SftpConnector.PARAMETER_PASSWORD, System.getProperty("password"));
+		parameters.put(SftpConnector.PARAMETER_HOST, DummySftpServer.HOST);
+		parameters.put(SftpConnector.PARAMETER_PORT, Integer.valueOf(server.getPort()));
+		parameters.put(SftpConnector.PARAMETER_USER, DummySftpServer.USER);
+		parameters.put(SftpConnector.PARAMETER_PASSWORD, DummySftpServer.PASSWORD);
 		parameters.put(SftpConnector.PARAMETER_STRICT_HOST_KEY_CHECKING, Boolean.FALSE);
 
+		//
+		parameters.putAll(poolParameters);
+
 		//
 		return parameters;
 
 	}
 
+	// ///////////////////////////////////////////////////////////////////
+	// PRIVATE METHODS
+	// ///////////////////////////////////////////////////////////////////
+
+	/**
+	 * 
+	 * @param test
+	 * @return
+	 * @throws Exception
+	 */
+	private FileServiceFacade connect(final String test) throws Exception {
+
+		// Create Scope.
+		final ScopeFacade system = create(SCOPE_NAME);
+
+		// Log test unit.
+		system.info("·······················································");
+		system.info("T E S T: " + test);
+		system.info("·······················································");
+
+		// Get the File Service.
+		final FileServiceFacade service = (FileServiceFacade) system
+				.getService(FileServiceConstants.DEFAULT_SERVICE_NAME);
+
+		// Connect with File Client.
+		service.connect(CLIENT_NAME);
+
+		// Initialize workspace.
+		setup(service);
+
+		// Return the File Service.
+		return service;
+
+	}
+
+	/**
+	 * 
+	 * @param service
+	 * @throws ServiceException
+	 */
+	private void disconnect(final FileServiceFacade service) throws ServiceException {
+
+		// Disconnect from File Client
+		service.disconnect(CLIENT_NAME);
+
+		// Log test message.
+		service.getScopeFacade().info("····· T E S T: SUCCESSFULLY FINALIZED");
+
+	}
+
+	/**
+	 * 
+	 * @param e
+	 */
+	private void failTest(final Exception e) {
+
+		// Log error message.
+		if (get(SCOPE_NAME) != null) {
+			get(SCOPE_NAME).log("····· T E S T: CANNOT EXECUTE TEST AS EXCEPTION '" + e.getClass().getName()
+					+ "' WAS THROWN (" + e.getMessage() + ")", LogServiceConstants.LOG_LEVEL_FATAL);
+		}
+
+		// Stop test execution.
+		fail();
+
+	}
+
+	/**
+	 * 
+	 * @param service
+	 * @return
+	 * @throws ServiceException
+	 */
+	private InputStream[] readAll(final FileServiceFacade service) throws ServiceException {
+
+		//
+		final String[] directories = new String[] { null, "/a", "/b", "/c" };
+
+		//
+		final InputStream[] streams = new InputStream[directories.length];
+		for (int i = 0; i < directories.length; i++) {
+			streams[i] = service.read(CLIENT_NAME, getTextPath(directories[i]), null);
+		}
+
+		//
+		return streams;
+
+	}
+
+	/**
+	 * 
+	 * @param streams
+	 * @throws IOException
+	 */
+	private void validateText(final InputStream... streams) throws IOException {
+		for (int i = 0; i < streams.length; i++) {
+			try {
+
+				//
+				final byte[] expected = getResourceText1Bytes();
+
+				//
+				final byte[] bytes = new byte[expected.length + 1];
+
+				//
+				int length = 0;
+				int read;
+				while ((read = streams[i].read(bytes, length, bytes.length - length)) > 0) {
+					length = length + read;
+				}
+
+				//
+				assertTrue(Arrays.equals(expected, Arrays.copyOf(bytes, length)));
+
+			} finally {
+				streams[i].close();
+			}
+		}
+	}
+
+	/**
+	 * 
+	 * @param directory
+	 * @return
+	 */
+	private String getTextPath(final String directory) {
+		return DIR_BASE + ((directory == null) ? "" : directory) + ResourceL1Helper.DIRECTORY_SEPARATOR + FILE_TEXT_1;
+	}
+
 }
@@ -0,0 +1,66 @@
+package com.warework.service.file;
+
+import com.warework.core.service.client.ClientException;
+
+/**
+ * Iterates the resources (files and directories) of a path without loading
+ * every resource in memory. Resources are retrieved from the file storage as
+ * they are requested, so the first resources are available before the whole
+ * directory is read. Check it out with the following example:<br>
+ * <code>
+ * // Iterate the resources of a directory.<br>
+ * FileRefIterator iterator = service.iterate("local-fs-client", "/home/user", null);<br>
+ * <br>
+ * // Process each resource.<br>
+ * try {<br>
+ * &nbsp;&nbsp;&nbsp;while (iterator.hasNext()) {<br>
+ * &nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;FileRef resource = iterator.next();<br>
+ * &nbsp;&nbsp;&nbsp;}<br>
+ * } finally {<br>
+ * &nbsp;&nbsp;&nbsp;iterator.close();<br>
+ * }<br>
+ * </code> <br>
+ * Always close the iterator to release the connection with the file storage,
+ * even when not every resource is read.
+ *
+ * @author Jose Schiaffino
+ * @version ${project.version}
+ */
+public interface FileRefIterator {
+
+	/**
+	 * Validates if there are more resources to iterate.
+	 *
+	 * @return <code>true</code> if there are more resources and <code>false</code>
+	 *         if every resource was already returned.<br>
+	 *         <br>
+	 * @throws ClientException If there is an error when trying to retrieve the
+	 *                         next resources from the file storage.<br>
+	 *                         <br>
+	 */
+	boolean hasNext() throws ClientException;
+
+	/**
+	 * Gets the next resource.
+	 *
+	 * @return Next file or directory.<br>
+	 *         <br>
+	 * @throws ClientException If there is an error when trying to retrieve the
+	 *                         next resources from the file storage.<br>
+	 *                         <br>
+	 * @throws java.util.NoSuchElementException If there are no more
+	 *                                          resources.<br>
+	 *                                          <br>
+	 */
+	FileRef next() throws ClientException;
+
+	/**
+	 * Stops the iteration and releases the resources used to list the files.
+	 *
+	 * @throws ClientException If there is an error when trying to release the
+	 *                         resources.<br>
+	 *                         <br>
+	 */
+	void close() throws ClientException;
+
+}
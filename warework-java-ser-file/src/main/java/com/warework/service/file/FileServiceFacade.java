@@ -270,6 +270,11 @@ public interface FileServiceFacade extends ProxyServiceFacade {
 	 * directory, you have to include the <code>process-recursively</code> parameter
 	 * in the <code>optionsA</code> argument of sourceA Client.<br>
 	 * <br>
+	 * Directory trees can be copied in parallel with the
+	 * <code>parallelism</code> option in the <code>optionsB</code> argument. It
+	 * specifies how many files are copied at the same time, so use it only when
+	 * both Clients support concurrent operations.<br>
+	 * <br>
 	 * Bear in mind that some Clients do not provide file length. In such cases, use
 	 * the <code>read</code> and <code>write</code> methods to perform the
 	 * <code>copy</code> operation with a temporary storage (for example: in your
@@ -330,6 +335,30 @@ public interface FileServiceFacade extends ProxyServiceFacade {
 	List<FileRef> list(final String clientName, final String path, final Map<String, Object> options,
 			final String[] orderBy) throws ServiceException;
 
+	/**
+	 * Iterates resources in a specific path. Resources are retrieved from the
+	 * file storage as the iterator requests them, so this method is preferred
+	 * over <code>list</code> for directories with many resources. Resources are
+	 * not sorted.
+	 * 
+	 * @param clientName Name of the File Client where to list the resources.<br>
+	 *                   <br>
+	 * @param path       Where to list the resources in the file storage.<br>
+	 *                   <br>
+	 * @param options    Options to list the files in the Client. Check out the
+	 *                   underlying File Client to review which options it may
+	 *                   accept. This argument is not mandatory.<br>
+	 *                   <br>
+	 * @return Iterator of the resources found. It must be closed once the
+	 *         resources are processed.<br>
+	 *         <br>
+	 * @throws ServiceException If there is an error when trying to list the
+	 *                          resources.<br>
+	 *                          <br>
+	 */
+	FileRefIterator iterate(final String clientName, final String path, final Map<String, Object> options)
+			throws ServiceException;
+
 	/**
 	 * Lists resources sorted by path name in a specific path.
 	 * 
@@ -350,6 +379,29 @@ public interface FileServiceFacade extends ProxyServiceFacade {
 	public List<FileRef> listOrderByPath(final String clientName, final String path, final Boolean desc)
 			throws ServiceException;
 
+	/**
+	 * Lists the top resources sorted by path name in a specific path. Only the
+	 * resources to return are kept in memory while the directory is read.
+	 * 
+	 * @param clientName Name of the File Client where to list the resources.<br>
+	 *                   <br>
+	 * @param path       Where to list the resources in the file storage.<br>
+	 *                   <br>
+	 * @param desc       <code>true</code> to sort result in descending order.
+	 *                   <code>false</code> or <code>null</code> to sort result in
+	 *                   ascending order.<br>
+	 *                   <br>
+	 * @param maxResults Maximum number of resources to return.<br>
+	 *                   <br>
+	 * @return A sorted list with the top resources found.<br>
+	 *         <br>
+	 * @throws ServiceException If there is an error when trying to list the
+	 *                          resources.<br>
+	 *                          <br>
+	 */
+	public List<FileRef> listOrderByPath(final String clientName, final String path, final Boolean desc,
+			final int maxResults) throws ServiceException;
+
 	/**
 	 * Lists resources sorted by size in a specific path.
 	 * 
@@ -370,6 +422,29 @@ public interface FileServiceFacade extends ProxyServiceFacade {
 	public List<FileRef> listOrderBySize(final String clientName, final String path, final Boolean desc)
 			throws ServiceException;
 
+	/**
+	 * Lists the top resources sorted by size in a specific path. Only the
+	 * resources to return are kept in memory while the directory is read.
+	 * 
+	 * @param clientName Name of the File Client where to list the resources.<br>
+	 *                   <br>
+	 * @param path       Where to list the resources in the file storage.<br>
+	 *                   <br>
+	 * @param desc       <code>true</code> to sort result in descending order.
+	 *                   <code>false</code> or <code>null</code> to sort result in
+	 *                   ascending order.<br>
+	 *                   <br>
+	 * @param maxResults Maximum number of resources to return.<br>
+	 *                   <br>
+	 * @return A sorted list with the top resources found.<br>
+	 *         <br>
+	 * @throws ServiceException If there is an error when trying to list the
+	 *                          resources.<br>
+	 *                          <br>
+	 */
+	public List<FileRef> listOrderBySize(final String clientName, final String path, final Boolean desc,
+			final int maxResults) throws ServiceException;
+
 	/**
 	 * Lists resources sorted by last modified date in a specific path.
 	 * 
@@ -390,6 +465,29 @@ public interface FileServiceFacade extends ProxyServiceFacade {
 	public List<FileRef> listOrderByLastModified(final String clientName, final String path, final Boolean desc)
 			throws ServiceException;
 
+	/**
+	 * Lists the top resources sorted by last modified date in a specific path. Only the
+	 * resources to return are kept in memory while the directory is read.
+	 * 
+	 * @param clientName Name of the File Client where to list the resources.<br>
+	 *                   <br>
+	 * @param path       Where to list the resources in the file storage.<br>
+	 *                   <br>
+	 * @param desc       <code>true</code> to sort result in descending order.
+	 *                   <code>false</code> or <code>null</code> to sort result in
+	 *                   ascending order.<br>
+	 *                   <br>
+	 * @param maxResults Maximum number of resources to return.<br>
+	 *                   <br>
+	 * @return A sorted list with the top resources found.<br>
+	 *         <br>
+	 * @throws ServiceException If there is an error when trying to list the
+	 *                          resources.<br>
+	 *                          <br>
+	 */
+	public List<FileRef> listOrderByLastModified(final String clientName, final String path, final Boolean desc,
+			final int maxResults) throws ServiceException;
+
 	/**
 	 * Gets a resource (file or directory) reference.
 	 * 
@@ -8,9 +8,17 @@ import java.io.UnsupportedEncodingException;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import com.warework.core.service.AbstractProxyService;
 import com.warework.core.service.ReplyCodeServiceException;
@@ -21,6 +29,7 @@ import com.warework.core.service.client.ReplyCodeClientException;
 import com.warework.core.service.client.UnsupportedOperationClientException;
 import com.warework.core.util.CommonValueL1Constants;
 import com.warework.core.util.helper.StringL1Helper;
+import com.warework.core.util.helper.ThreadL1Helper;
 import com.warework.core.util.io.LengthInputStream;
 import com.warework.service.file.client.AbstractFileClient;
 import com.warework.service.file.client.FileClientFacade;
@@ -838,6 +847,11 @@ public final class FileServiceImpl extends AbstractProxyService implements FileS
 	 * directory, you have to include the <code>process-recursively</code> parameter
 	 * in the <code>optionsA</code> argument of sourceA Client.<br>
 	 * <br>
+	 * Directory trees can be copied in parallel with the
+	 * <code>parallelism</code> option in the <code>optionsB</code> argument. It
+	 * specifies how many files are copied at the same time, so use it only when
+	 * both Clients support concurrent operations.<br>
+	 * <br>
 	 * Bear in mind that some Clients do not provide file length. In such cases, use
 	 * the <code>read</code> and <code>write</code> methods to perform the
 	 * <code>copy</code> operation with a temporary storage (for example: in your
@@ -948,46 +962,56 @@ public final class FileServiceImpl extends AbstractProxyService implements FileS
 						/*
 						 * 3. Copy each file and directory found.
 						 */
-						for (final Iterator<FileRef> iterator = resources.iterator(); iterator.hasNext();) {
 
-							// Get one file or directory to copy.
-							final FileRef resource = iterator.next();
+						// Get how many files can be copied at the same time.
+						final int parallelism = parallelism(optionsB);
+
+						// Copy files one after another or in parallel.
+						if (parallelism > 1) {
+							success = copy(resources, basePath, optionsA, clientB, targetB, optionsB, continueOnFailure,
+									parallelism, response);
+						} else {
+							for (final Iterator<FileRef> iterator = resources.iterator(); iterator.hasNext();) {
+
+								// Get one file or directory to copy.
+								final FileRef resource = iterator.next();
+
+								// Get source file or directory path.
+								final String sourcePath = resource.getPath();
 
-							// Get source file or directory path.
-							final String sourcePath = resource.getPath();
+								// Create target path where to copy the file or directory
+								final String targetPath = targetB
+										+ sourcePath.substring(basePath.length(), sourcePath.length());
 
-							// Create target path where to copy the file or directory
-							final String targetPath = targetB
-									+ sourcePath.substring(basePath.length(), sourcePath.length());
+								// Copy file or directory.
+								if (resource.isDirectory()) {
+									if (clientB.allowsDirectories()) {
 
-							// Copy file or directory.
-							if (resource.isDirectory()) {
-								if (clientB.allowsDirectories()) {
+										// Create directory.
+										success = clientB.makeDir(targetPath, optionsB);
 
-									// Create directory.
-									success = clientB.makeDir(targetPath, optionsB);
+										// Increase counter of directories copied.
+										response[FileServiceConstants.RESPONSE_INDEX_DIRECTORIES_COPIED] = response[FileServiceConstants.RESPONSE_INDEX_DIRECTORIES_COPIED]
+												+ 1;
+
+									}
+								} else {
+
+									// Copy file.
+									success = copy(resource, optionsA, clientB, targetPath, optionsB);
 
 									// Increase counter of directories copied.
-									response[FileServiceConstants.RESPONSE_INDEX_DIRECTORIES_COPIED] = response[FileServiceConstants.RESPONSE_INDEX_DIRECTORIES_COPIED]
+									response[FileServiceConstants.RESPONSE_INDEX_FILES_COPIED] = response[FileServiceConstants.RESPONSE_INDEX_FILES_COPIED]
 											+ 1;
 
 								}
-							} else {
-
-								// Copy file.
-								success = copy(resource, optionsA, clientB, targetPath, optionsB);
-
-								// Increase counter of directories copied.
-								response[FileServiceConstants.RESPONSE_INDEX_FILES_COPIED] = response[FileServiceConstants.RESPONSE_INDEX_FILES_COPIED]
-										+ 1;
 
-							}
+								// Checkout if operation should continue.
+								if ((!success) && (!continueOnFailure)) {
+									break;
+								}
 
-							// Checkout if operation should continue.
-							if ((!success) && (!continueOnFailure)) {
-								break;
 							}
-
 						}
 
 						// 4. Return operation result.
@@ -1128,6 +1152,9 @@ public final class FileServiceImpl extends AbstractProxyService implements FileS
 		getScopeFacade().debug("WAREWORK is going to list files and directories from '" + path + "' in File Client '"
 				+ clientName + "' of Service '" + getName() + "'.");
 
+		// Get the maximum number of resources to return.
+		final int maxResults = maxResults(options);
+
 		// List the resources.
 		List<FileRef> result = null;
 		try {
@@ -1139,6 +1166,8 @@ public final class FileServiceImpl extends AbstractProxyService implements FileS
 				// Directory tree to process.
 				toDirectoryResources(client, path, options, result, reverseTree(options));
 
+			} else if (maxResults > 0) {
+				result = listTop(client, path, options, orderBy, maxResults);
 			} else {
 				result = client.list(path, options, orderBy);
 			}
@@ -1158,11 +1187,69 @@ public final class FileServiceImpl extends AbstractProxyService implements FileS
 			Collections.sort(result);
 		}
 
+		// Keep only the top resources.
+		if ((result != null) && (maxResults > 0) && (result.size() > maxResults)) {
+			result = new ArrayList<FileRef>(result.subList(0, maxResults));
+		}
+
 		// Return resources found.
 		return result;
 
 	}
 
+	/**
+	 * Iterates resources in a specific path. Resources are retrieved from the
+	 * file storage as the iterator requests them, so this method is preferred
+	 * over <code>list</code> for directories with many resources. Resources are
+	 * not sorted.
+	 * 
+	 * @param clientName Name of the File Client where to list the resources.<br>
+	 *                   <br>
+	 * @param path       Where to list the resources in the file storage.<br>
+	 *                   <br>
+	 * @param options    Options to list the files in the Client. Check out the
+	 *                   underlying File Client to review which options it may
+	 *                   accept. This argument is not mandatory.<br>
+	 *                   <br>
+	 * @return Iterator of the resources found. It must be closed once the
+	 *         resources are processed.<br>
+	 *         <br>
+	 * @throws ServiceException If there is an error when trying to list the
+	 *                          resources.<br>
+	 *                          <br>
+	 */
+	public FileRefIterator iterate(final String clientName, final String path, final Map<String, Object> options)
+			throws ServiceException {
+
+		// Get the facade of the File Client.
+		final FileClientFacade client = (FileClientFacade) getClient(clientName);
+		if (client == null) {
+			throw new ServiceException(
+					getScopeFacade(), "WAREWORK cannot list the resources in File Client '" + clientName
+							+ "' at Service '" + getName() + "' because Client does not exists.",
+					null, LogServiceConstants.LOG_LEVEL_WARN);
+		}
+
+		// Log a message.
+		getScopeFacade().debug("WAREWORK is going to iterate files and directories from '" + path
+				+ "' in File Client '" + clientName + "' of Service '" + getName() + "'.");
+
+		// Iterate the resources.
+		try {
+			return client.iterate(path, options, null);
+		} catch (final ReplyCodeClientException e) {
+			throw new ReplyCodeServiceException(e);
+		} catch (final UnsupportedOperationClientException e) {
+			throw new UnsupportedOperationServiceException(e);
+		} catch (final ClientException e) {
+			throw new ServiceException(getScopeFacade(),
+					"WAREWORK cannot list the resources in File Client '" + clientName + "' at Service '" + getName()
+							+ "' because Client reported the following error: " + e.getMessage(),
+					e, LogServiceConstants.LOG_LEVEL_WARN);
+		}
+
+	}
+
 	/**
 	 * Lists resources sorted by path name in a specific path.
 	 * 
@@ -1187,6 +1274,40 @@ public final class FileServiceImpl extends AbstractProxyService implements FileS
 				: list(clientName, path, null, new String[] { FileServiceConstants.ORDER_BY_PATH_ASCENDING });
 	}
 
+	/**
+	 * Lists the top resources sorted by path name in a specific path. Only the
+	 * resources to return are kept in memory while the directory is read.
+	 * 
+	 * @param clientName Name of the File Client where to list the resources.<br>
+	 *                   <br>
+	 * @param path       Where to list the resources in the file storage.<br>
+	 *                   <br>
+	 * @param desc       <code>true</code> to sort result in descending order.
+	 *                   <code>false</code> or <code>null</code> to sort result in
+	 *                   ascending order.<br>
+	 *                   <br>
+	 * @param maxResults Maximum number of resources to return.<br>
+	 *                   <br>
+	 * @return A sorted list with the top resources found.<br>
+	 *         <br>
+	 * @throws ServiceException If there is an error when trying to list the
+	 *                          resources.<br>
+	 *                          <br>
+	 */
+	public List<FileRef> listOrderByPath(final String clientName, final String path, final Boolean desc,
+			final int maxResults) throws ServiceException {
+
+		// Return only the top resources.
+		final Map<String, Object> options = new HashMap<String, Object>();
+		options.put(AbstractFileClient.OPERATION_OPTION_MAX_RESULTS, maxResults);
+
+		// List the resources.
+		return ((desc != null) && (desc))
+				? list(clientName, path, options, new String[] { FileServiceConstants.ORDER_BY_PATH_DESCENDING })
+				: list(clientName, path, options, new String[] { FileServiceConstants.ORDER_BY_PATH_ASCENDING });
+
+	}
+
 	/**
 	 * Lists resources sorted by size in a specific path.
 	 * 
@@ -1211,6 +1332,40 @@ public final class FileServiceImpl extends AbstractProxyService implements FileS
 				: list(clientName, path, null, new String[] { FileServiceConstants.ORDER_BY_SIZE_ASCENDING });
 	}
 
+	/**
+	 * Lists the top resources sorted by size in a specific path. Only the
+	 * resources to return are kept in memory while the directory is read.
+	 * 
+	 * @param clientName Name of the File Client where to list the resources.<br>
+	 *                   <br>
+	 * @param path       Where to list the resources in the file storage.<br>
+	 *                   <br>
+	 * @param desc       <code>true</code> to sort result in descending order.
+	 *                   <code>false</code> or <code>null</code> to sort result in
+	 *                   ascending order.<br>
+	 *                   <br>
+	 * @param maxResults Maximum number of resources to return.<br>
+	 *                   <br>
+	 * @return A sorted list with the top resources found.<br>
+	 *         <br>
+	 * @throws ServiceException If there is an error when trying to list the
+	 *                          resources.<br>
+	 *                          <br>
+	 */
+	public List<FileRef> listOrderBySize(final String clientName, final String path, final Boolean desc,
+			final int maxResults) throws ServiceException {
+
+		// Return only the top resources.
+		final Map<String, Object> options = new HashMap<String, Object>();
+		options.put(AbstractFileClient.OPERATION_OPTION_MAX_RESULTS, maxResults);
+
+		// List the resources.
+		return ((desc != null) && (desc))
+				? list(clientName, path, options, new String[] { FileServiceConstants.ORDER_BY_SIZE_DESCENDING })
+				: list(clientName, path, options, new String[] { FileServiceConstants.ORDER_BY_SIZE_ASCENDING });
+
+	}
+
 	/**
 	 * Lists resources sorted by last modified date in a specific path.
 	 * 
@@ -1235,6 +1390,40 @@ public final class FileServiceImpl extends AbstractProxyService implements FileS
 				: list(clientName, path, null, new String[] { FileServiceConstants.ORDER_BY_LAST_MODIFIED_ASCENDING });
 	}
 
+	/**
+	 * Lists the top resources sorted by last modified date in a specific path. Only the
+	 * resources to return are kept in memory while the directory is read.
+	 * 
+	 * @param clientName Name of the File Client where to list the resources.<br>
+	 *                   <br>
+	 * @param path       Where to list the resources in the file storage.<br>
+	 *                   <br>
+	 * @param desc       <code>true</code> to sort result in descending order.
+	 *                   <code>false</code> or <code>null</code> to sort result in
+	 *                   ascending order.<br>
+	 *                   <br>
+	 * @param maxResults Maximum number of resources to return.<br>
+	 *                   <br>
+	 * @return A sorted list with the top resources found.<br>
+	 *         <br>
+	 * @throws ServiceException If there is an error when trying to list the
+	 *                          resources.<br>
+	 *                          <br>
+	 */
+	public List<FileRef> listOrderByLastModified(final String clientName, final String path, final Boolean desc,
+			final int maxResults) throws ServiceException {
+
+		// Return only the top resources.
+		final Map<String, Object> options = new HashMap<String, Object>();
+		options.put(AbstractFileClient.OPERATION_OPTION_MAX_RESULTS, maxResults);
+
+		// List the resources.
+		return ((desc != null) && (desc))
+				? list(clientName, path, options, new String[] { FileServiceConstants.ORDER_BY_LAST_MODIFIED_DESCENDING })
+				: list(clientName, path, options, new String[] { FileServiceConstants.ORDER_BY_LAST_MODIFIED_ASCENDING });
+
+	}
+
 	/**
 	 * Gets a resource (file or directory) reference.
 	 * 
@@ -1620,6 +1809,318 @@ public final class FileServiceImpl extends AbstractProxyService implements FileS
 
 	}
 
+	/**
+	 * Copies a directory tree in parallel. Directories are created first, one
+	 * after another, so every file is copied once its directory exists. After
+	 * that, files are copied by a bounded group of threads.
+	 * 
+	 * @param resources         Files and directories to copy in normal tree
+	 *                          form.<br>
+	 *                          <br>
+	 * @param basePath          Path of the source directory.<br>
+	 *                          <br>
+	 * @param optionsA          Options to read the files in the Source Client.
+	 *                          This argument is not mandatory.<br>
+	 *                          <br>
+	 * @param clientB           Target File Client where to write the files.<br>
+	 *                          <br>
+	 * @param targetB           Where to copy the source directory in the target
+	 *                          File Client.<br>
+	 *                          <br>
+	 * @param optionsB          Options to write the files in the target Client.
+	 *                          This argument is not mandatory.<br>
+	 *                          <br>
+	 * @param continueOnFailure Continue when one file or directory cannot be
+	 *                          copied.<br>
+	 *                          <br>
+	 * @param parallelism       How many files can be copied at the same time.<br>
+	 *                          <br>
+	 * @param response          Where to count the files and directories
+	 *                          copied.<br>
+	 *                          <br>
+	 * @return <code>true</code> if every file and directory was copied,
+	 *         <code>false</code> if not.<br>
+	 *         <br>
+	 * @throws ClientException If there is an error when trying to copy the files
+	 *                         and directories.<br>
+	 *                         <br>
+	 */
+	private boolean copy(final List<FileRef> resources, final String basePath, final Map<String, Object> optionsA,
+			final FileClientFacade clientB, final String targetB, final Map<String, Object> optionsB,
+			final boolean continueOnFailure, final int parallelism, final int[] response) throws ClientException {
+
+		// Files to copy.
+		final List<FileRef> files = new ArrayList<FileRef>();
+
+		// Create the directories and collect the files.
+		boolean success = true;
+		for (final Iterator<FileRef> iterator = resources.iterator(); iterator.hasNext();) {
+
+			// Get one file or directory to copy.
+			final FileRef resource = iterator.next();
+
+			// Create the directory or keep the file for later.
+			if (resource.isDirectory()) {
+				if (clientB.allowsDirectories()) {
+
+					// Create directory.
+					if (clientB.makeDir(toTargetPath(resource, basePath, targetB), optionsB)) {
+						response[FileServiceConstants.RESPONSE_INDEX_DIRECTORIES_COPIED] = response[FileServiceConstants.RESPONSE_INDEX_DIRECTORIES_COPIED]
+								+ 1;
+					} else if (continueOnFailure) {
+						success = false;
+					} else {
+						return false;
+					}
+
+				}
+			} else {
+				files.add(resource);
+			}
+
+		}
+
+		// Files copied, only used to log the progress.
+		final AtomicInteger progress = new AtomicInteger(0);
+
+		// Flag to skip the remaining files when the operation must stop.
+		final AtomicBoolean stop = new AtomicBoolean((!success) && (!continueOnFailure));
+
+		// Create the threads.
+		final ExecutorService executor = ThreadL1Helper
+				.createDaemonThreadPool(Math.min(parallelism, Math.max(files.size(), 1)), "warework-" + getName() + "-copy");
+
+		// Result of each file: TRUE when copied, FALSE when not copied and null
+		// when skipped.
+		final List<Future<Boolean>> results = new ArrayList<Future<Boolean>>(files.size());
+
+		// Files copied.
+		int copied = 0;
+
+		// First exception found.
+		ClientException error = null;
+
+		// Copy each file.
+		try {
+
+			// Schedule each file.
+			for (final Iterator<FileRef> iterator = files.iterator(); iterator.hasNext();) {
+
+				// Get one file to copy.
+				final FileRef resource = iterator.next();
+
+				// Copy the file.
+				results.add(executor.submit(new Callable<Boolean>() {
+					public Boolean call() throws ClientException {
+
+						// Skip the file if the operation must stop.
+						if (stop.get()) {
+							return null;
+						}
+
+						// Get target path.
+						final String targetPath = toTargetPath(resource, basePath, targetB);
+
+						// Copy file.
+						try {
+							if (copy(resource, optionsA, clientB, targetPath, optionsB)) {
+
+								// Log the progress.
+								getScopeFacade().debug("WAREWORK copied file " + progress.incrementAndGet() + " of "
+										+ files.size() + " from '" + resource.getPath() + "' in File Client '"
+										+ resource.getClientName() + "' of Service '" + getName() + "' to '"
+										+ targetPath + "' in File Client '" + clientB.getName() + "'.");
+
+								// File copied.
+								return Boolean.TRUE;
+
+							} else {
+
+								// Stop if the operation should not continue.
+								if (!continueOnFailure) {
+									stop.set(true);
+								}
+
+								// File not copied.
+								return Boolean.FALSE;
+
+							}
+						} catch (final ClientException e) {
+							stop.set(true);
+							throw e;
+						} catch (final RuntimeException e) {
+							stop.set(true);
+							throw new ClientException(getScopeFacade(),
+									"WAREWORK cannot copy '" + resource.getPath() + "' from File Client '"
+											+ resource.getClientName() + "' of Service '" + getName() + "' to '"
+											+ targetPath + "' in File Client '" + clientB.getName()
+											+ "' because the following exception is thrown: " + e.getMessage(),
+									e, LogServiceConstants.LOG_LEVEL_WARN);
+						}
+
+					}
+				}));
+
+			}
+
+			// Do not accept more files.
+			executor.shutdown();
+
+			// Collect the result of each file in this thread.
+			for (final Iterator<Future<Boolean>> iterator = results.iterator(); iterator.hasNext();) {
+				try {
+
+					// Wait for the file.
+					final Boolean result = iterator.next().get();
+
+					// Count the file.
+					if (Boolean.TRUE.equals(result)) {
+						copied = copied + 1;
+					} else if (Boolean.FALSE.equals(result)) {
+						success = false;
+					}
+
+				} catch (final ExecutionException e) {
+
+					// Keep the first exception.
+					if (error == null) {
+						if (e.getCause() instanceof ClientException) {
+							error = (ClientException) e.getCause();
+						} else {
+							error = new ClientException(getScopeFacade(), "WAREWORK cannot copy '" + basePath + "' to '"
+									+ targetB + "' in File Client '" + clientB.getName() + "' at Service '" + getName()
+									+ "' because the following exception is thrown: " + e.getCause(), e.getCause(),
+									LogServiceConstants.LOG_LEVEL_WARN);
+						}
+					}
+
+				}
+			}
+
+		} catch (final InterruptedException e) {
+
+			// Stop copying files.
+			executor.shutdownNow();
+
+			// Keep the interrupted status.
+			Thread.currentThread().interrupt();
+
+			// Notify the error.
+			throw new ClientException(getScopeFacade(),
+					"WAREWORK cannot copy '" + basePath + "' to '" + targetB + "' in File Client '" + clientB.getName()
+							+ "' at Service '" + getName() + "' because the thread was interrupted.",
+					e, LogServiceConstants.LOG_LEVEL_WARN);
+
+		}
+
+		// Set files copied.
+		response[FileServiceConstants.RESPONSE_INDEX_FILES_COPIED] = copied;
+
+		// Throw the first exception found.
+		if (error != null) {
+			throw error;
+		}
+
+		// Return operation result.
+		return success;
+
+	}
+
+	/**
+	 * Lists the top resources of a directory. When resources are sorted, only the
+	 * top resources are kept in memory while the directory is iterated; otherwise
+	 * the iteration stops once enough resources are found.
+	 * 
+	 * @param client     File Client where to list the resources.<br>
+	 *                   <br>
+	 * @param path       Where to list the resources in the file storage.<br>
+	 *                   <br>
+	 * @param options    Options to list the files in the Client.<br>
+	 *                   <br>
+	 * @param orderBy    Criteria to sort the resources.<br>
+	 *                   <br>
+	 * @param maxResults Maximum number of resources to return.<br>
+	 *                   <br>
+	 * @return Top resources found, not sorted.<br>
+	 *         <br>
+	 * @throws ClientException If there is an error when trying to list the
+	 *                         resources.<br>
+	 *                         <br>
+	 */
+	private static List<FileRef> listTop(final FileClientFacade client, final String path,
+			final Map<String, Object> options, final String[] orderBy, final int maxResults) throws ClientException {
+
+		// Flag to know if resources are sorted.
+		final boolean sorted = ((orderBy != null) && (orderBy.length > 0));
+
+		// Top resources found. The head of the queue is the last resource of the
+		// top, so it is the first one to discard.
+		final PriorityQueue<FileRef> top = new PriorityQueue<FileRef>(Math.min(maxResults, 1024),
+				Collections.reverseOrder());
+
+		// Resources found when they are not sorted.
+		final List<FileRef> result = new ArrayList<FileRef>();
+
+		// Iterate the resources.
+		final FileRefIterator iterator = client.iterate(path, options, orderBy);
+		try {
+			while (iterator.hasNext()) {
+
+				// Get one resource.
+				final FileRef resource = iterator.next();
+
+				// Keep the resource when required.
+				if (!sorted) {
+
+					// Keep the first resources found.
+					result.add(resource);
+
+					// Stop when enough resources are found.
+					if (result.size() >= maxResults) {
+						break;
+					}
+
+				} else if (top.size() < maxResults) {
+					top.add(resource);
+				} else if (resource.compareTo(top.peek()) < 0) {
+					top.poll();
+					top.add(resource);
+				}
+
+			}
+		} finally {
+			iterator.close();
+		}
+
+		// Return the top resources.
+		result.addAll(top);
+		return result;
+
+	}
+
+	/**
+	 * Creates the path where to copy a file or directory in the target Client.
+	 * 
+	 * @param resource File or directory to copy.<br>
+	 *                 <br>
+	 * @param basePath Path of the source directory.<br>
+	 *                 <br>
+	 * @param targetB  Where to copy the source directory in the target File
+	 *                 Client.<br>
+	 *                 <br>
+	 * @return Target path.<br>
+	 *         <br>
+	 */
+	private static String toTargetPath(final FileRef resource, final String basePath, final String targetB) {
+
+		// Get source file or directory path.
+		final String sourcePath = resource.getPath();
+
+		// Create target path where to copy the file or directory.
+		return targetB + sourcePath.substring(basePath.length(), sourcePath.length());
+
+	}
+
 	// ///////////////////////////////////////////////////////////////////
 
 	/**
@@ -1661,6 +2162,70 @@ public final class FileServiceImpl extends AbstractProxyService implements FileS
 		return validateBoolean(options, AbstractFileClient.OPERATION_OPTION_CONTINUE_ON_FAILURE);
 	}
 
+	/**
+	 * Gets how many files can be copied at the same time.
+	 * 
+	 * @param options Operation options.<br>
+	 *                <br>
+	 * @return Number of files to copy in parallel. It is <code>1</code> when the
+	 *         option is not provided or it is not a valid number.<br>
+	 *         <br>
+	 */
+	private int parallelism(final Map<String, Object> options) {
+
+		// Get the value of the option.
+		final Object option = (options == null) ? null : options.get(AbstractFileClient.OPERATION_OPTION_PARALLELISM);
+
+		// Return the value of the option.
+		if (option instanceof Number) {
+			return ((Number) option).intValue();
+		} else if (option instanceof String) {
+			try {
+				return Integer.parseInt(((String) option).trim());
+			} catch (final NumberFormatException e) {
+				getScopeFacade().warn("WAREWORK cannot copy files in parallel at Service '" + getName()
+						+ "' because given '" + AbstractFileClient.OPERATION_OPTION_PARALLELISM
+						+ "' option is not a valid number. Files will be copied one after another.");
+			}
+		}
+
+		// At this point, files are copied one after another.
+		return 1;
+
+	}
+
+	/**
+	 * Gets the maximum number of resources to list.
+	 * 
+	 * @param options Operation options.<br>
+	 *                <br>
+	 * @return Maximum number of resources or <code>-1</code> when the option is
+	 *         not provided or it is not a valid number.<br>
+	 *         <br>
+	 */
+	private int maxResults(final Map<String, Object> options) {
+
+		// Get the value of the option.
+		final Object option = (options == null) ? null : options.get(AbstractFileClient.OPERATION_OPTION_MAX_RESULTS);
+
+		// Return the value of the option.
+		if (option instanceof Number) {
+			return ((Number) option).intValue();
+		} else if (option instanceof String) {
+			try {
+				return Integer.parseInt(((String) option).trim());
+			} catch (final NumberFormatException e) {
+				getScopeFacade().warn("WAREWORK cannot limit the resources to list at Service '" + getName()
+						+ "' because given '" + AbstractFileClient.OPERATION_OPTION_MAX_RESULTS
+						+ "' option is not a valid number. Every resource will be listed.");
+			}
+		}
+
+		// At this point, every resource is listed.
+		return -1;
+
+	}
+
 	/**
 	 * Validates a boolean operation option.
 	 * 
@@ -16,6 +16,7 @@ import com.warework.core.service.client.ClientException;
 import com.warework.core.util.CommonValueL1Constants;
 import com.warework.core.util.io.LengthInputStream;
 import com.warework.service.file.FileRef;
+import com.warework.service.file.FileRefIterator;
 import com.warework.service.file.FileServiceConstants;
 import com.warework.service.file.client.connector.AbstractFileClientConnector;
 import com.warework.service.log.LogServiceConstants;
@@ -65,6 +66,27 @@ public abstract class AbstractFileClient extends AbstractClient implements FileC
 	 */
 	public static final String OPERATION_OPTION_CONTINUE_ON_FAILURE = "continue-on-failure";
 
+	/**
+	 * Operation parameter that specifies how many bytes can be written in the
+	 * target stream before it is flushed while the content of a file is copied.
+	 * By default, target streams are flushed only once the whole file is
+	 * copied.<br>
+	 * <br>
+	 * This option must be a string or a number value with the number of bytes.
+	 */
+	public static final String OPERATION_OPTION_FLUSH_SIZE = "flush-size";
+
+	/**
+	 * Operation parameter that specifies how many milliseconds can pass before
+	 * the target stream is flushed while the content of a file is copied. By
+	 * default, target streams are flushed only once the whole file is
+	 * copied.<br>
+	 * <br>
+	 * This option must be a string or a number value with the number of
+	 * milliseconds.
+	 */
+	public static final String OPERATION_OPTION_FLUSH_INTERVAL = "flush-interval";
+
 	/**
 	 * Operation parameter that specifies if files and directories that exist in a
 	 * directory should be processed recursively.<br>
@@ -84,6 +106,42 @@ public abstract class AbstractFileClient extends AbstractClient implements FileC
 	 */
 	public static final String OPERATION_OPTION_REVERSE_TREE = "reverse-tree";
 
+	/**
+	 * Operation parameter that specifies how many files can be copied at the same
+	 * time when a directory tree is copied. Directories are always created before
+	 * their files. Use it only with File Clients that support concurrent
+	 * operations.<br>
+	 * <br>
+	 * This option must be a string or an integer value with the number of files
+	 * to copy in parallel. By default it is <code>1</code> (files are copied one
+	 * after another).
+	 */
+	public static final String OPERATION_OPTION_PARALLELISM = "parallelism";
+
+	/**
+	 * Operation parameter that specifies how many resources are retrieved at once
+	 * from the file storage when the resources of a directory are iterated. Each
+	 * File Client uses it as a hint for the size of its pages, so memory used to
+	 * iterate a directory does not depend on the number of resources it has.<br>
+	 * <br>
+	 * This option must be a string or an integer value with the number of
+	 * resources. If it is not provided then it defaults to
+	 * <code>AbstractFileClient.DEFAULT_PAGE_SIZE</code>.
+	 */
+	public static final String OPERATION_OPTION_PAGE_SIZE = "page-size";
+
+	/**
+	 * Operation parameter that specifies the maximum number of resources to
+	 * return when a directory is listed. When resources are sorted, only the top
+	 * resources are kept in memory while the directory is read, so the first
+	 * resources of a big directory can be retrieved without loading the whole
+	 * directory.<br>
+	 * <br>
+	 * This option must be a string or an integer value with the number of
+	 * resources. By default, every resource is returned.
+	 */
+	public static final String OPERATION_OPTION_MAX_RESULTS = "max-results";
+
 	// CLIENT INFO
 
 	/**
@@ -112,9 +170,25 @@ public abstract class AbstractFileClient extends AbstractClient implements FileC
 	// SHARED CONSTANTS
 
 	/**
-	 * Default buffer size in bytes: 8 KB.
+	 * Default buffer size in bytes: 64 KB.
 	 */
-	public static final int DEFAULT_BUFFER_SIZE = CommonValueL1Constants.DEFAULT_BUFFER_SIZE;
+	public static final int DEFAULT_BUFFER_SIZE = 1024 * 64;
+
+	/**
+	 * Default number of resources to retrieve at once when a directory is
+	 * iterated: 1000.
+	 */
+	public static final int DEFAULT_PAGE_SIZE = 1000;
+
+	// Maximum size of the buffers kept for each thread: 1 MB.
+	private static final int MAX_REUSABLE_BUFFER_SIZE = 1024 * 1024;
+
+	// ///////////////////////////////////////////////////////////////////
+	// ATTRIBUTES
+	// ///////////////////////////////////////////////////////////////////
+
+	// Buffer reused by each thread to copy streams.
+	private static final ThreadLocal<byte[]> BUFFER = new ThreadLocal<byte[]>();
 
 	// ///////////////////////////////////////////////////////////////////
 	// ABSTRACT METHODS
@@ -213,7 +287,7 @@ public abstract class AbstractFileClient extends AbstractClient implements FileC
 				stream = new BufferedInputStream(stream);
 
 				// Copy source stream bytes into target output stream.
-				copy(stream, target, getBufferSize(options), true);
+				copy(stream, target, options);
 
 				// Log a message.
 				getScopeFacade().info("WAREWORK successfully loaded file or directory '" + source + "' in File Client '"
@@ -399,6 +473,52 @@ public abstract class AbstractFileClient extends AbstractClient implements FileC
 
 	}
 
+	/**
+	 * Iterates resources (files and directories) in a specific path. This
+	 * implementation lists every resource with <code>list</code> and returns them
+	 * one by one. File Clients that can retrieve the resources in pages should
+	 * override this method.
+	 * 
+	 * @param path    Where to list the resources in the file storage.<br>
+	 *                <br>
+	 * @param options Options to list the files in the Client. Check out the
+	 *                underlying File Client to review which options it may accept.
+	 *                This argument is not mandatory.<br>
+	 *                <br>
+	 * @param orderBy Criteria used to compare the resources returned. Use any of
+	 *                the <code>FileServiceConstants.ORDER_BY_xyz</code> constants.
+	 *                This argument is not mandatory.<br>
+	 *                <br>
+	 * @return Iterator of the resources found.<br>
+	 *         <br>
+	 * @throws ClientException If there is an error when trying to list the
+	 *                         resources.<br>
+	 *                         <br>
+	 */
+	public FileRefIterator iterate(final String path, final Map<String, Object> options, final String[] orderBy)
+			throws ClientException {
+
+		// Get the resources.
+		final List<FileRef> resources = list(path, options, orderBy);
+
+		// Iterate the resources found.
+		final Iterator<FileRef> iterator = (resources == null) ? null : resources.iterator();
+
+		// Return the resources one by one.
+		return new AbstractFileRefIterator() {
+
+			protected FileRef fetch() {
+				return ((iterator != null) && (iterator.hasNext())) ? iterator.next() : null;
+			}
+
+			protected void release() {
+				// DO NOTHING.
+			}
+
+		};
+
+	}
+
 	/**
 	 * Gets a resource (file or directory) reference.
 	 * 
@@ -630,6 +750,33 @@ public abstract class AbstractFileClient extends AbstractClient implements FileC
 
 	// ///////////////////////////////////////////////////////////////////
 
+	/**
+	 * Copies the content of an input stream into an output stream. Options define
+	 * the size of the buffer and when the output stream is flushed. The output
+	 * stream is always flushed once every byte is copied.
+	 * 
+	 * @param source  Input stream where to read the bytes.<br>
+	 *                <br>
+	 * @param target  Output stream where to write the bytes.<br>
+	 *                <br>
+	 * @param options Operation options. This argument is not mandatory.<br>
+	 *                <br>
+	 * @throws IOException If there is an error when trying to copy the data from
+	 *                     the input stream to the output stream.<br>
+	 *                     <br>
+	 */
+	protected final void copy(final InputStream source, final OutputStream target, final Map<String, Object> options)
+			throws IOException {
+
+		// Copy source stream bytes into target output stream.
+		copy(source, target, getBufferSize(options), getLong(options, OPERATION_OPTION_FLUSH_SIZE),
+				getLong(options, OPERATION_OPTION_FLUSH_INTERVAL));
+
+		// Flush data.
+		target.flush();
+
+	}
+
 	/**
 	 * Copies the content of an input stream into an output stream.
 	 * 
@@ -639,8 +786,8 @@ public abstract class AbstractFileClient extends AbstractClient implements FileC
 	 *                   <br>
 	 * @param bufferSize Size of the temporary buffer.<br>
 	 *                   <br>
-	 * @param flush      Provide <code>true</code> to automatically flush the
-	 *                   buffer.<br>
+	 * @param flush      Provide <code>true</code> to flush the output stream once
+	 *                   every byte is copied.<br>
 	 *                   <br>
 	 * @throws IOException If there is an error when trying to copy the data from
 	 *                     the input stream to the output stream.<br>
@@ -649,8 +796,50 @@ public abstract class AbstractFileClient extends AbstractClient implements FileC
 	protected final void copy(final InputStream source, final OutputStream target, final int bufferSize,
 			final boolean flush) throws IOException {
 
-		// Create a new buffer to read the bytes from the source stream.
-		final byte[] buffer = new byte[bufferSize];
+		// Copy source stream bytes into target output stream.
+		copy(source, target, bufferSize, -1, -1);
+
+		// Flush data.
+		if (flush) {
+			target.flush();
+		}
+
+	}
+
+	/**
+	 * Copies the content of an input stream into an output stream. The output
+	 * stream is flushed when the number of bytes or the time passed since the
+	 * last flush reaches the given thresholds.
+	 * 
+	 * @param source        Input stream where to read the bytes.<br>
+	 *                      <br>
+	 * @param target        Output stream where to write the bytes.<br>
+	 *                      <br>
+	 * @param bufferSize    Size of the temporary buffer.<br>
+	 *                      <br>
+	 * @param flushSize     Number of bytes to write before the output stream is
+	 *                      flushed. Provide <code>-1</code> to ignore this
+	 *                      threshold.<br>
+	 *                      <br>
+	 * @param flushInterval Milliseconds to wait before the output stream is
+	 *                      flushed. Provide <code>-1</code> to ignore this
+	 *                      threshold.<br>
+	 *                      <br>
+	 * @throws IOException If there is an error when trying to copy the data from
+	 *                     the input stream to the output stream.<br>
+	 *                     <br>
+	 */
+	protected final void copy(final InputStream source, final OutputStream target, final int bufferSize,
+			final long flushSize, final long flushInterval) throws IOException {
+
+		// Get a buffer to read the bytes from the source stream.
+		final byte[] buffer = getBuffer(bufferSize);
+
+		// Bytes written since the last flush.
+		long pending = 0;
+
+		// Time of the last flush.
+		long lastFlush = (flushInterval > 0) ? System.currentTimeMillis() : 0;
 
 		// Copy source stream bytes into target output stream.
 		int bytesRead;
@@ -659,9 +848,30 @@ public abstract class AbstractFileClient extends AbstractClient implements FileC
 			// Write buffer.
 			target.write(buffer, 0, bytesRead);
 
-			// Flush data.
-			if (flush) {
+			// Count bytes written.
+			pending = pending + bytesRead;
+
+			// Flush data when a threshold is reached.
+			if ((flushSize > 0) && (pending >= flushSize)) {
+
+				// Flush data.
+				target.flush();
+
+				// Reset thresholds.
+				pending = 0;
+				if (flushInterval > 0) {
+					lastFlush = System.currentTimeMillis();
+				}
+
+			} else if ((flushInterval > 0) && (System.currentTimeMillis() - lastFlush >= flushInterval)) {
+
+				// Flush data.
 				target.flush();
+
+				// Reset thresholds.
+				pending = 0;
+				lastFlush = System.currentTimeMillis();
+
 			}
 
 		}
@@ -707,6 +917,24 @@ public abstract class AbstractFileClient extends AbstractClient implements FileC
 
 	}
 
+	/**
+	 * Gets how many resources to retrieve at once when a directory is iterated.
+	 * 
+	 * @param options Operation options. This argument is not mandatory.<br>
+	 *                <br>
+	 * @return Number of resources for each page.<br>
+	 *         <br>
+	 */
+	protected final int getPageSize(final Map<String, Object> options) {
+
+		// Get the size of the page.
+		final long pageSize = getLong(options, OPERATION_OPTION_PAGE_SIZE);
+
+		// Return the size of the page.
+		return ((pageSize > 0) && (pageSize <= Integer.MAX_VALUE)) ? (int) pageSize : DEFAULT_PAGE_SIZE;
+
+	}
+
 	// ///////////////////////////////////////////////////////////////////
 
 	/**
@@ -736,6 +964,13 @@ public abstract class AbstractFileClient extends AbstractClient implements FileC
 
 			}
 
+			// Validate flush options.
+			validateNumber(options, OPERATION_OPTION_FLUSH_SIZE);
+			validateNumber(options, OPERATION_OPTION_FLUSH_INTERVAL);
+
+			// Validate list options.
+			validateNumber(options, OPERATION_OPTION_PAGE_SIZE);
+
 		}
 	}
 
@@ -775,4 +1010,103 @@ public abstract class AbstractFileClient extends AbstractClient implements FileC
 
 	}
 
+	// ///////////////////////////////////////////////////////////////////
+	// PRIVATE METHODS
+	// ///////////////////////////////////////////////////////////////////
+
+	/**
+	 * Gets a buffer to copy streams. Buffers are reused by each thread unless they
+	 * are too big.
+	 * 
+	 * @param bufferSize Size of the buffer.<br>
+	 *                   <br>
+	 * @return Buffer.<br>
+	 *         <br>
+	 */
+	private static byte[] getBuffer(final int bufferSize) {
+
+		// Big buffers are not kept in memory.
+		if (bufferSize > MAX_REUSABLE_BUFFER_SIZE) {
+			return new byte[bufferSize];
+		}
+
+		// Get the buffer of this thread.
+		byte[] buffer = BUFFER.get();
+
+		// Create the buffer when required.
+		if ((buffer == null) || (buffer.length != bufferSize)) {
+
+			// Create the buffer.
+			buffer = new byte[bufferSize];
+
+			// Keep it for next copies.
+			BUFFER.set(buffer);
+
+		}
+
+		// Return the buffer.
+		return buffer;
+
+	}
+
+	/**
+	 * Gets the value of a numeric option.
+	 * 
+	 * @param options    Operation options. This argument is not mandatory.<br>
+	 *                   <br>
+	 * @param optionName Name of the option.<br>
+	 *                   <br>
+	 * @return Value of the option or <code>-1</code> if it is not provided or it
+	 *         is not a valid number.<br>
+	 *         <br>
+	 */
+	private static long getLong(final Map<String, Object> options, final String optionName) {
+
+		// Get the value of the option.
+		final Object optionValue = (options == null) ? null : options.get(optionName);
+
+		// Return the value of the option.
+		if (optionValue instanceof Number) {
+			return ((Number) optionValue).longValue();
+		} else if (optionValue instanceof String) {
+			try {
+				return Long.parseLong((String) optionValue);
+			} catch (final NumberFormatException e) {
+				return -1;
+			}
+		} else {
+			return -1;
+		}
+
+	}
+
+	/**
+	 * Validates that an option is a number or a string value.
+	 * 
+	 * @param options    Options to validate.<br>
+	 *                   <br>
+	 * @param optionName Name of the option to validate.<br>
+	 *                   <br>
+	 * @throws ClientException If operation option is not a number or a string
+	 *                         value.<br>
+	 *                         <br>
+	 */
+	private void validateNumber(final Map<String, Object> options, final String optionName) throws ClientException {
+		if (options.containsKey(optionName)) {
+
+			// Get the value of the option.
+			final Object optionValue = options.get(optionName);
+
+			// Validate option value.
+			if (!(optionValue instanceof String) && !(optionValue instanceof Number)) {
+				throw new ClientException(getScopeFacade(),
+						"WAREWORK cannot perform the operation with File Client '" + getName() + "' at Service '"
+								+ getService().getName() + "' because given '" + optionName
+								+ "' option is not a number or a string value.",
+						null, LogServiceConstants.LOG_LEVEL_WARN);
+			}
+
+		}
+	}
+
 }
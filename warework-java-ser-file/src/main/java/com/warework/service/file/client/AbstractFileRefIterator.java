@@ -0,0 +1,141 @@
+package com.warework.service.file.client;
+
+import java.util.NoSuchElementException;
+
+import com.warework.core.service.client.ClientException;
+import com.warework.service.file.FileRef;
+import com.warework.service.file.FileRefIterator;
+
+/**
+ * Common operations for iterators of resources. Subclasses only have to
+ * retrieve the resources one by one from the file storage and release the
+ * connection when the iteration finishes. The iterator is closed automatically
+ * once every resource is returned or when the file storage reports an error.
+ *
+ * @author Jose Schiaffino
+ * @version ${project.version}
+ */
+public abstract class AbstractFileRefIterator implements FileRefIterator {
+
+	// ///////////////////////////////////////////////////////////////////
+	// ATTRIBUTES
+	// ///////////////////////////////////////////////////////////////////
+
+	// Next resource to return.
+	private FileRef next;
+
+	// Flag that indicates that the iterator is closed.
+	private boolean closed;
+
+	// ///////////////////////////////////////////////////////////////////
+	// ABSTRACT METHODS
+	// ///////////////////////////////////////////////////////////////////
+
+	/**
+	 * Retrieves the next resource from the file storage.
+	 *
+	 * @return Next file or directory or <code>null</code> if there are no more
+	 *         resources.<br>
+	 *         <br>
+	 * @throws ClientException If there is an error when trying to retrieve the
+	 *                         resource.<br>
+	 *                         <br>
+	 */
+	protected abstract FileRef fetch() throws ClientException;
+
+	/**
+	 * Releases the resources used to list the files.
+	 *
+	 * @throws ClientException If there is an error when trying to release the
+	 *                         resources.<br>
+	 *                         <br>
+	 */
+	protected abstract void release() throws ClientException;
+
+	// ///////////////////////////////////////////////////////////////////
+	// PUBLIC METHODS
+	// ///////////////////////////////////////////////////////////////////
+
+	/**
+	 * Validates if there are more resources to iterate.
+	 *
+	 * @return <code>true</code> if there are more resources and <code>false</code>
+	 *         if every resource was already returned.<br>
+	 *         <br>
+	 * @throws ClientException If there is an error when trying to retrieve the
+	 *                         next resources from the file storage.<br>
+	 *                         <br>
+	 */
+	public final boolean hasNext() throws ClientException {
+
+		// Retrieve the next resource when required.
+		if ((next == null) && (!closed)) {
+
+			// Flag to know if the resource was retrieved.
+			boolean success = false;
+
+			// Retrieve the resource.
+			try {
+				next = fetch();
+				success = true;
+			} finally {
+				if ((!success) || (next == null)) {
+					close();
+				}
+			}
+
+		}
+
+		// Validate if there is a resource to return.
+		return (next != null);
+
+	}
+
+	/**
+	 * Gets the next resource.
+	 *
+	 * @return Next file or directory.<br>
+	 *         <br>
+	 * @throws ClientException If there is an error when trying to retrieve the
+	 *                         next resources from the file storage.<br>
+	 *                         <br>
+	 */
+	public final FileRef next() throws ClientException {
+
+		// Validate there are more resources.
+		if (!hasNext()) {
+			throw new NoSuchElementException();
+		}
+
+		// Get the resource.
+		final FileRef resource = next;
+
+		// Retrieve a new resource in the next call.
+		next = null;
+
+		// Return the resource.
+		return resource;
+
+	}
+
+	/**
+	 * Stops the iteration and releases the resources used to list the files.
+	 *
+	 * @throws ClientException If there is an error when trying to release the
+	 *                         resources.<br>
+	 *                         <br>
+	 */
+	public final void close() throws ClientException {
+		if (!closed) {
+
+			// Flag the iterator as closed.
+			closed = true;
+			next = null;
+
+			// Release the resources.
+			release();
+
+		}
+	}
+
+}
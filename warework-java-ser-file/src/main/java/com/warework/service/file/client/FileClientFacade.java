@@ -9,6 +9,7 @@ import java.util.Map;
 import com.warework.core.service.client.ClientException;
 import com.warework.core.service.client.ClientFacade;
 import com.warework.service.file.FileRef;
+import com.warework.service.file.FileRefIterator;
 
 /**
  * Performs File operations.
@@ -176,6 +177,32 @@ public interface FileClientFacade extends ClientFacade {
 	List<FileRef> list(final String path, final Map<String, Object> options, final String[] orderBy)
 			throws ClientException;
 
+	/**
+	 * Iterates resources (files and directories) in a specific path. Resources
+	 * are retrieved from the file storage as the iterator requests them, so this
+	 * method is preferred over <code>list</code> for directories with many
+	 * resources. Resources are not sorted.
+	 * 
+	 * @param path    Where to list the resources in the file storage.<br>
+	 *                <br>
+	 * @param options Options to list the files in the Client. Check out the
+	 *                underlying File Client to review which options it may accept.
+	 *                This argument is not mandatory.<br>
+	 *                <br>
+	 * @param orderBy Criteria used to compare the resources returned. Use any of
+	 *                the <code>FileServiceConstants.ORDER_BY_xyz</code> constants.
+	 *                This argument is not mandatory.<br>
+	 *                <br>
+	 * @return Iterator of the resources found. It must be closed once the
+	 *         resources are processed.<br>
+	 *         <br>
+	 * @throws ClientException If there is an error when trying to list the
+	 *                         resources.<br>
+	 *                         <br>
+	 */
+	FileRefIterator iterate(final String path, final Map<String, Object> options, final String[] orderBy)
+			throws ClientException;
+
 	/**
 	 * Gets a resource (file or directory) reference.
 	 * 
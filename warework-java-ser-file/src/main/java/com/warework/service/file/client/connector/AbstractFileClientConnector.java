@@ -91,4 +91,48 @@ public abstract class AbstractFileClientConnector extends AbstractConnector {
 
 	}
 
+	// ///////////////////////////////////////////////////////////////////
+
+	/**
+	 * Validates that an initialization parameter, when it exists, is an integer
+	 * greater than zero.
+	 * 
+	 * @param parameterName Name of the initialization parameter.<br>
+	 *                      <br>
+	 * @throws ConnectorException If the parameter is not a String or an Integer
+	 *                            object with a value greater than zero.<br>
+	 *                            <br>
+	 */
+	protected final void validatePositiveInteger(final String parameterName) throws ConnectorException {
+
+		// Get the value of the parameter.
+		final Object value = getInitParameter(parameterName);
+
+		// Validate the parameter.
+		if (value != null) {
+
+			// Validate type and values of the parameter.
+			if (!(value instanceof String) && !(value instanceof Integer)) {
+				throw new ConnectorException(getScopeFacade(),
+						"WAREWORK cannot initialize File Client '" + getClientName() + "' at Service '"
+								+ getService().getName() + "' because given '" + parameterName
+								+ "' connector parameter is not an '" + Integer.class.getName() + "' or a '"
+								+ String.class.getName() + "' value.",
+						null, LogServiceConstants.LOG_LEVEL_WARN);
+			}
+
+			// Validate range of values for the parameter.
+			final Integer paramValue = toInteger(parameterName);
+			if ((paramValue == null) || (paramValue.intValue() < 1)) {
+				throw new ConnectorException(getScopeFacade(),
+						"WAREWORK cannot initialize File Client '" + getClientName() + "' at Service '"
+								+ getService().getName() + "' because given '" + parameterName
+								+ "' connector parameter is not an integer value greater than 0.",
+						null, LogServiceConstants.LOG_LEVEL_WARN);
+			}
+
+		}
+
+	}
+
 }
@@ -15,6 +15,7 @@ import com.warework.core.service.client.connector.ConnectorFacade;
 import com.warework.core.util.helper.ResourceL1Helper;
 import com.warework.core.util.helper.StringL1Helper;
 import com.warework.service.file.FileRef;
+import com.warework.service.file.FileRefIterator;
 import com.warework.service.file.FileServiceConstants;
 import com.warework.service.file.FileServiceFacade;
 import com.warework.service.file.FileServiceImpl;
@@ -1648,9 +1649,264 @@ public abstract class AbstractSerFileTestCase extends AbstractTestCase {
 
 		}
 	}
+
+	/**
+	 * 
+	 */
+	public void testCopyRecursively2() {
+		try {
+
+			// Source directory.
+			final String dir1 = DIR_BASE;
+
+			// Target directory.
+			final String dir2 = "/DELETE-ME";
+
+			// Create Scope.
+			final ScopeFacade system = create(SCOPE_NAME);
+
+			// Log test unit.
+			system.info("·······················································");
+			system.info("T E S T: testCopyRecursively2");
+			system.info("·······················································");
+
+			/*
+			 * SETUP TEST
+			 */
+
+			// Get the File Service.
+			final FileServiceFacade service = (FileServiceFacade) system
+					.getService(FileServiceConstants.DEFAULT_SERVICE_NAME);
+
+			// Connect with File Client.
+			service.connect(CLIENT_NAME);
+
+			// Initialize workspace.
+			setup(service);
+
+			/*
+			 * EXECUTE TEST
+			 */
+
+			// Configure recursive copy.
+			final Map<String, Object> options = new HashMap<String, Object>();
+			{
+				options.put(AbstractFileClient.OPERATION_OPTION_PROCESS_RECURSIVELY, Boolean.TRUE);
+			}
+
+			// Configure parallel copy.
+			final Map<String, Object> targetOptions = new HashMap<String, Object>();
+			{
+				targetOptions.put(AbstractFileClient.OPERATION_OPTION_PARALLELISM, Integer.valueOf(4));
+			}
+
+			// Copy directory recursively in File Client.
+			final int[] response = service.copy(CLIENT_NAME, updatePath(dir1), options, CLIENT_NAME, updatePath(dir2),
+					targetOptions);
+
+			/*
+			 * VALIDATE
+			 */
+			if (service.allowsDirectories(CLIENT_NAME)) {
+				if ((response[FileServiceConstants.RESPONSE_INDEX_FILES_FOUND] == 0)
+						|| (response[FileServiceConstants.RESPONSE_INDEX_FILES_FOUND] != response[FileServiceConstants.RESPONSE_INDEX_FILES_COPIED])
+						|| (response[FileServiceConstants.RESPONSE_INDEX_DIRECTORIES_FOUND] != response[FileServiceConstants.RESPONSE_INDEX_DIRECTORIES_COPIED])) {
+					fail();
+				}
+			} else if (response[FileServiceConstants.RESPONSE_INDEX_FILES_FOUND] != response[FileServiceConstants.RESPONSE_INDEX_FILES_COPIED]) {
+				fail();
+			}
+
+			/*
+			 * FINALIZE
+			 */
+
+			// Shut down service.
+			service.disconnect(CLIENT_NAME);
+
+			// Log test message.
+			system.info("····· T E S T: SUCCESSFULLY FINALIZED");
+
+		} catch (final UnsupportedOperationServiceException e) {
+			get(SCOPE_NAME).info("····· T E S T: UNSUPPORTED OPERATION");
+		} catch (final Exception e) {
+
+			// Log error message.
+			if (get(SCOPE_NAME) != null) {
+				get(SCOPE_NAME).log("····· T E S T: CANNOT EXECUTE TEST AS EXCEPTION '" + e.getClass().getName()
+						+ "' WAS THROWN (" + e.getMessage() + ")", LogServiceConstants.LOG_LEVEL_FATAL);
+			}
+
+			// Stop test execution.
+			fail();
+
+		}
+	}
 	
 	// ///////////////////////////////////////////////////////////////////
 
+	/**
+	 * 
+	 */
+	public void testIterate1() {
+		try {
+
+			// Create Scope.
+			final ScopeFacade system = create(SCOPE_NAME);
+
+			// Log test unit.
+			system.info("·······················································");
+			system.info("T E S T: testIterate1");
+			system.info("·······················································");
+
+			/*
+			 * SETUP TEST
+			 */
+
+			// Get the File Service.
+			final FileServiceFacade service = (FileServiceFacade) system
+					.getService(FileServiceConstants.DEFAULT_SERVICE_NAME);
+
+			// Connect with File Client.
+			service.connect(CLIENT_NAME);
+
+			// Initialize workspace.
+			setup(service);
+
+			/*
+			 * EXECUTE TEST
+			 */
+
+			// Configure iterate operation.
+			final Map<String, Object> options = new HashMap<String, Object>();
+			{
+				options.put(AbstractFileClient.OPERATION_OPTION_PAGE_SIZE, 1);
+			}
+
+			// List resources.
+			final List<FileRef> resources = service.list(CLIENT_NAME, updatePath(DIR_BASE), null, null);
+
+			// Iterate resources.
+			final FileRefIterator iterator = service.iterate(CLIENT_NAME, updatePath(DIR_BASE), options);
+
+			// Count resources.
+			int count = 0;
+			try {
+				while (iterator.hasNext()) {
+					if (iterator.next() != null) {
+						count = count + 1;
+					}
+				}
+			} finally {
+				iterator.close();
+			}
+
+			/*
+			 * VALIDATE
+			 */
+			if ((resources.size() < 1) || (resources.size() != count)) {
+				fail();
+			}
+
+			/*
+			 * FINALIZE
+			 */
+
+			// Shut down service.
+			service.disconnect(CLIENT_NAME);
+
+			// Log test message.
+			system.info("····· T E S T: SUCCESSFULLY FINALIZED");
+
+		} catch (final UnsupportedOperationServiceException e) {
+			get(SCOPE_NAME).info("····· T E S T: UNSUPPORTED OPERATION");
+		} catch (final Exception e) {
+
+			// Log error message.
+			if (get(SCOPE_NAME) != null) {
+				get(SCOPE_NAME).log("····· T E S T: CANNOT EXECUTE TEST AS EXCEPTION '" + e.getClass().getName()
+						+ "' WAS THROWN (" + e.getMessage() + ")", LogServiceConstants.LOG_LEVEL_FATAL);
+			}
+
+			// Stop test execution.
+			fail();
+
+		}
+	}
+
+	/**
+	 * 
+	 */
+	public void testListTop1() {
+		try {
+
+			// Create Scope.
+			final ScopeFacade system = create(SCOPE_NAME);
+
+			// Log test unit.
+			system.info("·······················································");
+			system.info("T E S T: testListTop1");
+			system.info("·······················································");
+
+			/*
+			 * SETUP TEST
+			 */
+
+			// Get the File Service.
+			final FileServiceFacade service = (FileServiceFacade) system
+					.getService(FileServiceConstants.DEFAULT_SERVICE_NAME);
+
+			// Connect with File Client.
+			service.connect(CLIENT_NAME);
+
+			// Initialize workspace.
+			setup(service);
+
+			/*
+			 * EXECUTE TEST
+			 */
+
+			// List resources.
+			final List<FileRef> resources = service.listOrderByPath(CLIENT_NAME, updatePath(DIR_BASE), Boolean.TRUE);
+
+			// List the top resource.
+			final List<FileRef> top = service.listOrderByPath(CLIENT_NAME, updatePath(DIR_BASE), Boolean.TRUE, 1);
+
+			/*
+			 * VALIDATE
+			 */
+			if ((top.size() != 1) || (!top.get(0).getPath().equals(resources.get(0).getPath()))) {
+				fail();
+			}
+
+			/*
+			 * FINALIZE
+			 */
+
+			// Shut down service.
+			service.disconnect(CLIENT_NAME);
+
+			// Log test message.
+			system.info("····· T E S T: SUCCESSFULLY FINALIZED");
+
+		} catch (final UnsupportedOperationServiceException e) {
+			get(SCOPE_NAME).info("····· T E S T: UNSUPPORTED OPERATION");
+		} catch (final Exception e) {
+
+			// Log error message.
+			if (get(SCOPE_NAME) != null) {
+				get(SCOPE_NAME).log("····· T E S T: CANNOT EXECUTE TEST AS EXCEPTION '" + e.getClass().getName()
+						+ "' WAS THROWN (" + e.getMessage() + ")", LogServiceConstants.LOG_LEVEL_FATAL);
+			}
+
+			// Stop test execution.
+			fail();
+
+		}
+	}
+
+	// ///////////////////////////////////////////////////////////////////
+
 	/**
 	 * 
 	 */
@@ -1,7 +1,9 @@
 package com.warework.service.mail.client;
 
+import java.util.ArrayList;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
 
 import javax.mail.BodyPart;
 import javax.mail.Message;
@@ -9,6 +11,7 @@ import javax.mail.MessagingException;
 import javax.mail.Multipart;
 import javax.mail.Session;
 import javax.mail.Transport;
+import javax.mail.internet.AddressException;
 import javax.mail.internet.InternetAddress;
 import javax.mail.internet.MimeBodyPart;
 import javax.mail.internet.MimeMessage;
@@ -18,6 +21,8 @@ import com.warework.core.service.client.AbstractClient;
 import com.warework.core.service.client.ClientException;
 import com.warework.core.util.helper.StringL1Helper;
 import com.warework.service.log.LogServiceConstants;
+import com.warework.service.mail.MailResult;
+import com.warework.service.mail.MailTemplate;
 import com.warework.service.mail.client.connector.JavaMailSenderConnector;
 
 /**
@@ -132,105 +137,156 @@ public final class JavaMailSender extends AbstractClient implements MailClientFa
 				}
 			}
 
-			// Set the subject and the text for the message.
-			if ((charset != null) && (subtype != null)) {
+			// Set the content of the message.
+			setContent(mimeMessage, subject, message, attachments);
 
-				// Set the subject of the message.
-				mimeMessage.setSubject(subject, charset);
-
-				// Set the text for the message.
-				mimeMessage.setText(message, charset, subtype);
-
-			} else if (charset != null) {
+		} catch (final MessagingException e) {
+			throw new ClientException(getScopeFacade(),
+					"WAREWORK cannot send email with Client '" + getName() + "' in Service '" + getService().getName()
+							+ "' because the creation of the message reported the following error: " + e.getMessage(),
+					e, LogServiceConstants.LOG_LEVEL_WARN);
+		}
 
-				// Set the subject of the message.
-				mimeMessage.setSubject(subject, charset);
+		// Create the connection.
+		final Transport connection = (Transport) getConnection();
 
-				// Set the text for the message.
-				mimeMessage.setText(message, charset);
+		// Send the email.
+		try {
+			connection.sendMessage(mimeMessage, mimeMessage.getAllRecipients());
+		} catch (final Exception e) {
+			throw new ClientException(getScopeFacade(),
+					"WAREWORK cannot send an email with Client '" + getName() + "' in Service '"
+							+ getService().getName() + "' because the mail connection reported the following error: "
+							+ e.getMessage(),
+					e, LogServiceConstants.LOG_LEVEL_WARN);
+		}
 
-			} else {
+	}
 
-				// Set the subject of the message.
-				mimeMessage.setSubject(subject);
+	/**
+	 * Sends one email for each recipient. Every email is sent with the same
+	 * connection with the mail server, so the Client authenticates only once for
+	 * the whole batch. The sender and the attachments are validated once and the
+	 * templates are formatted with the values of each recipient. When the mail
+	 * server closes the connection in the middle of the batch, the Client connects
+	 * again and continues with the next email.
+	 * 
+	 * @param subject     Template with a brief summary of the topic of the
+	 *                    message.<br>
+	 *                    <br>
+	 * @param from        The email address of the sender.<br>
+	 *                    <br>
+	 * @param recipients  Map where the keys are the email addresses of the
+	 *                    recipients and the values the variables to replace in the
+	 *                    templates for each recipient (values can be
+	 *                    <code>null</code>). Emails are sent in the iteration
+	 *                    order of the map.<br>
+	 *                    <br>
+	 * @param attachments List with <code>javax.mail.BodyPart</code> objects where
+	 *                    each one specifies an attachment. The same attachments
+	 *                    are included in every email.<br>
+	 *                    <br>
+	 * @param message     Template with the content of the email message.<br>
+	 *                    <br>
+	 * @return Result of each email, in the same order as the recipients.<br>
+	 *         <br>
+	 * @throws ClientException If there are no recipients, the sender or the
+	 *                         attachments are not valid or the Client cannot
+	 *                         connect with the mail server.<br>
+	 *                         <br>
+	 */
+	public List<MailResult> send(final MailTemplate subject, final String from,
+			final Map<String, Map<String, Object>> recipients, final List<?> attachments, final MailTemplate message)
+			throws ClientException {
 
-				// Set the text for the message.
-				mimeMessage.setText(message);
+		// Validate the recipients.
+		if ((recipients == null) || (recipients.size() == 0)) {
+			throw new ClientException(getScopeFacade(),
+					"WAREWORK cannot send emails with Client '" + getName() + "' in Service '"
+							+ getService().getName() + "' because no recipients for the messages are defined.",
+					null, LogServiceConstants.LOG_LEVEL_WARN);
+		}
 
+		// Validate the attachments.
+		if (attachments != null) {
+			for (final Iterator<?> iterator = attachments.iterator(); iterator.hasNext();) {
+				if (!(iterator.next() instanceof BodyPart)) {
+					throw new ClientException(getScopeFacade(),
+							"WAREWORK cannot send emails with Client '" + getName() + "' in Service '"
+									+ getService().getName() + "' because given attachment is not a '"
+									+ BodyPart.class.getName() + "' class.",
+							null, LogServiceConstants.LOG_LEVEL_WARN);
+				}
 			}
+		}
 
-			// Create the message body part.
-			final MimeBodyPart messageBodyPart = new MimeBodyPart();
-
-			// Bind the MIME message as the content of the body part.
-			messageBodyPart.setContent(mimeMessage, type);
-
-			// Set the text for the body part.
-			if ((charset != null) && (subtype != null)) {
-				messageBodyPart.setText(message, charset, subtype);
-			} else if (charset != null) {
-				messageBodyPart.setText(message, charset);
-			} else {
-				messageBodyPart.setText(message);
+		// Parse the address of the sender once.
+		InternetAddress sender = null;
+		if (from != null) {
+			try {
+				sender = new InternetAddress(from);
+			} catch (final AddressException e) {
+				throw new ClientException(getScopeFacade(),
+						"WAREWORK cannot send emails with Client '" + getName() + "' in Service '"
+								+ getService().getName() + "' because the address of the sender is not valid: "
+								+ e.getMessage(),
+						e, LogServiceConstants.LOG_LEVEL_WARN);
 			}
+		}
 
-			// Add attachments.
-			if ((attachments != null) && (attachments.size() > 0)) {
+		// Connect with the mail server when required.
+		if (!isConnected()) {
+			connect();
+		}
+
+		// Get the mail session.
+		final Session session = (Session) getConnector().getConnectionSource();
 
-				// Create a multipart.
-				final Multipart multipart = new MimeMultipart();
+		// Create the list for the results.
+		final List<MailResult> results = new ArrayList<MailResult>(recipients.size());
 
-				// Bind the message body part.
-				multipart.addBodyPart(messageBodyPart);
+		// Send one email for each recipient.
+		for (final Iterator<Map.Entry<String, Map<String, Object>>> iterator = recipients.entrySet()
+				.iterator(); iterator.hasNext();) {
 
-				// Add attachments.
-				for (int i = 0; i < attachments.size(); i++) {
+			// Get one recipient.
+			final Map.Entry<String, Map<String, Object>> entry = iterator.next();
 
-					// Get an attachment;
-					final Object attachment = attachments.get(i);
+			// Create and send the email.
+			try {
 
-					// Add the attachment.
-					if (attachment instanceof BodyPart) {
-						multipart.addBodyPart((BodyPart) attachment);
-					} else {
-						throw new ClientException(getScopeFacade(),
-								"WAREWORK cannot send e-mail with Client '" + getName() + "' in Service '"
-										+ getService().getName() + "' because given attachment is not a '"
-										+ BodyPart.class.getName() + "' class.",
-								null, LogServiceConstants.LOG_LEVEL_WARN);
-					}
+				// Create the mail message.
+				final MimeMessage mimeMessage = new MimeMessage(session);
 
+				// FROM.
+				if (sender == null) {
+					mimeMessage.setFrom();
+				} else {
+					mimeMessage.setFrom(sender);
 				}
 
-				// Bind the multipart into the mime message.
-				mimeMessage.setContent(multipart);
+				// TO.
+				mimeMessage.setRecipient(Message.RecipientType.TO, new InternetAddress(entry.getKey()));
 
-			}
+				// Set the content of the message.
+				setContent(mimeMessage, subject.format(entry.getValue()), message.format(entry.getValue()),
+						attachments);
 
-			// Save the message.
-			mimeMessage.saveChanges();
+				// Send the email.
+				sendMessage(mimeMessage);
 
-		} catch (final MessagingException e) {
-			throw new ClientException(getScopeFacade(),
-					"WAREWORK cannot send email with Client '" + getName() + "' in Service '" + getService().getName()
-							+ "' because the creation of the message reported the following error: " + e.getMessage(),
-					e, LogServiceConstants.LOG_LEVEL_WARN);
-		}
+				// The email was sent.
+				results.add(new MailResult(entry.getKey(), null));
 
-		// Create the connection.
-		final Transport connection = (Transport) getConnection();
+			} catch (final Exception e) {
+				results.add(new MailResult(entry.getKey(), e));
+			}
 
-		// Send the email.
-		try {
-			connection.sendMessage(mimeMessage, mimeMessage.getAllRecipients());
-		} catch (final Exception e) {
-			throw new ClientException(getScopeFacade(),
-					"WAREWORK cannot send an email with Client '" + getName() + "' in Service '"
-							+ getService().getName() + "' because the mail connection reported the following error: "
-							+ e.getMessage(),
-					e, LogServiceConstants.LOG_LEVEL_WARN);
 		}
 
+		// Return the result of each email.
+		return results;
+
 	}
 
 	// ///////////////////////////////////////////////////////////////////
@@ -357,4 +413,139 @@ public final class JavaMailSender extends AbstractClient implements MailClientFa
 
 	}
 
+	// ///////////////////////////////////////////////////////////////////
+	// PRIVATE METHODS
+	// ///////////////////////////////////////////////////////////////////
+
+	/**
+	 * Sets the subject, the text and the attachments of a message.
+	 * 
+	 * @param mimeMessage Message to update.<br>
+	 *                    <br>
+	 * @param subject     A brief summary of the topic of the message.<br>
+	 *                    <br>
+	 * @param message     The content of the email message.<br>
+	 *                    <br>
+	 * @param attachments List with <code>javax.mail.BodyPart</code> objects where
+	 *                    each one specifies an attachment.<br>
+	 *                    <br>
+	 * @throws MessagingException If the message cannot be updated.<br>
+	 *                            <br>
+	 * @throws ClientException    If an attachment is not a
+	 *                            <code>javax.mail.BodyPart</code>.<br>
+	 *                            <br>
+	 */
+	private void setContent(final MimeMessage mimeMessage, final String subject, final String message,
+			final List<?> attachments) throws MessagingException, ClientException {
+
+		// Set the subject and the text for the message.
+		if ((charset != null) && (subtype != null)) {
+
+			// Set the subject of the message.
+			mimeMessage.setSubject(subject, charset);
+
+			// Set the text for the message.
+			mimeMessage.setText(message, charset, subtype);
+
+		} else if (charset != null) {
+
+			// Set the subject of the message.
+			mimeMessage.setSubject(subject, charset);
+
+			// Set the text for the message.
+			mimeMessage.setText(message, charset);
+
+		} else {
+
+			// Set the subject of the message.
+			mimeMessage.setSubject(subject);
+
+			// Set the text for the message.
+			mimeMessage.setText(message);
+
+		}
+
+		// Create the message body part.
+		final MimeBodyPart messageBodyPart = new MimeBodyPart();
+
+		// Bind the MIME message as the content of the body part.
+		messageBodyPart.setContent(mimeMessage, type);
+
+		// Set the text for the body part.
+		if ((charset != null) && (subtype != null)) {
+			messageBodyPart.setText(message, charset, subtype);
+		} else if (charset != null) {
+			messageBodyPart.setText(message, charset);
+		} else {
+			messageBodyPart.setText(message);
+		}
+
+		// Add attachments.
+		if ((attachments != null) && (attachments.size() > 0)) {
+
+			// Create a multipart.
+			final Multipart multipart = new MimeMultipart();
+
+			// Bind the message body part.
+			multipart.addBodyPart(messageBodyPart);
+
+			// Add attachments.
+			for (int i = 0; i < attachments.size(); i++) {
+
+				// Get an attachment;
+				final Object attachment = attachments.get(i);
+
+				// Add the attachment.
+				if (attachment instanceof BodyPart) {
+					multipart.addBodyPart((BodyPart) attachment);
+				} else {
+					throw new ClientException(getScopeFacade(),
+							"WAREWORK cannot send e-mail with Client '" + getName() + "' in Service '"
+									+ getService().getName() + "' because given attachment is not a '"
+									+ BodyPart.class.getName() + "' class.",
+							null, LogServiceConstants.LOG_LEVEL_WARN);
+				}
+
+			}
+
+			// Bind the multipart into the mime message.
+			mimeMessage.setContent(multipart);
+
+		}
+
+		// Save the message.
+		mimeMessage.saveChanges();
+
+	}
+
+	/**
+	 * Sends a message with the connection of the Client. When the mail server
+	 * closed the connection, the Client connects again and retries once.
+	 * 
+	 * @param mimeMessage Message to send.<br>
+	 *                    <br>
+	 * @throws ClientException    If the Client cannot connect again.<br>
+	 *                            <br>
+	 * @throws MessagingException If the message cannot be sent.<br>
+	 *                            <br>
+	 */
+	private void sendMessage(final MimeMessage mimeMessage) throws ClientException, MessagingException {
+		try {
+			((Transport) getConnection()).sendMessage(mimeMessage, mimeMessage.getAllRecipients());
+		} catch (final MessagingException e) {
+
+			// Notify the error when the connection is still open.
+			if (isConnected()) {
+				throw e;
+			}
+
+			// Connect again with the mail server.
+			connect();
+
+			// Retry with the new connection.
+			((Transport) getConnection()).sendMessage(mimeMessage, mimeMessage.getAllRecipients());
+
+		}
+	}
+
 }
@@ -6,6 +6,7 @@ import java.util.Map;
 import com.warework.core.model.Scope;
 import com.warework.service.mail.MailServiceConstants;
 import com.warework.service.mail.MailServiceImpl;
+import com.warework.service.mail.client.DummyMailServer;
 import com.warework.service.mail.client.connector.JavaMailSenderConnector;
 
 /**
@@ -29,6 +30,8 @@ public abstract class AbstractSerMailJavaMailTestCase extends AbstractTestCase {
 
 	protected static final String CLIENT_NAME_2 = "javamail-client-2";
 
+	protected static final String CLIENT_NAME_3 = "javamail-client-3";
+
 	// ///////////////////////////////////////////////////////////////////
 	// PROTECTED METHODS
 	// ///////////////////////////////////////////////////////////////////
@@ -93,4 +96,46 @@ public abstract class AbstractSerMailJavaMailTestCase extends AbstractTestCase {
 
 	}
 
+	/**
+	 * Creates a Scope in this context with a Mail Client that sends the emails to
+	 * an in-memory mail server.
+	 * 
+	 * @param name   Name of the Scope.<br>
+	 *               <br>
+	 * @param server Mail server where to send the emails.<br>
+	 *               <br>
+	 * @return A new instance of a Scope. If a Scope of the same name is already
+	 *         bound to the context, the existing Scope is returned.<br>
+	 *         <br>
+	 * @throws ScopeException If there is an error when trying to create the
+	 *                        Scope.<br>
+	 *                        <br>
+	 */
+	protected ScopeFacade create(final String name, final DummyMailServer server) throws ScopeException {
+
+		// Create the configuration of the system.
+		final Scope config = new Scope(name);
+
+		//
+		config.setInitParameter(ScopeL1Constants.PARAMETER_CONTEXT_LOADER, AbstractSerMailJavaMailTestCase.class);
+
+		//
+		config.setService(MailServiceConstants.DEFAULT_SERVICE_NAME, MailServiceImpl.class, null, null);
+
+		//
+		final Map<String, Object> params = new HashMap<String, Object>();
+		{
+			params.put(JavaMailSenderConnector.PARAMETER_MAIL_SOURCE, server.createSession());
+			params.put(JavaMailSenderConnector.PARAMETER_TRANSPORT_PROTOCOL, DummyMailServer.PROTOCOL);
+		}
+
+		//
+		config.setClient(MailServiceConstants.DEFAULT_SERVICE_NAME, CLIENT_NAME_3, JavaMailSenderConnector.class,
+				params);
+
+		// Create new Scope.
+		return create(config);
+
+	}
+
 }
@@ -0,0 +1,244 @@
+package com.warework.service.mail;
+
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.warework.core.scope.AbstractSerMailJavaMailTestCase;
+import com.warework.core.scope.ScopeFacade;
+import com.warework.core.service.ServiceException;
+import com.warework.service.mail.client.DummyMailServer;
+
+/**
+ * 
+ * 
+ * @author Jose Schiaffino
+ * @version ${project.version}
+ */
+public class MailServiceTest extends AbstractSerMailJavaMailTestCase {
+
+	// ///////////////////////////////////////////////////////////////////
+	// PUBLIC METHODS
+	// ///////////////////////////////////////////////////////////////////
+
+	/**
+	 * 
+	 */
+	public void testSendBulk1() {
+		try {
+
+			//
+			final DummyMailServer server = new DummyMailServer();
+
+			// Create the Scope.
+			final ScopeFacade system = create("test", server);
+
+			// Get the Mail Service.
+			final MailServiceImpl service = (MailServiceImpl) system
+					.getService(MailServiceConstants.DEFAULT_SERVICE_NAME);
+
+			//
+			final Map<String, Object> parameters = createParameters();
+
+			//
+			final List<?> results = (List<?>) service.execute(MailServiceConstants.OPERATION_NAME_SEND_BULK,
+					parameters);
+
+			//
+			service.disconnect(CLIENT_NAME_3);
+
+			//
+			if ((results.size() != 2) || (!((MailResult) results.get(0)).isSent())
+					|| (!((MailResult) results.get(1)).isSent()) || (server.getMessages().size() != 2)) {
+				fail();
+			}
+
+		} catch (final Exception e) {
+			fail();
+		}
+	}
+
+	/**
+	 * 
+	 */
+	public void testSendBulk2() {
+
+		//
+		final Map<String, Object> parameters = createParameters();
+		parameters.remove(MailServiceConstants.OPERATION_PARAMETER_CLIENT_NAME);
+
+		//
+		executeInvalid(parameters);
+
+	}
+
+	/**
+	 * 
+	 */
+	public void testSendBulk3() {
+
+		//
+		final Map<String, Object> parameters = createParameters();
+		parameters.put(MailServiceConstants.OPERATION_PARAMETER_SUBJECT, Integer.valueOf(1));
+
+		//
+		executeInvalid(parameters);
+
+	}
+
+	/**
+	 * 
+	 */
+	public void testSendBulk4() {
+
+		//
+		final Map<String, Object> parameters = createParameters();
+		parameters.put(MailServiceConstants.OPERATION_PARAMETER_FROM, Integer.valueOf(1));
+
+		//
+		executeInvalid(parameters);
+
+	}
+
+	/**
+	 * 
+	 */
+	public void testSendBulk5() {
+
+		//
+		final Map<String, Object> parameters = createParameters();
+		parameters.put(MailServiceConstants.OPERATION_PARAMETER_RECIPIENTS, "john@warework.com");
+
+		//
+		executeInvalid(parameters);
+
+	}
+
+	/**
+	 * 
+	 */
+	public void testSendBulk6() {
+
+		//
+		final Map<String, Object> parameters = createParameters();
+		parameters.put(MailServiceConstants.OPERATION_PARAMETER_ATTACHMENTS, "attachment");
+
+		//
+		executeInvalid(parameters);
+
+	}
+
+	/**
+	 * 
+	 */
+	public void testSendBulk7() {
+
+		//
+		final Map<String, Object> parameters = createParameters();
+		parameters.put(MailServiceConstants.OPERATION_PARAMETER_MESSAGE, Integer.valueOf(1));
+
+		//
+		executeInvalid(parameters);
+
+	}
+
+	/**
+	 * 
+	 */
+	public void testSendBulk8() {
+
+		//
+		final Map<String, Object> parameters = createParameters();
+		parameters.put(MailServiceConstants.OPERATION_PARAMETER_RECIPIENTS,
+				new HashMap<String, Map<String, Object>>());
+
+		//
+		executeInvalid(parameters);
+
+	}
+
+	// ///////////////////////////////////////////////////////////////////
+	// PRIVATE METHODS
+	// ///////////////////////////////////////////////////////////////////
+
+	/**
+	 * Creates valid parameters for the 'send-bulk' operation.
+	 * 
+	 * @return Parameters of the operation.<br>
+	 *         <br>
+	 */
+	private Map<String, Object> createParameters() {
+
+		//
+		final Map<String, Map<String, Object>> recipients = new LinkedHashMap<String, Map<String, Object>>();
+		{
+
+			//
+			final Map<String, Object> values1 = new HashMap<String, Object>();
+			values1.put("NAME", "John");
+			recipients.put("john@warework.com", values1);
+
+			//
+			final Map<String, Object> values2 = new HashMap<String, Object>();
+			values2.put("NAME", "Mary");
+			recipients.put("mary@warework.com", values2);
+
+		}
+
+		//
+		final Map<String, Object> parameters = new HashMap<String, Object>();
+		{
+			parameters.put(MailServiceConstants.OPERATION_PARAMETER_CLIENT_NAME, CLIENT_NAME_3);
+			parameters.put(MailServiceConstants.OPERATION_PARAMETER_SUBJECT, "Hello ${NAME}");
+			parameters.put(MailServiceConstants.OPERATION_PARAMETER_FROM, "sample1@warework.com");
+			parameters.put(MailServiceConstants.OPERATION_PARAMETER_RECIPIENTS, recipients);
+			parameters.put(MailServiceConstants.OPERATION_PARAMETER_MESSAGE, "Dear ${NAME}, welcome.");
+		}
+
+		//
+		return parameters;
+
+	}
+
+	/**
+	 * Executes the 'send-bulk' operation with invalid parameters.
+	 * 
+	 * @param parameters Parameters of the operation.<br>
+	 *                   <br>
+	 */
+	private void executeInvalid(final Map<String, Object> parameters) {
+
+		//
+		final DummyMailServer server = new DummyMailServer();
+
+		//
+		try {
+
+			// Create the Scope.
+			final ScopeFacade system = create("test", server);
+
+			// Get the Mail Service.
+			final MailServiceImpl service = (MailServiceImpl) system
+					.getService(MailServiceConstants.DEFAULT_SERVICE_NAME);
+
+			//
+			service.execute(MailServiceConstants.OPERATION_NAME_SEND_BULK, parameters);
+
+			//
+			fail();
+
+		} catch (final ServiceException e) {
+			// EXPECTED.
+		} catch (final Exception e) {
+			fail();
+		}
+
+		//
+		if (server.getMessages().size() > 0) {
+			fail();
+		}
+
+	}
+
+}
@@ -0,0 +1,99 @@
+package com.warework.service.mail;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import com.warework.core.scope.AbstractSerMailJavaMailTestCase;
+
+/**
+ * 
+ * 
+ * @author Jose Schiaffino
+ * @version ${project.version}
+ */
+public class MailTemplateTest extends AbstractSerMailJavaMailTestCase {
+
+	// ///////////////////////////////////////////////////////////////////
+	// PUBLIC METHODS
+	// ///////////////////////////////////////////////////////////////////
+
+	/**
+	 * 
+	 */
+	public void testFormat1() {
+
+		//
+		final MailTemplate template = new MailTemplate("Hello ${NAME}, your code is ${CODE}.");
+
+		//
+		final Map<String, Object> values = new HashMap<String, Object>();
+		{
+			values.put("NAME", "John");
+			values.put("CODE", Integer.valueOf(1234));
+		}
+
+		//
+		if (!template.format(values).equals("Hello John, your code is 1234.")) {
+			fail();
+		}
+
+		//
+		if ((!template.hasVariables()) || (!template.getTemplate().equals("Hello ${NAME}, your code is ${CODE}."))) {
+			fail();
+		}
+
+	}
+
+	/**
+	 * 
+	 */
+	public void testFormat2() {
+
+		//
+		final MailTemplate template = new MailTemplate("Hello ${NAME}, your code is ${CODE}.");
+
+		//
+		final Map<String, Object> values = new HashMap<String, Object>();
+		{
+			values.put("NAME", "John");
+		}
+
+		//
+		if (!template.format(values).equals("Hello John, your code is ${CODE}.")) {
+			fail();
+		}
+
+		//
+		if (!template.format(null).equals("Hello ${NAME}, your code is ${CODE}.")) {
+			fail();
+		}
+
+	}
+
+	/**
+	 * 
+	 */
+	public void testFormat3() {
+
+		//
+		final MailTemplate template = new MailTemplate("Hello world.");
+
+		//
+		final Map<String, Object> values = new HashMap<String, Object>();
+		{
+			values.put("NAME", "John");
+		}
+
+		//
+		if ((template.hasVariables()) || (!template.format(values).equals("Hello world."))) {
+			fail();
+		}
+
+		//
+		if ((new MailTemplate(null).format(values) != null) || (new MailTemplate(null).hasVariables())) {
+			fail();
+		}
+
+	}
+
+}
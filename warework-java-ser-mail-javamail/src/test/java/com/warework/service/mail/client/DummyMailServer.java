@@ -0,0 +1,165 @@
+package com.warework.service.mail.client;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Properties;
+import java.util.Set;
+
+import javax.mail.Message;
+import javax.mail.Provider;
+import javax.mail.Session;
+
+/**
+ * In-memory mail server that records the messages sent with
+ * <code>DummyTransport</code> connections.
+ * 
+ * @author Jose Schiaffino
+ * @version ${project.version}
+ */
+public final class DummyMailServer {
+
+	// ///////////////////////////////////////////////////////////////////
+	// CONSTANTS
+	// ///////////////////////////////////////////////////////////////////
+
+	/**
+	 * Protocol of the transport for this mail server.
+	 */
+	public static final String PROTOCOL = "dummy";
+
+	/**
+	 * Session property where the mail server is stored.
+	 */
+	public static final String PROPERTY_SERVER = "mail.dummy.server";
+
+	// ///////////////////////////////////////////////////////////////////
+	// ATTRIBUTES
+	// ///////////////////////////////////////////////////////////////////
+
+	// Messages received.
+	private final List<Message> messages = new ArrayList<Message>();
+
+	// Recipients for which the server closes the connection once.
+	private final Set<String> drops = new HashSet<String>();
+
+	// Recipients rejected by the server.
+	private final Set<String> rejections = new HashSet<String>();
+
+	// Number of connections opened.
+	private int connections;
+
+	// ///////////////////////////////////////////////////////////////////
+	// PUBLIC METHODS
+	// ///////////////////////////////////////////////////////////////////
+
+	/**
+	 * Creates a mail session that connects with this server.
+	 * 
+	 * @return Mail session.<br>
+	 *         <br>
+	 */
+	public Session createSession() {
+
+		// Bind the server to the session.
+		final Properties properties = new Properties();
+		properties.put(PROPERTY_SERVER, this);
+
+		// Create the session.
+		final Session session = Session.getInstance(properties);
+
+		// Register the transport.
+		session.addProvider(new Provider(Provider.Type.TRANSPORT, PROTOCOL, DummyTransport.class.getName(),
+				"Warework", null));
+
+		// Return the session.
+		return session;
+
+	}
+
+	/**
+	 * Closes the connection the next time a message is sent to a recipient.
+	 * 
+	 * @param recipient Email address of the recipient.<br>
+	 *                  <br>
+	 */
+	public synchronized void drop(final String recipient) {
+		drops.add(recipient);
+	}
+
+	/**
+	 * Rejects every message sent to a recipient.
+	 * 
+	 * @param recipient Email address of the recipient.<br>
+	 *                  <br>
+	 */
+	public synchronized void reject(final String recipient) {
+		rejections.add(recipient);
+	}
+
+	/**
+	 * Gets the messages received.
+	 * 
+	 * @return Messages received.<br>
+	 *         <br>
+	 */
+	public synchronized List<Message> getMessages() {
+		return new ArrayList<Message>(messages);
+	}
+
+	/**
+	 * Gets the number of connections opened.
+	 * 
+	 * @return Number of connections.<br>
+	 *         <br>
+	 */
+	public synchronized int getConnections() {
+		return connections;
+	}
+
+	// ///////////////////////////////////////////////////////////////////
+	// PACKAGE METHODS
+	// ///////////////////////////////////////////////////////////////////
+
+	/**
+	 * Opens a connection.
+	 */
+	synchronized void connect() {
+		connections = connections + 1;
+	}
+
+	/**
+	 * Validates if the connection must be closed for a recipient.
+	 * 
+	 * @param recipient Email address of the recipient.<br>
+	 *                  <br>
+	 * @return <code>true</code> only the first time for a recipient to drop.<br>
+	 *         <br>
+	 */
+	synchronized boolean isDropped(final String recipient) {
+		return drops.remove(recipient);
+	}
+
+	/**
+	 * Validates if a recipient is rejected.
+	 * 
+	 * @param recipient Email address of the recipient.<br>
+	 *                  <br>
+	 * @return <code>true</code> if the recipient is rejected.<br>
+	 *         <br>
+	 */
+	synchronized boolean isRejected(final String recipient) {
+		return rejections.contains(recipient);
+	}
+
+	/**
+	 * Receives a message.
+	 * 
+	 * @param message Message to receive.<br>
+	 *                <br>
+	 */
+	synchronized void receive(final Message message) {
+		messages.add(message);
+	}
+
+}
@@ -0,0 +1,122 @@
+package com.warework.service.mail.client;
+
+import javax.mail.Address;
+import javax.mail.Message;
+import javax.mail.MessagingException;
+import javax.mail.SendFailedException;
+import javax.mail.Session;
+import javax.mail.Transport;
+import javax.mail.URLName;
+
+/**
+ * Transport that sends the messages to a <code>DummyMailServer</code>.
+ * 
+ * @author Jose Schiaffino
+ * @version ${project.version}
+ */
+public final class DummyTransport extends Transport {
+
+	// ///////////////////////////////////////////////////////////////////
+	// ATTRIBUTES
+	// ///////////////////////////////////////////////////////////////////
+
+	// Server where to send the messages.
+	private final DummyMailServer server;
+
+	// ///////////////////////////////////////////////////////////////////
+	// CONSTRUCTORS
+	// ///////////////////////////////////////////////////////////////////
+
+	/**
+	 * Creates the transport.
+	 * 
+	 * @param session Mail session with the server.<br>
+	 *                <br>
+	 * @param url     URL of the server.<br>
+	 *                <br>
+	 */
+	public DummyTransport(final Session session, final URLName url) {
+		super(session, url);
+		this.server = (DummyMailServer) session.getProperties().get(DummyMailServer.PROPERTY_SERVER);
+	}
+
+	// ///////////////////////////////////////////////////////////////////
+	// PUBLIC METHODS
+	// ///////////////////////////////////////////////////////////////////
+
+	/**
+	 * Sends a message to the server.
+	 * 
+	 * @param message   Message to send.<br>
+	 *                  <br>
+	 * @param addresses Recipients of the message.<br>
+	 *                  <br>
+	 * @throws MessagingException If the connection is closed or a recipient is
+	 *                            rejected.<br>
+	 *                            <br>
+	 */
+	public void sendMessage(final Message message, final Address[] addresses) throws MessagingException {
+
+		// Validate the connection.
+		if (!isConnected()) {
+			throw new MessagingException("Not connected.");
+		}
+
+		// Validate each recipient.
+		for (int i = 0; i < addresses.length; i++) {
+
+			// Get the recipient.
+			final String recipient = addresses[i].toString();
+
+			// Close the connection.
+			if (server.isDropped(recipient)) {
+
+				// The server closed the connection.
+				setConnected(false);
+
+				// Notify the error.
+				throw new MessagingException("Connection closed by the server.");
+
+			}
+
+			// Reject the recipient.
+			if (server.isRejected(recipient)) {
+				throw new SendFailedException("Recipient '" + recipient + "' rejected.");
+			}
+
+		}
+
+		// Deliver the message.
+		server.receive(message);
+
+	}
+
+	// ///////////////////////////////////////////////////////////////////
+	// PROTECTED METHODS
+	// ///////////////////////////////////////////////////////////////////
+
+	/**
+	 * Connects with the server.
+	 * 
+	 * @param host     Host of the server.<br>
+	 *                 <br>
+	 * @param port     Port of the server.<br>
+	 *                 <br>
+	 * @param user     User name.<br>
+	 *                 <br>
+	 * @param password Password.<br>
+	 *                 <br>
+	 * @return <code>true</code>.<br>
+	 *         <br>
+	 */
+	protected boolean protocolConnect(final String host, final int port, final String user, final String password) {
+
+		// Open a connection.
+		server.connect();
+
+		// Connection accepted.
+		return true;
+
+	}
+
+}
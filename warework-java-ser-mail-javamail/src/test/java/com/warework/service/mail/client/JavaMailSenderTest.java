@@ -1,6 +1,17 @@
 package com.warework.service.mail.client;
 
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import javax.mail.Message;
+
 import com.warework.core.scope.AbstractSerMailJavaMailTestCase;
+import com.warework.core.scope.ScopeFacade;
+import com.warework.service.mail.MailResult;
+import com.warework.service.mail.MailServiceConstants;
+import com.warework.service.mail.MailServiceFacade;
 
 /**
  * 
@@ -21,6 +32,218 @@ public class JavaMailSenderTest extends AbstractSerMailJavaMailTestCase {
 
 	}
 
+	/**
+	 * 
+	 */
+	public void testSendBulk1() {
+		try {
+
+			//
+			final DummyMailServer server = new DummyMailServer();
+
+			//
+			final List<MailResult> results = sendBulk(server, "john@warework.com", "mary@warework.com",
+					"peter@warework.com");
+
+			//
+			final List<Message> messages = server.getMessages();
+			if ((results.size() != 3) || (messages.size() != 3) || (server.getConnections() != 1)) {
+				fail();
+			}
+
+			//
+			if ((!messages.get(0).getSubject().equals("Hello john"))
+					|| (!messages.get(2).getSubject().equals("Hello peter"))
+					|| (!messages.get(1).getAllRecipients()[0].toString().equals("mary@warework.com"))) {
+				fail();
+			}
+
+			//
+			for (int i = 0; i < results.size(); i++) {
+				if ((!results.get(i).isSent()) || (results.get(i).getError() != null)) {
+					fail();
+				}
+			}
+
+		} catch (final Exception e) {
+			fail();
+		}
+	}
+
+	/**
+	 * 
+	 */
+	public void testSendBulk2() {
+		try {
+
+			//
+			final DummyMailServer server = new DummyMailServer();
+			server.reject("mary@warework.com");
+
+			//
+			final List<MailResult> results = sendBulk(server, "john@warework.com", "mary@warework.com",
+					"peter@@warework.com", "anne@warework.com");
+
+			//
+			if ((results.size() != 4) || (server.getMessages().size() != 2) || (server.getConnections() != 1)) {
+				fail();
+			}
+
+			//
+			if ((!results.get(0).isSent()) || (results.get(1).isSent()) || (results.get(2).isSent())
+					|| (!results.get(3).isSent())) {
+				fail();
+			}
+
+			//
+			if ((!results.get(1).getRecipient().equals("mary@warework.com")) || (results.get(1).getError() == null)
+					|| (!results.get(2).getRecipient().equals("peter@@warework.com"))
+					|| (results.get(2).getError() == null)) {
+				fail();
+			}
+
+		} catch (final Exception e) {
+			fail();
+		}
+	}
+
+	/**
+	 * 
+	 */
+	public void testSendBulk3() {
+		try {
+
+			//
+			final DummyMailServer server = new DummyMailServer();
+			server.drop("mary@warework.com");
+
+			//
+			final List<MailResult> results = sendBulk(server, "john@warework.com", "mary@warework.com",
+					"peter@warework.com");
+
+			//
+			if ((server.getMessages().size() != 3) || (server.getConnections() != 2)) {
+				fail();
+			}
+
+			//
+			for (int i = 0; i < results.size(); i++) {
+				if (!results.get(i).isSent()) {
+					fail();
+				}
+			}
+
+		} catch (final Exception e) {
+			fail();
+		}
+	}
+
+	/**
+	 * 
+	 */
+	public void testSendBulk4() {
+		try {
+
+			//
+			final DummyMailServer server = new DummyMailServer();
+			server.drop("mary@warework.com");
+			server.reject("mary@warework.com");
+
+			//
+			final List<MailResult> results = sendBulk(server, "john@warework.com", "mary@warework.com",
+					"peter@warework.com");
+
+			//
+			if ((server.getMessages().size() != 2) || (server.getConnections() != 2)) {
+				fail();
+			}
+
+			//
+			if ((!results.get(0).isSent()) || (results.get(1).isSent()) || (!results.get(2).isSent())) {
+				fail();
+			}
+
+		} catch (final Exception e) {
+			fail();
+		}
+	}
+
+	/**
+	 * 
+	 */
+	public void testSendBulk5() {
+
+		//
+		final DummyMailServer server = new DummyMailServer();
+
+		//
+		try {
+
+			//
+			sendBulk(server);
+
+			//
+			fail();
+
+		} catch (final Exception e) {
+			// EXPECTED.
+		}
+
+		//
+		if (server.getConnections() > 0) {
+			fail();
+		}
+
+	}
+
+	// ///////////////////////////////////////////////////////////////////
+	// PRIVATE METHODS
+	// ///////////////////////////////////////////////////////////////////
+
+	/**
+	 * Sends one email to each recipient with the 'Hello ${NAME}' subject.
+	 * 
+	 * @param server     Mail server where to send the emails.<br>
+	 *                   <br>
+	 * @param recipients Email addresses of the recipients.<br>
+	 *                   <br>
+	 * @return Result of each email.<br>
+	 *         <br>
+	 * @throws Exception If the emails cannot be sent.<br>
+	 *                   <br>
+	 */
+	private List<MailResult> sendBulk(final DummyMailServer server, final String... recipients) throws Exception {
+
+		// Create the Scope.
+		final ScopeFacade system = create("test", server);
+
+		// Get the Mail Service.
+		final MailServiceFacade service = (MailServiceFacade) system
+				.getService(MailServiceConstants.DEFAULT_SERVICE_NAME);
+
+		// Set the name of each recipient.
+		final Map<String, Map<String, Object>> values = new LinkedHashMap<String, Map<String, Object>>();
+		for (int i = 0; i < recipients.length; i++) {
+
+			//
+			final Map<String, Object> value = new HashMap<String, Object>();
+			value.put("NAME", recipients[i].substring(0, recipients[i].indexOf('@')));
+
+			//
+			values.put(recipients[i], value);
+
+		}
+
+		// Send the emails.
+		try {
+			return service.send(CLIENT_NAME_3, "Hello ${NAME}", "sample1@warework.com", values, null,
+					"Dear ${NAME}, welcome.");
+		} finally {
+			service.disconnect(CLIENT_NAME_3);
+		}
+
+	}
+
 	/*
 	public void testSend1() {
 		try {
@@ -0,0 +1,74 @@
+package com.warework.service.mail;
+
+/**
+ * Result of sending one email of a bulk operation.<br>
+ *
+ * @author Jose Schiaffino
+ * @version ${project.version}
+ */
+public final class MailResult {
+
+	// ///////////////////////////////////////////////////////////////////
+	// ATTRIBUTES
+	// ///////////////////////////////////////////////////////////////////
+
+	// Email address of the recipient.
+	private String recipient;
+
+	// Error found when trying to send the email.
+	private Exception error;
+
+	// ///////////////////////////////////////////////////////////////////
+	// CONSTRUCTORS
+	// ///////////////////////////////////////////////////////////////////
+
+	/**
+	 * Creates the result of one email.
+	 *
+	 * @param recipient Email address of the recipient.<br>
+	 *                  <br>
+	 * @param error     Error found when trying to send the email or
+	 *                  <code>null</code> if the email was sent.<br>
+	 *                  <br>
+	 */
+	public MailResult(final String recipient, final Exception error) {
+		this.recipient = recipient;
+		this.error = error;
+	}
+
+	// ///////////////////////////////////////////////////////////////////
+	// PUBLIC METHODS
+	// ///////////////////////////////////////////////////////////////////
+
+	/**
+	 * Gets the email address of the recipient.
+	 *
+	 * @return Email address.<br>
+	 *         <br>
+	 */
+	public String getRecipient() {
+		return recipient;
+	}
+
+	/**
+	 * Validates if the email was sent.
+	 *
+	 * @return <code>true</code> if the email was sent and <code>false</code> if
+	 *         it failed.<br>
+	 *         <br>
+	 */
+	public boolean isSent() {
+		return (error == null);
+	}
+
+	/**
+	 * Gets the error found when trying to send the email.
+	 *
+	 * @return Error or <code>null</code> if the email was sent.<br>
+	 *         <br>
+	 */
+	public Exception getError() {
+		return error;
+	}
+
+}
@@ -92,6 +92,46 @@ public final class MailServiceConstants extends ProxyServiceConstants {
 	 */
 	public static final String OPERATION_NAME_SEND = "send";
 
+	/**
+	 * Sends one email for each recipient with a specific Mail Client and the same
+	 * connection with the mail server. Use the following parameters in order to
+	 * invoke this operation:<br>
+	 * <br>
+	 * <ul>
+	 * <li><b><code>client-name</code></b>: Name of the Mail Client where to send
+	 * the emails. This parameter is mandatory and it must be a
+	 * <code>java.lang.String</code>.<br>
+	 * <br>
+	 * </li>
+	 * <li><b><code>subject</code></b>: A brief summary of the topic of the message.
+	 * It may include variables like '${NAME}'. This parameter must be a
+	 * <code>java.lang.String</code>.<br>
+	 * <br>
+	 * </li>
+	 * <li><b><code>from</code></b>: The email address of the sender. This
+	 * parameter must be a <code>java.lang.String</code>.<br>
+	 * <br>
+	 * </li>
+	 * <li><b><code>recipients</code></b>: Map where the keys are the email
+	 * addresses of the recipients and the values the variables to replace in the
+	 * subject and the message for each recipient. This parameter is mandatory and
+	 * it must be a <code>java.util.Map</code>.<br>
+	 * <br>
+	 * </li>
+	 * <li><b><code>attachments</code></b>: Files/resources included in every
+	 * email. This argument is optional.<br>
+	 * <br>
+	 * </li>
+	 * <li><b><code>message</code></b>: The content of the email message. It may
+	 * include variables like '${NAME}'. This parameter must be a
+	 * <code>java.lang.String</code>.<br>
+	 * </li>
+	 * </ul>
+	 * This operation returns a <code>java.util.List</code> with the
+	 * <code>MailResult</code> of each email.
+	 */
+	public static final String OPERATION_NAME_SEND_BULK = "send-bulk";
+
 	// OPERATION PARAMETERS
 
 	/**
@@ -138,6 +178,13 @@ public final class MailServiceConstants extends ProxyServiceConstants {
 	 */
 	public static final String OPERATION_PARAMETER_BCC = "bcc";
 
+	/**
+	 * Operation parameter that specifies a map where the keys are the email
+	 * addresses of the recipients and the values the variables to replace in the
+	 * subject and the message for each recipient.
+	 */
+	public static final String OPERATION_PARAMETER_RECIPIENTS = "recipients";
+
 	/**
 	 * Operation parameter that specifies the files/resources associated to the
 	 * email. They serve the purpose of delivering binary or text files of
@@ -302,4 +302,87 @@ public interface MailServiceFacade extends ProxyServiceFacade {
 			final Object bcc, final List<?> attachments, final String providerName, final String messageName,
 			final Map<String, Object> values) throws ServiceException;
 
+	/**
+	 * Sends one email for each recipient with a specific Mail Client. Every email
+	 * is sent with the same connection with the mail server and it is created from
+	 * the same subject and message, replacing their variables with the values of
+	 * each recipient. Use this method to send newsletters and notifications to
+	 * many recipients.
+	 * 
+	 * @param clientName  Name of the Mail Client where to send the emails. This
+	 *                    argument is mandatory.<br>
+	 *                    <br>
+	 * @param subject     A brief summary of the topic of the message. Every
+	 *                    variable must be inside '${' and '}' so the variable
+	 *                    NAME must be in the subject as '${NAME}'.<br>
+	 *                    <br>
+	 * @param from        The email address of the sender. In many email clients it
+	 *                    is not changeable except through changing account
+	 *                    settings.<br>
+	 *                    <br>
+	 * @param recipients  Map where the keys are the email addresses of the
+	 *                    recipients and the values the variables to replace in the
+	 *                    subject and the message for each recipient (values can be
+	 *                    <code>null</code>). Each recipient receives its own
+	 *                    email. This argument is mandatory.<br>
+	 *                    <br>
+	 * @param attachments Files/resources included in every email. Review the
+	 *                    documentation of the Mail Client that you require and use
+	 *                    any of the objects type that it supports. This argument
+	 *                    is optional.<br>
+	 *                    <br>
+	 * @param message     The content of the email message. Every variable must be
+	 *                    inside '${' and '}' so the variable NAME must be in the
+	 *                    message as '${NAME}'.<br>
+	 *                    <br>
+	 * @return Result of each email, in the same order as the recipients.<br>
+	 *         <br>
+	 * @throws ServiceException If the emails cannot be sent at all. Errors of
+	 *                          single emails are reported in the results.<br>
+	 *                          <br>
+	 */
+	List<MailResult> send(final String clientName, final String subject, final String from,
+			final Map<String, Map<String, Object>> recipients, final List<?> attachments, final String message)
+			throws ServiceException;
+
+	/**
+	 * Sends one email for each recipient with a message loaded from a Provider.
+	 * Every email is sent with the same connection with the mail server and the
+	 * variables of the subject and the message are replaced with the values of
+	 * each recipient.
+	 * 
+	 * @param clientName   Name of the Mail Client where to send the emails. This
+	 *                     argument is mandatory.<br>
+	 *                     <br>
+	 * @param subject      A brief summary of the topic of the message. Every
+	 *                     variable must be inside '${' and '}' so the variable
+	 *                     NAME must be in the subject as '${NAME}'.<br>
+	 *                     <br>
+	 * @param from         The email address of the sender. In many email clients
+	 *                     it is not changeable except through changing account
+	 *                     settings.<br>
+	 *                     <br>
+	 * @param recipients   Map where the keys are the email addresses of the
+	 *                     recipients and the values the variables to replace in
+	 *                     the subject and the message for each recipient (values
+	 *                     can be <code>null</code>). This argument is
+	 *                     mandatory.<br>
+	 *                     <br>
+	 * @param attachments  Files/resources included in every email. This argument
+	 *                     is optional.<br>
+	 *                     <br>
+	 * @param providerName Provider where to retrieve the message.<br>
+	 *                     <br>
+	 * @param messageName  Name of the message in the Provider.<br>
+	 *                     <br>
+	 * @return Result of each email, in the same order as the recipients.<br>
+	 *         <br>
+	 * @throws ServiceException If the emails cannot be sent at all. Errors of
+	 *                          single emails are reported in the results.<br>
+	 *                          <br>
+	 */
+	List<MailResult> send(final String clientName, final String subject, final String from,
+			final Map<String, Map<String, Object>> recipients, final List<?> attachments, final String providerName,
+			final String messageName) throws ServiceException;
+
 }
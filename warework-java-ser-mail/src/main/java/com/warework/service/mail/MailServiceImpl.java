@@ -1,11 +1,13 @@
 package com.warework.service.mail;
 
 import java.util.ArrayList;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 
 import com.warework.core.service.AbstractProxyService;
 import com.warework.core.service.ServiceException;
+import com.warework.core.service.ServiceOperation;
 import com.warework.core.service.client.ClientException;
 import com.warework.core.util.CommonValueL1Constants;
 import com.warework.core.util.helper.StringL1Helper;
@@ -354,32 +356,176 @@ public final class MailServiceImpl extends AbstractProxyService implements MailS
 
 	}
 
-	// ///////////////////////////////////////////////////////////////////
+	/**
+	 * Sends one email for each recipient with a specific Mail Client. Every email
+	 * is sent with the same connection with the mail server and it is created from
+	 * the same subject and message, replacing their variables with the values of
+	 * each recipient. The subject and the message are parsed only once for the
+	 * whole batch.
+	 * 
+	 * @param clientName  Name of the Mail Client where to send the emails. This
+	 *                    argument is mandatory.<br>
+	 *                    <br>
+	 * @param subject     A brief summary of the topic of the message. Every
+	 *                    variable must be inside '${' and '}' so the variable
+	 *                    NAME must be in the subject as '${NAME}'.<br>
+	 *                    <br>
+	 * @param from        The email address of the sender. In many email clients it
+	 *                    is not changeable except through changing account
+	 *                    settings.<br>
+	 *                    <br>
+	 * @param recipients  Map where the keys are the email addresses of the
+	 *                    recipients and the values the variables to replace in the
+	 *                    subject and the message for each recipient (values can be
+	 *                    <code>null</code>). Each recipient receives its own
+	 *                    email. This argument is mandatory.<br>
+	 *                    <br>
+	 * @param attachments Files/resources included in every email. Review the
+	 *                    documentation of the Mail Client that you require and use
+	 *                    any of the objects type that it supports. This argument
+	 *                    is optional.<br>
+	 *                    <br>
+	 * @param message     The content of the email message. Every variable must be
+	 *                    inside '${' and '}' so the variable NAME must be in the
+	 *                    message as '${NAME}'.<br>
+	 *                    <br>
+	 * @return Result of each email, in the same order as the recipients.<br>
+	 *         <br>
+	 * @throws ServiceException If the emails cannot be sent at all. Errors of
+	 *                          single emails are reported in the results.<br>
+	 *                          <br>
+	 */
+	public List<MailResult> send(final String clientName, final String subject, final String from,
+			final Map<String, Map<String, Object>> recipients, final List<?> attachments, final String message)
+			throws ServiceException {
+
+		// Get the Mail Client.
+		final MailClientFacade client = (MailClientFacade) getClient(clientName);
+		if (client == null) {
+			throw new ServiceException(
+					getScopeFacade(), "WAREWORK cannot send any email with Client '" + clientName + "' at Service '"
+							+ getName() + "' because Mail Client does not exists.",
+					null, LogServiceConstants.LOG_LEVEL_WARN);
+		}
+
+		// Send the emails.
+		List<MailResult> results = null;
+		try {
+			results = client.send(new MailTemplate(subject), from, recipients, attachments, new MailTemplate(message));
+		} catch (final ClientException e) {
+			throw new ServiceException(getScopeFacade(),
+					"WAREWORK cannot send the emails in Client '" + clientName + "' at Service '" + getName()
+							+ "' because the Mail Client reported the following error: " + e.getMessage(),
+					e, LogServiceConstants.LOG_LEVEL_WARN);
+		}
+
+		// Count the emails sent.
+		int sent = 0;
+		for (final Iterator<MailResult> iterator = results.iterator(); iterator.hasNext();) {
+			if (iterator.next().isSent()) {
+				sent = sent + 1;
+			}
+		}
+
+		// Log a message.
+		getScopeFacade().log("WAREWORK sent " + sent + " of " + results.size() + " emails with Client '"
+				+ client.getName() + "' of Service '" + getName() + "'.",
+				(sent == results.size()) ? LogServiceConstants.LOG_LEVEL_INFO : LogServiceConstants.LOG_LEVEL_WARN);
+
+		// Return the result of each email.
+		return results;
+
+	}
 
 	/**
-	 * Executes a Mail Service operation.
+	 * Sends one email for each recipient with a message loaded from a Provider.
+	 * Every email is sent with the same connection with the mail server and the
+	 * variables of the subject and the message are replaced with the values of
+	 * each recipient.
 	 * 
-	 * @param operationName Name of the operation to execute.<br>
-	 *                      <br>
-	 * @param parameters    Operation parameters.<br>
-	 *                      <br>
-	 * @return Operation result.<br>
+	 * @param clientName   Name of the Mail Client where to send the emails. This
+	 *                     argument is mandatory.<br>
+	 *                     <br>
+	 * @param subject      A brief summary of the topic of the message. Every
+	 *                     variable must be inside '${' and '}' so the variable
+	 *                     NAME must be in the subject as '${NAME}'.<br>
+	 *                     <br>
+	 * @param from         The email address of the sender. In many email clients
+	 *                     it is not changeable except through changing account
+	 *                     settings.<br>
+	 *                     <br>
+	 * @param recipients   Map where the keys are the email addresses of the
+	 *                     recipients and the values the variables to replace in
+	 *                     the subject and the message for each recipient (values
+	 *                     can be <code>null</code>). This argument is
+	 *                     mandatory.<br>
+	 *                     <br>
+	 * @param attachments  Files/resources included in every email. This argument
+	 *                     is optional.<br>
+	 *                     <br>
+	 * @param providerName Provider where to retrieve the message.<br>
+	 *                     <br>
+	 * @param messageName  Name of the message in the Provider.<br>
+	 *                     <br>
+	 * @return Result of each email, in the same order as the recipients.<br>
 	 *         <br>
-	 * @throws ServiceException If there is an error when trying to execute the
-	 *                          operation.<br>
+	 * @throws ServiceException If the emails cannot be sent at all. Errors of
+	 *                          single emails are reported in the results.<br>
 	 *                          <br>
 	 */
-	public Object execute(final String operationName, final Map<String, Object> parameters) throws ServiceException {
+	public List<MailResult> send(final String clientName, final String subject, final String from,
+			final Map<String, Map<String, Object>> recipients, final List<?> attachments, final String providerName,
+			final String messageName) throws ServiceException {
+
+		// Get the message.
+		final Object message = getScopeFacade().getObject(providerName, messageName);
 
-		// Validate the operation to perform.
-		if (operationName.equals(MailServiceConstants.OPERATION_NAME_SEND)) {
-			executeSend(parameters);
+		// Send the emails.
+		if (message instanceof String) {
+			return send(clientName, subject, from, recipients, attachments, (String) message);
 		} else {
-			return super.execute(operationName, parameters);
+			throw new ServiceException(getScopeFacade(),
+					"WAREWORK cannot send the emails with Client '" + clientName + "' at Service '" + getName()
+							+ "' because the message retrieved from Provider '" + providerName
+							+ "' is not a string object.",
+					null, LogServiceConstants.LOG_LEVEL_WARN);
 		}
 
-		// Nothing to return.
-		return null;
+	}
+
+	// ///////////////////////////////////////////////////////////////////
+	// PROTECTED METHODS
+	// ///////////////////////////////////////////////////////////////////
+
+	/**
+	 * Initializes the Service and registers the operations of the Mail Service.
+	 * 
+	 * @throws ServiceException If there is an error when trying to initialize the
+	 *                          Service.<br>
+	 *                          <br>
+	 */
+	protected void initialize() throws ServiceException {
+
+		// Initialize the Proxy Service.
+		super.initialize();
+
+		// Register the operations of the Service.
+		registerOperation(MailServiceConstants.OPERATION_NAME_SEND, new ServiceOperation() {
+			public Object execute(final Map<String, Object> parameters) throws ServiceException {
+
+				// Execute the operation.
+				executeSend(parameters);
+
+				// Nothing to return.
+				return null;
+
+			}
+		});
+		registerOperation(MailServiceConstants.OPERATION_NAME_SEND_BULK, new ServiceOperation() {
+			public Object execute(final Map<String, Object> parameters) throws ServiceException {
+				return executeSendBulk(parameters);
+			}
+		});
 
 	}
 
@@ -574,4 +720,85 @@ public final class MailServiceImpl extends AbstractProxyService implements MailS
 
 	}
 
+	/**
+	 * Sends one email for each recipient with a specific Mail Client.
+	 * 
+	 * @param parameters Operation parameters.<br>
+	 *                   <br>
+	 * @return Result of each email.<br>
+	 *         <br>
+	 * @throws ServiceException If there is an error when trying to send the
+	 *                          e-mails.<br>
+	 *                          <br>
+	 */
+	@SuppressWarnings("unchecked")
+	private List<MailResult> executeSendBulk(final Map<String, Object> parameters) throws ServiceException {
+
+		// Get the Client where to execute the operation.
+		final Object clientName = parameters.get(MailServiceConstants.OPERATION_PARAMETER_CLIENT_NAME);
+		if ((clientName == null) || !(clientName instanceof String)) {
+			throw new ServiceException(getScopeFacade(), "WAREWORK cannot execute '"
+					+ MailServiceConstants.OPERATION_NAME_SEND_BULK + "' operation because given parameter '"
+					+ MailServiceConstants.OPERATION_PARAMETER_CLIENT_NAME + "' is not a string or it does not exists.",
+					null, LogServiceConstants.LOG_LEVEL_WARN);
+		}
+
+		// Get the subject.
+		final Object subject = parameters.get(MailServiceConstants.OPERATION_PARAMETER_SUBJECT);
+		if ((subject != null) && !(subject instanceof String)) {
+			throw new ServiceException(getScopeFacade(),
+					"WAREWORK cannot execute '" + MailServiceConstants.OPERATION_NAME_SEND_BULK
+							+ "' operation because given parameter '" + MailServiceConstants.OPERATION_PARAMETER_SUBJECT
+							+ "' is not null and it is not a string.",
+					null, LogServiceConstants.LOG_LEVEL_WARN);
+		}
+
+		// Get the email address of the sender.
+		final Object from = parameters.get(MailServiceConstants.OPERATION_PARAMETER_FROM);
+		if ((from != null) && !(from instanceof String)) {
+			throw new ServiceException(getScopeFacade(),
+					"WAREWORK cannot execute '" + MailServiceConstants.OPERATION_NAME_SEND_BULK
+							+ "' operation because given parameter '" + MailServiceConstants.OPERATION_PARAMETER_FROM
+							+ "' is not null and it is not a string.",
+					null, LogServiceConstants.LOG_LEVEL_WARN);
+		}
+
+		// Get the recipients.
+		final Object recipients = parameters.get(MailServiceConstants.OPERATION_PARAMETER_RECIPIENTS);
+		if (!(recipients instanceof Map<?, ?>)) {
+			throw new ServiceException(getScopeFacade(),
+					"WAREWORK cannot execute '" + MailServiceConstants.OPERATION_NAME_SEND_BULK
+							+ "' operation because given parameter '"
+							+ MailServiceConstants.OPERATION_PARAMETER_RECIPIENTS + "' is not a '" + Map.class
+							+ "' class.",
+					null, LogServiceConstants.LOG_LEVEL_WARN);
+		}
+
+		// Get the attachments.
+		final Object attachments = parameters.get(MailServiceConstants.OPERATION_PARAMETER_ATTACHMENTS);
+		if ((attachments != null) && !(attachments instanceof List<?>)) {
+			throw new ServiceException(getScopeFacade(),
+					"WAREWORK cannot execute '" + MailServiceConstants.OPERATION_NAME_SEND_BULK
+							+ "' operation because given parameter '"
+							+ MailServiceConstants.OPERATION_PARAMETER_ATTACHMENTS + "' is not null and it is not a '"
+							+ List.class + "' class.",
+					null, LogServiceConstants.LOG_LEVEL_WARN);
+		}
+
+		// Get the message.
+		final Object message = parameters.get(MailServiceConstants.OPERATION_PARAMETER_MESSAGE);
+		if ((message != null) && !(message instanceof String)) {
+			throw new ServiceException(getScopeFacade(),
+					"WAREWORK cannot execute '" + MailServiceConstants.OPERATION_NAME_SEND_BULK
+							+ "' operation because given parameter '" + MailServiceConstants.OPERATION_PARAMETER_MESSAGE
+							+ "' is not null and it is not a string.",
+					null, LogServiceConstants.LOG_LEVEL_WARN);
+		}
+
+		// Send the emails.
+		return send((String) clientName, (String) subject, (String) from,
+				(Map<String, Map<String, Object>>) recipients, (List<?>) attachments, (String) message);
+
+	}
+
 }
@@ -0,0 +1,96 @@
+package com.warework.service.mail;
+
+import java.util.Map;
+
+import com.warework.core.util.StringTemplate;
+
+/**
+ * Message template with variables. The template is parsed once, when it is
+ * created, so it can be formatted for many recipients without searching the
+ * variables again. Every variable must be inside '${' and '}' so the variable
+ * NAME must be in the template as '${NAME}'. Check it out with the following
+ * example:<br>
+ * <br>
+ * <code>
+ * // Create the template.<br>
+ * MailTemplate template = new MailTemplate("Hello ${NAME}, how are you today?");<br>
+ * <br>
+ * // Create the values for one recipient.<br>
+ * Map&lt;String, Object&gt; values = new HashMap&lt;String, Object&gt;();<br>
+ * <br>
+ * // Set the name of the recipient.<br>
+ * values.put("NAME", "John");<br>
+ * <br>
+ * // Get the message for the recipient.<br>
+ * String message = template.format(values);<br>
+ * </code> <br>
+ * Variables without a value in the map remain in the message. This class is
+ * immutable, so the same template can be shared by many threads.
+ *
+ * @author Jose Schiaffino
+ * @version ${project.version}
+ */
+public final class MailTemplate {
+
+	// ///////////////////////////////////////////////////////////////////
+	// ATTRIBUTES
+	// ///////////////////////////////////////////////////////////////////
+
+	// Parsed template.
+	private final StringTemplate template;
+
+	// ///////////////////////////////////////////////////////////////////
+	// CONSTRUCTORS
+	// ///////////////////////////////////////////////////////////////////
+
+	/**
+	 * Creates the template.
+	 *
+	 * @param template Source of the template. Every variable must be inside '${'
+	 *                 and '}' so the variable NAME must be in the template as
+	 *                 '${NAME}'.<br>
+	 *                 <br>
+	 */
+	public MailTemplate(final String template) {
+		this.template = StringTemplate.compile(template);
+	}
+
+	// ///////////////////////////////////////////////////////////////////
+	// PUBLIC METHODS
+	// ///////////////////////////////////////////////////////////////////
+
+	/**
+	 * Replaces the variables of the template with the values from the given map.
+	 *
+	 * @param values Map where the keys are the names of the variables in the
+	 *               template and the values those that will replace the
+	 *               variables.<br>
+	 *               <br>
+	 * @return Template with the variables replaced.<br>
+	 *         <br>
+	 */
+	public String format(final Map<String, ?> values) {
+		return template.format(values);
+	}
+
+	/**
+	 * Gets the source of the template.
+	 *
+	 * @return Source of the template.<br>
+	 *         <br>
+	 */
+	public String getTemplate() {
+		return template.getTemplate();
+	}
+
+	/**
+	 * Validates if the template has variables.
+	 *
+	 * @return <code>true</code> if the template has at least one variable.<br>
+	 *         <br>
+	 */
+	public boolean hasVariables() {
+		return template.hasVariables();
+	}
+
+}
@@ -1,9 +1,12 @@
 package com.warework.service.mail.client;
 
 import java.util.List;
+import java.util.Map;
 
 import com.warework.core.service.client.ClientException;
 import com.warework.core.service.client.ClientFacade;
+import com.warework.service.mail.MailResult;
+import com.warework.service.mail.MailTemplate;
 
 /**
  * Client to perform mail operations.<br>
@@ -71,4 +74,39 @@ public interface MailClientFacade extends ClientFacade {
 	void send(final String subject, final String from, final List<String> to, final List<String> cc,
 			final List<String> bcc, final List<?> attachments, final String message) throws ClientException;
 
+	/**
+	 * Sends one email for each recipient with the same connection. Every email is
+	 * created from the same templates, replacing their variables with the values
+	 * of each recipient.
+	 * 
+	 * @param subject     Template with a brief summary of the topic of the
+	 *                    message.<br>
+	 *                    <br>
+	 * @param from        The email address of the sender. In many email clients it
+	 *                    is not changeable except through changing account
+	 *                    settings.<br>
+	 *                    <br>
+	 * @param recipients  Map where the keys are the email addresses of the
+	 *                    recipients and the values the variables to replace in the
+	 *                    templates for each recipient (values can be
+	 *                    <code>null</code>). Each recipient receives its own
+	 *                    email. This argument is mandatory.<br>
+	 *                    <br>
+	 * @param attachments Files/resources included in every email. Review the
+	 *                    documentation of the Mail Client that you require and use
+	 *                    any of the objects type that it supports. This argument
+	 *                    is optional.<br>
+	 *                    <br>
+	 * @param message     Template with the content of the email message.<br>
+	 *                    <br>
+	 * @return Result of each email, in the same order as the recipients.<br>
+	 *         <br>
+	 * @throws ClientException If the emails cannot be sent at all. Errors of
+	 *                         single emails are reported in the results.<br>
+	 *                         <br>
+	 */
+	List<MailResult> send(final MailTemplate subject, final String from,
+			final Map<String, Map<String, Object>> recipients, final List<?> attachments, final MailTemplate message)
+			throws ClientException;
+
 }
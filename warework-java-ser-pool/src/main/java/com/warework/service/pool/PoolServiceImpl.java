@@ -4,6 +4,7 @@ import java.util.Map;
 
 import com.warework.core.service.AbstractProxyService;
 import com.warework.core.service.ServiceException;
+import com.warework.core.service.ServiceOperation;
 import com.warework.service.log.LogServiceConstants;
 import com.warework.service.pool.client.PoolerFacade;
 
@@ -127,27 +128,29 @@ public final class PoolServiceImpl extends AbstractProxyService implements PoolS
 
 	}
 
+	// ///////////////////////////////////////////////////////////////////
+	// PROTECTED METHODS
 	// ///////////////////////////////////////////////////////////////////
 
 	/**
-	 * Executes a Mail Service operation.
+	 * Initializes the Service and registers the operations of the Pool Service.
 	 * 
-	 * @param operationName Name of the operation to execute.<br>
-	 *                      <br>
-	 * @param parameters    Operation parameters.<br>
-	 *                      <br>
-	 * @return Operation result.<br>
-	 *         <br>
-	 * @throws ServiceException If there is an error when trying to execute the
-	 *                          Proxy Service operation.<br>
+	 * @throws ServiceException If there is an error when trying to initialize the
+	 *                          Service.<br>
 	 *                          <br>
 	 */
-	public Object execute(final String operationName, final Map<String, Object> parameters) throws ServiceException {
-		if (operationName.equals(PoolServiceConstants.OPERATION_NAME_GET_OBJECT)) {
-			return executeGetObject(parameters);
-		} else {
-			return super.execute(operationName, parameters);
-		}
+	protected void initialize() throws ServiceException {
+
+		// Initialize the Proxy Service.
+		super.initialize();
+
+		// Register the operations of the Service.
+		registerOperation(PoolServiceConstants.OPERATION_NAME_GET_OBJECT, new ServiceOperation() {
+			public Object execute(final Map<String, Object> parameters) throws ServiceException {
+				return executeGetObject(parameters);
+			}
+		});
+
 	}
 
 	// ///////////////////////////////////////////////////////////////////